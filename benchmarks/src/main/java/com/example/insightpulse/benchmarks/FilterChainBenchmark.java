@@ -0,0 +1,96 @@
+package com.example.insightpulse.benchmarks;
+
+import com.example.insightpulse.availability.ApiAvailabilityRegistry;
+import com.example.insightpulse.filter.ApiAvailabilityFilter;
+import com.example.insightpulse.filter.MetricsFilter;
+import com.example.insightpulse.metrics.MeterCardinalityGuard;
+import com.example.insightpulse.slo.SloProperties;
+import com.example.insightpulse.slo.SloRegistry;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.prometheusmetrics.PrometheusConfig;
+import io.micrometer.prometheusmetrics.PrometheusMeterRegistry;
+import jakarta.servlet.Filter;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-request cost of the servlet filters, each alone and together, against a no-op servlet.
+ * <p>
+ * Every variant builds the same mock request and chain, so differences between them are the filters' cost.
+ * {@code meters} pre-registers unrelated counters; the per-request cost should not grow with it.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class FilterChainBenchmark {
+
+    private static final String ROUTE = "/jobs/register-user";
+
+    @Param({"none", "metrics", "availability", "both"})
+    public String filters;
+
+    @Param({"100", "10000", "100000"})
+    public int meters;
+
+    private Filter[] chain;
+    private final HttpServlet servlet = new HttpServlet() {
+        @Override
+        protected void service(HttpServletRequest request, HttpServletResponse response)
+                throws ServletException, IOException {
+            response.setStatus(200);
+        }
+    };
+
+    @Setup
+    public void setUp() {
+        PrometheusMeterRegistry registry = new PrometheusMeterRegistry(PrometheusConfig.DEFAULT);
+        for (int i = 0; i < meters; i++) {
+            Counter.builder("filler_total").tag("id", String.valueOf(i)).register(registry);
+        }
+        MeterCardinalityGuard guard = new MeterCardinalityGuard(registry, 200, 2000);
+        MetricsFilter metricsFilter = new MetricsFilter(registry, guard);
+        ApiAvailabilityFilter availabilityFilter =
+                new ApiAvailabilityFilter(new ApiAvailabilityRegistry(registry), guard,
+                                          new SloRegistry(registry, new SloProperties()));
+
+        chain = switch (filters) {
+            case "none" -> new Filter[0];
+            case "metrics" -> new Filter[] {metricsFilter};
+            case "availability" -> new Filter[] {availabilityFilter};
+            case "both" -> new Filter[] {metricsFilter, availabilityFilter};
+            default -> throw new IllegalArgumentException(filters);
+        };
+    }
+
+    @Benchmark
+    public int request() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", ROUTE);
+        request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, ROUTE);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        new MockFilterChain(servlet, chain).doFilter(request, response);
+        return response.getStatus();
+    }
+}
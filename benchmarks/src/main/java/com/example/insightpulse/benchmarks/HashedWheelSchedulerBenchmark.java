@@ -0,0 +1,62 @@
+package com.example.insightpulse.benchmarks;
+
+import com.example.insightpulse.cron.HashedWheelScheduler;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Registering and cancelling a recurring job on a timing wheel that is already firing {@code jobs}
+ * recurring 1 s jobs with 1 s jitter; registration should stay O(1) as the wheel fills up.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class HashedWheelSchedulerBenchmark {
+
+    private static final Runnable NO_OP = () -> { };
+
+    @Param({"1000", "100000"})
+    public int jobs;
+
+    private HashedWheelScheduler scheduler;
+
+    @Setup
+    public void setUp() {
+        MeterRegistry registry = new SimpleMeterRegistry();
+        scheduler = new HashedWheelScheduler(Duration.ofMillis(100), 512, Runnable::run, registry);
+        for (int i = 0; i < jobs; i++) {
+            scheduler.scheduleAtFixedRate("tenant-" + i, NO_OP, Duration.ofSeconds(1), Duration.ofSeconds(1));
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        scheduler.close();
+    }
+
+    @Benchmark
+    public HashedWheelScheduler.ScheduledJob scheduleAndCancel() {
+        HashedWheelScheduler.ScheduledJob job =
+                scheduler.scheduleAtFixedRate("extra", NO_OP, Duration.ofHours(1), Duration.ZERO);
+        job.cancel();
+        return job;
+    }
+}
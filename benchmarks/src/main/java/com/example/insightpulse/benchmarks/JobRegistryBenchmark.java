@@ -0,0 +1,97 @@
+package com.example.insightpulse.benchmarks;
+
+import com.example.insightpulse.events.JobEventLog;
+import com.example.insightpulse.events.JobEventProperties;
+import com.example.insightpulse.job.Job;
+import com.example.insightpulse.job.JobRegistry;
+import com.example.insightpulse.job.JobResilienceProperties;
+import com.example.insightpulse.metrics.TimingMode;
+import com.example.insightpulse.metrics.TimingSampler;
+import com.example.insightpulse.slo.SloProperties;
+import com.example.insightpulse.slo.SloRegistry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.prometheusmetrics.PrometheusConfig;
+import io.micrometer.prometheusmetrics.PrometheusMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of running a job through {@link JobRegistry#execute} (bulkhead, meters, SLO, history event and
+ * JFR check around {@code RegisteredJob.execute}) compared with calling {@link Job#execute} directly,
+ * with every call timed ({@code full}) or timing sampled to the default 1% CPU budget ({@code adaptive}).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JobRegistryBenchmark {
+
+    private static final String JOB_ID = "benchmark-job";
+
+    @Param({"full", "adaptive"})
+    public String timing;
+
+    private final Job job = new Job() {
+        @Override
+        public String id() {
+            return JOB_ID;
+        }
+
+        @Override
+        public String execute() {
+            return "done";
+        }
+    };
+
+    private TimingSampler sampler;
+    private JobEventLog events;
+    private JobRegistry registry;
+
+    @Setup
+    public void setUp() {
+        MeterRegistry meters = new PrometheusMeterRegistry(PrometheusConfig.DEFAULT);
+        sampler = new TimingSampler(meters, TimingMode.valueOf(timing.toUpperCase()), 0.01, 0.001);
+        events = new JobEventLog(meters, new JobEventProperties(), List.of());
+        registry = new JobRegistry(meters, sampler, events, new SloRegistry(meters, new SloProperties()),
+                                   new JobResilienceProperties(), List.of(job));
+    }
+
+    @TearDown
+    public void tearDown() throws InterruptedException {
+        events.shutdown();
+    }
+
+    /**
+     * Stands in for the application's once-a-second scheduled adjustment; warmup iterations settle the rate.
+     */
+    @Setup(Level.Iteration)
+    public void adjustSampleRate() {
+        sampler.adjust();
+    }
+
+    @Benchmark
+    public String bareCall() {
+        return job.execute();
+    }
+
+    @Benchmark
+    public String registryCall() {
+        return registry.execute(JOB_ID);
+    }
+}
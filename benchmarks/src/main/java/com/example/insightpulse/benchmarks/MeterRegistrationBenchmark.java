@@ -0,0 +1,82 @@
+package com.example.insightpulse.benchmarks;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.prometheusmetrics.PrometheusConfig;
+import io.micrometer.prometheusmetrics.PrometheusMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Looking a meter up through its builder on every call versus incrementing a handle registered once.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MeterRegistrationBenchmark {
+
+    // Other meters already in the registry
+    @Param({"100", "10000"})
+    public int existingMeters;
+
+    private PrometheusMeterRegistry registry;
+    private Counter cachedCounter;
+    private Timer cachedTimer;
+
+    @Setup
+    public void setUp() {
+        registry = new PrometheusMeterRegistry(PrometheusConfig.DEFAULT);
+        for (int i = 0; i < existingMeters; i++) {
+            Counter.builder("filler_total").tag("id", String.valueOf(i)).register(registry);
+        }
+        cachedCounter = counter();
+        cachedTimer = timer();
+    }
+
+    @Benchmark
+    public void counterBuilderPerCall() {
+        counter().increment();
+    }
+
+    @Benchmark
+    public void counterCachedHandle() {
+        cachedCounter.increment();
+    }
+
+    @Benchmark
+    public void timerBuilderPerCall() {
+        timer().record(1_000, TimeUnit.NANOSECONDS);
+    }
+
+    @Benchmark
+    public void timerCachedHandle() {
+        cachedTimer.record(1_000, TimeUnit.NANOSECONDS);
+    }
+
+    private Counter counter() {
+        return Counter.builder("job_failures_total")
+                      .tags("job_id", "process-payment", "exception", "PaymentFailedException")
+                      .register(registry);
+    }
+
+    private Timer timer() {
+        return Timer.builder("job_execution_seconds")
+                    .tags("job_id", "process-payment", "outcome", "SUCCESS", "exception", "None")
+                    .publishPercentileHistogram()
+                    .register(registry);
+    }
+}
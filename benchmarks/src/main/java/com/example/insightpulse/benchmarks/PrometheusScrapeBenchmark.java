@@ -0,0 +1,52 @@
+package com.example.insightpulse.benchmarks;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.prometheusmetrics.PrometheusConfig;
+import io.micrometer.prometheusmetrics.PrometheusMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Serialization cost of a {@code /actuator/prometheus} scrape as the series count grows.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class PrometheusScrapeBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    public int series;
+
+    private PrometheusMeterRegistry registry;
+
+    @Setup
+    public void setUp() {
+        registry = new PrometheusMeterRegistry(PrometheusConfig.DEFAULT);
+        // Spread series over a handful of metric families, like the service counters do
+        for (int i = 0; i < series; i++) {
+            Counter.builder("service_success_total_" + (i % 10))
+                   .tags("class", "com.example.insightpulse.service.JobService", "method", "method" + i)
+                   .register(registry)
+                   .increment(i);
+        }
+    }
+
+    @Benchmark
+    public String scrape() {
+        return registry.scrape();
+    }
+}
@@ -0,0 +1,40 @@
+#!/bin/bash
+
+# Measures fast-endpoint throughput while the blocking job endpoints are saturated.
+#
+# Run once per execution mode against a freshly started app, e.g.
+#   java -jar target/InsightPulse-0.0.1-SNAPSHOT-exec.jar --server.tomcat.threads.max=50 --insightpulse.execution.mode=platform
+#   java -jar target/InsightPulse-0.0.1-SNAPSHOT-exec.jar --server.tomcat.threads.max=50 --insightpulse.execution.mode=virtual
+#   java -jar target/InsightPulse-0.0.1-SNAPSHOT-exec.jar --server.tomcat.threads.max=50 --insightpulse.execution.mode=offload
+# and compare the "Requests/sec" lines printed for the fast endpoints.
+
+# Label printed with the results (platform, virtual or offload)
+MODE=${1:-platform}
+# Concurrent clients per slow endpoint; keep above server.tomcat.threads.max to saturate it
+SLOW_CONCURRENCY=${SLOW_CONCURRENCY:-100}
+# Concurrent clients per fast endpoint
+FAST_CONCURRENCY=${FAST_CONCURRENCY:-10}
+# Measurement window
+DURATION=${DURATION:-30s}
+
+# Target base URL
+BASE_URL=${BASE_URL:-"http://localhost:8080"}
+
+echo "Saturating slow endpoints for $DURATION with $SLOW_CONCURRENCY clients each (mode: $MODE)..."
+hey -z $DURATION -c $SLOW_CONCURRENCY $BASE_URL/jobs/generate-report > /tmp/slow-generate-report.txt &
+hey -z $DURATION -c $SLOW_CONCURRENCY $BASE_URL/execute-dummy-job > /tmp/slow-execute-dummy-job.txt &
+
+# Let the slow requests occupy the request threads first
+sleep 2
+
+echo "Measuring fast endpoints..."
+hey -z $DURATION -c $FAST_CONCURRENCY $BASE_URL/jobs/register-user > /tmp/fast-register-user.txt &
+hey -z $DURATION -c $FAST_CONCURRENCY $BASE_URL/jobs/inventory-sync > /tmp/fast-inventory-sync.txt &
+
+wait
+
+echo "-------------------------------------------"
+echo "Results for mode: $MODE"
+for endpoint in fast-register-user fast-inventory-sync slow-generate-report slow-execute-dummy-job; do
+  echo "$endpoint: $(grep 'Requests/sec' /tmp/$endpoint.txt | xargs)  p99: $(grep '99%' /tmp/$endpoint.txt | xargs)"
+done
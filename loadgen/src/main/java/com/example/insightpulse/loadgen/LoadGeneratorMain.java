@@ -0,0 +1,46 @@
+package com.example.insightpulse.loadgen;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Command line entry point:
+ * <pre>
+ * java -jar loadgen/target/loadgen.jar --base-url=http://localhost:8080 --duration=60 \
+ *      --rate=20 --rate.generate-report=5 --rate.register-user=200
+ * </pre>
+ * {@code --rate} sets the default arrival rate per target; {@code --rate.<target>} overrides one target,
+ * and a rate of 0 leaves that target out.
+ */
+public final class LoadGeneratorMain {
+
+    private LoadGeneratorMain() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = Arrays.stream(args)
+                                            .filter(arg -> arg.startsWith("--") && arg.contains("="))
+                                            .map(arg -> arg.substring(2).split("=", 2))
+                                            .collect(Collectors.toMap(kv -> kv[0], kv -> kv[1]));
+
+        URI baseUrl = URI.create(options.getOrDefault("base-url", "http://localhost:8080"));
+        Duration duration = Duration.ofSeconds(Long.parseLong(options.getOrDefault("duration", "60")));
+        double defaultRate = Double.parseDouble(options.getOrDefault("rate", "10"));
+
+        List<LoadTarget> targets = new ArrayList<>();
+        for (LoadTarget target : LoadTarget.jobEndpoints(defaultRate)) {
+            double rate = Double.parseDouble(options.getOrDefault("rate." + target.name(), String.valueOf(defaultRate)));
+            if (rate > 0) {
+                targets.add(target.withRate(rate));
+            }
+        }
+
+        LoadReport report = new OpenLoopLoadGenerator(baseUrl).run(duration, targets.toArray(LoadTarget[]::new));
+        System.out.print(report.format());
+    }
+}
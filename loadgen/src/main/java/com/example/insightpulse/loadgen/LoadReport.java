@@ -0,0 +1,97 @@
+package com.example.insightpulse.loadgen;
+
+import org.HdrHistogram.Histogram;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Client and server latency percentiles per target, side by side.
+ */
+public final class LoadReport {
+
+    private final Duration duration;
+    private final List<TargetResult> results;
+
+    LoadReport(Duration duration, List<TargetResult> results) {
+        this.duration = duration;
+        this.results = results;
+    }
+
+    public List<TargetResult> results() {
+        return results;
+    }
+
+    public TargetResult result(String targetName) {
+        return results.stream()
+                      .filter(r -> r.name().equals(targetName))
+                      .findFirst()
+                      .orElseThrow(() -> new IllegalArgumentException("No target named " + targetName));
+    }
+
+    /**
+     * Renders a fixed-width table; latencies in milliseconds.
+     */
+    public String format() {
+        StringBuilder out = new StringBuilder();
+        out.append(String.format("Open-loop run over %ds (client latency is coordinated-omission corrected)%n",
+                                 duration.toSeconds()));
+        out.append(String.format("%-16s %8s %8s %7s %9s | %8s %8s %8s %8s %9s | %8s %8s %8s %8s%n",
+                                 "target", "target/s", "actual/s", "errors", "server n",
+                                 "cli p50", "cli p90", "cli p99", "cli p999", "raw p99",
+                                 "srv p50", "srv p90", "srv p99", "srv gap"));
+        for (TargetResult r : results) {
+            out.append(String.format("%-16s %8.1f %8.1f %7d %9d | %8.1f %8.1f %8.1f %8.1f %9.1f | %8.1f %8.1f %8.1f %8.1f%n",
+                                     r.name(), r.targetRate(), r.achievedRate(), r.failed(), r.serverCount(),
+                                     r.clientP50Millis(), r.clientP90Millis(), r.clientP99Millis(),
+                                     r.clientP999Millis(), r.uncorrectedP99Millis(),
+                                     r.serverP50Millis(), r.serverP90Millis(), r.serverP99Millis(),
+                                     r.clientP99Millis() - r.serverP99Millis()));
+        }
+        return out.toString();
+    }
+
+    static TargetResult result(TargetStats stats, Duration duration, ServerHistograms before, ServerHistograms after) {
+        LoadTarget target = stats.target;
+        Histogram corrected = stats.corrected;
+        return new TargetResult(
+                target.name(),
+                target.ratePerSecond(),
+                stats.sent.sum() / (double) Math.max(1, duration.toSeconds()),
+                stats.sent.sum(),
+                stats.succeeded.sum(),
+                stats.failed.sum(),
+                millis(corrected, 50),
+                millis(corrected, 90),
+                millis(corrected, 99),
+                millis(corrected, 99.9),
+                corrected.getMaxValue() / 1000.0,
+                millis(stats.uncorrected, 99),
+                after.countSince(before, target.job()),
+                after.quantileMillisSince(before, target.job(), 0.50),
+                after.quantileMillisSince(before, target.job(), 0.90),
+                after.quantileMillisSince(before, target.job(), 0.99));
+    }
+
+    private static double millis(Histogram histogram, double percentile) {
+        return histogram.getValueAtPercentile(percentile) / 1000.0;
+    }
+
+    public record TargetResult(String name,
+                               double targetRate,
+                               double achievedRate,
+                               long sent,
+                               long succeeded,
+                               long failed,
+                               double clientP50Millis,
+                               double clientP90Millis,
+                               double clientP99Millis,
+                               double clientP999Millis,
+                               double clientMaxMillis,
+                               double uncorrectedP99Millis,
+                               long serverCount,
+                               double serverP50Millis,
+                               double serverP90Millis,
+                               double serverP99Millis) {
+    }
+}
@@ -0,0 +1,30 @@
+package com.example.insightpulse.loadgen;
+
+/**
+ * An endpoint to drive and the job that handles it, whose {@code job_execution_seconds}
+ * histogram supplies the server-side percentiles.
+ *
+ * @param name          label used in the report
+ * @param path          request path, e.g. {@code /jobs/register-user}
+ * @param ratePerSecond constant arrival rate
+ * @param job           job tag of the server-side timer
+ */
+public record LoadTarget(String name, String path, double ratePerSecond, String job) {
+
+    public LoadTarget withRate(double ratePerSecond) {
+        return new LoadTarget(name, path, ratePerSecond, job);
+    }
+
+    /**
+     * The job endpoints exercised by {@code load-data/load_test_jobs.sh}, at the given rate each.
+     */
+    public static LoadTarget[] jobEndpoints(double ratePerSecond) {
+        return new LoadTarget[] {
+                new LoadTarget("register-user", "/jobs/register-user", ratePerSecond, "register-user"),
+                new LoadTarget("generate-report", "/jobs/generate-report", ratePerSecond, "generate-report"),
+                new LoadTarget("process-payment", "/jobs/process-payment", ratePerSecond, "process-payment"),
+                new LoadTarget("inventory-sync", "/jobs/inventory-sync", ratePerSecond, "inventory-sync"),
+                new LoadTarget("dummy-job", "/execute-dummy-job", ratePerSecond, "dummy-job"),
+        };
+    }
+}
@@ -0,0 +1,122 @@
+package com.example.insightpulse.loadgen;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Phaser;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Drives HTTP endpoints at a constant arrival rate, independent of how fast responses come back.
+ * <p>
+ * Each target gets a pacing thread that issues request {@code i} at {@code start + i / rate}. Requests are
+ * sent asynchronously, so a slow response never delays the next one (open loop), and latency is measured
+ * from the scheduled send time. A closed-loop tool like {@code hey} waits for a response before sending the
+ * next request and therefore under-reports exactly the stalls we care about.
+ * <p>
+ * Server-side percentiles come from the app's {@code job_execution_seconds} histogram,
+ * scraped from {@code /actuator/prometheus} before and after the run.
+ */
+public class OpenLoopLoadGenerator {
+
+    private static final Logger logger = LoggerFactory.getLogger(OpenLoopLoadGenerator.class);
+
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+
+    private final URI baseUri;
+    private final HttpClient client;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    public OpenLoopLoadGenerator(URI baseUri) {
+        this.baseUri = baseUri;
+        this.client = HttpClient.newBuilder()
+                                .executor(executor)
+                                .connectTimeout(Duration.ofSeconds(5))
+                                .build();
+    }
+
+    /**
+     * Runs all targets concurrently for {@code duration} and waits for outstanding responses.
+     */
+    public LoadReport run(Duration duration, LoadTarget... targets) throws IOException, InterruptedException {
+        ServerHistograms before = scrapeServer();
+
+        List<TargetStats> stats = new ArrayList<>();
+        Phaser outstanding = new Phaser(1);
+        List<Thread> pacers = new ArrayList<>();
+        long start = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(100);
+        long end = start + duration.toNanos();
+        for (LoadTarget target : targets) {
+            TargetStats targetStats = new TargetStats(target);
+            stats.add(targetStats);
+            pacers.add(Thread.ofPlatform().name("pacer-" + target.name())
+                             .start(() -> pace(targetStats, start, end, outstanding)));
+        }
+        for (Thread pacer : pacers) {
+            pacer.join();
+        }
+        try {
+            outstanding.awaitAdvanceInterruptibly(outstanding.arrive(), REQUEST_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            logger.warn("Gave up waiting for {} outstanding responses", outstanding.getUnarrivedParties());
+        }
+
+        ServerHistograms after = scrapeServer();
+        List<LoadReport.TargetResult> results = new ArrayList<>();
+        for (TargetStats targetStats : stats) {
+            results.add(LoadReport.result(targetStats, duration, before, after));
+        }
+        return new LoadReport(duration, results);
+    }
+
+    private void pace(TargetStats stats, long start, long end, Phaser outstanding) {
+        HttpRequest request = HttpRequest.newBuilder(baseUri.resolve(stats.target.path()))
+                                         .timeout(REQUEST_TIMEOUT)
+                                         .GET()
+                                         .build();
+        double intervalNanos = TimeUnit.SECONDS.toNanos(1) / stats.target.ratePerSecond();
+        for (long i = 0; ; i++) {
+            long intended = start + (long) (i * intervalNanos);
+            if (intended >= end) {
+                return;
+            }
+            long wait;
+            while ((wait = intended - System.nanoTime()) > 0) {
+                LockSupport.parkNanos(wait);
+            }
+            // If we fell behind, send immediately; the intended time still anchors the latency
+            long sent = System.nanoTime();
+            stats.sent.increment();
+            outstanding.register();
+            client.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+                  .whenComplete((response, failure) -> {
+                      boolean success = failure == null && response.statusCode() < 400;
+                      stats.record(intended, sent, System.nanoTime(), success);
+                      outstanding.arriveAndDeregister();
+                  });
+        }
+    }
+
+    private ServerHistograms scrapeServer() throws IOException, InterruptedException {
+        HttpResponse<String> response = client.send(
+                HttpRequest.newBuilder(baseUri.resolve("/actuator/prometheus"))
+                           .timeout(REQUEST_TIMEOUT)
+                           // The app may cache scrapes briefly; the run's totals need a fresh one
+                           .header("Cache-Control", "no-cache")
+                           .build(),
+                HttpResponse.BodyHandlers.ofString());
+        return ServerHistograms.parse(response.body());
+    }
+}
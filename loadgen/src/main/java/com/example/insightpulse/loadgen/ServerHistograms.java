@@ -0,0 +1,114 @@
+package com.example.insightpulse.loadgen;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Cumulative {@code job_execution_seconds} bucket counts per job, parsed from a
+ * Prometheus text scrape. Two snapshots taken around a run give the server-side latency distribution of
+ * exactly that run, the way {@code histogram_quantile(rate(...))} does in Grafana.
+ */
+final class ServerHistograms {
+
+    static final String BUCKET_PREFIX = "job_execution_seconds_bucket{";
+    static final String COUNT_PREFIX = "job_execution_seconds_count{";
+
+    // job -> upper bound in seconds -> cumulative count, summed across outcome tags
+    private final Map<String, TreeMap<Double, Double>> buckets;
+    // job -> call count, summed across outcome tags
+    private final Map<String, Double> counts;
+
+    private ServerHistograms(Map<String, TreeMap<Double, Double>> buckets, Map<String, Double> counts) {
+        this.buckets = buckets;
+        this.counts = counts;
+    }
+
+    static ServerHistograms parse(String scrape) {
+        Map<String, TreeMap<Double, Double>> buckets = new HashMap<>();
+        Map<String, Double> counts = new HashMap<>();
+        for (String line : scrape.split("\n")) {
+            String prefix = line.startsWith(BUCKET_PREFIX) ? BUCKET_PREFIX
+                    : line.startsWith(COUNT_PREFIX) ? COUNT_PREFIX
+                    : null;
+            if (prefix == null) {
+                continue;
+            }
+            int labelsEnd = line.lastIndexOf('}');
+            Map<String, String> labels = parseLabels(line.substring(prefix.length(), labelsEnd));
+            double value = Double.parseDouble(line.substring(labelsEnd + 1).trim().split(" ")[0]);
+            String key = labels.get("job_id");
+            if (COUNT_PREFIX.equals(prefix)) {
+                counts.merge(key, value, Double::sum);
+                continue;
+            }
+            String le = labels.get("le");
+            if (le == null) {
+                continue;
+            }
+            double upperBound = "+Inf".equals(le) ? Double.POSITIVE_INFINITY : Double.parseDouble(le);
+            buckets.computeIfAbsent(key, k -> new TreeMap<>())
+                   .merge(upperBound, value, Double::sum);
+        }
+        return new ServerHistograms(buckets, counts);
+    }
+
+    /**
+     * Quantile of the observations recorded between {@code before} and this snapshot, in milliseconds,
+     * interpolated linearly within the bucket like PromQL's {@code histogram_quantile}; {@code NaN} if none.
+     */
+    double quantileMillisSince(ServerHistograms before, String job, double quantile) {
+        TreeMap<Double, Double> after = buckets.get(job);
+        if (after == null) {
+            return Double.NaN;
+        }
+        TreeMap<Double, Double> previous = before.buckets.getOrDefault(job, new TreeMap<>());
+        double total = after.lastEntry().getValue() - previous.getOrDefault(after.lastKey(), 0.0);
+        if (total <= 0) {
+            return Double.NaN;
+        }
+        double rank = quantile * total;
+        double lowerBound = 0;
+        double lowerCount = 0;
+        for (Map.Entry<Double, Double> bucket : after.entrySet()) {
+            double count = bucket.getValue() - previous.getOrDefault(bucket.getKey(), 0.0);
+            if (count >= rank) {
+                if (bucket.getKey().isInfinite()) {
+                    return lowerBound * 1000;
+                }
+                double fraction = count == lowerCount ? 0 : (rank - lowerCount) / (count - lowerCount);
+                return (lowerBound + (bucket.getKey() - lowerBound) * fraction) * 1000;
+            }
+            lowerBound = bucket.getKey();
+            lowerCount = count;
+        }
+        return Double.NaN;
+    }
+
+    long countSince(ServerHistograms before, String job) {
+        return Math.round(counts.getOrDefault(job, 0.0) - before.counts.getOrDefault(job, 0.0));
+    }
+
+    private static Map<String, String> parseLabels(String labels) {
+        Map<String, String> parsed = new HashMap<>();
+        int i = 0;
+        while (i < labels.length()) {
+            int eq = labels.indexOf('=', i);
+            if (eq < 0) {
+                break;
+            }
+            String name = labels.substring(i, eq).trim();
+            int valueStart = eq + 2; // skip ="
+            int valueEnd = valueStart;
+            while (valueEnd < labels.length() && labels.charAt(valueEnd) != '"') {
+                if (labels.charAt(valueEnd) == '\\') {
+                    valueEnd++;
+                }
+                valueEnd++;
+            }
+            parsed.put(name, labels.substring(valueStart, valueEnd));
+            i = valueEnd + 2; // skip ",
+        }
+        return parsed;
+    }
+}
@@ -0,0 +1,36 @@
+package com.example.insightpulse.loadgen;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Client-side results for one {@link LoadTarget}.
+ * <p>
+ * {@code corrected} measures from the moment each request was <em>scheduled</em> to be sent, so time a
+ * request spent waiting behind a stalled server is counted (coordinated omission corrected).
+ * {@code uncorrected} measures from the moment it was actually sent, which is what closed-loop tools report.
+ */
+final class TargetStats {
+
+    private static final long MAX_LATENCY_MICROS = TimeUnit.MINUTES.toMicros(2);
+
+    final LoadTarget target;
+    final Histogram corrected = new ConcurrentHistogram(MAX_LATENCY_MICROS, 3);
+    final Histogram uncorrected = new ConcurrentHistogram(MAX_LATENCY_MICROS, 3);
+    final LongAdder sent = new LongAdder();
+    final LongAdder succeeded = new LongAdder();
+    final LongAdder failed = new LongAdder();
+
+    TargetStats(LoadTarget target) {
+        this.target = target;
+    }
+
+    void record(long intendedNanos, long sentNanos, long completedNanos, boolean success) {
+        corrected.recordValue(Math.min(MAX_LATENCY_MICROS, (completedNanos - intendedNanos) / 1_000));
+        uncorrected.recordValue(Math.min(MAX_LATENCY_MICROS, (completedNanos - sentNanos) / 1_000));
+        (success ? succeeded : failed).increment();
+    }
+}
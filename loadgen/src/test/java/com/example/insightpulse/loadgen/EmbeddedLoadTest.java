@@ -0,0 +1,62 @@
+package com.example.insightpulse.loadgen;
+
+import com.example.insightpulse.PrometheusGrafanaDashboardApplication;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.net.URI;
+import java.nio.file.Path;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Test contexts swap in a simple registry unless told otherwise; the generator needs the Prometheus scrape
+@AutoConfigureObservability
+@SpringBootTest(classes = PrometheusGrafanaDashboardApplication.class,
+        webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = "logging.level.root=WARN")
+class EmbeddedLoadTest {
+
+    @TempDir
+    static Path workDir;
+
+    // Keep what the application writes out of the working tree
+    @DynamicPropertySource
+    static void workingFiles(DynamicPropertyRegistry registry) {
+        registry.add("insightpulse.events.file", () -> workDir.resolve("job-events.log").toString());
+        registry.add("insightpulse.history.dir", () -> workDir.resolve("history").toString());
+        registry.add("insightpulse.alerts.file", () -> workDir.resolve("alerts.log").toString());
+    }
+
+    @LocalServerPort
+    private int port;
+
+    @Test
+    void reportsClientAndServerPercentilesForEachTarget() throws Exception {
+        LoadTarget[] targets = LoadTarget.jobEndpoints(20);
+        LoadTarget registerUser = targets[0];
+        LoadTarget generateReport = targets[1].withRate(5);
+
+        LoadReport report = new OpenLoopLoadGenerator(URI.create("http://localhost:" + port))
+                .run(Duration.ofSeconds(3), registerUser, generateReport);
+        System.out.print(report.format());
+
+        LoadReport.TargetResult users = report.result("register-user");
+        assertThat(users.sent()).isEqualTo(60);
+        assertThat(users.succeeded()).isEqualTo(60);
+        assertThat(users.serverCount()).isEqualTo(60);
+        assertThat(users.clientP99Millis()).isGreaterThan(0);
+
+        // generate-report takes 200-1000 ms to generate once, then is served from the report cache
+        LoadReport.TargetResult reports = report.result("generate-report");
+        assertThat(reports.sent()).isEqualTo(15);
+        assertThat(reports.succeeded()).isEqualTo(15);
+        assertThat(reports.serverP50Millis()).isLessThan(150.0);
+        assertThat(reports.clientP99Millis()).isGreaterThanOrEqualTo(reports.serverP50Millis());
+    }
+}
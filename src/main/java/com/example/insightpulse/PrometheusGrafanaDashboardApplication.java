@@ -3,9 +3,11 @@ package com.example.insightpulse;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.boot.autoconfigure.security.servlet.SecurityAutoConfiguration;
+import org.springframework.boot.context.properties.ConfigurationPropertiesScan;
 import org.springframework.scheduling.annotation.EnableScheduling;
 
 @EnableScheduling
+@ConfigurationPropertiesScan
 @SpringBootApplication(exclude = { SecurityAutoConfiguration.class })
 public class PrometheusGrafanaDashboardApplication {
 
@@ -0,0 +1,296 @@
+package com.example.insightpulse.admission;
+
+import com.example.insightpulse.admission.AdmissionProperties.Adaptive;
+import com.example.insightpulse.admission.AdmissionProperties.RouteLimit;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.CountAtBucket;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.server.PathContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * Token-bucket admission limits per route pattern, replaceable at runtime.
+ * <p>
+ * The route table is copy-on-write: {@link #admit(String)} reads a volatile list and takes a permit
+ * from a {@link TokenBucket} without locking, while limit changes swap in a new list under the
+ * instance lock. With {@code insightpulse.admission.adaptive.enabled}, routes with a {@code p99-target}
+ * have their rate cut while the p99 of their {@code http_server_requests_seconds_count} timers is over
+ * target and raised back towards the configured rate once it recovers.
+ * <p>
+ * Metrics: {@code admission_requests_total{route,result=admitted|shed}} and
+ * {@code admission_limit_permits_per_second{route}}, the rate currently enforced.
+ */
+@Component
+public class AdmissionLimiter {
+
+    private static final Logger logger = LoggerFactory.getLogger(AdmissionLimiter.class);
+
+    // Series recorded by MetricsFilter; its uri tag is the handler's route pattern
+    static final String REQUEST_TIMER = "http_server_requests_seconds_count";
+
+    private final MeterRegistry registry;
+    private final Adaptive adaptive;
+    private final int maxStripes;
+    private final LongSupplier nanoClock;
+
+    // Most specific pattern first
+    private volatile List<Route> routes = List.of();
+
+    @Autowired
+    public AdmissionLimiter(AdmissionProperties properties, MeterRegistry registry) {
+        this(properties, registry, Runtime.getRuntime().availableProcessors(), System::nanoTime);
+    }
+
+    AdmissionLimiter(AdmissionProperties properties, MeterRegistry registry, int maxStripes, LongSupplier nanoClock) {
+        this.registry = registry;
+        this.adaptive = properties.getAdaptive();
+        this.maxStripes = maxStripes;
+        this.nanoClock = nanoClock;
+        if (properties.isEnabled()) {
+            properties.getRoutes().forEach(this::setLimit);
+        }
+    }
+
+    /**
+     * Takes a permit for the route {@code path} falls under.
+     *
+     * @return 0 if admitted (or not limited), otherwise the nanoseconds until a permit frees up
+     */
+    public long admit(String path) {
+        List<Route> current = routes;
+        if (current.isEmpty()) {
+            return 0;
+        }
+        Route route = match(current, PathContainer.parsePath(path));
+        if (route == null) {
+            return 0;
+        }
+        long wait = route.bucket.tryAcquire();
+        (wait == 0 ? route.admitted : route.shed).increment();
+        return wait;
+    }
+
+    /**
+     * Adds or replaces the limit for a route pattern. A replaced route starts with a full bucket.
+     */
+    public synchronized void setLimit(String pattern, RouteLimit limit) {
+        PathPattern parsed = PathPatternParser.defaultInstance.parse(pattern);
+        int burst = limit.getBurst() > 0 ? limit.getBurst() : (int) Math.max(1, Math.ceil(limit.getPermitsPerSecond()));
+        TokenBucket bucket = new TokenBucket(limit.getPermitsPerSecond(), burst, maxStripes, nanoClock);
+        List<Route> next = new ArrayList<>(routes);
+        Route previous = remove(next, pattern);
+        next.add(new Route(parsed, limit.getPermitsPerSecond(), burst, limit.getP99Target(), bucket,
+                           previous != null ? previous.admitted : counter(pattern, "admitted"),
+                           previous != null ? previous.shed : counter(pattern, "shed")));
+        next.sort(Comparator.comparing(r -> r.pattern, PathPattern.SPECIFICITY_COMPARATOR));
+        routes = List.copyOf(next);
+        if (previous == null) {
+            Gauge.builder("admission_limit_permits_per_second", this, l -> l.effectiveRate(pattern))
+                 .description("Requests per second currently admitted for the route")
+                 .tag("route", pattern)
+                 .register(registry);
+        }
+        logger.info("Admission limit for {}: {}/s, burst {}{}", pattern, limit.getPermitsPerSecond(), burst,
+                    limit.getP99Target() != null ? ", p99 target " + limit.getP99Target() : "");
+    }
+
+    /**
+     * Stops limiting a route pattern and drops its meters.
+     *
+     * @return whether the pattern had a limit
+     */
+    public synchronized boolean removeLimit(String pattern) {
+        List<Route> next = new ArrayList<>(routes);
+        Route removed = remove(next, pattern);
+        if (removed == null) {
+            return false;
+        }
+        routes = List.copyOf(next);
+        registry.find("admission_requests_total").tag("route", pattern).meters().forEach(registry::remove);
+        registry.find("admission_limit_permits_per_second").tag("route", pattern).meters().forEach(registry::remove);
+        logger.info("Admission limit for {} removed", pattern);
+        return true;
+    }
+
+    /**
+     * Current limits, most specific pattern first.
+     */
+    public List<LimitInfo> limits() {
+        List<LimitInfo> limits = new ArrayList<>();
+        for (Route route : routes) {
+            limits.add(new LimitInfo(route.pattern.getPatternString(), route.permitsPerSecond, route.burst,
+                                     route.permitsPerSecond * route.factor, route.p99Target));
+        }
+        return limits;
+    }
+
+    /**
+     * One adaptive step: compares each targeted route's p99 since the last step with its target.
+     */
+    @Scheduled(fixedRateString = "${insightpulse.admission.adaptive.interval:5s}")
+    public synchronized void adapt() {
+        if (!adaptive.isEnabled()) {
+            return;
+        }
+        for (Route route : routes) {
+            if (route.p99Target == null) {
+                continue;
+            }
+            double p99 = route.intervalP99(timers(route.pattern.getPatternString()), adaptive.getMinSamples());
+            if (Double.isNaN(p99)) {
+                continue;
+            }
+            double factor = route.factor;
+            if (p99 > route.p99Target.toNanos()) {
+                factor = Math.max(adaptive.getMinFactor(), factor * adaptive.getDecrease());
+            } else if (factor < 1) {
+                factor = Math.min(1, factor + adaptive.getIncrease());
+            }
+            if (factor != route.factor) {
+                route.factor = factor;
+                route.bucket.setRate(route.permitsPerSecond * factor);
+                logger.info("Admission limit for {} now {}/s (p99 {} ms, target {} ms)",
+                            route.pattern.getPatternString(), Math.round(route.permitsPerSecond * factor),
+                            TimeUnit.NANOSECONDS.toMillis((long) p99), route.p99Target.toMillis());
+            }
+        }
+    }
+
+    private List<Timer> timers(String pattern) {
+        List<Timer> timers = new ArrayList<>();
+        for (Timer timer : registry.find(REQUEST_TIMER).tag("uri", pattern).timers()) {
+            // Shed requests are fast and would pull the p99 down
+            if (!"429".equals(timer.getId().getTag("status"))) {
+                timers.add(timer);
+            }
+        }
+        return timers;
+    }
+
+    private double effectiveRate(String pattern) {
+        for (Route route : routes) {
+            if (route.pattern.getPatternString().equals(pattern)) {
+                return route.permitsPerSecond * route.factor;
+            }
+        }
+        return Double.NaN;
+    }
+
+    private Counter counter(String pattern, String result) {
+        return Counter.builder("admission_requests_total")
+                      .description("Requests admitted or shed by the route's admission limit")
+                      .tags("route", pattern, "result", result)
+                      .register(registry);
+    }
+
+    private static Route match(List<Route> routes, PathContainer path) {
+        for (Route route : routes) {
+            if (route.pattern.matches(path)) {
+                return route;
+            }
+        }
+        return null;
+    }
+
+    private static Route remove(List<Route> routes, String pattern) {
+        for (int i = 0; i < routes.size(); i++) {
+            if (routes.get(i).pattern.getPatternString().equals(pattern)) {
+                return routes.remove(i);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * @param effectivePermitsPerSecond rate enforced now; below {@code permitsPerSecond} while adaptive mode holds it down
+     */
+    public record LimitInfo(String route, double permitsPerSecond, int burst, double effectivePermitsPerSecond,
+                            Duration p99Target) {
+    }
+
+    private static final class Route {
+
+        final PathPattern pattern;
+        final double permitsPerSecond;
+        final int burst;
+        final Duration p99Target;
+        final TokenBucket bucket;
+        final Counter admitted;
+        final Counter shed;
+
+        // Adaptive state, only touched under the limiter's lock
+        volatile double factor = 1;
+        private double[] lastBuckets;
+        private long lastCount;
+
+        Route(PathPattern pattern, double permitsPerSecond, int burst, Duration p99Target, TokenBucket bucket,
+              Counter admitted, Counter shed) {
+            this.pattern = pattern;
+            this.permitsPerSecond = permitsPerSecond;
+            this.burst = burst;
+            this.p99Target = p99Target;
+            this.bucket = bucket;
+            this.admitted = admitted;
+            this.shed = shed;
+        }
+
+        /**
+         * p99 in nanoseconds of the requests recorded since the previous call, from the timers' cumulative
+         * histogram buckets; {@code NaN} for fewer than {@code minSamples} requests, infinite if the p99
+         * is past the last bucket. Relies on the registry keeping cumulative buckets, as the Prometheus one does.
+         */
+        double intervalP99(List<Timer> timers, int minSamples) {
+            double[] buckets = null;
+            long count = 0;
+            for (Timer timer : timers) {
+                CountAtBucket[] counts = timer.takeSnapshot().histogramCounts();
+                if (buckets == null) {
+                    buckets = new double[counts.length];
+                } else if (counts.length != buckets.length) {
+                    continue;
+                }
+                for (int i = 0; i < counts.length; i++) {
+                    buckets[i] += counts[i].count();
+                }
+                count += timer.count();
+            }
+            if (buckets == null || buckets.length == 0) {
+                return Double.NaN;
+            }
+            double[] previous = lastBuckets;
+            long previousCount = lastCount;
+            if (previous != null && previous.length == buckets.length && count - previousCount < minSamples) {
+                // Too few requests to judge; they count towards the next step
+                return Double.NaN;
+            }
+            lastBuckets = buckets;
+            lastCount = count;
+            if (previous == null || previous.length != buckets.length) {
+                return Double.NaN;
+            }
+            double rank = Math.ceil(0.99 * (count - previousCount));
+            CountAtBucket[] bounds = timers.get(0).takeSnapshot().histogramCounts();
+            for (int i = 0; i < buckets.length; i++) {
+                if (buckets[i] - previous[i] >= rank) {
+                    return bounds[i].bucket(TimeUnit.NANOSECONDS);
+                }
+            }
+            return Double.POSITIVE_INFINITY;
+        }
+    }
+}
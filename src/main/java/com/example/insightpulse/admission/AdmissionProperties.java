@@ -0,0 +1,148 @@
+package com.example.insightpulse.admission;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Per-route admission limits, bound from {@code insightpulse.admission.*}.
+ * <p>
+ * Keys under {@code routes} are path patterns, e.g. {@code routes[/execute-dummy-job]} or
+ * {@code routes[/jobs/{jobId}]}; a request is limited by the most specific pattern it matches and
+ * unmatched requests are not limited. These are the startup limits: {@code PUT /admission/limits}
+ * replaces them at runtime.
+ */
+@ConfigurationProperties(prefix = "insightpulse.admission")
+public class AdmissionProperties {
+
+    // false starts without limits; PUT /admission/limits can still add them
+    private boolean enabled = true;
+    private Map<String, RouteLimit> routes = new LinkedHashMap<>();
+    private Adaptive adaptive = new Adaptive();
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public Map<String, RouteLimit> getRoutes() {
+        return routes;
+    }
+
+    public void setRoutes(Map<String, RouteLimit> routes) {
+        this.routes = routes;
+    }
+
+    public Adaptive getAdaptive() {
+        return adaptive;
+    }
+
+    public void setAdaptive(Adaptive adaptive) {
+        this.adaptive = adaptive;
+    }
+
+    public static class RouteLimit {
+
+        // Sustained rate admitted
+        private double permitsPerSecond = 100;
+        // Requests admitted at once after an idle period; 0 = one second's worth
+        private int burst;
+        // Adaptive mode: tighten the limit while the route's p99 exceeds this; unset = fixed limit
+        private Duration p99Target;
+
+        public double getPermitsPerSecond() {
+            return permitsPerSecond;
+        }
+
+        public void setPermitsPerSecond(double permitsPerSecond) {
+            this.permitsPerSecond = permitsPerSecond;
+        }
+
+        public int getBurst() {
+            return burst;
+        }
+
+        public void setBurst(int burst) {
+            this.burst = burst;
+        }
+
+        public Duration getP99Target() {
+            return p99Target;
+        }
+
+        public void setP99Target(Duration p99Target) {
+            this.p99Target = p99Target;
+        }
+    }
+
+    /**
+     * Additive-increase/multiplicative-decrease of the limits of routes with a {@code p99-target},
+     * driven by the p99 of their {@code http_server_requests} timers over each interval.
+     */
+    public static class Adaptive {
+
+        private boolean enabled;
+        private Duration interval = Duration.ofSeconds(5);
+        // Intervals with fewer requests leave the limit alone
+        private int minSamples = 20;
+        // Limit multiplier applied when the p99 is over target
+        private double decrease = 0.7;
+        // Share of the configured rate given back per interval once the p99 is under target
+        private double increase = 0.1;
+        // Lowest share of the configured rate the limit can shrink to
+        private double minFactor = 0.1;
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public Duration getInterval() {
+            return interval;
+        }
+
+        public void setInterval(Duration interval) {
+            this.interval = interval;
+        }
+
+        public int getMinSamples() {
+            return minSamples;
+        }
+
+        public void setMinSamples(int minSamples) {
+            this.minSamples = minSamples;
+        }
+
+        public double getDecrease() {
+            return decrease;
+        }
+
+        public void setDecrease(double decrease) {
+            this.decrease = decrease;
+        }
+
+        public double getIncrease() {
+            return increase;
+        }
+
+        public void setIncrease(double increase) {
+            this.increase = increase;
+        }
+
+        public double getMinFactor() {
+            return minFactor;
+        }
+
+        public void setMinFactor(double minFactor) {
+            this.minFactor = minFactor;
+        }
+    }
+}
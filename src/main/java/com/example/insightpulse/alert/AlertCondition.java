@@ -0,0 +1,14 @@
+package com.example.insightpulse.alert;
+
+import java.util.Map;
+
+/**
+ * A compiled rule expression.
+ */
+interface AlertCondition {
+
+    /**
+     * Series for which the condition holds at {@code nowMillis}, with their values.
+     */
+    Map<Map<String, String>, Double> evaluate(long nowMillis);
+}
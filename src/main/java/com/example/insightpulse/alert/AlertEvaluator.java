@@ -0,0 +1,290 @@
+package com.example.insightpulse.alert;
+
+import com.example.insightpulse.tsdb.QueryEngine;
+import com.example.insightpulse.tsdb.QueryException;
+import com.example.insightpulse.tsdb.QueryParser;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Evaluates the alerting rules of {@code alert.rules.yml} inside the app, without the
+ * scrape / rule evaluation / Alertmanager round trip.
+ * <p>
+ * Plain thresholds on a gauge or counter ({@code inventory_sync_availability == 0}) are bound to the
+ * live meters; anything else runs as an instant query on the embedded TSDB. Every alert instance
+ * moves through pending and firing as in Prometheus: the {@code for:} clock starts the first time
+ * the condition holds, and only the firing and resolved transitions reach the {@link AlertSink}s.
+ * <p>
+ * Micrometer gauges and counters are read on demand and announce no changes, so conditions are still
+ * checked every {@code interval}. The {@code for:} state machine is driven by those transitions alone:
+ * an instance that turns pending arms a one-shot timer for its {@code for:} deadline, which fires it
+ * unless the condition stops holding first, instead of later passes re-checking how long it has held.
+ */
+@Component
+@ConditionalOnProperty(prefix = "insightpulse.alerts", name = "enabled", matchIfMissing = true)
+public class AlertEvaluator {
+
+    private static final Logger logger = LoggerFactory.getLogger(AlertEvaluator.class);
+
+    private static final Pattern TEMPLATE = Pattern.compile("\\{\\{\\s*\\$(value|labels\\.(\\w+))\\s*}}");
+
+    private final List<RuleState> rules = new ArrayList<>();
+    private final List<AlertSink> sinks;
+    private final long intervalMillis;
+    private final Counter failedEvaluations;
+    private final Counter failedNotifications;
+    private ScheduledExecutorService evaluator;
+
+    @Autowired
+    public AlertEvaluator(MeterRegistry registry, AlertProperties properties, ResourceLoader resources,
+                          ObjectProvider<QueryEngine> queryEngine, List<AlertSink> sinks) throws IOException {
+        this(registry, properties, loadRules(resources.getResource(properties.getRules())),
+             queryEngine.getIfAvailable(), sinks);
+    }
+
+    AlertEvaluator(MeterRegistry registry, AlertProperties properties, List<AlertRule> rules,
+                   QueryEngine queryEngine, List<AlertSink> sinks) {
+        this.sinks = sinks;
+        this.intervalMillis = properties.getInterval().toMillis();
+        this.failedEvaluations = Counter.builder("alert_rule_evaluation_failures_total")
+                                        .description("Alert rule evaluations that threw")
+                                        .register(registry);
+        this.failedNotifications = Counter.builder("alert_notification_failures_total")
+                                          .description("Alert notifications an AlertSink failed to deliver")
+                                          .register(registry);
+
+        for (AlertRule rule : rules) {
+            AlertCondition condition = compile(registry, rule, queryEngine);
+            if (condition == null) {
+                continue;
+            }
+            RuleState state = new RuleState(rule, condition);
+            Gauge.builder("alerts_pending", state, RuleState::pending)
+                 .description("Alert instances whose condition holds but whose for: duration has not elapsed")
+                 .tag("alertname", rule.name())
+                 .register(registry);
+            Gauge.builder("alerts_firing", state, RuleState::firing)
+                 .description("Alert instances currently firing")
+                 .tag("alertname", rule.name())
+                 .register(registry);
+            this.rules.add(state);
+        }
+    }
+
+    @PostConstruct
+    public void start() {
+        if (rules.isEmpty()) {
+            return;
+        }
+        evaluator = Executors.newSingleThreadScheduledExecutor(Thread.ofPlatform().name("alert-evaluator").daemon().factory());
+        evaluator.scheduleWithFixedDelay(() -> evaluate(System.currentTimeMillis()),
+                                         intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (evaluator != null) {
+            evaluator.shutdownNow();
+        }
+    }
+
+    /**
+     * Checks every rule once at {@code nowMillis}. Called from the evaluator thread, or directly by tests.
+     */
+    synchronized void evaluate(long nowMillis) {
+        for (RuleState state : rules) {
+            Map<Map<String, String>, Double> holding;
+            try {
+                holding = state.condition.evaluate(nowMillis);
+            } catch (RuntimeException e) {
+                failedEvaluations.increment();
+                logger.warn("Alert rule {} could not be evaluated", state.rule.name(), e);
+                continue;
+            }
+
+            for (Map.Entry<Map<String, String>, Double> series : holding.entrySet()) {
+                ActiveAlert alert = state.active.get(series.getKey());
+                if (alert == null) {
+                    alert = new ActiveAlert(nowMillis);
+                    state.active.put(series.getKey(), alert);
+                    alert.value = series.getValue();
+                    pending(state, series.getKey(), alert);
+                } else {
+                    alert.value = series.getValue();
+                }
+                // Catches up when no timer is running (evaluated directly) or it has not run yet
+                if (!alert.firing && nowMillis - alert.activeAt >= state.rule.forMillis()) {
+                    fire(state.rule, series.getKey(), alert, nowMillis);
+                }
+            }
+
+            Iterator<Map.Entry<Map<String, String>, ActiveAlert>> it = state.active.entrySet().iterator();
+            while (it.hasNext()) {
+                Map.Entry<Map<String, String>, ActiveAlert> entry = it.next();
+                if (!holding.containsKey(entry.getKey())) {
+                    it.remove();
+                    if (entry.getValue().deadline != null) {
+                        entry.getValue().deadline.cancel(false);
+                    }
+                    if (entry.getValue().firing) {
+                        notify(AlertStatus.RESOLVED, state.rule, entry.getKey(), entry.getValue(), nowMillis);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Arms the {@code for:} timer of an instance that just started holding.
+     */
+    private void pending(RuleState state, Map<String, String> labels, ActiveAlert alert) {
+        long forMillis = state.rule.forMillis();
+        if (evaluator == null || forMillis <= 0) {
+            return;
+        }
+        alert.deadline = evaluator.schedule(() -> expire(state, labels, alert), forMillis, TimeUnit.MILLISECONDS);
+    }
+
+    private synchronized void expire(RuleState state, Map<String, String> labels, ActiveAlert alert) {
+        // Resolved, or re-activated as a new instance, since the timer was armed
+        if (state.active.get(labels) == alert && !alert.firing) {
+            fire(state.rule, labels, alert, System.currentTimeMillis());
+        }
+    }
+
+    private void fire(AlertRule rule, Map<String, String> labels, ActiveAlert alert, long nowMillis) {
+        alert.firing = true;
+        notify(AlertStatus.FIRING, rule, labels, alert, nowMillis);
+    }
+
+    private void notify(AlertStatus status, AlertRule rule, Map<String, String> seriesLabels,
+                        ActiveAlert alert, long nowMillis) {
+        Map<String, String> labels = new TreeMap<>(seriesLabels);
+        labels.putAll(rule.labels());
+        labels.put("alertname", rule.name());
+        Map<String, String> annotations = new HashMap<>();
+        rule.annotations().forEach((name, text) -> annotations.put(name, expand(text, labels, alert.value)));
+
+        AlertEvent event = new AlertEvent(status, rule.name(), labels, annotations, alert.value,
+                                          Instant.ofEpochMilli(alert.activeAt), Instant.ofEpochMilli(nowMillis));
+        for (AlertSink sink : sinks) {
+            try {
+                sink.deliver(event);
+            } catch (RuntimeException e) {
+                failedNotifications.increment();
+                logger.warn("Alert sink {} failed to deliver {} {}", sink.getClass().getSimpleName(), status, rule.name(), e);
+            }
+        }
+    }
+
+    /**
+     * Expands the {@code {{ $labels.name }}} and {@code {{ $value }}} template references.
+     */
+    private static String expand(String text, Map<String, String> labels, double value) {
+        Matcher matcher = TEMPLATE.matcher(text);
+        StringBuilder expanded = new StringBuilder();
+        while (matcher.find()) {
+            String replacement = matcher.group(2) != null ? labels.getOrDefault(matcher.group(2), "")
+                                                          : String.valueOf(value);
+            matcher.appendReplacement(expanded, Matcher.quoteReplacement(replacement));
+        }
+        return matcher.appendTail(expanded).toString();
+    }
+
+    private static AlertCondition compile(MeterRegistry registry, AlertRule rule, QueryEngine queryEngine) {
+        AlertCondition condition;
+        try {
+            condition = MeterThresholdCondition.compile(registry, QueryParser.parse(rule.expr()));
+        } catch (QueryException e) {
+            throw new IllegalArgumentException("Invalid expr for alert " + rule.name() + ": " + e.getMessage(), e);
+        }
+        if (condition != null) {
+            return condition;
+        }
+        if (queryEngine == null) {
+            logger.warn("Alert {} needs the embedded TSDB (insightpulse.tsdb.enabled) and is not evaluated", rule.name());
+            return null;
+        }
+        return new QueryCondition(queryEngine, rule.expr());
+    }
+
+    private static List<AlertRule> loadRules(Resource resource) throws IOException {
+        if (!resource.exists()) {
+            logger.info("No alert rules at {}", resource.getDescription());
+            return List.of();
+        }
+        try (InputStream in = resource.getInputStream()) {
+            List<AlertRule> rules = AlertRuleLoader.load(in);
+            logger.info("Loaded {} alert rules from {}", rules.size(), resource.getDescription());
+            return rules;
+        }
+    }
+
+    private static final class RuleState {
+
+        final AlertRule rule;
+        final AlertCondition condition;
+        // Series labels -> instance; written by the evaluator thread, read by the gauges
+        final Map<Map<String, String>, ActiveAlert> active = new ConcurrentHashMap<>();
+
+        RuleState(AlertRule rule, AlertCondition condition) {
+            this.rule = rule;
+            this.condition = condition;
+        }
+
+        double pending() {
+            return active.size() - firing();
+        }
+
+        double firing() {
+            int firing = 0;
+            for (ActiveAlert alert : active.values()) {
+                if (alert.firing) {
+                    firing++;
+                }
+            }
+            return firing;
+        }
+    }
+
+    private static final class ActiveAlert {
+
+        final long activeAt;
+        double value;
+        volatile boolean firing;
+        // Pending -> firing timer; null when evaluated without the evaluator thread
+        ScheduledFuture<?> deadline;
+
+        ActiveAlert(long activeAt) {
+            this.activeAt = activeAt;
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package com.example.insightpulse.alert;
+
+import java.time.Instant;
+import java.util.Map;
+
+/**
+ * A firing or resolved notification for one alert instance.
+ *
+ * @param labels      rule labels plus the matched series' labels and {@code alertname}
+ * @param annotations rule annotations with {@code {{ $labels.x }}} and {@code {{ $value }}} expanded
+ * @param value       the expression value that last satisfied the condition
+ * @param activeAt    when the condition first held
+ * @param at          when the alert fired or resolved
+ */
+public record AlertEvent(AlertStatus status, String alertname, Map<String, String> labels,
+                         Map<String, String> annotations, double value, Instant activeAt, Instant at) {
+}
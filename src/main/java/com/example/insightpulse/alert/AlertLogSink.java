@@ -0,0 +1,74 @@
+package com.example.insightpulse.alert;
+
+import jakarta.annotation.PreDestroy;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.format.DateTimeFormatter;
+import java.util.Map;
+
+/**
+ * Appends alert notifications to {@code insightpulse.alerts.file}, one logfmt line each:
+ * <pre>
+ * 2025-04-04T10:17:31.000Z status=FIRING alertname=JobDown active_at=2025-04-04T10:15:31.000Z value=0.0 severity=critical summary="Inventory sync is down"
+ * </pre>
+ */
+@Component
+@ConditionalOnProperty(prefix = "insightpulse.alerts", name = "enabled", matchIfMissing = true)
+public class AlertLogSink implements AlertSink {
+
+    private final Writer out;
+
+    public AlertLogSink(AlertProperties properties) throws IOException {
+        Path file = Path.of(properties.getFile()).toAbsolutePath();
+        Files.createDirectories(file.getParent());
+        this.out = Files.newBufferedWriter(file, StandardCharsets.UTF_8,
+                                           StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+    }
+
+    @Override
+    public synchronized void deliver(AlertEvent event) {
+        StringBuilder line = new StringBuilder(200);
+        DateTimeFormatter.ISO_INSTANT.formatTo(event.at(), line);
+        line.append(" status=").append(event.status())
+            .append(" alertname=").append(event.alertname())
+            .append(" active_at=");
+        DateTimeFormatter.ISO_INSTANT.formatTo(event.activeAt(), line);
+        line.append(" value=").append(event.value());
+        append(line, event.labels(), "alertname");
+        append(line, event.annotations(), null);
+        line.append('\n');
+        try {
+            out.append(line);
+            // Alerts are rare and should be on disk before anyone goes looking for them
+            out.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void append(StringBuilder line, Map<String, String> values, String skip) {
+        values.forEach((name, value) -> {
+            if (!name.equals(skip)) {
+                line.append(' ').append(name).append('=');
+                if (value.isEmpty() || value.indexOf(' ') >= 0 || value.indexOf('"') >= 0) {
+                    line.append('"').append(value.replace("\"", "\\\"")).append('"');
+                } else {
+                    line.append(value);
+                }
+            }
+        });
+    }
+
+    @PreDestroy
+    public void close() throws IOException {
+        out.close();
+    }
+}
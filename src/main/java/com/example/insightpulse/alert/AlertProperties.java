@@ -0,0 +1,66 @@
+package com.example.insightpulse.alert;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * In-process alerting settings, bound from {@code insightpulse.alerts.*}.
+ */
+@ConfigurationProperties(prefix = "insightpulse.alerts")
+public class AlertProperties {
+
+    private boolean enabled = true;
+
+    // Prometheus rule file; a missing file just means no rules
+    private String rules = "file:alert.rules.yml";
+
+    // How often rules are checked, which bounds detection latency
+    private Duration interval = Duration.ofSeconds(1);
+
+    // Log file written by AlertLogSink
+    private String file = "logs/alerts.log";
+
+    // Alertmanager-compatible receiver; unset disables WebhookAlertSink
+    private String webhookUrl;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public String getRules() {
+        return rules;
+    }
+
+    public void setRules(String rules) {
+        this.rules = rules;
+    }
+
+    public Duration getInterval() {
+        return interval;
+    }
+
+    public void setInterval(Duration interval) {
+        this.interval = interval;
+    }
+
+    public String getFile() {
+        return file;
+    }
+
+    public void setFile(String file) {
+        this.file = file;
+    }
+
+    public String getWebhookUrl() {
+        return webhookUrl;
+    }
+
+    public void setWebhookUrl(String webhookUrl) {
+        this.webhookUrl = webhookUrl;
+    }
+}
@@ -0,0 +1,12 @@
+package com.example.insightpulse.alert;
+
+import java.util.Map;
+
+/**
+ * One alerting rule from a Prometheus rule file.
+ *
+ * @param forMillis how long the condition must hold before the alert fires; {@code 0} fires immediately
+ */
+public record AlertRule(String group, String name, String expr, long forMillis,
+                        Map<String, String> labels, Map<String, String> annotations) {
+}
@@ -0,0 +1,61 @@
+package com.example.insightpulse.alert;
+
+import com.example.insightpulse.tsdb.QueryParser;
+import org.yaml.snakeyaml.Yaml;
+
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Reads the alerting rules of a Prometheus rule file ({@code groups[].rules[]} with {@code alert},
+ * {@code expr}, {@code for}, {@code labels} and {@code annotations}). Recording rules are skipped.
+ */
+final class AlertRuleLoader {
+
+    private AlertRuleLoader() {
+    }
+
+    static List<AlertRule> load(InputStream in) {
+        Object root = new Yaml().load(in);
+        List<AlertRule> rules = new ArrayList<>();
+        if (!(root instanceof Map<?, ?> document)) {
+            return rules;
+        }
+        for (Object group : list(document.get("groups"))) {
+            Map<?, ?> groupMap = (Map<?, ?>) group;
+            String groupName = String.valueOf(groupMap.get("name"));
+            for (Object rule : list(groupMap.get("rules"))) {
+                Map<?, ?> ruleMap = (Map<?, ?>) rule;
+                if (ruleMap.get("alert") == null) {
+                    continue;
+                }
+                if (ruleMap.get("expr") == null) {
+                    throw new IllegalArgumentException("alert " + ruleMap.get("alert") + " has no expr");
+                }
+                Object forValue = ruleMap.get("for");
+                rules.add(new AlertRule(groupName,
+                                        String.valueOf(ruleMap.get("alert")),
+                                        String.valueOf(ruleMap.get("expr")).trim(),
+                                        forValue == null ? 0 : QueryParser.parseDuration(String.valueOf(forValue)),
+                                        strings(ruleMap.get("labels")),
+                                        strings(ruleMap.get("annotations"))));
+            }
+        }
+        return rules;
+    }
+
+    private static List<?> list(Object value) {
+        return value instanceof List<?> list ? list : List.of();
+    }
+
+    private static Map<String, String> strings(Object value) {
+        Map<String, String> strings = new LinkedHashMap<>();
+        if (value instanceof Map<?, ?> map) {
+            map.forEach((k, v) -> strings.put(String.valueOf(k), String.valueOf(v)));
+        }
+        return strings;
+    }
+}
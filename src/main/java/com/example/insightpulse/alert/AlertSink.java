@@ -0,0 +1,9 @@
+package com.example.insightpulse.alert;
+
+/**
+ * Receives alert notifications on the evaluator thread; implementations should not block for long.
+ */
+public interface AlertSink {
+
+    void deliver(AlertEvent event);
+}
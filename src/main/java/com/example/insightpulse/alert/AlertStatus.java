@@ -0,0 +1,6 @@
+package com.example.insightpulse.alert;
+
+public enum AlertStatus {
+    FIRING,
+    RESOLVED
+}
@@ -0,0 +1,163 @@
+package com.example.insightpulse.alert;
+
+import com.example.insightpulse.tsdb.Expr;
+import com.example.insightpulse.tsdb.LabelMatcher;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.TimeGauge;
+import io.micrometer.core.instrument.config.NamingConvention;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * {@code metric{matchers} op number} checked straight against the live gauges and counters.
+ * <p>
+ * Matching meters are bound once, and then kept current through the registry's add/remove
+ * listeners, so each evaluation only reads the bound values instead of searching the registry
+ * or waiting for a scrape.
+ */
+final class MeterThresholdCondition implements AlertCondition {
+
+    private final String metric;
+    private final List<LabelMatcher> matchers;
+    private final String op;
+    private final double threshold;
+    private final boolean thresholdOnLeft;
+    private final NamingConvention convention;
+
+    private final List<BoundMeter> meters = new CopyOnWriteArrayList<>();
+
+    private MeterThresholdCondition(MeterRegistry registry, String metric, List<LabelMatcher> matchers,
+                                    String op, double threshold, boolean thresholdOnLeft) {
+        this.metric = metric;
+        this.matchers = matchers;
+        this.op = op;
+        this.threshold = threshold;
+        this.thresholdOnLeft = thresholdOnLeft;
+        this.convention = registry.config().namingConvention();
+        registry.config().onMeterAdded(this::bind);
+        registry.config().onMeterRemoved(meter -> meters.removeIf(bound -> bound.meter().getId().equals(meter.getId())));
+        registry.forEachMeter(this::bind);
+    }
+
+    /**
+     * Compiles {@code expr} if it is a plain threshold on one gauge or counter metric, else returns {@code null}.
+     */
+    static MeterThresholdCondition compile(MeterRegistry registry, Expr expr) {
+        if (!(expr instanceof Expr.Binary binary) || !isComparison(binary.op())) {
+            return null;
+        }
+        if (binary.left() instanceof Expr.Selector selector && binary.right() instanceof Expr.NumberLiteral number) {
+            return compile(registry, selector, binary.op(), number.value(), false);
+        }
+        if (binary.left() instanceof Expr.NumberLiteral number && binary.right() instanceof Expr.Selector selector) {
+            return compile(registry, selector, binary.op(), number.value(), true);
+        }
+        return null;
+    }
+
+    private static MeterThresholdCondition compile(MeterRegistry registry, Expr.Selector selector, String op,
+                                                   double threshold, boolean thresholdOnLeft) {
+        String metric = null;
+        for (LabelMatcher matcher : selector.matchers()) {
+            if (matcher.name().equals("__name__") && matcher.op() == LabelMatcher.Op.EQUAL) {
+                metric = matcher.value();
+            }
+        }
+        if (metric == null || selector.rangeMillis() > 0) {
+            return null;
+        }
+        return new MeterThresholdCondition(registry, metric, selector.matchers(), op, threshold, thresholdOnLeft);
+    }
+
+    @Override
+    public Map<Map<String, String>, Double> evaluate(long nowMillis) {
+        Map<Map<String, String>, Double> active = Collections.emptyMap();
+        for (BoundMeter bound : meters) {
+            double value = bound.value().applyAsDouble(bound.meter());
+            boolean holds = thresholdOnLeft ? compare(threshold, value) : compare(value, threshold);
+            if (holds) {
+                if (active.isEmpty()) {
+                    active = new HashMap<>();
+                }
+                active.put(bound.labels(), value);
+            }
+        }
+        return active;
+    }
+
+    private void bind(Meter meter) {
+        ToDoubleFunction<Meter> value = reader(meter);
+        if (value == null) {
+            return;
+        }
+        String name = meter.getId().getConventionName(convention);
+        if (meter instanceof Counter || meter instanceof FunctionCounter) {
+            name = name.endsWith("_total") ? name : name + "_total";
+        }
+        if (!name.equals(metric)) {
+            return;
+        }
+        Map<String, String> labels = new TreeMap<>();
+        for (Tag tag : meter.getId().getConventionTags(convention)) {
+            labels.put(tag.getKey(), tag.getValue());
+        }
+        labels.put("__name__", name);
+        for (LabelMatcher matcher : matchers) {
+            if (!matcher.matches(labels)) {
+                return;
+            }
+        }
+        labels.remove("__name__");
+        meters.add(new BoundMeter(meter, Collections.unmodifiableMap(labels), value));
+    }
+
+    private static ToDoubleFunction<Meter> reader(Meter meter) {
+        if (meter instanceof TimeGauge) {
+            return m -> ((TimeGauge) m).value(TimeUnit.SECONDS);
+        }
+        if (meter instanceof Gauge) {
+            return m -> ((Gauge) m).value();
+        }
+        if (meter instanceof Counter) {
+            return m -> ((Counter) m).count();
+        }
+        if (meter instanceof FunctionCounter) {
+            return m -> ((FunctionCounter) m).count();
+        }
+        return null;
+    }
+
+    private boolean compare(double left, double right) {
+        return switch (op) {
+            case "==" -> left == right;
+            case "!=" -> left != right;
+            case ">" -> left > right;
+            case "<" -> left < right;
+            case ">=" -> left >= right;
+            case "<=" -> left <= right;
+            default -> false;
+        };
+    }
+
+    private static boolean isComparison(String op) {
+        return switch (op) {
+            case "==", "!=", ">", "<", ">=", "<=" -> true;
+            default -> false;
+        };
+    }
+
+    private record BoundMeter(Meter meter, Map<String, String> labels, ToDoubleFunction<Meter> value) {
+    }
+}
@@ -0,0 +1,42 @@
+package com.example.insightpulse.alert;
+
+import com.example.insightpulse.tsdb.QueryEngine;
+import com.example.insightpulse.tsdb.QueryEngine.QueryResult;
+import com.example.insightpulse.tsdb.QueryEngine.SeriesResult;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Any other expression (rates, ratios, quantiles), evaluated as an instant query on the embedded TSDB.
+ */
+final class QueryCondition implements AlertCondition {
+
+    private final QueryEngine engine;
+    private final String expr;
+
+    QueryCondition(QueryEngine engine, String expr) {
+        this.engine = engine;
+        this.expr = expr;
+    }
+
+    @Override
+    public Map<Map<String, String>, Double> evaluate(long nowMillis) {
+        QueryResult result = engine.query(expr, nowMillis);
+        Map<Map<String, String>, Double> active = new HashMap<>();
+        if (result.scalar()) {
+            // A scalar rule is only "true" when non-zero, as with a bool comparison
+            double value = result.series().get(0).values()[0];
+            if (value != 0 && !Double.isNaN(value)) {
+                active.put(Map.of(), value);
+            }
+            return active;
+        }
+        for (SeriesResult series : result.series()) {
+            Map<String, String> labels = new HashMap<>(series.labels());
+            labels.remove("__name__");
+            active.put(labels, series.values()[0]);
+        }
+        return active;
+    }
+}
@@ -0,0 +1,74 @@
+package com.example.insightpulse.alert;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Posts each notification to {@code insightpulse.alerts.webhook-url} in the Alertmanager
+ * {@code POST /api/v2/alerts} format, so a real Alertmanager or any stand-in receiver can take it.
+ * Sends are asynchronous; failures are logged and counted, not retried.
+ */
+@Component
+@ConditionalOnProperty(prefix = "insightpulse.alerts", name = "webhook-url")
+public class WebhookAlertSink implements AlertSink {
+
+    private static final Logger logger = LoggerFactory.getLogger(WebhookAlertSink.class);
+
+    private final URI url;
+    private final ObjectMapper objectMapper;
+    private final HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(2)).build();
+    private final Counter failures;
+
+    public WebhookAlertSink(AlertProperties properties, ObjectMapper objectMapper, MeterRegistry registry) {
+        this.url = URI.create(properties.getWebhookUrl());
+        this.objectMapper = objectMapper;
+        this.failures = Counter.builder("alert_webhook_failures_total")
+                               .description("Alert webhook posts that failed or were rejected")
+                               .register(registry);
+    }
+
+    @Override
+    public void deliver(AlertEvent event) {
+        Map<String, Object> alert = new LinkedHashMap<>();
+        alert.put("labels", event.labels());
+        alert.put("annotations", event.annotations());
+        alert.put("startsAt", event.activeAt().toString());
+        if (event.status() == AlertStatus.RESOLVED) {
+            alert.put("endsAt", event.at().toString());
+        }
+        byte[] body;
+        try {
+            body = objectMapper.writeValueAsBytes(List.of(alert));
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+        HttpRequest request = HttpRequest.newBuilder(url)
+                                         .timeout(Duration.ofSeconds(5))
+                                         .header("Content-Type", "application/json")
+                                         .POST(HttpRequest.BodyPublishers.ofByteArray(body))
+                                         .build();
+        client.sendAsync(request, HttpResponse.BodyHandlers.discarding()).whenComplete((response, error) -> {
+            if (error != null || response.statusCode() >= 300) {
+                failures.increment();
+                logger.warn("Alert webhook {} rejected {} {}: {}", url, event.status(), event.alertname(),
+                            error != null ? error.toString() : "HTTP " + response.statusCode());
+            }
+        });
+    }
+}
@@ -0,0 +1,67 @@
+package com.example.insightpulse.availability;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Index of {@code api_availability} gauges keyed by (method, uri, status).
+ * <p>
+ * Each gauge is registered exactly once and reads a primitive availability value,
+ * so recording a request is a single hash lookup regardless of how many meters exist.
+ */
+@Component
+public class ApiAvailabilityRegistry {
+
+    private final MeterRegistry meterRegistry;
+    private final Map<RouteStatus, AvailabilityState> states = new ConcurrentHashMap<>();
+
+    public ApiAvailabilityRegistry(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * Records the availability of a route for the given response status (5xx = unavailable).
+     */
+    public void record(String method, String uri, int status) {
+        RouteStatus key = new RouteStatus(method, uri, status);
+        AvailabilityState state = states.get(key);
+        if (state == null) {
+            state = states.computeIfAbsent(key, this::register);
+        }
+        state.value = (status >= 500) ? 0 : 1;
+    }
+
+    /**
+     * Number of (method, uri, status) combinations currently tracked.
+     */
+    public int size() {
+        return states.size();
+    }
+
+    private AvailabilityState register(RouteStatus key) {
+        AvailabilityState state = new AvailabilityState();
+        Gauge.builder("api_availability", state, AvailabilityState::value)
+             .description("API availability by method and URI pattern")
+             .tags("method", key.method(), "uri", key.uri(), "status", String.valueOf(key.status()))
+             .strongReference(true)
+             .register(meterRegistry);
+        return state;
+    }
+
+    private record RouteStatus(String method, String uri, int status) {
+    }
+
+    private static final class AvailabilityState {
+
+        // Defaults to available until the first request for this route/status is recorded
+        private volatile int value = 1;
+
+        double value() {
+            return value;
+        }
+    }
+}
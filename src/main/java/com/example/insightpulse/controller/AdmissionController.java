@@ -0,0 +1,53 @@
+package com.example.insightpulse.controller;
+
+import com.example.insightpulse.admission.AdmissionLimiter;
+import com.example.insightpulse.admission.AdmissionProperties.RouteLimit;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.util.pattern.PatternParseException;
+
+import java.util.List;
+
+/**
+ * Runtime view and changes of the per-route admission limits, e.g.
+ * {@code PUT /admission/limits?route=/execute-dummy-job} with {@code {"permitsPerSecond": 50, "burst": 100}}.
+ * Changes last until the next restart, which goes back to {@code insightpulse.admission.routes}.
+ */
+@RestController
+@RequestMapping("/admission/limits")
+public class AdmissionController {
+
+    @Autowired
+    private AdmissionLimiter limiter;
+
+    @GetMapping
+    public List<AdmissionLimiter.LimitInfo> limits() {
+        return limiter.limits();
+    }
+
+    @PutMapping
+    public ResponseEntity<List<AdmissionLimiter.LimitInfo>> setLimit(@RequestParam String route,
+                                                                     @RequestBody RouteLimit limit) {
+        if (!(limit.getPermitsPerSecond() > 0) || limit.getBurst() < 0) {
+            return ResponseEntity.badRequest().build();
+        }
+        try {
+            limiter.setLimit(route, limit);
+        } catch (PatternParseException e) {
+            return ResponseEntity.badRequest().build();
+        }
+        return ResponseEntity.ok(limiter.limits());
+    }
+
+    @DeleteMapping
+    public ResponseEntity<Void> removeLimit(@RequestParam String route) {
+        return limiter.removeLimit(route) ? ResponseEntity.noContent().build() : ResponseEntity.notFound().build();
+    }
+}
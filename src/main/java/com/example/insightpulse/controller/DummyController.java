@@ -1,26 +1,33 @@
 package com.example.insightpulse.controller;
 
-import com.example.insightpulse.service.DummyService;
+import com.example.insightpulse.execution.BlockingJobExecutor;
+import com.example.insightpulse.job.JobRegistry;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.util.concurrent.CompletableFuture;
+
 @RestController
 public class DummyController {
 
-    private final DummyService dummyService;
+    private final JobRegistry jobRegistry;
+    private final BlockingJobExecutor blockingJobExecutor;
 
-    public DummyController(DummyService dummyService) {
-        this.dummyService = dummyService;
+    public DummyController(JobRegistry jobRegistry, BlockingJobExecutor blockingJobExecutor) {
+        this.jobRegistry = jobRegistry;
+        this.blockingJobExecutor = blockingJobExecutor;
     }
 
-    // Endpoint to trigger job execution
+    // Endpoint to trigger job execution; same job as /jobs/dummy-job, kept for the load scripts
     @GetMapping("/execute-dummy-job")
-    public String executeJob() {
-        try {
-            dummyService.job_history_success();
-            return "Job executed successfully";
-        } catch (RuntimeException e) {
-            return "Job execution failed: " + e.getMessage();
-        }
+    public CompletableFuture<String> executeJob() {
+        // Blocking job: may run on a virtual thread depending on insightpulse.execution.mode
+        return blockingJobExecutor.submit(() -> {
+            try {
+                return jobRegistry.execute("dummy-job");
+            } catch (RuntimeException e) {
+                return "Job execution failed: " + e.getMessage();
+            }
+        });
     }
 }
@@ -1,43 +1,123 @@
 package com.example.insightpulse.controller;
 
-import com.example.insightpulse.service.JobService;
+import com.example.insightpulse.events.JobEventType;
+import com.example.insightpulse.execution.BlockingJobExecutor;
+import com.example.insightpulse.history.JobHistoryQuery;
+import com.example.insightpulse.history.JobHistoryRecord;
+import com.example.insightpulse.history.JobHistoryStore;
+import com.example.insightpulse.job.CircuitBreakerOpenException;
+import com.example.insightpulse.job.Job;
+import com.example.insightpulse.job.JobConcurrencyLimitException;
+import com.example.insightpulse.job.JobEngine;
+import com.example.insightpulse.job.JobRegistry;
+import com.example.insightpulse.job.JobRejectedException;
+import com.example.insightpulse.job.JobRun;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.net.URI;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
 @RestController
 @RequestMapping("/jobs")
 public class JobController {
 
+    private static final int MAX_HISTORY_RESULTS = 10_000;
+
+    @Autowired
+    private JobRegistry jobRegistry;
+
+    @Autowired
+    private BlockingJobExecutor blockingJobExecutor;
+
+    @Autowired
+    private JobEngine jobEngine;
+
     @Autowired
-    private JobService jobService;
+    private JobHistoryStore jobHistoryStore;
 
-    @GetMapping("/register-user")
-    public ResponseEntity<String> registerUser() {
-        jobService.registerUser();
-        return ResponseEntity.ok("User registered.");
+    /**
+     * Registered jobs with their concurrency limits, current load, declared SLO and circuit breaker state.
+     */
+    @GetMapping
+    public List<JobRegistry.JobInfo> jobs() {
+        return jobRegistry.jobs();
     }
 
-    @GetMapping("/generate-report")
-    public ResponseEntity<String> generateReport() {
-        jobService.generateReport();
-        return ResponseEntity.ok("Report generated.");
+    /**
+     * Run a job by id, e.g. {@code /jobs/process-payment}, and return its result.
+     */
+    @GetMapping("/{jobId}")
+    public CompletableFuture<ResponseEntity<String>> execute(@PathVariable String jobId) {
+        Optional<Job> job = jobRegistry.find(jobId);
+        if (job.isEmpty()) {
+            return CompletableFuture.completedFuture(ResponseEntity.notFound().build());
+        }
+        if (job.get().blocking()) {
+            // Blocking job: may run on a virtual thread depending on insightpulse.execution.mode
+            return blockingJobExecutor.submit(() -> executeNow(jobId));
+        }
+        return CompletableFuture.completedFuture(executeNow(jobId));
     }
 
-    @GetMapping("/process-payment")
-    public ResponseEntity<String> processPayment() {
+    private ResponseEntity<String> executeNow(String jobId) {
         try {
-            jobService.processPayment();
-            return ResponseEntity.ok("Payment processed.");
-        } catch (Exception e) {
-            return ResponseEntity.status(500).body("Payment failed: " + e.getMessage());
+            return ResponseEntity.ok(jobRegistry.execute(jobId));
+        } catch (JobConcurrencyLimitException e) {
+            return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS).body(e.getMessage());
+        } catch (CircuitBreakerOpenException e) {
+            long retryAfterSeconds = Math.max(1, (e.getRetryAfter().toMillis() + 999) / 1000);
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                                 .header(HttpHeaders.RETRY_AFTER, Long.toString(retryAfterSeconds))
+                                 .body(e.getMessage());
+        } catch (RuntimeException e) {
+            return ResponseEntity.status(500).body(jobId + " failed: " + e.getMessage());
         }
     }
 
-    @GetMapping("/inventory-sync")
-    public ResponseEntity<String> inventorySync() {
-        String status = jobService.syncInventory();
-        return ResponseEntity.ok("Inventory Sync Status: " + status);
+    /**
+     * Queue a job on the job engine and return immediately with its run id.
+     */
+    @PostMapping("/{jobType}/submit")
+    public ResponseEntity<JobRun> submit(@PathVariable String jobType) {
+        if (jobRegistry.find(jobType).isEmpty()) {
+            return ResponseEntity.notFound().build();
+        }
+        try {
+            JobRun run = jobEngine.submit(jobType, () -> jobRegistry.execute(jobType));
+            return ResponseEntity.accepted().location(URI.create("/jobs/runs/" + run.getId())).body(run);
+        } catch (JobRejectedException e) {
+            return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS).body(e.getRun());
+        }
     }
-}
 
+    @GetMapping("/runs/{runId}")
+    public ResponseEntity<JobRun> run(@PathVariable String runId) {
+        return ResponseEntity.of(jobEngine.find(runId));
+    }
+
+    /**
+     * Finished runs from the job history store, e.g.
+     * {@code /jobs/history?job=process-payment&outcome=FAILED&from=2025-04-04T10:02:00Z&to=2025-04-04T10:05:00Z}.
+     */
+    @GetMapping("/history")
+    public ResponseEntity<List<JobHistoryRecord>> history(@RequestParam(required = false) Instant from,
+                                                          @RequestParam(required = false) Instant to,
+                                                          @RequestParam(required = false) String job,
+                                                          @RequestParam(required = false) JobEventType outcome,
+                                                          @RequestParam(required = false) String exception,
+                                                          @RequestParam(defaultValue = "1000") int limit) {
+        if (outcome == JobEventType.STARTED || limit <= 0) {
+            return ResponseEntity.badRequest().build();
+        }
+        JobHistoryQuery query = new JobHistoryQuery(from, to, job, outcome, exception,
+                                                    Math.min(limit, MAX_HISTORY_RESULTS));
+        return ResponseEntity.ok(jobHistoryStore.query(query));
+    }
+}
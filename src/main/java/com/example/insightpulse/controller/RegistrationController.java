@@ -0,0 +1,64 @@
+package com.example.insightpulse.controller;
+
+import com.example.insightpulse.registration.BulkRegistrationService;
+import com.example.insightpulse.registration.RecordFormat;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Map;
+
+/**
+ * Bulk user import. The body is read as it arrives and the response streams one NDJSON progress line
+ * per batch, then a summary line, e.g.
+ * {@code curl -T users.csv -H 'Content-Type: text/csv' localhost:8080/registrations/bulk}.
+ */
+@RestController
+@RequestMapping("/registrations")
+public class RegistrationController {
+
+    private static final String NDJSON = "application/x-ndjson";
+
+    @Autowired
+    private BulkRegistrationService bulkRegistrationService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @PostMapping(value = "/bulk", consumes = {NDJSON, "text/csv"}, produces = NDJSON)
+    public void bulk(@RequestHeader(HttpHeaders.CONTENT_TYPE) MediaType contentType,
+                     HttpServletRequest request, HttpServletResponse response) throws IOException {
+        RecordFormat format = contentType.isCompatibleWith(MediaType.parseMediaType("text/csv"))
+                              ? RecordFormat.CSV : RecordFormat.NDJSON;
+        response.setContentType(NDJSON);
+        OutputStream out = response.getOutputStream();
+        BulkRegistrationService.ImportSummary summary;
+        try {
+            summary = bulkRegistrationService.ingest(request.getInputStream(), format,
+                                                     progress -> writeLine(out, Map.of("progress", progress)));
+        } catch (IllegalArgumentException e) {
+            if (response.isCommitted()) {
+                throw e;
+            }
+            response.reset();
+            response.sendError(HttpServletResponse.SC_BAD_REQUEST, e.getMessage());
+            return;
+        }
+        writeLine(out, Map.of("summary", summary));
+    }
+
+    private void writeLine(OutputStream out, Object value) throws IOException {
+        out.write(objectMapper.writeValueAsBytes(value));
+        out.write('\n');
+        out.flush();
+    }
+}
@@ -0,0 +1,50 @@
+package com.example.insightpulse.controller;
+
+import com.example.insightpulse.report.ReportCache;
+import com.example.insightpulse.report.ReportProperties;
+import com.example.insightpulse.report.ReportRequest;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.util.regex.Pattern;
+
+/**
+ * Reports as chunked CSV, streamed while they are generated or straight from the report cache.
+ */
+@RestController
+@RequestMapping("/reports")
+public class ReportController {
+
+    private static final Pattern REPORT_TYPE = Pattern.compile("[a-z0-9-]{1,32}");
+
+    private static final MediaType TEXT_CSV = MediaType.parseMediaType("text/csv");
+
+    @Autowired
+    private ReportCache reportCache;
+
+    @Autowired
+    private ReportProperties reportProperties;
+
+    /**
+     * e.g. {@code /reports/payments?rows=50000}
+     */
+    @GetMapping("/{type}")
+    public ResponseEntity<StreamingResponseBody> report(@PathVariable String type,
+                                                        @RequestParam(required = false) Integer rows) {
+        int rowCount = rows != null ? rows : reportProperties.getDefaultRows();
+        if (!REPORT_TYPE.matcher(type).matches() || rowCount <= 0 || rowCount > reportProperties.getMaxRows()) {
+            return ResponseEntity.badRequest().build();
+        }
+        ReportRequest request = new ReportRequest(type, rowCount);
+        return ResponseEntity.ok()
+                             .contentType(TEXT_CSV)
+                             .body(out -> reportCache.stream(request, out));
+    }
+}
@@ -0,0 +1,136 @@
+package com.example.insightpulse.controller;
+
+import com.example.insightpulse.tsdb.QueryEngine;
+import com.example.insightpulse.tsdb.QueryEngine.QueryResult;
+import com.example.insightpulse.tsdb.QueryEngine.SeriesResult;
+import com.example.insightpulse.tsdb.QueryException;
+import com.example.insightpulse.tsdb.QueryParser;
+import com.example.insightpulse.tsdb.RollupTsdb;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Prometheus-compatible HTTP API over the embedded TSDB, so Grafana can use
+ * {@code http://<host>:<port>/tsdb} as a Prometheus data source.
+ */
+@RestController
+@RequestMapping("/tsdb/api/v1")
+@ConditionalOnProperty(prefix = "insightpulse.tsdb", name = "enabled", matchIfMissing = true)
+public class TsdbController {
+
+    @Autowired
+    private QueryEngine queryEngine;
+
+    @Autowired
+    private RollupTsdb tsdb;
+
+    @RequestMapping(value = "/query_range", method = {RequestMethod.GET, RequestMethod.POST})
+    public Map<String, Object> queryRange(@RequestParam String query,
+                                          @RequestParam String start,
+                                          @RequestParam String end,
+                                          @RequestParam String step) {
+        QueryResult result = queryEngine.queryRange(query, parseTime(start), parseTime(end), parseStep(step));
+        List<Map<String, Object>> matrix = new ArrayList<>();
+        for (SeriesResult series : result.series()) {
+            List<List<Object>> values = new ArrayList<>();
+            for (int i = 0; i < series.values().length; i++) {
+                if (!Double.isNaN(series.values()[i])) {
+                    values.add(point(result.start() + i * result.step(), series.values()[i]));
+                }
+            }
+            matrix.add(Map.of("metric", series.labels(), "values", values));
+        }
+        return success("matrix", matrix);
+    }
+
+    @RequestMapping(value = "/query", method = {RequestMethod.GET, RequestMethod.POST})
+    public Map<String, Object> query(@RequestParam String query,
+                                     @RequestParam(required = false) String time) {
+        long at = time == null ? System.currentTimeMillis() : parseTime(time);
+        QueryResult result = queryEngine.query(query, at);
+        if (result.scalar()) {
+            return success("scalar", point(at, result.series().get(0).values()[0]));
+        }
+        List<Map<String, Object>> vector = new ArrayList<>();
+        for (SeriesResult series : result.series()) {
+            vector.add(Map.of("metric", series.labels(), "value", point(at, series.values()[0])));
+        }
+        return success("vector", vector);
+    }
+
+    @GetMapping("/labels")
+    public Map<String, Object> labels() {
+        return Map.of("status", "success", "data", tsdb.labelNames());
+    }
+
+    @GetMapping("/label/{name}/values")
+    public Map<String, Object> labelValues(@PathVariable String name) {
+        return Map.of("status", "success", "data", tsdb.labelValues(name));
+    }
+
+    @ExceptionHandler(QueryException.class)
+    public ResponseEntity<Map<String, Object>> badQuery(QueryException e) {
+        return ResponseEntity.badRequest().body(Map.of("status", "error",
+                                                       "errorType", "bad_data",
+                                                       "error", e.getMessage()));
+    }
+
+    private static Map<String, Object> success(String resultType, Object result) {
+        Map<String, Object> data = new LinkedHashMap<>();
+        data.put("resultType", resultType);
+        data.put("result", result);
+        return Map.of("status", "success", "data", data);
+    }
+
+    /**
+     * A sample as Prometheus encodes it: unix seconds and the value as a string.
+     */
+    private static List<Object> point(long millis, double value) {
+        return List.of(millis / 1000.0, formatValue(value));
+    }
+
+    private static String formatValue(double value) {
+        if (Double.isNaN(value)) {
+            return "NaN";
+        }
+        if (Double.isInfinite(value)) {
+            return value > 0 ? "+Inf" : "-Inf";
+        }
+        return value == Math.rint(value) && Math.abs(value) < 1e15 ? String.valueOf((long) value) : String.valueOf(value);
+    }
+
+    /**
+     * Accepts unix seconds (possibly fractional) or RFC 3339, like Prometheus.
+     */
+    private static long parseTime(String text) {
+        try {
+            return Math.round(Double.parseDouble(text) * 1000);
+        } catch (NumberFormatException e) {
+            try {
+                return Instant.parse(text).toEpochMilli();
+            } catch (DateTimeParseException invalid) {
+                throw new QueryException("cannot parse \"" + text + "\" as a timestamp");
+            }
+        }
+    }
+
+    /**
+     * Accepts seconds (possibly fractional) or a duration such as {@code 15s}.
+     */
+    private static long parseStep(String text) {
+        try {
+            return Math.round(Double.parseDouble(text) * 1000);
+        } catch (NumberFormatException e) {
+            return QueryParser.parseDuration(text);
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package com.example.insightpulse.cron;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Cluster-wide recurring jobs, bound from {@code insightpulse.scheduler.cluster.*}.
+ * <p>
+ * Each entry runs a registered {@code Job} (by id) every {@code interval}, or on {@code cron} if set.
+ * The schedule lives in the shared Quartz job store, so with several replicas every firing runs on
+ * exactly one of them.
+ */
+@ConfigurationProperties(prefix = "insightpulse.scheduler.cluster")
+public class ClusterSchedulerProperties {
+
+    private Map<String, JobDefinition> jobs = new LinkedHashMap<>();
+
+    public Map<String, JobDefinition> getJobs() {
+        return jobs;
+    }
+
+    public void setJobs(Map<String, JobDefinition> jobs) {
+        this.jobs = jobs;
+    }
+
+    public static class JobDefinition {
+
+        // Id of the Job bean to run, e.g. inventory-sync
+        private String job;
+        private Duration interval = Duration.ofMinutes(1);
+        // Quartz cron expression; takes precedence over interval
+        private String cron;
+
+        public String getJob() {
+            return job;
+        }
+
+        public void setJob(String job) {
+            this.job = job;
+        }
+
+        public Duration getInterval() {
+            return interval;
+        }
+
+        public void setInterval(Duration interval) {
+            this.interval = interval;
+        }
+
+        public String getCron() {
+            return cron;
+        }
+
+        public void setCron(String cron) {
+            this.cron = cron;
+        }
+    }
+}
@@ -0,0 +1,258 @@
+package com.example.insightpulse.cron;
+
+import com.example.insightpulse.cron.ClusterSchedulerProperties.JobDefinition;
+import com.example.insightpulse.job.JobRegistry;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.quartz.CronScheduleBuilder;
+import org.quartz.CronTrigger;
+import org.quartz.JobBuilder;
+import org.quartz.JobDetail;
+import org.quartz.JobExecutionContext;
+import org.quartz.JobKey;
+import org.quartz.ScheduleBuilder;
+import org.quartz.Scheduler;
+import org.quartz.SchedulerException;
+import org.quartz.SimpleScheduleBuilder;
+import org.quartz.SimpleTrigger;
+import org.quartz.Trigger;
+import org.quartz.TriggerBuilder;
+import org.quartz.TriggerKey;
+import org.quartz.TriggerListener;
+import org.quartz.impl.matchers.GroupMatcher;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.util.Date;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Keeps the {@code insightpulse.scheduler.cluster.jobs} schedule in the Quartz job store and
+ * meters how firings spread over the cluster.
+ * <p>
+ * With the clustered JDBC store every node competes for due triggers under a database lock, so each
+ * firing runs on exactly one node, and a node that joins starts taking triggers on its next
+ * acquisition. When a node stops checking in, the others recover its in-progress runs
+ * ({@code requestRecovery}) and take over its triggers.
+ * <p>
+ * Each scheduled job has a single trigger and {@link RegistryJobAdapter} disallows concurrent
+ * execution, so a scheduled job runs on one node at a time. Replicas spread different scheduled jobs
+ * and provide failover, but do not add capacity to any one of them.
+ * <p>
+ * Metrics: {@code scheduler_cluster_executions_total{schedule}}, {@code scheduler_cluster_misfires_total{schedule}}
+ * and {@code scheduler_cluster_fire_delay_seconds{schedule}} for the firings on this node,
+ * {@code scheduler_cluster_running_jobs} and {@code scheduler_cluster_nodes}, the live nodes according
+ * to the cluster check-in table. The scraped instance tells the nodes apart.
+ */
+@Component
+public class ClusteredJobScheduler implements SmartInitializingSingleton {
+
+    private static final Logger logger = LoggerFactory.getLogger(ClusteredJobScheduler.class);
+
+    static final String GROUP = "insightpulse";
+
+    private final Scheduler scheduler;
+    private final ClusterSchedulerProperties properties;
+    private final JobRegistry jobRegistry;
+    private final MeterRegistry registry;
+    private final JdbcTemplate jdbc;
+    private final String schedulerStateTable;
+    private final boolean clustered;
+    private final AtomicInteger liveNodes = new AtomicInteger(1);
+
+    private final Map<String, JobMeters> meters = new ConcurrentHashMap<>();
+
+    @Autowired
+    public ClusteredJobScheduler(Scheduler scheduler, ClusterSchedulerProperties properties, JobRegistry jobRegistry,
+                                 MeterRegistry registry, DataSource dataSource,
+                                 @Value("${spring.quartz.properties.org.quartz.jobStore.tablePrefix:QRTZ_}") String tablePrefix)
+            throws SchedulerException {
+        this.scheduler = scheduler;
+        this.properties = properties;
+        this.jobRegistry = jobRegistry;
+        this.registry = registry;
+        this.jdbc = new JdbcTemplate(dataSource);
+        this.schedulerStateTable = tablePrefix + "SCHEDULER_STATE";
+        this.clustered = scheduler.getMetaData().isJobStoreClustered();
+
+        // Jobs executing on this node right now
+        Gauge.builder("scheduler_cluster_running_jobs", scheduler, ClusteredJobScheduler::runningJobs)
+             .description("Scheduled jobs currently executing on this node")
+             .register(registry);
+
+        // Nodes that checked in recently
+        Gauge.builder("scheduler_cluster_nodes", liveNodes, AtomicInteger::get)
+             .description("Scheduler nodes currently checking in to the cluster")
+             .register(registry);
+
+        scheduler.getListenerManager().addTriggerListener(new ClusterMetrics(), GroupMatcher.triggerGroupEquals(GROUP));
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        try {
+            schedule();
+            refreshLiveNodes();
+        } catch (SchedulerException e) {
+            throw new IllegalStateException("Could not register cluster jobs", e);
+        }
+    }
+
+    /**
+     * Brings the stored schedule in line with the configuration. Every node does this on startup; a
+     * trigger whose schedule is unchanged is left alone so restarts do not shift its fire times.
+     */
+    void schedule() throws SchedulerException {
+        for (Map.Entry<String, JobDefinition> entry : properties.getJobs().entrySet()) {
+            String name = entry.getKey();
+            JobDefinition definition = entry.getValue();
+            if (jobRegistry.find(definition.getJob()).isEmpty()) {
+                throw new IllegalStateException("Unknown job '" + definition.getJob() + "' for scheduled job '" + name + "'");
+            }
+            Trigger existing = scheduler.getTrigger(TriggerKey.triggerKey(name, GROUP));
+            if (existing != null && sameSchedule(existing, definition)
+                    && definition.getJob().equals(existing.getJobDataMap().getString(RegistryJobAdapter.JOB_ID))) {
+                continue;
+            }
+            JobDetail detail = JobBuilder.newJob(RegistryJobAdapter.class)
+                                         .withIdentity(name, GROUP)
+                                         .requestRecovery()
+                                         .storeDurably()
+                                         .build();
+            Trigger trigger = TriggerBuilder.newTrigger()
+                                            .withIdentity(name, GROUP)
+                                            .forJob(detail)
+                                            .usingJobData(RegistryJobAdapter.JOB_ID, definition.getJob())
+                                            .withSchedule(schedule(definition))
+                                            .startAt(new Date(System.currentTimeMillis() + definition.getInterval().toMillis()))
+                                            .build();
+            scheduler.scheduleJob(detail, Set.of(trigger), true);
+            logger.info("Scheduled cluster job '{}' running '{}'", name, definition.getJob());
+        }
+        // Drop jobs removed from the configuration
+        for (JobKey key : scheduler.getJobKeys(GroupMatcher.jobGroupEquals(GROUP))) {
+            if (!properties.getJobs().containsKey(key.getName())) {
+                scheduler.deleteJob(key);
+                logger.info("Removed cluster job '{}'", key.getName());
+            }
+        }
+    }
+
+    @Scheduled(fixedRateString = "${insightpulse.scheduler.cluster.node-refresh:5s}")
+    void refreshLiveNodes() {
+        if (!clustered) {
+            return;
+        }
+        try {
+            Integer count = jdbc.queryForObject(
+                    "SELECT COUNT(*) FROM " + schedulerStateTable
+                    + " WHERE SCHED_NAME = ? AND LAST_CHECKIN_TIME + 2 * CHECKIN_INTERVAL >= ?",
+                    Integer.class, scheduler.getSchedulerName(), System.currentTimeMillis());
+            liveNodes.set(count != null ? count : 0);
+        } catch (SchedulerException | RuntimeException e) {
+            logger.warn("Could not read the scheduler cluster state: {}", e.toString());
+        }
+    }
+
+    private static ScheduleBuilder<? extends Trigger> schedule(JobDefinition definition) {
+        if (definition.getCron() != null) {
+            // A missed firing is skipped, not caught up; triggerMisfired still counts it
+            return CronScheduleBuilder.cronSchedule(definition.getCron()).withMisfireHandlingInstructionDoNothing();
+        }
+        return SimpleScheduleBuilder.simpleSchedule()
+                                    .withIntervalInMilliseconds(definition.getInterval().toMillis())
+                                    .repeatForever()
+                                    .withMisfireHandlingInstructionNextWithRemainingCount();
+    }
+
+    private static boolean sameSchedule(Trigger existing, JobDefinition definition) {
+        if (definition.getCron() != null) {
+            return existing instanceof CronTrigger cron && definition.getCron().equals(cron.getCronExpression());
+        }
+        return existing instanceof SimpleTrigger simple && simple.getRepeatInterval() == definition.getInterval().toMillis();
+    }
+
+    private static double runningJobs(Scheduler scheduler) {
+        try {
+            return scheduler.getCurrentlyExecutingJobs().size();
+        } catch (SchedulerException e) {
+            return Double.NaN;
+        }
+    }
+
+    private JobMeters meters(String schedule) {
+        return meters.computeIfAbsent(schedule, JobMeters::new);
+    }
+
+    /**
+     * Counters and fire-delay timer for one scheduled job on this node, tagged with its
+     * {@code insightpulse.scheduler.cluster.jobs} name.
+     */
+    private final class JobMeters {
+
+        final Counter executions;
+        final Counter misfires;
+        final Timer fireDelay;
+
+        JobMeters(String schedule) {
+            this.executions = Counter.builder("scheduler_cluster_executions_total")
+                                     .description("Scheduled job firings executed on this node")
+                                     .tag("schedule", schedule)
+                                     .register(registry);
+            this.misfires = Counter.builder("scheduler_cluster_misfires_total")
+                                   .description("Scheduled job firings missed because no node picked them up in time")
+                                   .tag("schedule", schedule)
+                                   .register(registry);
+            this.fireDelay = Timer.builder("scheduler_cluster_fire_delay_seconds")
+                                  .description("Time between a firing's scheduled time and its start")
+                                  .tag("schedule", schedule)
+                                  .register(registry);
+        }
+    }
+
+    private final class ClusterMetrics implements TriggerListener {
+
+        @Override
+        public String getName() {
+            return "insightpulse-cluster-metrics";
+        }
+
+        @Override
+        public void triggerFired(Trigger trigger, JobExecutionContext context) {
+            JobMeters job = meters(trigger.getKey().getName());
+            job.executions.increment();
+            Date scheduled = context.getScheduledFireTime();
+            if (scheduled != null) {
+                job.fireDelay.record(Math.max(0, context.getFireTime().getTime() - scheduled.getTime()), TimeUnit.MILLISECONDS);
+            }
+        }
+
+        @Override
+        public boolean vetoJobExecution(Trigger trigger, JobExecutionContext context) {
+            return false;
+        }
+
+        @Override
+        public void triggerMisfired(Trigger trigger) {
+            meters(trigger.getKey().getName()).misfires.increment();
+        }
+
+        @Override
+        public void triggerComplete(Trigger trigger, JobExecutionContext context,
+                                    Trigger.CompletedExecutionInstruction instruction) {
+        }
+    }
+}
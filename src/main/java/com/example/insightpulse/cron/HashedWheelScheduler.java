@@ -0,0 +1,338 @@
+package com.example.insightpulse.cron;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Recurring-job scheduler built on a hashed timing wheel.
+ * <p>
+ * Jobs hash into one of {@code wheelSize} buckets by their next deadline, so registering and
+ * cancelling a job is O(1) regardless of how many are scheduled, unlike a trigger heap which pays
+ * O(log n) on every fire. A single tick thread advances the wheel every {@code tick} and hands expired
+ * jobs to {@code executor}; deadlines are therefore accurate to one tick.
+ * <p>
+ * Each firing lands at {@code start + k * period + random(0, jitter)}, which spreads jobs registered
+ * together across the jitter window instead of firing them in one burst. A job still running when its
+ * next deadline arrives is skipped rather than run concurrently.
+ */
+public class HashedWheelScheduler implements AutoCloseable {
+
+    private static final Logger logger = LoggerFactory.getLogger(HashedWheelScheduler.class);
+
+    private final long tickNanos;
+    private final Bucket[] wheel;
+    private final int mask;
+    private final Executor executor;
+    private final long startNanos = System.nanoTime();
+
+    private final Queue<WheelJob> pendingAdds = new ConcurrentLinkedQueue<>();
+    private final Queue<WheelJob> pendingCancels = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger scheduledJobs = new AtomicInteger();
+    private final Thread tickThread;
+    private volatile boolean running = true;
+
+    // Only touched by the tick thread
+    private long tick;
+    private final List<WheelJob> expired = new ArrayList<>();
+
+    private final Timer lag;
+    private final Counter fired;
+    private final Counter skipped;
+
+    public HashedWheelScheduler(Duration tick, int wheelSize, Executor executor, MeterRegistry registry) {
+        if (Integer.bitCount(wheelSize) != 1) {
+            throw new IllegalArgumentException("wheelSize must be a power of two: " + wheelSize);
+        }
+        this.tickNanos = tick.toNanos();
+        this.wheel = new Bucket[wheelSize];
+        for (int i = 0; i < wheelSize; i++) {
+            wheel[i] = new Bucket();
+        }
+        this.mask = wheelSize - 1;
+        this.executor = executor;
+
+        this.lag = Timer.builder("scheduler_lag_seconds")
+                        .description("Delay between a job's scheduled deadline and its dispatch")
+                        .publishPercentileHistogram()
+                        .register(registry);
+        this.fired = Counter.builder("scheduler_fired_total")
+                            .description("Recurring job executions dispatched by the timing wheel")
+                            .register(registry);
+        this.skipped = Counter.builder("scheduler_skipped_total")
+                              .description("Firings skipped because the previous run was still in progress")
+                              .register(registry);
+        Gauge.builder("scheduler_jobs", scheduledJobs, AtomicInteger::get)
+             .description("Recurring jobs currently registered with the timing wheel")
+             .register(registry);
+
+        this.tickThread = Thread.ofPlatform().name("wheel-scheduler").daemon(true).unstarted(this::runTicks);
+        this.tickThread.start();
+    }
+
+    /**
+     * Schedules {@code task} every {@code period}, each firing delayed by a random amount up to {@code jitter}.
+     */
+    public ScheduledJob scheduleAtFixedRate(String name, Runnable task, Duration period, Duration jitter) {
+        if (period.compareTo(Duration.ofNanos(tickNanos)) < 0) {
+            throw new IllegalArgumentException("period of '" + name + "' is shorter than one tick");
+        }
+        WheelJob job = new WheelJob(name, task, period.toNanos(), jitter.toNanos(), elapsedNanos());
+        scheduledJobs.incrementAndGet();
+        pendingAdds.add(job);
+        return job;
+    }
+
+    public int scheduledJobs() {
+        return scheduledJobs.get();
+    }
+
+    /**
+     * Stops the tick thread, and the executor too if it is an {@link ExecutorService}.
+     */
+    @Override
+    public void close() {
+        running = false;
+        LockSupport.unpark(tickThread);
+        if (executor instanceof ExecutorService executorService) {
+            executorService.shutdownNow();
+        }
+    }
+
+    private long elapsedNanos() {
+        return System.nanoTime() - startNanos;
+    }
+
+    private void runTicks() {
+        while (running) {
+            long tickDeadline = tickNanos * (tick + 1);
+            long sleepNanos;
+            while (running && (sleepNanos = tickDeadline - elapsedNanos()) > 0) {
+                LockSupport.parkNanos(sleepNanos);
+            }
+            if (!running) {
+                return;
+            }
+            processCancellations();
+            transferPendingJobs();
+            expire(wheel[(int) (tick & mask)]);
+            tick++;
+            reschedule();
+        }
+    }
+
+    private void processCancellations() {
+        WheelJob job;
+        while ((job = pendingCancels.poll()) != null) {
+            if (job.bucket != null) {
+                job.bucket.remove(job);
+            }
+        }
+    }
+
+    private void transferPendingJobs() {
+        WheelJob job;
+        while ((job = pendingAdds.poll()) != null) {
+            if (!job.cancelled) {
+                place(job);
+            }
+        }
+    }
+
+    /**
+     * Puts a job in the bucket its deadline hashes to; O(1). Rounds count from {@code tick}, the next
+     * bucket to be scanned.
+     */
+    private void place(WheelJob job) {
+        long deadlineTick = job.deadline / tickNanos;
+        job.remainingRounds = (deadlineTick - tick) / wheel.length;
+        // A deadline already in the past goes into the current bucket and fires on this tick
+        wheel[(int) (Math.max(deadlineTick, tick) & mask)].add(job);
+    }
+
+    private void expire(Bucket bucket) {
+        long now = elapsedNanos();
+        WheelJob job = bucket.head;
+        while (job != null) {
+            WheelJob next = job.next;
+            if (job.remainingRounds <= 0) {
+                bucket.remove(job);
+                dispatch(job, now);
+                expired.add(job);
+            } else {
+                job.remainingRounds--;
+            }
+            job = next;
+        }
+    }
+
+    /**
+     * Re-inserts the jobs that just fired. Runs after the tick advances, so a job is never visited twice
+     * in one tick and a deadline a whole number of rotations away is not counted from the bucket just
+     * scanned, which would make it fire a rotation late.
+     */
+    private void reschedule() {
+        long now = elapsedNanos();
+        for (WheelJob rescheduled : expired) {
+            if (!rescheduled.cancelled) {
+                rescheduled.advance(now);
+                place(rescheduled);
+            }
+        }
+        expired.clear();
+    }
+
+    private void dispatch(WheelJob job, long now) {
+        if (job.cancelled) {
+            return;
+        }
+        if (!job.running.compareAndSet(false, true)) {
+            skipped.increment();
+            return;
+        }
+        lag.record(Math.max(0, now - job.deadline), TimeUnit.NANOSECONDS);
+        fired.increment();
+        try {
+            executor.execute(job);
+        } catch (RuntimeException e) {
+            job.running.set(false);
+            logger.warn("Could not dispatch scheduled job '{}'", job.name, e);
+        }
+    }
+
+    /**
+     * Handle for cancelling a scheduled job.
+     */
+    public interface ScheduledJob {
+
+        String name();
+
+        /**
+         * Stops future firings; a run already in progress completes normally.
+         */
+        void cancel();
+    }
+
+    private final class WheelJob implements ScheduledJob, Runnable {
+
+        private final String name;
+        private final Runnable task;
+        private final long periodNanos;
+        private final long jitterNanos;
+        private final AtomicBoolean running = new AtomicBoolean();
+        private volatile boolean cancelled;
+
+        // Owned by the tick thread once transferred
+        private long nominal;
+        private long deadline;
+        private long remainingRounds;
+        private Bucket bucket;
+        private WheelJob prev;
+        private WheelJob next;
+
+        WheelJob(String name, Runnable task, long periodNanos, long jitterNanos, long start) {
+            this.name = name;
+            this.task = task;
+            this.periodNanos = periodNanos;
+            this.jitterNanos = jitterNanos;
+            this.nominal = start;
+            this.deadline = start + jitter();
+        }
+
+        /**
+         * Moves to the next nominal period after {@code now}, skipping periods missed while overloaded.
+         */
+        void advance(long now) {
+            nominal += periodNanos;
+            if (nominal < now) {
+                nominal += ((now - nominal) / periodNanos + 1) * periodNanos;
+            }
+            deadline = nominal + jitter();
+        }
+
+        private long jitter() {
+            return jitterNanos > 0 ? ThreadLocalRandom.current().nextLong(jitterNanos + 1) : 0;
+        }
+
+        @Override
+        public void run() {
+            try {
+                task.run();
+            } catch (RuntimeException e) {
+                logger.warn("Scheduled job '{}' failed", name, e);
+            } finally {
+                running.set(false);
+            }
+        }
+
+        @Override
+        public String name() {
+            return name;
+        }
+
+        @Override
+        public void cancel() {
+            if (!cancelled) {
+                cancelled = true;
+                scheduledJobs.decrementAndGet();
+                pendingCancels.add(this);
+            }
+        }
+    }
+
+    /**
+     * Intrusive doubly linked list of jobs sharing a wheel slot.
+     */
+    private static final class Bucket {
+
+        private WheelJob head;
+        private WheelJob tail;
+
+        void add(WheelJob job) {
+            job.bucket = this;
+            job.prev = tail;
+            job.next = null;
+            if (tail == null) {
+                head = job;
+            } else {
+                tail.next = job;
+            }
+            tail = job;
+        }
+
+        void remove(WheelJob job) {
+            if (job.bucket != this) {
+                return;
+            }
+            if (job.prev == null) {
+                head = job.next;
+            } else {
+                job.prev.next = job.next;
+            }
+            if (job.next == null) {
+                tail = job.prev;
+            } else {
+                job.next.prev = job.prev;
+            }
+            job.prev = null;
+            job.next = null;
+            job.bucket = null;
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.example.insightpulse.cron;
+
+import com.example.insightpulse.job.JobRegistry;
+import org.quartz.DisallowConcurrentExecution;
+import org.quartz.JobExecutionContext;
+import org.quartz.JobExecutionException;
+
+/**
+ * Quartz entry point for a scheduled {@code Job}: runs it through the {@link JobRegistry}, so
+ * scheduled runs get the same meters, limits, SLO and history as HTTP-triggered ones.
+ * <p>
+ * {@link DisallowConcurrentExecution} holds across the cluster: a run that overlaps the next firing
+ * delays it instead of starting a second copy on another node.
+ */
+@DisallowConcurrentExecution
+public class RegistryJobAdapter implements org.quartz.Job {
+
+    static final String JOB_ID = "job";
+
+    private final JobRegistry jobRegistry;
+
+    public RegistryJobAdapter(JobRegistry jobRegistry) {
+        this.jobRegistry = jobRegistry;
+    }
+
+    @Override
+    public void execute(JobExecutionContext context) throws JobExecutionException {
+        try {
+            jobRegistry.execute(context.getMergedJobDataMap().getString(JOB_ID));
+        } catch (RuntimeException e) {
+            // Already recorded by the registry; not refired
+            throw new JobExecutionException(e, false);
+        }
+    }
+}
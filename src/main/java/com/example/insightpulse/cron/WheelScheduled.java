@@ -0,0 +1,28 @@
+package com.example.insightpulse.cron;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a no-argument bean method to run periodically on the {@link HashedWheelScheduler}.
+ * <p>
+ * Durations use Spring Boot's format, e.g. {@code "1s"} or {@code "250ms"}.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface WheelScheduled {
+
+    /**
+     * Interval between firings.
+     */
+    String period();
+
+    /**
+     * Upper bound of the random delay added to each firing; {@code "0s"} disables jitter.
+     */
+    String jitter() default "0s";
+}
@@ -0,0 +1,85 @@
+package com.example.insightpulse.cron;
+
+import com.example.insightpulse.cron.WheelSchedulerProperties.JobDefinition;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.beans.factory.BeanFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.convert.DurationStyle;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.MethodIntrospector;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.util.ReflectionUtils;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Creates the {@link HashedWheelScheduler} and registers jobs from {@link WheelScheduled} methods
+ * and from {@code insightpulse.scheduler.wheel.jobs.*}.
+ */
+@Configuration
+public class WheelSchedulerConfig {
+
+    @Bean(destroyMethod = "close")
+    public HashedWheelScheduler hashedWheelScheduler(WheelSchedulerProperties properties, MeterRegistry registry) {
+        // Firings may block, so each runs on its own virtual thread rather than on the tick thread
+        ExecutorService executor = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("wheel-job-", 0).factory());
+        return new HashedWheelScheduler(properties.getTick(), properties.getWheelSize(), executor, registry);
+    }
+
+    @Bean
+    public static BeanPostProcessor wheelScheduledAnnotationProcessor(ObjectProvider<HashedWheelScheduler> scheduler) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                Map<Method, WheelScheduled> annotated = MethodIntrospector.selectMethods(
+                        AopUtils.getTargetClass(bean),
+                        (MethodIntrospector.MetadataLookup<WheelScheduled>) method ->
+                                AnnotatedElementUtils.findMergedAnnotation(method, WheelScheduled.class));
+                annotated.forEach((method, schedule) -> {
+                    if (method.getParameterCount() != 0) {
+                        throw new IllegalStateException("@WheelScheduled method must take no arguments: " + method);
+                    }
+                    Method invocable = AopUtils.selectInvocableMethod(method, bean.getClass());
+                    ReflectionUtils.makeAccessible(invocable);
+                    scheduler.getObject().scheduleAtFixedRate(beanName + "." + method.getName(),
+                            () -> ReflectionUtils.invokeMethod(invocable, bean),
+                            DurationStyle.detectAndParse(schedule.period()),
+                            DurationStyle.detectAndParse(schedule.jitter()));
+                });
+                return bean;
+            }
+        };
+    }
+
+    @Bean
+    public SmartInitializingSingleton configuredWheelJobs(WheelSchedulerProperties properties,
+                                                          HashedWheelScheduler scheduler,
+                                                          BeanFactory beanFactory) {
+        return () -> properties.getJobs().forEach((name, definition) -> register(name, definition, scheduler, beanFactory));
+    }
+
+    private static void register(String name, JobDefinition definition, HashedWheelScheduler scheduler,
+                                 BeanFactory beanFactory) {
+        Object bean = beanFactory.getBean(definition.getBean());
+        Method perInstance = ReflectionUtils.findMethod(bean.getClass(), definition.getMethod(), String.class);
+        Method noArgs = ReflectionUtils.findMethod(bean.getClass(), definition.getMethod());
+        if (perInstance == null && noArgs == null) {
+            throw new IllegalStateException("No method '" + definition.getMethod() + "' on bean '"
+                                                    + definition.getBean() + "' for scheduled job '" + name + "'");
+        }
+        for (int i = 0; i < definition.getInstances(); i++) {
+            String instance = definition.getInstances() > 1 ? name + "-" + i : name;
+            Runnable task = perInstance != null
+                    ? () -> ReflectionUtils.invokeMethod(perInstance, bean, instance)
+                    : () -> ReflectionUtils.invokeMethod(noArgs, bean);
+            scheduler.scheduleAtFixedRate(instance, task, definition.getPeriod(), definition.getJitter());
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package com.example.insightpulse.cron;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Timing-wheel settings and config-file jobs, bound from {@code insightpulse.scheduler.wheel.*}.
+ * <p>
+ * A configured job calls {@code bean.method()} every {@code period}. With {@code instances > 1}, that many
+ * copies are registered (e.g. one per tenant) and the method may take a single {@code String} argument,
+ * which receives {@code <job-name>-<index>}.
+ */
+@ConfigurationProperties(prefix = "insightpulse.scheduler.wheel")
+public class WheelSchedulerProperties {
+
+    private Duration tick = Duration.ofMillis(100);
+    private int wheelSize = 512;
+    private Map<String, JobDefinition> jobs = new LinkedHashMap<>();
+
+    public Duration getTick() {
+        return tick;
+    }
+
+    public void setTick(Duration tick) {
+        this.tick = tick;
+    }
+
+    public int getWheelSize() {
+        return wheelSize;
+    }
+
+    public void setWheelSize(int wheelSize) {
+        this.wheelSize = wheelSize;
+    }
+
+    public Map<String, JobDefinition> getJobs() {
+        return jobs;
+    }
+
+    public void setJobs(Map<String, JobDefinition> jobs) {
+        this.jobs = jobs;
+    }
+
+    public static class JobDefinition {
+
+        private String bean;
+        private String method;
+        private Duration period = Duration.ofSeconds(1);
+        private Duration jitter = Duration.ZERO;
+        private int instances = 1;
+
+        public String getBean() {
+            return bean;
+        }
+
+        public void setBean(String bean) {
+            this.bean = bean;
+        }
+
+        public String getMethod() {
+            return method;
+        }
+
+        public void setMethod(String method) {
+            this.method = method;
+        }
+
+        public Duration getPeriod() {
+            return period;
+        }
+
+        public void setPeriod(Duration period) {
+            this.period = period;
+        }
+
+        public Duration getJitter() {
+            return jitter;
+        }
+
+        public void setJitter(Duration jitter) {
+            this.jitter = jitter;
+        }
+
+        public int getInstances() {
+            return instances;
+        }
+
+        public void setInstances(int instances) {
+            this.instances = instances;
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package com.example.insightpulse.events;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * One slot of the {@link JobEventLog} ring buffer.
+ * <p>
+ * Slots are preallocated and overwritten in place, so a {@link JobEventSink} must copy whatever it
+ * needs before returning from {@link JobEventSink#onEvent(JobEvent)}.
+ */
+public final class JobEvent {
+
+    // Ring bookkeeping: the sequence tells producers and the consumer whose turn the slot is
+    final AtomicLong sequence;
+    long claimed;
+
+    private JobEventType type;
+    private long runId;
+    private String job;
+    private long epochMillis;
+    private long durationNanos;
+    private String thread;
+    private String detail;
+
+    JobEvent(long initialSequence) {
+        this.sequence = new AtomicLong(initialSequence);
+    }
+
+    void set(JobEventType type, long runId, String job, long durationNanos, String detail) {
+        this.type = type;
+        this.runId = runId;
+        this.job = job;
+        this.epochMillis = System.currentTimeMillis();
+        this.durationNanos = durationNanos;
+        this.thread = Thread.currentThread().getName();
+        this.detail = detail;
+    }
+
+    public JobEventType getType() {
+        return type;
+    }
+
+    public long getRunId() {
+        return runId;
+    }
+
+    public String getJob() {
+        return job;
+    }
+
+    public long getEpochMillis() {
+        return epochMillis;
+    }
+
+    /**
+     * Run duration for {@code SUCCEEDED} and {@code FAILED} events, {@code 0} for {@code STARTED}.
+     */
+    public long getDurationNanos() {
+        return durationNanos;
+    }
+
+    public String getThread() {
+        return thread;
+    }
+
+    /**
+     * Job-specific outcome for successes, the exception type for failures; may be {@code null}.
+     */
+    public String getDetail() {
+        return detail;
+    }
+}
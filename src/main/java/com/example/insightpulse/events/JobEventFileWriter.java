@@ -0,0 +1,109 @@
+package com.example.insightpulse.events;
+
+import jakarta.annotation.PreDestroy;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Appends job events to {@code insightpulse.events.file}, one logfmt line per event:
+ * <pre>
+ * 2025-04-04T10:15:30.123Z run=42 job=process-payment event=FAILED duration_ms=0.153 thread=http-nio-8080-exec-3 detail=RuntimeException
+ * 2025-04-04T10:15:31.007Z run=43 job=inventory-sync event=SUCCEEDED duration_ms=4.2 thread=virtual-7 detail="Inventory Sync Status: AVAILABLE (3 changes from 2 partitions)"
+ * </pre>
+ * Values that are empty or contain spaces, {@code =}, quotes or control characters are quoted, with
+ * {@code \} and {@code "} backslash-escaped and line breaks written as {@code \n}/{@code \r}/{@code \t}.
+ * Lines are buffered and written once per batch, on the event writer thread.
+ */
+@Component
+public class JobEventFileWriter implements JobEventSink {
+
+    private final Writer out;
+    private final StringBuilder line = new StringBuilder(160);
+
+    public JobEventFileWriter(JobEventProperties properties) throws IOException {
+        Path file = Path.of(properties.getFile()).toAbsolutePath();
+        Files.createDirectories(file.getParent());
+        this.out = Files.newBufferedWriter(file, StandardCharsets.UTF_8,
+                                           StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+    }
+
+    @Override
+    public void onEvent(JobEvent event) {
+        line.setLength(0);
+        DateTimeFormatter.ISO_INSTANT.formatTo(Instant.ofEpochMilli(event.getEpochMillis()), line);
+        line.append(" run=").append(event.getRunId())
+            .append(" job=");
+        appendValue(event.getJob());
+        line.append(" event=").append(event.getType());
+        if (event.getType() != JobEventType.STARTED) {
+            line.append(" duration_ms=").append(event.getDurationNanos() / 1_000 / 1000.0);
+        }
+        line.append(" thread=");
+        appendValue(event.getThread());
+        if (event.getDetail() != null) {
+            line.append(" detail=");
+            appendValue(event.getDetail());
+        }
+        line.append('\n');
+        try {
+            out.append(line);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void appendValue(String value) {
+        if (!needsQuotes(value)) {
+            line.append(value);
+            return;
+        }
+        line.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"', '\\' -> line.append('\\').append(c);
+                case '\n' -> line.append("\\n");
+                case '\r' -> line.append("\\r");
+                case '\t' -> line.append("\\t");
+                default -> line.append(c);
+            }
+        }
+        line.append('"');
+    }
+
+    private static boolean needsQuotes(String value) {
+        if (value.isEmpty()) {
+            return true;
+        }
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c <= ' ' || c == '=' || c == '"' || c == '\\') {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public void endOfBatch() {
+        try {
+            out.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @PreDestroy
+    public void close() throws IOException {
+        out.close();
+    }
+}
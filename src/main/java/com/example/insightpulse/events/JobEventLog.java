@@ -0,0 +1,157 @@
+package com.example.insightpulse.events;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Structured start/finish/failure events for job runs, recorded off the request thread.
+ * <p>
+ * Job threads copy a handful of fields into a preallocated ring slot and return; a single writer
+ * thread drains the ring in batches and hands the events to every {@link JobEventSink}. This keeps
+ * per-run visibility without the console appender's lock and formatting on the hot path.
+ */
+@Component
+public class JobEventLog {
+
+    private static final Logger logger = LoggerFactory.getLogger(JobEventLog.class);
+
+    private static final long FULL_WAIT_NANOS = TimeUnit.MICROSECONDS.toNanos(50);
+
+    private final JobEventRing ring;
+    private final boolean dropOnFull;
+    private final int batchSize;
+    private final long flushIntervalNanos;
+    private final List<JobEventSink> sinks;
+
+    private final AtomicLong runIds = new AtomicLong();
+    private final Counter dropped;
+    private final Counter written;
+    private final Thread writer;
+    private volatile boolean running = true;
+
+    public JobEventLog(MeterRegistry registry, JobEventProperties properties, List<JobEventSink> sinks) {
+        this.ring = new JobEventRing(properties.getCapacity());
+        this.dropOnFull = properties.isDropOnFull();
+        this.batchSize = properties.getBatchSize();
+        this.flushIntervalNanos = properties.getFlushInterval().toNanos();
+        this.sinks = List.copyOf(sinks);
+
+        this.dropped = Counter.builder("job_events_dropped_total")
+                              .description("Job events discarded because the event buffer was full")
+                              .register(registry);
+        this.written = Counter.builder("job_events_written_total")
+                              .description("Job events handed to the event sinks")
+                              .register(registry);
+        Gauge.builder("job_events_buffered", ring, JobEventRing::size)
+             .description("Job events waiting for the writer thread")
+             .register(registry);
+        Gauge.builder("job_events_buffer_capacity", ring, JobEventRing::capacity)
+             .description("Size of the job event buffer")
+             .register(registry);
+
+        this.writer = Thread.ofPlatform().name("job-event-writer").daemon().start(this::drainLoop);
+    }
+
+    /**
+     * Records the start of a run of {@code job}.
+     *
+     * @return the run id to pass to {@link #succeeded} or {@link #failed}
+     */
+    public long started(String job) {
+        long runId = runIds.incrementAndGet();
+        publish(JobEventType.STARTED, runId, job, 0, null);
+        return runId;
+    }
+
+    /**
+     * Records a successful run that began at {@code startNanos} ({@link System#nanoTime()}).
+     */
+    public void succeeded(long runId, String job, long startNanos, String detail) {
+        publish(JobEventType.SUCCEEDED, runId, job, System.nanoTime() - startNanos, detail);
+    }
+
+    /**
+     * Records a failed run that began at {@code startNanos} ({@link System#nanoTime()}).
+     */
+    public void failed(long runId, String job, long startNanos, Throwable error) {
+        publish(JobEventType.FAILED, runId, job, System.nanoTime() - startNanos, error.getClass().getSimpleName());
+    }
+
+    private void publish(JobEventType type, long runId, String job, long durationNanos, String detail) {
+        JobEvent event = ring.claim();
+        while (event == null) {
+            if (dropOnFull || !running) {
+                dropped.increment();
+                return;
+            }
+            // Make sure the writer is awake, then wait for it to free a slot
+            LockSupport.unpark(writer);
+            LockSupport.parkNanos(FULL_WAIT_NANOS);
+            event = ring.claim();
+        }
+        event.set(type, runId, job, durationNanos, detail);
+        ring.publish(event);
+    }
+
+    private void drainLoop() {
+        while (running) {
+            if (drainBatch() == 0) {
+                LockSupport.parkNanos(flushIntervalNanos);
+            }
+        }
+        // Events published before shutdown still go out
+        while (drainBatch() > 0) {
+            // keep draining
+        }
+    }
+
+    /**
+     * Hands up to {@code batchSize} events to the sinks, then lets them flush.
+     */
+    int drainBatch() {
+        int drained = 0;
+        JobEvent event;
+        while (drained < batchSize && (event = ring.peek()) != null) {
+            for (JobEventSink sink : sinks) {
+                try {
+                    sink.onEvent(event);
+                } catch (RuntimeException e) {
+                    logger.warn("Job event sink {} failed", sink.getClass().getSimpleName(), e);
+                }
+            }
+            ring.release(event);
+            drained++;
+        }
+        if (drained > 0) {
+            for (JobEventSink sink : sinks) {
+                try {
+                    sink.endOfBatch();
+                } catch (RuntimeException e) {
+                    logger.warn("Job event sink {} failed to flush", sink.getClass().getSimpleName(), e);
+                }
+            }
+            written.increment(drained);
+        }
+        return drained;
+    }
+
+    /**
+     * Stops the writer after it has drained everything already published.
+     */
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        running = false;
+        LockSupport.unpark(writer);
+        writer.join(TimeUnit.SECONDS.toMillis(5));
+    }
+}
@@ -0,0 +1,67 @@
+package com.example.insightpulse.events;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Job event pipeline settings, bound from {@code insightpulse.events.*}.
+ */
+@ConfigurationProperties(prefix = "insightpulse.events")
+public class JobEventProperties {
+
+    // Ring slots, rounded up to a power of two
+    private int capacity = 8192;
+
+    // When the ring is full: true drops the new event and counts it, false makes the job thread wait
+    private boolean dropOnFull = true;
+
+    // Most events handed to the sinks between two flushes
+    private int batchSize = 512;
+
+    // How long the writer sleeps when the ring is empty
+    private Duration flushInterval = Duration.ofMillis(200);
+
+    // Log file written by JobEventFileWriter
+    private String file = "logs/job-events.log";
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    public void setCapacity(int capacity) {
+        this.capacity = capacity;
+    }
+
+    public boolean isDropOnFull() {
+        return dropOnFull;
+    }
+
+    public void setDropOnFull(boolean dropOnFull) {
+        this.dropOnFull = dropOnFull;
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    public void setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+    }
+
+    public Duration getFlushInterval() {
+        return flushInterval;
+    }
+
+    public void setFlushInterval(Duration flushInterval) {
+        this.flushInterval = flushInterval;
+    }
+
+    public String getFile() {
+        return file;
+    }
+
+    public void setFile(String file) {
+        this.file = file;
+    }
+}
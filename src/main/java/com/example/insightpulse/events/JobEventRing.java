@@ -0,0 +1,83 @@
+package com.example.insightpulse.events;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Bounded multi-producer, single-consumer ring of preallocated {@link JobEvent} slots.
+ * <p>
+ * Each slot carries a sequence number: {@code n} means free for the producer claiming position
+ * {@code n}, {@code n + 1} means published for the consumer reading position {@code n}. Producers
+ * only contend on one CAS; neither side takes a lock or allocates.
+ */
+final class JobEventRing {
+
+    private final JobEvent[] slots;
+    private final int mask;
+    private final AtomicLong tail = new AtomicLong();
+    private volatile long head;
+
+    JobEventRing(int requestedCapacity) {
+        int capacity = Integer.highestOneBit(Math.max(2, requestedCapacity - 1)) << 1;
+        this.slots = new JobEvent[capacity];
+        this.mask = capacity - 1;
+        for (int i = 0; i < capacity; i++) {
+            slots[i] = new JobEvent(i);
+        }
+    }
+
+    /**
+     * Reserves the next slot, or returns {@code null} if the ring is full.
+     */
+    JobEvent claim() {
+        long position = tail.get();
+        while (true) {
+            JobEvent slot = slots[(int) (position & mask)];
+            long diff = slot.sequence.get() - position;
+            if (diff == 0) {
+                if (tail.compareAndSet(position, position + 1)) {
+                    slot.claimed = position;
+                    return slot;
+                }
+                position = tail.get();
+            } else if (diff < 0) {
+                return null;
+            } else {
+                position = tail.get();
+            }
+        }
+    }
+
+    /**
+     * Hands a filled slot from {@link #claim()} to the consumer.
+     */
+    void publish(JobEvent slot) {
+        slot.sequence.lazySet(slot.claimed + 1);
+    }
+
+    /**
+     * Returns the next published event without removing it, or {@code null}; consumer thread only.
+     */
+    JobEvent peek() {
+        JobEvent slot = slots[(int) (head & mask)];
+        return slot.sequence.get() == head + 1 ? slot : null;
+    }
+
+    /**
+     * Frees the slot returned by {@link #peek()} for reuse; consumer thread only.
+     */
+    void release(JobEvent slot) {
+        slot.sequence.lazySet(head + slots.length);
+        head = head + 1;
+    }
+
+    int capacity() {
+        return slots.length;
+    }
+
+    /**
+     * Events claimed but not yet consumed.
+     */
+    int size() {
+        return (int) Math.max(0, tail.get() - head);
+    }
+}
@@ -0,0 +1,19 @@
+package com.example.insightpulse.events;
+
+/**
+ * Receives job events on the {@link JobEventLog} writer thread. Every {@code JobEventSink} bean is
+ * registered automatically.
+ */
+public interface JobEventSink {
+
+    /**
+     * Handles one event; the instance is reused once this returns.
+     */
+    void onEvent(JobEvent event);
+
+    /**
+     * Called after each drained batch, the place to flush buffered output.
+     */
+    default void endOfBatch() {
+    }
+}
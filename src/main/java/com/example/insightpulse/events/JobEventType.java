@@ -0,0 +1,13 @@
+package com.example.insightpulse.events;
+
+/**
+ * Lifecycle points recorded for a job run.
+ */
+public enum JobEventType {
+
+    STARTED,
+
+    SUCCEEDED,
+
+    FAILED
+}
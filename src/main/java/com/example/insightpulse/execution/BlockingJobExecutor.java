@@ -0,0 +1,47 @@
+package com.example.insightpulse.execution;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+/**
+ * Runs blocking controller work according to the configured {@link ExecutionMode}.
+ * <p>
+ * In {@code OFFLOAD} mode the work moves to a virtual thread and the request is completed
+ * asynchronously, so a slow job no longer holds one of Tomcat's platform threads.
+ * In the other modes the work runs on the calling (platform or virtual) request thread.
+ */
+@Component
+public class BlockingJobExecutor {
+
+    private final ExecutionMode mode;
+    private final VirtualThreadExecutor offloadExecutor = new VirtualThreadExecutor("job-offload-");
+
+    public BlockingJobExecutor(@Value("${insightpulse.execution.mode:platform}") ExecutionMode mode,
+                               MeterRegistry registry) {
+        this.mode = mode;
+        Gauge.builder("virtual_tasks_in_flight", offloadExecutor, VirtualThreadExecutor::inFlight)
+             .description("Blocking job handlers currently running on offload virtual threads")
+             .tag("executor", "job-offload")
+             .register(registry);
+    }
+
+    public <T> CompletableFuture<T> submit(Supplier<T> work) {
+        if (mode == ExecutionMode.OFFLOAD) {
+            return CompletableFuture.supplyAsync(work, offloadExecutor);
+        }
+        try {
+            return CompletableFuture.completedFuture(work.get());
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    public ExecutionMode mode() {
+        return mode;
+    }
+}
@@ -0,0 +1,22 @@
+package com.example.insightpulse.execution;
+
+/**
+ * How blocking job handlers are executed, set with {@code insightpulse.execution.mode}.
+ */
+public enum ExecutionMode {
+
+    /**
+     * Handlers run inline on Tomcat's platform worker threads.
+     */
+    PLATFORM,
+
+    /**
+     * Tomcat dispatches every request on its own virtual thread.
+     */
+    VIRTUAL,
+
+    /**
+     * Requests arrive on platform threads; blocking handlers are handed to a dedicated virtual-thread executor.
+     */
+    OFFLOAD
+}
@@ -0,0 +1,39 @@
+package com.example.insightpulse.execution;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.embedded.tomcat.TomcatProtocolHandlerCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Wiring for the {@code virtual} and {@code offload} execution modes.
+ */
+@Configuration
+public class VirtualThreadConfig {
+
+    /**
+     * Runs every Tomcat request on its own virtual thread.
+     */
+    @Bean
+    @ConditionalOnProperty(name = "insightpulse.execution.mode", havingValue = "virtual")
+    public TomcatProtocolHandlerCustomizer<?> virtualThreadProtocolHandlerCustomizer(MeterRegistry registry) {
+        VirtualThreadExecutor executor = new VirtualThreadExecutor("tomcat-virtual-");
+        Gauge.builder("virtual_tasks_in_flight", executor, VirtualThreadExecutor::inFlight)
+             .description("Requests currently running on Tomcat virtual threads")
+             .tag("executor", "tomcat")
+             .register(registry);
+        return protocolHandler -> protocolHandler.setExecutor(executor);
+    }
+
+    /**
+     * Pinning is only worth watching once handlers actually run on virtual threads.
+     */
+    @Bean(destroyMethod = "close")
+    @ConditionalOnExpression("'${insightpulse.execution.mode:platform}'.toLowerCase() != 'platform'")
+    public VirtualThreadPinningMonitor virtualThreadPinningMonitor(MeterRegistry registry) {
+        return new VirtualThreadPinningMonitor(registry);
+    }
+}
@@ -0,0 +1,42 @@
+package com.example.insightpulse.execution;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Starts one virtual thread per task and tracks how many tasks are still running.
+ */
+public class VirtualThreadExecutor implements Executor {
+
+    private final ThreadFactory threadFactory;
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    public VirtualThreadExecutor(String namePrefix) {
+        this.threadFactory = Thread.ofVirtual().name(namePrefix, 0).factory();
+    }
+
+    @Override
+    public void execute(Runnable task) {
+        inFlight.incrementAndGet();
+        try {
+            threadFactory.newThread(() -> {
+                try {
+                    task.run();
+                } finally {
+                    inFlight.decrementAndGet();
+                }
+            }).start();
+        } catch (RuntimeException e) {
+            inFlight.decrementAndGet();
+            throw e;
+        }
+    }
+
+    /**
+     * Number of submitted tasks that have not finished yet.
+     */
+    public int inFlight() {
+        return inFlight.get();
+    }
+}
@@ -0,0 +1,42 @@
+package com.example.insightpulse.execution;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jdk.jfr.consumer.RecordingStream;
+
+import java.time.Duration;
+
+/**
+ * Counts virtual threads pinned to their carrier thread, using the JDK's {@code jdk.VirtualThreadPinned} JFR event.
+ * <p>
+ * A pinned virtual thread blocks its carrier (e.g. sleeping inside {@code synchronized}), which silently
+ * shrinks the carrier pool and brings back the starvation virtual threads are meant to avoid.
+ */
+public class VirtualThreadPinningMonitor implements AutoCloseable {
+
+    static final Duration PINNED_THRESHOLD = Duration.ofMillis(1);
+
+    private final RecordingStream stream = new RecordingStream();
+
+    public VirtualThreadPinningMonitor(MeterRegistry registry) {
+        Counter pinnedEvents = Counter.builder("virtual_thread_pinned_total")
+                                      .description("Times a virtual thread blocked while pinned to its carrier thread")
+                                      .register(registry);
+        Timer pinnedDuration = Timer.builder("virtual_thread_pinned_duration_seconds")
+                                    .description("Time carrier threads spent blocked by a pinned virtual thread")
+                                    .register(registry);
+
+        stream.enable("jdk.VirtualThreadPinned").withThreshold(PINNED_THRESHOLD);
+        stream.onEvent("jdk.VirtualThreadPinned", event -> {
+            pinnedEvents.increment();
+            pinnedDuration.record(event.getDuration());
+        });
+        stream.startAsync();
+    }
+
+    @Override
+    public void close() {
+        stream.close();
+    }
+}
@@ -0,0 +1,48 @@
+package com.example.insightpulse.filter;
+
+import com.example.insightpulse.admission.AdmissionLimiter;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Sheds requests over their route's admission limit with {@code 429 Too Many Requests} and a
+ * {@code Retry-After} header, before they reach a controller or take a worker from the job executors.
+ * <p>
+ * Runs just inside {@link MetricsFilter}, so shed requests still show up in
+ * {@code http_server_requests_seconds_count} with status 429; {@code AdmissionLimiter} leaves those out
+ * of the latency it adapts to.
+ */
+@Component
+@Order(MetricsFilter.ORDER + 1)
+public class AdmissionControlFilter extends OncePerRequestFilter {
+
+    private final AdmissionLimiter limiter;
+
+    public AdmissionControlFilter(AdmissionLimiter limiter) {
+        this.limiter = limiter;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        long waitNanos = limiter.admit(request.getRequestURI().substring(request.getContextPath().length()));
+        if (waitNanos == 0) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+        long retryAfterSeconds = Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + TimeUnit.SECONDS.toNanos(1) - 1));
+        response.setStatus(429);
+        response.setHeader(HttpHeaders.RETRY_AFTER, Long.toString(retryAfterSeconds));
+        response.setContentType("text/plain");
+        response.getWriter().write("Too many requests for " + request.getRequestURI());
+    }
+}
@@ -1,7 +1,9 @@
 package com.example.insightpulse.filter;
 
-import io.micrometer.core.instrument.Gauge;
-import io.micrometer.core.instrument.MeterRegistry;
+import com.example.insightpulse.availability.ApiAvailabilityRegistry;
+import com.example.insightpulse.metrics.MeterCardinalityGuard;
+import com.example.insightpulse.metrics.MeterCardinalityGuard.SeriesBudget;
+import com.example.insightpulse.slo.SloRegistry;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -11,17 +13,20 @@ import org.springframework.web.filter.OncePerRequestFilter;
 import org.springframework.web.servlet.HandlerMapping;
 
 import java.io.IOException;
-import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
 
 @Component
 public class ApiAvailabilityFilter extends OncePerRequestFilter {
 
-    private final MeterRegistry meterRegistry;
-    private final Map<String, Integer> availabilityMap = new ConcurrentHashMap<>();
+    private final ApiAvailabilityRegistry availabilityRegistry;
+    private final SeriesBudget<?, ?> budget;
+    private final SloRegistry slos;
 
-    public ApiAvailabilityFilter(MeterRegistry meterRegistry) {
-        this.meterRegistry = meterRegistry;
+    public ApiAvailabilityFilter(ApiAvailabilityRegistry availabilityRegistry,
+                                 MeterCardinalityGuard cardinalityGuard,
+                                 SloRegistry slos) {
+        this.availabilityRegistry = availabilityRegistry;
+        this.slos = slos;
+        this.budget = cardinalityGuard.budget("api_availability");
     }
 
     @Override
@@ -30,50 +35,30 @@ public class ApiAvailabilityFilter extends OncePerRequestFilter {
                                     FilterChain filterChain)
             throws ServletException, IOException {
 
-        String pattern = request.getRequestURI(); // fallback
         try {
             filterChain.doFilter(request, response);
         } finally {
-            // Try to get real route pattern (e.g., /api/users/{id})
-            Object bestPattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
-            if (bestPattern instanceof String) {
-                pattern = (String) bestPattern;
-            }
-
-            String method = request.getMethod();
-            String status = String.valueOf(response.getStatus());
-            int availability = (response.getStatus() >= 500) ? 0 : 1;
-
-            // Composite key
-            String key = method + " " + pattern + " " + status;
-
-            // Tags to be added to gauge
-            final String finalMethod = method;
-            final String finalPattern = pattern;
-            final String finalStatus = status;
+            // Async handlers only know their final status once the response completes
+            RequestCompletion.whenComplete(request, null, failure -> record(request, response));
+        }
+    }
 
-            // Insert or update availability
-            availabilityMap.put(key, availability);
+    private void record(HttpServletRequest request, HttpServletResponse response) {
+        String pattern = request.getRequestURI(); // fallback
 
-            // Only register gauge if it hasn't been already
-            if (!gaugeExists("api_availability", finalMethod, finalPattern, finalStatus)) {
-                Gauge.builder("api_availability", availabilityMap, map -> {
-                         Integer value = map.get(key);
-                         return value != null ? value : 1;
-                     })
-                     .description("API availability by method and URI pattern")
-                     .tags("method", finalMethod, "uri", finalPattern, "status", finalStatus)
-                     .register(meterRegistry);
-            }
+        // Try to get real route pattern (e.g., /api/users/{id})
+        Object bestPattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        if (bestPattern instanceof String) {
+            pattern = (String) bestPattern;
+            // Only matched routes can have an objective; server errors spend the error budget
+            slos.route(pattern).record(response.getStatus() < 500);
+        } else {
+            // Raw URIs are unbounded, so they share the cardinality budget
+            pattern = budget.fold(pattern);
         }
-    }
 
-    private boolean gaugeExists(String metricName, String method, String uri, String status) {
-        return meterRegistry.getMeters().stream().anyMatch(meter ->
-                                                                   meter.getId().getName().equals(metricName)
-                                                                           && method.equals(meter.getId().getTag("method"))
-                                                                           && uri.equals(meter.getId().getTag("uri"))
-                                                                           && status.equals(meter.getId().getTag("status"))
-        );
+        // Insert or update availability; the gauge is registered on first sight only
+        availabilityRegistry.record(MeterCardinalityGuard.normalizeMethod(request.getMethod()),
+                                    pattern, response.getStatus());
     }
 }
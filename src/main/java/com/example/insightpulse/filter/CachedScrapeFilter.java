@@ -0,0 +1,104 @@
+package com.example.insightpulse.filter;
+
+import com.example.insightpulse.metrics.PrometheusScrapeCache;
+import com.example.insightpulse.metrics.ScrapeSnapshot;
+import io.micrometer.prometheusmetrics.PrometheusMeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.autoconfigure.endpoint.condition.ConditionalOnAvailableEndpoint;
+import org.springframework.boot.actuate.autoconfigure.web.server.ConditionalOnManagementPort;
+import org.springframework.boot.actuate.autoconfigure.web.server.ManagementPortType;
+import org.springframework.boot.actuate.metrics.export.prometheus.PrometheusScrapeEndpoint;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Duration;
+
+/**
+ * Answers Prometheus scrapes from {@link PrometheusScrapeCache} before they reach the actuator endpoint.
+ * <p>
+ * Only plain text-format scrapes are taken over: requests with {@code includedNames}, that don't
+ * accept {@code text/plain}, or that send {@code Cache-Control: no-cache} still go to
+ * {@code /actuator/prometheus} as before.
+ * <p>
+ * Installed only when the endpoint is exposed over HTTP and served by this server: with a separate
+ * {@code management.server.port} the application port must not answer scrapes.
+ */
+@Component
+@ConditionalOnAvailableEndpoint(endpoint = PrometheusScrapeEndpoint.class)
+@ConditionalOnManagementPort(ManagementPortType.SAME)
+public class CachedScrapeFilter extends OncePerRequestFilter {
+
+    private final PrometheusScrapeCache cache;
+    private final String path;
+
+    @Autowired
+    public CachedScrapeFilter(ObjectProvider<PrometheusMeterRegistry> registry,
+                              @Value("${insightpulse.metrics.scrape.cache:true}") boolean enabled,
+                              @Value("${insightpulse.metrics.scrape.ttl:1s}") Duration ttl,
+                              @Value("${insightpulse.metrics.scrape.gzip-level:6}") int gzipLevel,
+                              @Value("${management.endpoints.web.base-path:/actuator}") String basePath,
+                              @Value("${management.endpoints.web.path-mapping.prometheus:prometheus}") String endpointPath) {
+        PrometheusMeterRegistry prometheus = enabled ? registry.getIfAvailable() : null;
+        this.cache = prometheus != null ? new PrometheusScrapeCache(prometheus, ttl, gzipLevel) : null;
+        this.path = basePath + "/" + endpointPath;
+    }
+
+    CachedScrapeFilter(PrometheusScrapeCache cache, String path) {
+        this.cache = cache;
+        this.path = path;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        if (cache == null || !"GET".equals(request.getMethod())) {
+            return true;
+        }
+        String uri = request.getRequestURI().substring(request.getContextPath().length());
+        return !uri.equals(path) || request.getParameter("includedNames") != null || !acceptsText(request)
+                || noCache(request);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        ScrapeSnapshot snapshot = cache.acquire();
+        try {
+            response.setStatus(HttpServletResponse.SC_OK);
+            response.setContentType(PrometheusScrapeCache.CONTENT_TYPE);
+            response.setHeader("Vary", "Accept-Encoding");
+            if (acceptsGzip(request)) {
+                response.setHeader("Content-Encoding", "gzip");
+                response.setContentLength(snapshot.gzipSize());
+                snapshot.writeGzip(response.getOutputStream());
+            } else {
+                response.setContentLength(snapshot.plainSize());
+                snapshot.writePlain(response.getOutputStream());
+            }
+        } finally {
+            snapshot.release();
+        }
+    }
+
+    private static boolean acceptsText(HttpServletRequest request) {
+        String accept = request.getHeader("Accept");
+        // Prometheus lists text/plain as a fallback after OpenMetrics, which is enough to serve it
+        return accept == null || accept.contains("text/plain") || accept.contains("*/*");
+    }
+
+    private static boolean noCache(HttpServletRequest request) {
+        String cacheControl = request.getHeader("Cache-Control");
+        return cacheControl != null && cacheControl.contains("no-cache");
+    }
+
+    private static boolean acceptsGzip(HttpServletRequest request) {
+        String encoding = request.getHeader("Accept-Encoding");
+        return encoding != null && encoding.contains("gzip");
+    }
+}
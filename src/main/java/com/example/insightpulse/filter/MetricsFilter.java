@@ -1,9 +1,14 @@
 package com.example.insightpulse.filter;
 
+import com.example.insightpulse.jfr.RequestHandledEvent;
+import com.example.insightpulse.metrics.MeterCardinalityGuard;
+import com.example.insightpulse.metrics.MeterCardinalityGuard.SeriesBudget;
 import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.servlet.*;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
 import org.springframework.stereotype.Component;
 
 import java.io.IOException;
@@ -11,19 +16,31 @@ import java.util.concurrent.TimeUnit;
 
 import io.micrometer.core.instrument.Timer;
 import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
 
 @Component
+@Order(MetricsFilter.ORDER)
 public class MetricsFilter extends OncePerRequestFilter {
+
+    // Ahead of the other application filters, so requests they answer themselves are still timed
+    static final int ORDER = Ordered.HIGHEST_PRECEDENCE + 100;
+
+    static final String METRIC_NAME = "http_server_requests_seconds_count";
+
     private final MeterRegistry meterRegistry;
+    private final SeriesBudget<RequestSeries, Timer> budget;
 
-    public MetricsFilter(MeterRegistry meterRegistry) {
+    public MetricsFilter(MeterRegistry meterRegistry, MeterCardinalityGuard cardinalityGuard) {
         this.meterRegistry = meterRegistry;
+        this.budget = cardinalityGuard.budget(METRIC_NAME);
     }
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
         // Capture start time
         long start = System.nanoTime();
+        // Null unless a flight recording is running
+        RequestHandledEvent event = RequestHandledEvent.start();
         Exception exception = null;  // To track if an exception occurred
 
         try {
@@ -34,35 +51,69 @@ public class MetricsFilter extends OncePerRequestFilter {
             exception = e;
             throw e;  // Re-throw the exception after tracking it
         } finally {
-            // Capture end time
-            long end = System.nanoTime();
-
-            // Get the status code after request completion
-            int status = response.getStatus();
-
-            // Determine the outcome based on the status code
-            String outcome = (status >= 200 && status < 300) ? "SUCCESS" : "FAILURE";
-
-            // If status code is 500, explicitly set outcome to FAILURE
-            if (status == 500) {
-                outcome = "FAILURE";
-            }
-
-            // Determine if there was an exception
-            String exceptionTag = (exception != null) ? exception.getClass().getSimpleName() : "None";
-
-            // Record the HTTP request duration with dynamic status, outcome, and exception
-            Timer.builder("http_server_requests_seconds_count")
-                 .tags("method", request.getMethod(),
-                       "uri", request.getRequestURI(),
-                       "exception", exceptionTag,
-                       "outcome", outcome,
-                       "status", String.valueOf(status))  // Dynamically set status code
-                 .publishPercentileHistogram()
-                 .register(meterRegistry)
-                 .record(end - start, TimeUnit.NANOSECONDS);
+            // Record once the response is complete, which for async handlers is after this thread returns
+            RequestCompletion.whenComplete(request, exception, failure -> record(request, response, start, event, failure));
+        }
+    }
+
+    private void record(HttpServletRequest request, HttpServletResponse response, long start,
+                        RequestHandledEvent event, Throwable exception) {
+        // Capture end time
+        long end = System.nanoTime();
+
+        // Get the status code after request completion
+        int status = response.getStatus();
+
+        // Determine the outcome based on the status code
+        String outcome = (status >= 200 && status < 300) ? "SUCCESS" : "FAILURE";
+
+        // If status code is 500, explicitly set outcome to FAILURE
+        if (status == 500) {
+            outcome = "FAILURE";
+        }
+
+        // Determine if there was an exception
+        String exceptionTag = (exception != null) ? exception.getClass().getSimpleName() : "None";
+
+        // Record the HTTP request duration with dynamic status, outcome, and exception
+        RequestSeries series = new RequestSeries(MeterCardinalityGuard.normalizeMethod(request.getMethod()),
+                                                 resolveUri(request, status), exceptionTag, outcome, status);
+        Timer timer = budget.series(series, this::register);
+        if (timer != null) {
+            timer.record(end - start, TimeUnit.NANOSECONDS);
+        }
+        if (event != null) {
+            event.commit(series.method(), series.uri(), status, outcome);
         }
     }
-}
 
+    /**
+     * Uses the route template when one matched, so path variables don't create new series;
+     * unmatched URIs go through the cardinality budget.
+     */
+    private String resolveUri(HttpServletRequest request, int status) {
+        Object bestPattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        if (bestPattern instanceof String pattern) {
+            return pattern;
+        }
+        if (status == 404) {
+            return "NOT_FOUND";
+        }
+        return budget.fold(request.getRequestURI());
+    }
+
+    private Timer register(RequestSeries series) {
+        return Timer.builder(METRIC_NAME)
+                    .tags("method", series.method(),
+                          "uri", series.uri(),
+                          "exception", series.exception(),
+                          "outcome", series.outcome(),
+                          "status", String.valueOf(series.status()))  // Dynamically set status code
+                    .publishPercentileHistogram()
+                    .register(meterRegistry);
+    }
+
+    private record RequestSeries(String method, String uri, String exception, String outcome, int status) {
+    }
+}
 
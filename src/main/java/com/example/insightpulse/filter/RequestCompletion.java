@@ -0,0 +1,55 @@
+package com.example.insightpulse.filter;
+
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.http.HttpServletRequest;
+
+import java.util.function.Consumer;
+
+/**
+ * Defers per-request bookkeeping until the response is really complete.
+ * <p>
+ * When a handler hands off to another thread (e.g. offloaded jobs returning a {@code CompletableFuture}),
+ * the filter chain returns before the response is written. Recording at that point would capture the
+ * hand-off time and a provisional status, so the callback is attached to the async context instead.
+ */
+final class RequestCompletion {
+
+    private RequestCompletion() {
+    }
+
+    /**
+     * Runs {@code callback} now for synchronous requests, or when the async request completes.
+     * The callback receives the failure reported by the container, if any.
+     */
+    static void whenComplete(HttpServletRequest request, Throwable failure, Consumer<Throwable> callback) {
+        if (!request.isAsyncStarted()) {
+            callback.accept(failure);
+            return;
+        }
+        request.getAsyncContext().addListener(new AsyncListener() {
+
+            private Throwable asyncFailure = failure;
+
+            @Override
+            public void onComplete(AsyncEvent event) {
+                callback.accept(asyncFailure);
+            }
+
+            @Override
+            public void onError(AsyncEvent event) {
+                asyncFailure = event.getThrowable();
+            }
+
+            @Override
+            public void onTimeout(AsyncEvent event) {
+            }
+
+            @Override
+            public void onStartAsync(AsyncEvent event) {
+                // Re-register so a nested async cycle is still tracked to completion
+                event.getAsyncContext().addListener(this);
+            }
+        });
+    }
+}
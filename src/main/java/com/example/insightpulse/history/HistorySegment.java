@@ -0,0 +1,227 @@
+package com.example.insightpulse.history;
+
+import com.example.insightpulse.events.JobEventType;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * One memory-mapped segment file of fixed-width run records.
+ * <p>
+ * Layout: a 64-byte header (magic, version, capacity, committed record count) followed by
+ * {@link #RECORD_BYTES}-byte records. The count is written after each record, so a reader, or the
+ * store after a crash, only ever sees whole records. An in-memory index keeps the start-time range
+ * of every {@link #BLOCK_RECORDS} records, and queries skip blocks outside the requested window.
+ * <p>
+ * Appends come from a single writer thread; scans may run concurrently from any thread and read
+ * the mapping in place with absolute gets.
+ */
+final class HistorySegment {
+
+    static final int HEADER_BYTES = 64;
+    static final int RECORD_BYTES = 96;
+    static final int BLOCK_RECORDS = 1024;
+    static final int NAME_BYTES = 32;
+
+    private static final int MAGIC = 0x4A484953; // "JHIS"
+    private static final int VERSION = 1;
+    private static final int COUNT_OFFSET = 16;
+
+    // Record field offsets
+    private static final int START = 0;
+    private static final int DURATION = 8;
+    private static final int RUN_ID = 16;
+    private static final int OUTCOME = 24;
+    private static final int JOB_LENGTH = 25;
+    private static final int EXCEPTION_LENGTH = 26;
+    private static final int JOB = 32;
+    private static final int EXCEPTION = JOB + NAME_BYTES;
+
+    private final Path file;
+    private final long createdMillis;
+    private final MappedByteBuffer buffer;
+    private final int capacity;
+    private final long[] blockMinStart;
+    private final long[] blockMaxStart;
+    private volatile int count;
+
+    private HistorySegment(Path file, long createdMillis, MappedByteBuffer buffer, int capacity, int count) {
+        this.file = file;
+        this.createdMillis = createdMillis;
+        this.buffer = buffer;
+        this.capacity = capacity;
+        int blocks = (capacity + BLOCK_RECORDS - 1) / BLOCK_RECORDS;
+        this.blockMinStart = new long[blocks];
+        this.blockMaxStart = new long[blocks];
+        Arrays.fill(blockMinStart, Long.MAX_VALUE);
+        Arrays.fill(blockMaxStart, Long.MIN_VALUE);
+        for (int i = 0; i < count; i++) {
+            index(i, buffer.getLong(offset(i) + START));
+        }
+        this.count = count;
+    }
+
+    static HistorySegment create(Path file, long createdMillis, int capacity) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE_NEW,
+                                                    StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0,
+                                                  HEADER_BYTES + (long) capacity * RECORD_BYTES);
+            buffer.putInt(0, MAGIC);
+            buffer.putInt(4, VERSION);
+            buffer.putInt(8, capacity);
+            buffer.putLong(COUNT_OFFSET, 0);
+            return new HistorySegment(file, createdMillis, buffer, capacity, 0);
+        }
+    }
+
+    /**
+     * Maps an existing segment for reading.
+     */
+    static HistorySegment open(Path file, long createdMillis) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            if (buffer.getInt(0) != MAGIC || buffer.getInt(4) != VERSION) {
+                throw new IOException("Not a job history segment: " + file);
+            }
+            int capacity = buffer.getInt(8);
+            int count = (int) Math.min(capacity, buffer.getLong(COUNT_OFFSET));
+            return new HistorySegment(file, createdMillis, buffer, capacity, count);
+        }
+    }
+
+    Path file() {
+        return file;
+    }
+
+    long createdMillis() {
+        return createdMillis;
+    }
+
+    int count() {
+        return count;
+    }
+
+    boolean isFull() {
+        return count >= capacity;
+    }
+
+    /**
+     * Latest start time in this segment, or {@link Long#MIN_VALUE} if empty.
+     */
+    long maxStart() {
+        long max = Long.MIN_VALUE;
+        int blocks = (count + BLOCK_RECORDS - 1) / BLOCK_RECORDS;
+        for (int b = 0; b < blocks; b++) {
+            max = Math.max(max, blockMaxStart[b]);
+        }
+        return max;
+    }
+
+    /**
+     * Appends a record; writer thread only, and only while {@link #isFull()} is false.
+     */
+    void append(long startMillis, long durationNanos, long runId, boolean failed, byte[] job, byte[] exception) {
+        int i = count;
+        int at = offset(i);
+        buffer.putLong(at + START, startMillis);
+        buffer.putLong(at + DURATION, durationNanos);
+        buffer.putLong(at + RUN_ID, runId);
+        buffer.put(at + OUTCOME, (byte) (failed ? 1 : 0));
+        buffer.put(at + JOB_LENGTH, (byte) job.length);
+        buffer.put(at + JOB, job);
+        buffer.put(at + EXCEPTION_LENGTH, (byte) (exception != null ? exception.length : 0));
+        if (exception != null) {
+            buffer.put(at + EXCEPTION, exception);
+        }
+        index(i, startMillis);
+        buffer.putLong(COUNT_OFFSET, i + 1);
+        count = i + 1;
+    }
+
+    /**
+     * Adds matching records to {@code out} until it holds {@code limit} entries. Records are compared
+     * in the mapping; only matches are decoded into objects.
+     */
+    void scan(long fromMillis, long toMillis, byte[] job, JobEventType outcome, byte[] exception,
+              int limit, List<JobHistoryRecord> out) {
+        int committed = count;
+        int blocks = (committed + BLOCK_RECORDS - 1) / BLOCK_RECORDS;
+        for (int b = 0; b < blocks && out.size() < limit; b++) {
+            if (blockMaxStart[b] < fromMillis || blockMinStart[b] >= toMillis) {
+                continue;
+            }
+            int end = Math.min(committed, (b + 1) * BLOCK_RECORDS);
+            for (int i = b * BLOCK_RECORDS; i < end && out.size() < limit; i++) {
+                int at = offset(i);
+                long start = buffer.getLong(at + START);
+                if (start < fromMillis || start >= toMillis) {
+                    continue;
+                }
+                boolean failed = buffer.get(at + OUTCOME) == 1;
+                if (outcome != null && failed != (outcome == JobEventType.FAILED)) {
+                    continue;
+                }
+                if (job != null && !nameEquals(at + JOB_LENGTH, at + JOB, job)) {
+                    continue;
+                }
+                if (exception != null && !nameEquals(at + EXCEPTION_LENGTH, at + EXCEPTION, exception)) {
+                    continue;
+                }
+                out.add(decode(at, start, failed));
+            }
+        }
+    }
+
+    private JobHistoryRecord decode(int at, long start, boolean failed) {
+        int exceptionLength = buffer.get(at + EXCEPTION_LENGTH);
+        return new JobHistoryRecord(buffer.getLong(at + RUN_ID),
+                                    name(at + JOB, buffer.get(at + JOB_LENGTH)),
+                                    Instant.ofEpochMilli(start),
+                                    buffer.getLong(at + DURATION) / 1_000 / 1000.0,
+                                    failed ? JobEventType.FAILED : JobEventType.SUCCEEDED,
+                                    exceptionLength > 0 ? name(at + EXCEPTION, exceptionLength) : null);
+    }
+
+    private boolean nameEquals(int lengthAt, int bytesAt, byte[] expected) {
+        if (buffer.get(lengthAt) != expected.length) {
+            return false;
+        }
+        for (int i = 0; i < expected.length; i++) {
+            if (buffer.get(bytesAt + i) != expected[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private String name(int at, int length) {
+        byte[] bytes = new byte[length];
+        buffer.get(at, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private void index(int i, long startMillis) {
+        int block = i / BLOCK_RECORDS;
+        blockMinStart[block] = Math.min(blockMinStart[block], startMillis);
+        blockMaxStart[block] = Math.max(blockMaxStart[block], startMillis);
+    }
+
+    private static int offset(int i) {
+        return HEADER_BYTES + i * RECORD_BYTES;
+    }
+
+    /**
+     * Encodes a job or exception name for a record, truncated to {@link #NAME_BYTES}.
+     */
+    static byte[] encodeName(String name) {
+        byte[] bytes = name.getBytes(StandardCharsets.UTF_8);
+        return bytes.length <= NAME_BYTES ? bytes : Arrays.copyOf(bytes, NAME_BYTES);
+    }
+}
@@ -0,0 +1,56 @@
+package com.example.insightpulse.history;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Job history store settings, bound from {@code insightpulse.history.*}.
+ */
+@ConfigurationProperties(prefix = "insightpulse.history")
+public class JobHistoryProperties {
+
+    // Directory holding the segment files
+    private String dir = "data/history";
+
+    // Records per segment file; each record takes 96 bytes
+    private int segmentRecords = 262_144;
+
+    // A new segment is started once the active one is this old, even if not full
+    private Duration rotateInterval = Duration.ofHours(1);
+
+    // Segments whose newest run started longer ago than this are deleted
+    private Duration retention = Duration.ofDays(7);
+
+    public String getDir() {
+        return dir;
+    }
+
+    public void setDir(String dir) {
+        this.dir = dir;
+    }
+
+    public int getSegmentRecords() {
+        return segmentRecords;
+    }
+
+    public void setSegmentRecords(int segmentRecords) {
+        this.segmentRecords = segmentRecords;
+    }
+
+    public Duration getRotateInterval() {
+        return rotateInterval;
+    }
+
+    public void setRotateInterval(Duration rotateInterval) {
+        this.rotateInterval = rotateInterval;
+    }
+
+    public Duration getRetention() {
+        return retention;
+    }
+
+    public void setRetention(Duration retention) {
+        this.retention = retention;
+    }
+}
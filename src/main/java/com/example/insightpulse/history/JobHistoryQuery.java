@@ -0,0 +1,23 @@
+package com.example.insightpulse.history;
+
+import com.example.insightpulse.events.JobEventType;
+
+import java.time.Instant;
+
+/**
+ * Filters for a history scan; {@code null} fields match everything.
+ *
+ * @param from      runs that started at or after this instant
+ * @param to        runs that started before this instant
+ * @param job       exact job name
+ * @param outcome   {@code SUCCEEDED} or {@code FAILED}
+ * @param exception exact exception simple name
+ * @param limit     maximum number of records returned
+ */
+public record JobHistoryQuery(Instant from,
+                              Instant to,
+                              String job,
+                              JobEventType outcome,
+                              String exception,
+                              int limit) {
+}
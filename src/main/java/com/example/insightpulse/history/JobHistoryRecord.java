@@ -0,0 +1,18 @@
+package com.example.insightpulse.history;
+
+import com.example.insightpulse.events.JobEventType;
+
+import java.time.Instant;
+
+/**
+ * One finished job run as returned by {@link JobHistoryStore#query(JobHistoryQuery)}.
+ *
+ * @param exception simple name of the exception type for failed runs, otherwise {@code null}
+ */
+public record JobHistoryRecord(long runId,
+                               String job,
+                               Instant start,
+                               double durationMillis,
+                               JobEventType outcome,
+                               String exception) {
+}
@@ -0,0 +1,200 @@
+package com.example.insightpulse.history;
+
+import com.example.insightpulse.events.JobEvent;
+import com.example.insightpulse.events.JobEventSink;
+import com.example.insightpulse.events.JobEventType;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Append-only history of finished job runs, kept in memory-mapped segment files.
+ * <p>
+ * Runs arrive as {@link JobEvent}s on the job event writer thread, so recording never touches the
+ * job's own thread. Segments rotate when full or after {@code rotate-interval} and are deleted once
+ * all their runs are older than {@code retention}. Segments from earlier processes are reopened
+ * read-only on startup.
+ */
+@Component
+public class JobHistoryStore implements JobEventSink {
+
+    private static final Logger logger = LoggerFactory.getLogger(JobHistoryStore.class);
+
+    private static final int MAX_CACHED_NAMES = 1024;
+    private static final String SEGMENT_PREFIX = "segment-";
+    private static final String SEGMENT_SUFFIX = ".dat";
+
+    private final Path dir;
+    private final int segmentRecords;
+    private final long rotateIntervalMillis;
+    private final long retentionMillis;
+
+    private final List<HistorySegment> segments = new CopyOnWriteArrayList<>();
+    private volatile HistorySegment active;
+
+    // Encoded job and exception names; writer thread only
+    private final Map<String, byte[]> encodedNames = new HashMap<>();
+
+    private final Counter records;
+    private final Counter writeFailures;
+
+    public JobHistoryStore(JobHistoryProperties properties, MeterRegistry registry) throws IOException {
+        if (properties.getSegmentRecords() <= 0
+                || properties.getSegmentRecords() > (Integer.MAX_VALUE - HistorySegment.HEADER_BYTES) / HistorySegment.RECORD_BYTES) {
+            throw new IllegalArgumentException("insightpulse.history.segment-records out of range: "
+                                                       + properties.getSegmentRecords());
+        }
+        this.dir = Path.of(properties.getDir()).toAbsolutePath();
+        this.segmentRecords = properties.getSegmentRecords();
+        this.rotateIntervalMillis = properties.getRotateInterval().toMillis();
+        this.retentionMillis = properties.getRetention().toMillis();
+
+        Files.createDirectories(dir);
+        openExistingSegments();
+
+        this.records = Counter.builder("job_history_records_total")
+                              .description("Job runs appended to the history store")
+                              .register(registry);
+        this.writeFailures = Counter.builder("job_history_write_failures_total")
+                                    .description("Job runs that could not be written to the history store")
+                                    .register(registry);
+        Gauge.builder("job_history_segments", segments, List::size)
+             .description("Job history segment files currently kept")
+             .register(registry);
+    }
+
+    @Override
+    public void onEvent(JobEvent event) {
+        if (event.getType() == JobEventType.STARTED) {
+            return;
+        }
+        long startMillis = event.getEpochMillis() - TimeUnit.NANOSECONDS.toMillis(event.getDurationNanos());
+        append(startMillis, event.getDurationNanos(), event.getRunId(), event.getJob(),
+               event.getType() == JobEventType.FAILED, event.getDetail());
+    }
+
+    /**
+     * Appends one run; called from the event writer thread.
+     */
+    public void append(long startMillis, long durationNanos, long runId, String job, boolean failed, String exception) {
+        try {
+            HistorySegment segment = writableSegment(System.currentTimeMillis());
+            segment.append(startMillis, durationNanos, runId, failed,
+                           encode(job), failed && exception != null ? encode(exception) : null);
+            records.increment();
+        } catch (IOException | UncheckedIOException e) {
+            writeFailures.increment();
+            logger.warn("Could not append to job history in {}", dir, e);
+        }
+    }
+
+    /**
+     * Returns runs matching {@code query}, oldest segment first.
+     */
+    public List<JobHistoryRecord> query(JobHistoryQuery query) {
+        long from = query.from() != null ? query.from().toEpochMilli() : Long.MIN_VALUE;
+        long to = query.to() != null ? query.to().toEpochMilli() : Long.MAX_VALUE;
+        byte[] job = query.job() != null ? HistorySegment.encodeName(query.job()) : null;
+        byte[] exception = query.exception() != null ? HistorySegment.encodeName(query.exception()) : null;
+
+        List<JobHistoryRecord> out = new ArrayList<>(Math.min(query.limit(), 1024));
+        for (HistorySegment segment : segments) {
+            if (out.size() >= query.limit()) {
+                break;
+            }
+            segment.scan(from, to, job, query.outcome(), exception, query.limit(), out);
+        }
+        return out;
+    }
+
+    /**
+     * Deletes segments whose newest run started before the retention window.
+     */
+    @Scheduled(fixedDelay = 60_000)
+    public void enforceRetention() {
+        enforceRetention(System.currentTimeMillis());
+    }
+
+    void enforceRetention(long nowMillis) {
+        long cutoff = nowMillis - retentionMillis;
+        for (HistorySegment segment : segments) {
+            if (segment == active || segment.maxStart() >= cutoff) {
+                continue;
+            }
+            segments.remove(segment);
+            try {
+                // Scans still holding the mapping keep reading it; the OS frees it once they are done
+                Files.deleteIfExists(segment.file());
+            } catch (IOException e) {
+                logger.warn("Could not delete job history segment {}", segment.file(), e);
+            }
+        }
+    }
+
+    int segmentCount() {
+        return segments.size();
+    }
+
+    private HistorySegment writableSegment(long nowMillis) throws IOException {
+        HistorySegment segment = active;
+        if (segment != null && !segment.isFull() && nowMillis - segment.createdMillis() < rotateIntervalMillis) {
+            return segment;
+        }
+        // Keep names unique and ordered even if the clock stands still or a previous process wrote ahead
+        HistorySegment last = segments.isEmpty() ? null : segments.get(segments.size() - 1);
+        long created = last != null ? Math.max(nowMillis, last.createdMillis() + 1) : nowMillis;
+        HistorySegment next = HistorySegment.create(dir.resolve(segmentName(created)), created, segmentRecords);
+        segments.add(next);
+        active = next;
+        return next;
+    }
+
+    private byte[] encode(String name) {
+        byte[] encoded = encodedNames.get(name);
+        if (encoded == null) {
+            encoded = HistorySegment.encodeName(name);
+            if (encodedNames.size() < MAX_CACHED_NAMES) {
+                encodedNames.put(name, encoded);
+            }
+        }
+        return encoded;
+    }
+
+    private void openExistingSegments() throws IOException {
+        List<Path> files = new ArrayList<>();
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(dir, SEGMENT_PREFIX + "*" + SEGMENT_SUFFIX)) {
+            stream.forEach(files::add);
+        }
+        files.sort(null);
+        for (Path file : files) {
+            String name = file.getFileName().toString();
+            long created = Long.parseLong(name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length()));
+            try {
+                segments.add(HistorySegment.open(file, created));
+            } catch (IOException e) {
+                logger.warn("Skipping unreadable job history segment {}", file, e);
+            }
+        }
+    }
+
+    private static String segmentName(long createdMillis) {
+        // Zero-padded so lexical order is creation order
+        return String.format("%s%020d%s", SEGMENT_PREFIX, createdMillis, SEGMENT_SUFFIX);
+    }
+}
@@ -0,0 +1,15 @@
+package com.example.insightpulse.inventory;
+
+import java.util.List;
+
+/**
+ * Changes read from one partition.
+ *
+ * @param watermark position after the last change read; pass it back to continue from there
+ * @param pending   changes still unread after this batch, i.e. the partition's lag; sources may
+ *                  estimate it rather than count it
+ * @param reset     the source could not continue from the given watermark (e.g. its log was
+ *                  truncated) and started over, so {@code changes} replace the partition's items
+ */
+public record ChangeBatch(List<InventoryChange> changes, long watermark, long pending, boolean reset) {
+}
@@ -0,0 +1,168 @@
+package com.example.insightpulse.inventory;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Change logs as files in a local directory: each {@code <partition>.csv} is one partition, appended
+ * to with {@code sku,quantity} lines (empty quantity = removed). The watermark is the number of lines
+ * consumed.
+ * <p>
+ * The byte offset that goes with each partition's last watermark is remembered, so a delta read
+ * seeks straight to the new lines instead of rescanning the file. Only complete lines are read; a
+ * line still being written is picked up next time. Lines that do not parse are skipped. A file that
+ * got shorter than the remembered offset has been rewritten and is read again from the start.
+ * <p>
+ * When a read stops at the limit, the lag is estimated from the bytes left after the offset at the
+ * average line length read so far, so a long backlog is not scanned on every pass just to count it.
+ */
+public class FileInventorySource implements InventorySource {
+
+    private static final String SUFFIX = ".csv";
+
+    private final Path directory;
+    private final Map<String, Cursor> cursors = new ConcurrentHashMap<>();
+
+    public FileInventorySource(Path directory) {
+        this.directory = directory;
+    }
+
+    @Override
+    public List<String> partitions() throws IOException {
+        List<String> partitions = new ArrayList<>();
+        if (!Files.isDirectory(directory)) {
+            return partitions;
+        }
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, "*" + SUFFIX)) {
+            for (Path file : files) {
+                String name = file.getFileName().toString();
+                partitions.add(name.substring(0, name.length() - SUFFIX.length()));
+            }
+        }
+        partitions.sort(null);
+        return partitions;
+    }
+
+    @Override
+    public ChangeBatch changesSince(String partition, long watermark, int limit) throws IOException {
+        Path file = directory.resolve(partition + SUFFIX);
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            Cursor cursor = cursors.get(partition);
+            boolean reset = false;
+            if (cursor != null && cursor.offset() > size) {
+                // Shorter than what was already read: the log was rewritten, whatever its line count now
+                cursor = new Cursor(0, 0);
+                reset = watermark > 0;
+            } else if (cursor == null || cursor.lines() != watermark) {
+                cursor = seek(channel, watermark);
+                if (cursor == null) {
+                    // Fewer lines than the watermark: the log was rewritten
+                    cursor = new Cursor(0, 0);
+                    reset = watermark > 0;
+                }
+            }
+            channel.position(cursor.offset());
+            InputStream in = new BufferedInputStream(Channels.newInputStream(channel), 64 * 1024);
+            List<InventoryChange> changes = new ArrayList<>();
+            long lines = cursor.lines();
+            long offset = cursor.offset();
+            ByteArrayOutputStream line = new ByteArrayOutputStream(64);
+            int read = 0;
+            int b;
+            while (read < limit && (b = in.read()) != -1) {
+                offset++;
+                if (b != '\n') {
+                    line.write(b);
+                    continue;
+                }
+                InventoryChange change = parse(line.toString(StandardCharsets.UTF_8));
+                line.reset();
+                lines++;
+                read++;
+                if (change != null) {
+                    changes.add(change);
+                }
+            }
+            // Bytes of an unfinished line are not consumed
+            offset -= line.size();
+            Cursor next = new Cursor(lines, offset);
+            cursors.put(partition, next);
+            return new ChangeBatch(changes, lines, read < limit ? 0 : estimateLines(channel.size() - offset, next), reset);
+        } catch (NoSuchFileException e) {
+            cursors.remove(partition);
+            throw e;
+        }
+    }
+
+    /**
+     * Offset after the first {@code lines} lines, or {@code null} if the file has fewer.
+     */
+    private static Cursor seek(FileChannel channel, long lines) throws IOException {
+        if (lines == 0) {
+            return new Cursor(0, 0);
+        }
+        channel.position(0);
+        InputStream in = new BufferedInputStream(Channels.newInputStream(channel), 64 * 1024);
+        long seen = 0;
+        long offset = 0;
+        int b;
+        while ((b = in.read()) != -1) {
+            offset++;
+            if (b == '\n' && ++seen == lines) {
+                return new Cursor(lines, offset);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Lines in {@code bytes} at the average line length up to {@code cursor}.
+     */
+    private static long estimateLines(long bytes, Cursor cursor) {
+        if (bytes <= 0) {
+            return 0;
+        }
+        if (cursor.lines() == 0) {
+            return 1;
+        }
+        return (long) Math.ceil(bytes * ((double) cursor.lines() / cursor.offset()));
+    }
+
+    private static InventoryChange parse(String line) {
+        int comma = line.indexOf(',');
+        if (comma <= 0) {
+            return null;
+        }
+        String sku = line.substring(0, comma).trim();
+        String quantity = line.substring(comma + 1).trim();
+        if (sku.isEmpty()) {
+            return null;
+        }
+        if (quantity.isEmpty()) {
+            return new InventoryChange(sku, null);
+        }
+        try {
+            return new InventoryChange(sku, Integer.parseInt(quantity));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private record Cursor(long lines, long offset) {
+    }
+}
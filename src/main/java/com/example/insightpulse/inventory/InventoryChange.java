@@ -0,0 +1,7 @@
+package com.example.insightpulse.inventory;
+
+/**
+ * New stock level of one item; a {@code null} quantity removes the item from the catalog.
+ */
+public record InventoryChange(String sku, Integer quantity) {
+}
@@ -0,0 +1,18 @@
+package com.example.insightpulse.inventory;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Where the catalog's changes come from: a set of partitions, each an ordered change log addressed
+ * by a monotonically increasing watermark ({@code 0} = from the beginning).
+ */
+public interface InventorySource {
+
+    List<String> partitions() throws IOException;
+
+    /**
+     * At most {@code limit} changes of {@code partition} after {@code watermark}.
+     */
+    ChangeBatch changesSince(String partition, long watermark, int limit) throws IOException;
+}
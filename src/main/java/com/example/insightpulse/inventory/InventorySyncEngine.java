@@ -0,0 +1,257 @@
+package com.example.insightpulse.inventory;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+
+/**
+ * Incremental inventory sync: each pass reads only the changes after every partition's watermark
+ * and applies them to the in-memory catalog, with the partitions processed in parallel on virtual
+ * threads (at most {@code parallelism} at once).
+ * <p>
+ * A partition that is still being synced by an overlapping pass is skipped rather than waited for.
+ * A partition that fails keeps its watermark and is retried from there on the next pass.
+ * <p>
+ * Metrics per partition: {@code inventory_sync_partition_lag_changes}, {@code inventory_sync_partition_items_per_second}
+ * (throughput of its last pass), {@code inventory_sync_partition_last_success_age_seconds},
+ * {@code inventory_sync_items_total} and {@code inventory_sync_failures_total}. {@code inventory_sync_availability}
+ * is 1 while every partition is fresh: synced within {@code max-staleness} and at most {@code max-lag} behind.
+ * With no partitions at all (a missing or empty directory) nothing is being synced, and it stays 0.
+ */
+@Component
+public class InventorySyncEngine {
+
+    private static final Logger logger = LoggerFactory.getLogger(InventorySyncEngine.class);
+
+    private final InventorySource source;
+    private final InventorySyncProperties properties;
+    private final MeterRegistry registry;
+    private final LongSupplier clock;
+    private final Semaphore parallelism;
+
+    private final Map<String, PartitionState> partitions = new ConcurrentHashMap<>();
+    // Logged once per stretch without partitions, not on every pass
+    private volatile boolean reportedNoPartitions;
+
+    @Autowired
+    public InventorySyncEngine(InventorySyncProperties properties, MeterRegistry registry) {
+        this(new FileInventorySource(Path.of(properties.getDirectory())), properties, registry, System::currentTimeMillis);
+    }
+
+    InventorySyncEngine(InventorySource source, InventorySyncProperties properties, MeterRegistry registry,
+                        LongSupplier clock) {
+        this.source = source;
+        this.properties = properties;
+        this.registry = registry;
+        this.clock = clock;
+        this.parallelism = new Semaphore(Math.max(1, properties.getParallelism()));
+
+        // 1 = every partition fresh, 0 = at least one stale or lagging
+        Gauge.builder("inventory_sync_availability", this, e -> e.available() ? 1 : 0)
+             .description("Inventory sync availability: 1 = up, 0 = down")
+             .register(registry);
+    }
+
+    /**
+     * Runs one pass over all partitions.
+     *
+     * @throws IOException if the partitions cannot be listed
+     */
+    public SyncResult sync() throws IOException, InterruptedException {
+        List<String> names = source.partitions();
+        forgetRemoved(names);
+        if (names.isEmpty() != reportedNoPartitions) {
+            reportedNoPartitions = names.isEmpty();
+            if (reportedNoPartitions) {
+                logger.warn("No inventory partitions to sync in {}; reporting inventory sync as unavailable",
+                            properties.getDirectory());
+            }
+        }
+        List<Future<Long>> passes = new ArrayList<>(names.size());
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (String name : names) {
+                PartitionState partition = partitions.computeIfAbsent(name, PartitionState::new);
+                passes.add(executor.submit(() -> syncBounded(partition)));
+            }
+        }
+        long changes = 0;
+        int failed = 0;
+        for (Future<Long> pass : passes) {
+            try {
+                long applied = pass.get();
+                if (applied < 0) {
+                    failed++;
+                } else {
+                    changes += applied;
+                }
+            } catch (ExecutionException e) {
+                failed++;
+            }
+        }
+        return new SyncResult(names.size(), failed, changes, available());
+    }
+
+    /**
+     * Whether there is at least one partition and every partition is fresh.
+     */
+    public boolean available() {
+        long now = clock.getAsLong();
+        long maxStaleness = properties.getMaxStaleness().toMillis();
+        if (partitions.isEmpty()) {
+            return false;
+        }
+        for (PartitionState partition : partitions.values()) {
+            if (partition.lastSuccessMillis < 0 || now - partition.lastSuccessMillis > maxStaleness
+                    || partition.lag > properties.getMaxLag()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Current quantity of an item in a partition, {@code null} if the catalog does not have it.
+     */
+    public Integer quantity(String partition, String sku) {
+        PartitionState state = partitions.get(partition);
+        return state != null ? state.items.get(sku) : null;
+    }
+
+    public long watermark(String partition) {
+        PartitionState state = partitions.get(partition);
+        return state != null ? state.watermark : 0;
+    }
+
+    private long syncBounded(PartitionState partition) throws InterruptedException {
+        parallelism.acquire();
+        try {
+            return partition.sync();
+        } finally {
+            parallelism.release();
+        }
+    }
+
+    private void forgetRemoved(List<String> names) {
+        Set<String> current = new HashSet<>(names);
+        for (PartitionState partition : partitions.values()) {
+            if (!current.contains(partition.name)) {
+                partitions.remove(partition.name);
+                partition.meters.forEach(registry::remove);
+                logger.info("Inventory partition '{}' is gone from the source", partition.name);
+            }
+        }
+    }
+
+    /**
+     * @param changes changes applied in this pass
+     */
+    public record SyncResult(int partitions, int failedPartitions, long changes, boolean available) {
+    }
+
+    private final class PartitionState {
+
+        final String name;
+        final Map<String, Integer> items = new ConcurrentHashMap<>();
+        final ReentrantLock lock = new ReentrantLock();
+        final List<Meter> meters = new ArrayList<>();
+        final Counter applied;
+        final Counter failures;
+
+        // Written under the lock, read by gauges
+        volatile long watermark;
+        volatile long lag;
+        volatile double itemsPerSecond;
+        volatile long lastSuccessMillis = -1;
+
+        PartitionState(String name) {
+            this.name = name;
+            this.applied = Counter.builder("inventory_sync_items_total")
+                                  .description("Inventory changes applied")
+                                  .tag("partition", name)
+                                  .register(registry);
+            this.failures = Counter.builder("inventory_sync_failures_total")
+                                   .description("Failed partition sync passes")
+                                   .tag("partition", name)
+                                   .register(registry);
+            meters.add(applied);
+            meters.add(failures);
+            meters.add(Gauge.builder("inventory_sync_partition_lag_changes", this, p -> p.lag)
+                            .description("Changes in the source not yet applied")
+                            .tag("partition", name)
+                            .register(registry));
+            meters.add(Gauge.builder("inventory_sync_partition_items_per_second", this, p -> p.itemsPerSecond)
+                            .description("Changes applied per second in the partition's last pass")
+                            .tag("partition", name)
+                            .register(registry));
+            meters.add(Gauge.builder("inventory_sync_partition_last_success_age_seconds", this, PartitionState::age)
+                            .description("Seconds since the partition last synced successfully")
+                            .tag("partition", name)
+                            .register(registry));
+        }
+
+        /**
+         * @return changes applied, 0 if another pass holds the partition, -1 on failure
+         */
+        long sync() {
+            if (!lock.tryLock()) {
+                return 0;
+            }
+            try {
+                long start = System.nanoTime();
+                ChangeBatch batch = source.changesSince(name, watermark, properties.getMaxChangesPerPass());
+                if (batch.reset()) {
+                    logger.warn("Inventory partition '{}' was rewritten; reloading it", name);
+                    items.clear();
+                }
+                for (InventoryChange change : batch.changes()) {
+                    if (change.quantity() == null) {
+                        items.remove(change.sku());
+                    } else {
+                        items.put(change.sku(), change.quantity());
+                    }
+                }
+                int count = batch.changes().size();
+                long elapsed = System.nanoTime() - start;
+                applied.increment(count);
+                itemsPerSecond = elapsed > 0 ? count * (double) TimeUnit.SECONDS.toNanos(1) / elapsed : 0;
+                watermark = batch.watermark();
+                lag = batch.pending();
+                lastSuccessMillis = clock.getAsLong();
+                return count;
+            } catch (IOException | RuntimeException e) {
+                failures.increment();
+                logger.warn("Inventory partition '{}' failed to sync from watermark {}: {}", name, watermark, e.toString());
+                return -1;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private double age() {
+            long last = lastSuccessMillis;
+            return last < 0 ? Double.NaN : (clock.getAsLong() - last) / 1000.0;
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package com.example.insightpulse.inventory;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Inventory sync settings, bound from {@code insightpulse.inventory.sync.*}.
+ */
+@ConfigurationProperties(prefix = "insightpulse.inventory.sync")
+public class InventorySyncProperties {
+
+    // Directory of <partition>.csv change logs read by FileInventorySource
+    private String directory = "data/inventory";
+
+    // Partitions synced at once, each on its own virtual thread
+    private int parallelism = 8;
+
+    // Changes applied per partition per pass; the rest shows up as lag and is read on the next pass
+    private int maxChangesPerPass = 100_000;
+
+    // Inventory is reported unavailable when a partition has not synced for this long...
+    private Duration maxStaleness = Duration.ofMinutes(2);
+
+    // ...or is this many changes behind
+    private long maxLag = 100_000;
+
+    public String getDirectory() {
+        return directory;
+    }
+
+    public void setDirectory(String directory) {
+        this.directory = directory;
+    }
+
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    public void setParallelism(int parallelism) {
+        this.parallelism = parallelism;
+    }
+
+    public int getMaxChangesPerPass() {
+        return maxChangesPerPass;
+    }
+
+    public void setMaxChangesPerPass(int maxChangesPerPass) {
+        this.maxChangesPerPass = maxChangesPerPass;
+    }
+
+    public Duration getMaxStaleness() {
+        return maxStaleness;
+    }
+
+    public void setMaxStaleness(Duration maxStaleness) {
+        this.maxStaleness = maxStaleness;
+    }
+
+    public long getMaxLag() {
+        return maxLag;
+    }
+
+    public void setMaxLag(long maxLag) {
+        this.maxLag = maxLag;
+    }
+}
@@ -0,0 +1,66 @@
+package com.example.insightpulse.jfr;
+
+import org.springframework.boot.actuate.autoconfigure.endpoint.condition.ConditionalOnAvailableEndpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.web.WebEndpointResponse;
+import org.springframework.boot.actuate.endpoint.web.annotation.WebEndpoint;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Component;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * {@code GET /actuator/jfr}: the continuous flight recording, for opening in JDK Mission Control.
+ * Like {@code heapdump} it is only served once {@code jfr} is added to
+ * {@code management.endpoints.web.exposure.include}.
+ */
+@Component
+@WebEndpoint(id = "jfr")
+@ConditionalOnProperty(prefix = "insightpulse.jfr", name = "enabled", matchIfMissing = true)
+@ConditionalOnAvailableEndpoint(endpoint = JfrEndpoint.class)
+public class JfrEndpoint {
+
+    private final JfrProfiler profiler;
+
+    public JfrEndpoint(JfrProfiler profiler) {
+        this.profiler = profiler;
+    }
+
+    @ReadOperation(produces = "application/octet-stream")
+    public WebEndpointResponse<Resource> dump() throws IOException {
+        return new WebEndpointResponse<>(new DumpResource(profiler.dump()), WebEndpointResponse.STATUS_OK);
+    }
+
+    /**
+     * The dump file, deleted once it has been read.
+     */
+    private static final class DumpResource extends FileSystemResource {
+
+        private final Path file;
+
+        DumpResource(Path file) {
+            super(file);
+            this.file = file;
+        }
+
+        @Override
+        public InputStream getInputStream() throws IOException {
+            return new FilterInputStream(super.getInputStream()) {
+                @Override
+                public void close() throws IOException {
+                    try {
+                        super.close();
+                    } finally {
+                        Files.deleteIfExists(file);
+                    }
+                }
+            };
+        }
+    }
+}
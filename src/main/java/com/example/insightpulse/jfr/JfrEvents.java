@@ -0,0 +1,21 @@
+package com.example.insightpulse.jfr;
+
+/**
+ * Whether a flight recording is running, so instrumentation can skip creating events entirely
+ * otherwise and the hot paths stay allocation-free.
+ */
+public final class JfrEvents {
+
+    private static volatile boolean recording;
+
+    private JfrEvents() {
+    }
+
+    public static boolean isRecording() {
+        return recording;
+    }
+
+    static void setRecording(boolean recording) {
+        JfrEvents.recording = recording;
+    }
+}
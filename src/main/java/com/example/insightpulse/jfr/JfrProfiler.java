@@ -0,0 +1,167 @@
+package com.example.insightpulse.jfr;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.Configuration;
+import jdk.jfr.FlightRecorder;
+import jdk.jfr.FlightRecorderListener;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedThread;
+import jdk.jfr.consumer.RecordingStream;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Continuous in-process flight recording that explains latency spikes the histograms only show.
+ * <p>
+ * Job and request events from {@link JobExecutionEvent} / {@link RequestHandledEvent} are matched
+ * against GC pauses and monitor waits as they stream in, and the time lost is published per job and
+ * per route. The recording keeps {@code insightpulse.jfr.max-age} of history for {@link #dump()}, without
+ * the events that would put the process environment, system properties or JVM arguments into a dump.
+ */
+@Component
+@ConditionalOnProperty(prefix = "insightpulse.jfr", name = "enabled", matchIfMissing = true)
+public class JfrProfiler {
+
+    // Job and request intervals arrive within a flush or two of their pauses; anything older is dead weight
+    private static final Duration CORRELATION_HORIZON = Duration.ofMinutes(1);
+
+    // Can carry credentials (DB URLs, exporter headers, -D secrets), so they never reach a dump
+    static final List<String> SENSITIVE_EVENTS = List.of("jdk.InitialEnvironmentVariable", "jdk.InitialSystemProperty",
+                                                         "jdk.InitialSecurityProperty", "jdk.JVMInformation",
+                                                         "jdk.SystemProcess");
+
+    private final MeterRegistry registry;
+    private final JfrProperties properties;
+    private final PauseCorrelator correlator = new PauseCorrelator();
+
+    // Only touched from the recording stream's thread
+    private final Map<LostTimeKey, LostTime> lostTime = new HashMap<>();
+
+    private final FlightRecorderListener recordingListener = new FlightRecorderListener() {
+        @Override
+        public void recordingStateChanged(Recording recording) {
+            updateRecordingFlag();
+        }
+    };
+
+    private RecordingStream stream;
+
+    public JfrProfiler(MeterRegistry registry, JfrProperties properties) {
+        this.registry = registry;
+        this.properties = properties;
+    }
+
+    @PostConstruct
+    public void start() throws IOException, ParseException {
+        stream = new RecordingStream(Configuration.getConfiguration(properties.getConfiguration()));
+        stream.setMaxAge(properties.getMaxAge());
+        stream.setMaxSize(properties.getMaxSize().toBytes());
+        SENSITIVE_EVENTS.forEach(stream::disable);
+        stream.enable(JobExecutionEvent.class).withoutThreshold();
+        stream.enable(RequestHandledEvent.class).withoutThreshold();
+        stream.enable("jdk.GCPhasePause");
+        stream.enable("jdk.JavaMonitorEnter").withThreshold(properties.getLockThreshold()).withStackTrace();
+
+        stream.onEvent("jdk.GCPhasePause", event -> correlator.gcPause(nanos(event.getStartTime()), nanos(event.getEndTime())));
+        stream.onEvent("jdk.JavaMonitorEnter", event -> {
+            RecordedThread thread = event.getThread();
+            if (thread != null) {
+                correlator.monitorWait(thread.getJavaThreadId(), nanos(event.getStartTime()), nanos(event.getEndTime()));
+            }
+        });
+        stream.onEvent(JobExecutionEvent.NAME, event ->
+                attribute(event, new LostTimeKey("job", event.getString("className"), event.getString("method"))));
+        stream.onEvent(RequestHandledEvent.NAME, event ->
+                attribute(event, new LostTimeKey("http_request", event.getString("method"), event.getString("uri"))));
+        stream.onFlush(() -> correlator.prune(nanos(Instant.now().minus(CORRELATION_HORIZON))));
+
+        FlightRecorder.addListener(recordingListener);
+        stream.startAsync();
+        updateRecordingFlag();
+    }
+
+    @PreDestroy
+    public void stop() {
+        FlightRecorder.removeListener(recordingListener);
+        if (stream != null) {
+            stream.close();
+        }
+        updateRecordingFlag();
+    }
+
+    /**
+     * Writes the retained recording to a temporary {@code .jfr} file, which the caller deletes.
+     */
+    public Path dump() throws IOException {
+        Path file = Files.createTempFile("insightpulse-", ".jfr");
+        try {
+            stream.dump(file);
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(file);
+            throw e;
+        }
+        return file;
+    }
+
+    private void attribute(RecordedEvent event, LostTimeKey key) {
+        long start = nanos(event.getStartTime());
+        long end = nanos(event.getEndTime());
+        long gc = correlator.gcNanos(start, end);
+        long lock = event.getThread() == null ? 0 : correlator.lockNanos(event.getThread().getJavaThreadId(), start, end);
+        LostTime counters = lostTime.computeIfAbsent(key, this::register);
+        if (gc > 0) {
+            counters.gc.increment(gc / 1e9);
+        }
+        if (lock > 0) {
+            counters.lock.increment(lock / 1e9);
+        }
+    }
+
+    private LostTime register(LostTimeKey key) {
+        // Jobs are tagged by implementation class and method, requests like the metrics filter's
+        String[] tags = key.prefix.equals("job")
+                ? new String[] {"class", key.first, "method", key.second}
+                : new String[] {"method", key.first, "uri", key.second};
+        return new LostTime(
+                Counter.builder(key.prefix + "_gc_pause_seconds_total")
+                       .description("Time spent in GC pauses while executing, from JFR")
+                       .tags(tags)
+                       .register(registry),
+                Counter.builder(key.prefix + "_lock_wait_seconds_total")
+                       .description("Time spent blocked on monitors while executing, from JFR")
+                       .tags(tags)
+                       .register(registry));
+    }
+
+    private static void updateRecordingFlag() {
+        boolean running = FlightRecorder.isInitialized()
+                && FlightRecorder.getFlightRecorder().getRecordings().stream()
+                                 .anyMatch(recording -> recording.getState() == RecordingState.RUNNING);
+        JfrEvents.setRecording(running);
+    }
+
+    private static long nanos(Instant instant) {
+        return instant.getEpochSecond() * 1_000_000_000L + instant.getNano();
+    }
+
+    private record LostTimeKey(String prefix, String first, String second) {
+    }
+
+    private record LostTime(Counter gc, Counter lock) {
+    }
+}
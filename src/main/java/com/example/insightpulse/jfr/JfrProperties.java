@@ -0,0 +1,66 @@
+package com.example.insightpulse.jfr;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+
+/**
+ * In-process flight recording settings, bound from {@code insightpulse.jfr.*}.
+ */
+@ConfigurationProperties(prefix = "insightpulse.jfr")
+public class JfrProperties {
+
+    private boolean enabled = true;
+
+    // JDK settings the continuous recording starts from: "default" (~1% overhead) or "profile"
+    private String configuration = "default";
+
+    // Shortest monitor wait recorded as a jdk.JavaMonitorEnter event
+    private Duration lockThreshold = Duration.ofMillis(10);
+
+    // How much history the jfr actuator endpoint returns
+    private Duration maxAge = Duration.ofMinutes(5);
+
+    private DataSize maxSize = DataSize.ofMegabytes(64);
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public String getConfiguration() {
+        return configuration;
+    }
+
+    public void setConfiguration(String configuration) {
+        this.configuration = configuration;
+    }
+
+    public Duration getLockThreshold() {
+        return lockThreshold;
+    }
+
+    public void setLockThreshold(Duration lockThreshold) {
+        this.lockThreshold = lockThreshold;
+    }
+
+    public Duration getMaxAge() {
+        return maxAge;
+    }
+
+    public void setMaxAge(Duration maxAge) {
+        this.maxAge = maxAge;
+    }
+
+    public DataSize getMaxSize() {
+        return maxSize;
+    }
+
+    public void setMaxSize(DataSize maxSize) {
+        this.maxSize = maxSize;
+    }
+}
@@ -0,0 +1,53 @@
+package com.example.insightpulse.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * One job execution, spanning the same interval as {@code job_execution_seconds}.
+ */
+@Name(JobExecutionEvent.NAME)
+@Label("Job Execution")
+@Category({"InsightPulse", "Jobs"})
+@Description("Execution of a registered job")
+@StackTrace(false)
+public class JobExecutionEvent extends Event {
+
+    public static final String NAME = "com.example.insightpulse.JobExecution";
+
+    @Label("Class")
+    public String className;
+
+    @Label("Method")
+    public String method;
+
+    @Label("Outcome")
+    public String outcome;
+
+    @Label("Exception")
+    public String exception;
+
+    /**
+     * Starts an event for this execution, or returns {@code null} when nothing is recording.
+     */
+    public static JobExecutionEvent start(String className, String method) {
+        if (!JfrEvents.isRecording()) {
+            return null;
+        }
+        JobExecutionEvent event = new JobExecutionEvent();
+        event.className = className;
+        event.method = method;
+        event.begin();
+        return event;
+    }
+
+    public void commit(String outcome, String exception) {
+        this.outcome = outcome;
+        this.exception = exception;
+        commit();
+    }
+}
@@ -0,0 +1,86 @@
+package com.example.insightpulse.jfr;
+
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+
+/**
+ * Attributes GC pauses and monitor waits to the job or request intervals they fell into.
+ * <p>
+ * Relies on the stream delivering events ordered by end time: a pause or wait inside an interval
+ * always arrives before the event for the interval itself. GC pauses stop every thread, so any
+ * overlap counts; monitor waits only count against the thread that waited. Confined to the
+ * recording stream's thread.
+ */
+final class PauseCorrelator {
+
+    private final ArrayDeque<long[]> gcPauses = new ArrayDeque<>();
+    private final Map<Long, ArrayDeque<long[]>> monitorWaits = new HashMap<>();
+
+    void gcPause(long start, long end) {
+        gcPauses.addLast(new long[] {start, end});
+    }
+
+    void monitorWait(long threadId, long start, long end) {
+        monitorWaits.computeIfAbsent(threadId, id -> new ArrayDeque<>()).addLast(new long[] {start, end});
+    }
+
+    /**
+     * Nanoseconds of GC pause overlapping {@code [start, end]}.
+     */
+    long gcNanos(long start, long end) {
+        long lost = 0;
+        Iterator<long[]> it = gcPauses.descendingIterator();
+        while (it.hasNext()) {
+            long[] pause = it.next();
+            if (pause[1] < start) {
+                break;
+            }
+            lost += overlap(pause, start, end);
+        }
+        return lost;
+    }
+
+    /**
+     * Nanoseconds {@code threadId} spent blocked on monitors within {@code [start, end]}. Waits
+     * that ended by {@code end} are consumed, so they are not counted again by a later interval.
+     */
+    long lockNanos(long threadId, long start, long end) {
+        ArrayDeque<long[]> waits = monitorWaits.get(threadId);
+        if (waits == null) {
+            return 0;
+        }
+        long lost = 0;
+        while (!waits.isEmpty() && waits.peekFirst()[1] <= end) {
+            lost += overlap(waits.pollFirst(), start, end);
+        }
+        if (waits.isEmpty()) {
+            monitorWaits.remove(threadId);
+        }
+        return lost;
+    }
+
+    /**
+     * Forgets everything that ended before {@code horizon}; no interval still to arrive can reach back that far.
+     */
+    void prune(long horizon) {
+        while (!gcPauses.isEmpty() && gcPauses.peekFirst()[1] < horizon) {
+            gcPauses.pollFirst();
+        }
+        Iterator<ArrayDeque<long[]>> it = monitorWaits.values().iterator();
+        while (it.hasNext()) {
+            ArrayDeque<long[]> waits = it.next();
+            while (!waits.isEmpty() && waits.peekFirst()[1] < horizon) {
+                waits.pollFirst();
+            }
+            if (waits.isEmpty()) {
+                it.remove();
+            }
+        }
+    }
+
+    private static long overlap(long[] interval, long start, long end) {
+        return Math.max(0, Math.min(interval[1], end) - Math.max(interval[0], start));
+    }
+}
@@ -0,0 +1,56 @@
+package com.example.insightpulse.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * One HTTP request, from the metrics filter until the response completed.
+ */
+@Name(RequestHandledEvent.NAME)
+@Label("Request Handled")
+@Category({"InsightPulse", "HTTP"})
+@Description("HTTP request handled by the application")
+@StackTrace(false)
+public class RequestHandledEvent extends Event {
+
+    public static final String NAME = "com.example.insightpulse.RequestHandled";
+
+    @Label("Method")
+    public String method;
+
+    @Label("URI")
+    public String uri;
+
+    @Label("Status")
+    public int status;
+
+    @Label("Outcome")
+    public String outcome;
+
+    /**
+     * Starts an event for this request, or returns {@code null} when nothing is recording.
+     */
+    public static RequestHandledEvent start() {
+        if (!JfrEvents.isRecording()) {
+            return null;
+        }
+        RequestHandledEvent event = new RequestHandledEvent();
+        event.begin();
+        return event;
+    }
+
+    /**
+     * @param uri the resolved route template, as tagged on {@code http_server_requests_seconds_count}
+     */
+    public void commit(String method, String uri, int status, String outcome) {
+        this.method = method;
+        this.uri = uri;
+        this.status = status;
+        this.outcome = outcome;
+        commit();
+    }
+}
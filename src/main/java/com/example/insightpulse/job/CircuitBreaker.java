@@ -0,0 +1,160 @@
+package com.example.insightpulse.job;
+
+import com.example.insightpulse.job.JobResilienceProperties.CircuitBreakerSettings;
+import com.example.insightpulse.slo.SlidingWindowCounter;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Lock-free circuit breaker over a time-based sliding window of call outcomes.
+ * <p>
+ * CLOSED records outcomes and opens once the window holds {@code minimumCalls} with a failure rate at
+ * or above the threshold. OPEN rejects calls until {@code openDuration} has passed; the first caller
+ * after that moves it to HALF_OPEN with a fresh window, and admits {@code halfOpenCalls} trial calls:
+ * all succeeding closes it, any failing opens it again.
+ * <p>
+ * The state and the time it was entered share one {@code long}, so a transition is a single CAS and
+ * only the thread that wins it reports the transition.
+ */
+final class CircuitBreaker {
+
+    private static final int BUCKETS = 10;
+    private static final int STATE_SHIFT = 62;
+    private static final long SINCE_MASK = (1L << STATE_SHIFT) - 1;
+
+    enum State {
+        CLOSED, OPEN, HALF_OPEN;
+
+        private static final State[] VALUES = values();
+    }
+
+    @FunctionalInterface
+    interface TransitionListener {
+
+        void transitioned(State from, State to);
+    }
+
+    private final double failureRateThreshold;
+    private final int minimumCalls;
+    private final long windowMillis;
+    private final long openMillis;
+    private final int halfOpenCalls;
+    private final LongSupplier clock;
+    private final TransitionListener listener;
+
+    private final AtomicLong stateAndSince;
+    private final AtomicInteger halfOpenPermits = new AtomicInteger();
+    private final AtomicInteger halfOpenSuccesses = new AtomicInteger();
+    private volatile SlidingWindowCounter window;
+
+    CircuitBreaker(CircuitBreakerSettings settings, LongSupplier clock, TransitionListener listener) {
+        this.failureRateThreshold = settings.getFailureRateThreshold();
+        this.minimumCalls = Math.max(1, settings.getMinimumCalls());
+        this.windowMillis = Math.max(BUCKETS, settings.getWindow().toMillis());
+        this.openMillis = settings.getOpenDuration().toMillis();
+        this.halfOpenCalls = Math.max(1, settings.getHalfOpenCalls());
+        this.clock = clock;
+        this.listener = listener;
+        this.window = newWindow();
+        this.stateAndSince = new AtomicLong(pack(State.CLOSED, clock.getAsLong()));
+    }
+
+    State state() {
+        return state(stateAndSince.get());
+    }
+
+    /**
+     * Whether a call may run now. A permitted call must report its outcome through
+     * {@link #onSuccess()} or {@link #onFailure()}.
+     */
+    boolean tryAcquire() {
+        long word = stateAndSince.get();
+        return switch (state(word)) {
+            case CLOSED -> true;
+            case OPEN -> clock.getAsLong() - since(word) >= openMillis
+                         // The caller that moves it to half-open takes the first trial call
+                         && transition(word, State.HALF_OPEN);
+            case HALF_OPEN -> halfOpenPermits.getAndDecrement() > 0;
+        };
+    }
+
+    void onSuccess() {
+        long word = stateAndSince.get();
+        switch (state(word)) {
+            case CLOSED -> window.record(true, clock.getAsLong());
+            case HALF_OPEN -> {
+                if (halfOpenSuccesses.incrementAndGet() >= halfOpenCalls) {
+                    transition(word, State.CLOSED);
+                }
+            }
+            case OPEN -> {
+                // Trial call that finished after another one reopened the breaker
+            }
+        }
+    }
+
+    void onFailure() {
+        long word = stateAndSince.get();
+        switch (state(word)) {
+            case CLOSED -> {
+                long now = clock.getAsLong();
+                SlidingWindowCounter current = window;
+                current.record(false, now);
+                SlidingWindowCounter.Totals totals = current.totals(windowMillis, now);
+                if (totals.total() >= minimumCalls && totals.bad() >= failureRateThreshold * totals.total()) {
+                    transition(word, State.OPEN);
+                }
+            }
+            case HALF_OPEN -> transition(word, State.OPEN);
+            case OPEN -> {
+            }
+        }
+    }
+
+    /**
+     * Milliseconds until an open breaker admits a trial call; 0 when it is not open.
+     */
+    long retryAfterMillis() {
+        long word = stateAndSince.get();
+        if (state(word) != State.OPEN) {
+            return 0;
+        }
+        return Math.max(0, openMillis - (clock.getAsLong() - since(word)));
+    }
+
+    private boolean transition(long word, State to) {
+        State from = state(word);
+        if (!stateAndSince.compareAndSet(word, pack(to, clock.getAsLong()))) {
+            return false;
+        }
+        if (to == State.HALF_OPEN) {
+            // Outcomes from before the breaker opened must not count against the next closed period. Only
+            // closed calls record, so the fresh window is in place well before the trial calls can close it.
+            window = newWindow();
+            halfOpenSuccesses.set(0);
+            halfOpenPermits.set(halfOpenCalls - 1);
+        } else if (from == State.HALF_OPEN) {
+            halfOpenPermits.set(0);
+        }
+        listener.transitioned(from, to);
+        return true;
+    }
+
+    private SlidingWindowCounter newWindow() {
+        return new SlidingWindowCounter(windowMillis / BUCKETS, BUCKETS);
+    }
+
+    private static long pack(State state, long sinceMillis) {
+        return (long) state.ordinal() << STATE_SHIFT | sinceMillis & SINCE_MASK;
+    }
+
+    private static State state(long word) {
+        return State.VALUES[(int) (word >>> STATE_SHIFT)];
+    }
+
+    private static long since(long word) {
+        return word & SINCE_MASK;
+    }
+}
@@ -0,0 +1,26 @@
+package com.example.insightpulse.job;
+
+import java.time.Duration;
+
+/**
+ * Thrown without running the job while its circuit breaker is open.
+ * <p>
+ * Stackless: an open breaker turns every call into one of these, and they are reported by type, so
+ * filling in a stack trace would only add cost to the path meant to be cheap.
+ */
+public class CircuitBreakerOpenException extends RuntimeException {
+
+    private final Duration retryAfter;
+
+    public CircuitBreakerOpenException(String jobId, Duration retryAfter) {
+        super("Circuit breaker for job '" + jobId + "' is open", null, false, false);
+        this.retryAfter = retryAfter;
+    }
+
+    /**
+     * Time until the breaker lets a trial call through.
+     */
+    public Duration getRetryAfter() {
+        return retryAfter;
+    }
+}
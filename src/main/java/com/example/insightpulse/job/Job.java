@@ -0,0 +1,45 @@
+package com.example.insightpulse.job;
+
+/**
+ * A job the {@link JobRegistry} can run by id. Implementations are plain beans holding only the
+ * business logic: timers, failure counters, concurrency limits, SLO tracking, history events and
+ * JFR events are applied once by the registry, the same way for every job.
+ */
+public interface Job {
+
+    /**
+     * Stable id used in {@code /jobs/{id}}, in the {@code job_id} meter tag and in the job history,
+     * e.g. {@code process-payment}.
+     */
+    String id();
+
+    /**
+     * Runs the job once. The returned text is the response body and the history detail; a thrown
+     * exception counts as a failure.
+     */
+    String execute();
+
+    /**
+     * Target success ratio, e.g. {@code 0.99}; {@code insightpulse.slo.jobs.<id>} overrides it.
+     * {@code NaN} (the default) leaves the job without an SLO.
+     */
+    default double sloObjective() {
+        return Double.NaN;
+    }
+
+    /**
+     * Most executions allowed at once; further calls fail fast with {@link JobConcurrencyLimitException}.
+     * {@code 0} (the default) means unlimited.
+     */
+    default int maxConcurrency() {
+        return 0;
+    }
+
+    /**
+     * Whether the job sleeps or waits on I/O, so the controller hands it to the
+     * {@code BlockingJobExecutor} instead of running it on the request thread.
+     */
+    default boolean blocking() {
+        return false;
+    }
+}
@@ -0,0 +1,12 @@
+package com.example.insightpulse.job;
+
+/**
+ * Thrown when a job already runs {@link Job#maxConcurrency()} executions. Stackless, like
+ * {@link CircuitBreakerOpenException}: it is the fast-fail answer under overload.
+ */
+public class JobConcurrencyLimitException extends RuntimeException {
+
+    public JobConcurrencyLimitException(String jobId, int limit) {
+        super("Job '" + jobId + "' is at its concurrency limit of " + limit, null, false, false);
+    }
+}
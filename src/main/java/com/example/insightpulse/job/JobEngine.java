@@ -0,0 +1,90 @@
+package com.example.insightpulse.job;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Runs jobs off the request thread on per-job-type lanes, each with a bounded queue,
+ * a fixed worker pool and a {@link RejectionPolicy} for when both are full.
+ * <p>
+ * A burst of slow jobs therefore queues up (or is shed) inside its own lane instead of
+ * occupying web threads or starving other job types.
+ */
+@Component
+public class JobEngine {
+
+    private final MeterRegistry meterRegistry;
+    private final JobEngineProperties properties;
+
+    private final Map<String, JobLane> lanes = new ConcurrentHashMap<>();
+    private final Map<String, JobRun> runs = new ConcurrentHashMap<>();
+    private final Queue<String> finishedRuns = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger finishedCount = new AtomicInteger();
+
+    public JobEngine(MeterRegistry meterRegistry, JobEngineProperties properties) {
+        this.meterRegistry = meterRegistry;
+        this.properties = properties;
+    }
+
+    /**
+     * Queues {@code job} on the lane for {@code jobType}.
+     *
+     * @return the run, whose status can be polled with {@link #find(String)}
+     * @throws JobRejectedException if the lane is saturated and rejects new work
+     */
+    public JobRun submit(String jobType, Runnable job) {
+        JobRun run = new JobRun(UUID.randomUUID().toString(), jobType);
+        runs.put(run.getId(), run);
+        lane(jobType).submit(run, job);
+        return run;
+    }
+
+    public Optional<JobRun> find(String runId) {
+        return Optional.ofNullable(runs.get(runId));
+    }
+
+    /**
+     * Jobs currently waiting in the lane for {@code jobType}.
+     */
+    public int queueDepth(String jobType) {
+        JobLane lane = lanes.get(jobType);
+        return lane != null ? lane.queueDepth() : 0;
+    }
+
+    /**
+     * Marks a run as finished and forgets the oldest finished runs beyond the retention limit.
+     */
+    void retire(JobRun run) {
+        finishedRuns.add(run.getId());
+        if (finishedCount.incrementAndGet() > properties.getRetainedRuns()) {
+            String oldest = finishedRuns.poll();
+            if (oldest != null) {
+                runs.remove(oldest);
+                finishedCount.decrementAndGet();
+            }
+        }
+    }
+
+    private JobLane lane(String jobType) {
+        JobLane lane = lanes.get(jobType);
+        if (lane == null) {
+            lane = lanes.computeIfAbsent(jobType,
+                    type -> new JobLane(type, properties.settingsFor(type), meterRegistry, this));
+        }
+        return lane;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        lanes.values().forEach(JobLane::shutdown);
+    }
+}
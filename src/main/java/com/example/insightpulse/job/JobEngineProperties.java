@@ -0,0 +1,96 @@
+package com.example.insightpulse.job;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Lane sizing for the {@link JobEngine}, bound from {@code insightpulse.jobs.engine.*}.
+ * <p>
+ * Every job type gets the {@code defaults}; entries under {@code types.<job-type>} override individual settings.
+ */
+@ConfigurationProperties(prefix = "insightpulse.jobs.engine")
+public class JobEngineProperties {
+
+    private LaneSettings defaults = new LaneSettings(4, 100, RejectionPolicy.REJECT);
+    private Map<String, LaneSettings> types = new HashMap<>();
+
+    // Finished runs kept for status queries before the oldest are forgotten
+    private int retainedRuns = 10_000;
+
+    public LaneSettings settingsFor(String jobType) {
+        LaneSettings override = types.get(jobType);
+        if (override == null) {
+            return defaults;
+        }
+        return new LaneSettings(
+                override.getWorkers() != null ? override.getWorkers() : defaults.getWorkers(),
+                override.getQueueCapacity() != null ? override.getQueueCapacity() : defaults.getQueueCapacity(),
+                override.getRejectionPolicy() != null ? override.getRejectionPolicy() : defaults.getRejectionPolicy());
+    }
+
+    public LaneSettings getDefaults() {
+        return defaults;
+    }
+
+    public void setDefaults(LaneSettings defaults) {
+        this.defaults = defaults;
+    }
+
+    public Map<String, LaneSettings> getTypes() {
+        return types;
+    }
+
+    public void setTypes(Map<String, LaneSettings> types) {
+        this.types = types;
+    }
+
+    public int getRetainedRuns() {
+        return retainedRuns;
+    }
+
+    public void setRetainedRuns(int retainedRuns) {
+        this.retainedRuns = retainedRuns;
+    }
+
+    public static class LaneSettings {
+
+        private Integer workers;
+        private Integer queueCapacity;
+        private RejectionPolicy rejectionPolicy;
+
+        public LaneSettings() {
+        }
+
+        public LaneSettings(Integer workers, Integer queueCapacity, RejectionPolicy rejectionPolicy) {
+            this.workers = workers;
+            this.queueCapacity = queueCapacity;
+            this.rejectionPolicy = rejectionPolicy;
+        }
+
+        public Integer getWorkers() {
+            return workers;
+        }
+
+        public void setWorkers(Integer workers) {
+            this.workers = workers;
+        }
+
+        public Integer getQueueCapacity() {
+            return queueCapacity;
+        }
+
+        public void setQueueCapacity(Integer queueCapacity) {
+            this.queueCapacity = queueCapacity;
+        }
+
+        public RejectionPolicy getRejectionPolicy() {
+            return rejectionPolicy;
+        }
+
+        public void setRejectionPolicy(RejectionPolicy rejectionPolicy) {
+            this.rejectionPolicy = rejectionPolicy;
+        }
+    }
+}
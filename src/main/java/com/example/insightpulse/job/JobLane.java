@@ -0,0 +1,133 @@
+package com.example.insightpulse.job;
+
+import com.example.insightpulse.job.JobEngineProperties.LaneSettings;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Bounded queue and worker pool for a single job type, with its queue metrics.
+ */
+final class JobLane {
+
+    private final JobEngine engine;
+    private final RejectionPolicy rejectionPolicy;
+    private final ThreadPoolExecutor executor;
+
+    private final Timer queueWait;
+    private final Timer successExecution;
+    private final Timer failureExecution;
+    private final Counter rejections;
+
+    JobLane(String jobType, LaneSettings settings, MeterRegistry registry, JobEngine engine) {
+        this.engine = engine;
+        this.rejectionPolicy = settings.getRejectionPolicy();
+        this.executor = new ThreadPoolExecutor(settings.getWorkers(), settings.getWorkers(),
+                                               0L, TimeUnit.MILLISECONDS,
+                                               new ArrayBlockingQueue<>(settings.getQueueCapacity()),
+                                               Thread.ofPlatform().name("job-" + jobType + "-", 0).daemon(true).factory(),
+                                               this::reject);
+
+        Gauge.builder("job_engine_queue_depth", executor, e -> e.getQueue().size())
+             .description("Jobs waiting for a worker")
+             .tag("job_id", jobType)
+             .register(registry);
+        Gauge.builder("job_engine_active_workers", executor, ThreadPoolExecutor::getActiveCount)
+             .description("Workers currently executing a job")
+             .tag("job_id", jobType)
+             .register(registry);
+        this.queueWait = Timer.builder("job_engine_queue_wait_seconds")
+                              .description("Time a job spent queued before a worker picked it up")
+                              .tag("job_id", jobType)
+                              .publishPercentileHistogram()
+                              .register(registry);
+        this.successExecution = executionTimer(registry, jobType, "SUCCESS");
+        this.failureExecution = executionTimer(registry, jobType, "FAILURE");
+        this.rejections = Counter.builder("job_engine_rejections_total")
+                                 .description("Submissions that found the lane saturated")
+                                 .tags("job_id", jobType, "policy", rejectionPolicy.name())
+                                 .register(registry);
+    }
+
+    void submit(JobRun run, Runnable job) {
+        executor.execute(new JobTask(run, job));
+    }
+
+    int queueDepth() {
+        return executor.getQueue().size();
+    }
+
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private void reject(Runnable task, ThreadPoolExecutor executor) {
+        JobTask rejected = (JobTask) task;
+        rejections.increment();
+
+        if (executor.isShutdown() || rejectionPolicy == RejectionPolicy.REJECT) {
+            rejected.discard(JobStatus.REJECTED);
+            throw new JobRejectedException(rejected.run);
+        }
+        if (rejectionPolicy == RejectionPolicy.CALLER_RUNS) {
+            rejected.run();
+            return;
+        }
+        // DROP_OLDEST: make room by discarding the head of the queue, then retry
+        if (executor.getQueue().poll() instanceof JobTask oldest) {
+            oldest.discard(JobStatus.DROPPED);
+        }
+        executor.execute(rejected);
+    }
+
+    private static Timer executionTimer(MeterRegistry registry, String jobType, String outcome) {
+        return Timer.builder("job_engine_execution_seconds")
+                    .description("Time a worker spent executing a job")
+                    .tags("job_id", jobType, "outcome", outcome)
+                    .publishPercentileHistogram()
+                    .register(registry);
+    }
+
+    private final class JobTask implements Runnable {
+
+        private final JobRun run;
+        private final Runnable job;
+
+        JobTask(JobRun run, Runnable job) {
+            this.run = run;
+            this.job = job;
+        }
+
+        @Override
+        public void run() {
+            long start = System.nanoTime();
+            queueWait.record(start - run.submittedNanos(), TimeUnit.NANOSECONDS);
+            run.started();
+
+            Throwable failure = null;
+            try {
+                job.run();
+            } catch (RuntimeException e) {
+                failure = e;
+            } catch (Error e) {
+                failure = e;
+                throw e;
+            } finally {
+                (failure == null ? successExecution : failureExecution)
+                        .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                run.finished(failure);
+                engine.retire(run);
+            }
+        }
+
+        void discard(JobStatus status) {
+            run.discarded(status);
+            engine.retire(run);
+        }
+    }
+}
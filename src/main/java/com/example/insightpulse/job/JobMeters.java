@@ -0,0 +1,139 @@
+package com.example.insightpulse.job;
+
+import com.example.insightpulse.metrics.SampledTimer;
+import com.example.insightpulse.metrics.TimingSampler;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Meter handles for one registered job: {@code job_execution_seconds{job_id,outcome,exception}} and
+ * {@code job_failures_total{job_id,exception}}. The duration {@code _count} doubles as the job's
+ * throughput, so there are no separate execution counters.
+ * <p>
+ * Read {@link #sampleRate()} and call {@link #start(double)} with it before the job, then
+ * {@link #success} or {@link #failure} with the start time it returned and the same rate.
+ */
+final class JobMeters {
+
+    /**
+     * Upper bound on distinct exception types cached per job; further types fall back to registry lookups.
+     */
+    static final int MAX_CACHED_EXCEPTION_TYPES = 16;
+
+    static final String DURATION_METRIC = "job_execution_seconds";
+    static final String SAMPLED_DURATION_METRIC = "job_execution_sampled_seconds";
+    static final String FAILURES_METRIC = "job_failures_total";
+
+    private final MeterRegistry registry;
+    private final TimingSampler sampler;
+    private final Tags tags;
+
+    private final DurationMeter successDuration;
+
+    private final Map<Class<?>, FailureMeters> failuresByType = new ConcurrentHashMap<>();
+
+    JobMeters(MeterRegistry registry, TimingSampler sampler, String jobId) {
+        this.registry = registry;
+        this.sampler = sampler;
+        this.tags = Tags.of("job_id", jobId);
+        this.successDuration = outcomeTimer("SUCCESS", "None");
+    }
+
+    /**
+     * Current timing sample rate; always 1 outside adaptive mode.
+     */
+    double sampleRate() {
+        return sampler.sampleRate();
+    }
+
+    /**
+     * In adaptive mode unsampled calls skip the clock; counters stay exact either way.
+     */
+    long start(double sampleRate) {
+        return sampler.start(sampleRate);
+    }
+
+    void success(long startTime, double sampleRate) {
+        successDuration.record(startTime, sampleRate);
+    }
+
+    void failure(Throwable exception, long startTime, double sampleRate) {
+        // Failure counter and duration with exception type
+        FailureMeters failure = failure(exception.getClass());
+        failure.failures.increment();
+        failure.duration.record(startTime, sampleRate);
+    }
+
+    /**
+     * Counts a call that failed before the job ran, without a duration sample.
+     */
+    void rejected(Throwable exception) {
+        failure(exception.getClass()).failures.increment();
+    }
+
+    /**
+     * Returns the failure meters for an exception type, building them lazily up to
+     * {@link #MAX_CACHED_EXCEPTION_TYPES} variants per job.
+     */
+    private FailureMeters failure(Class<?> exceptionType) {
+        FailureMeters meters = failuresByType.get(exceptionType);
+        if (meters != null) {
+            return meters;
+        }
+        meters = new FailureMeters(this, exceptionType.getSimpleName());
+        if (failuresByType.size() < MAX_CACHED_EXCEPTION_TYPES) {
+            FailureMeters existing = failuresByType.putIfAbsent(exceptionType, meters);
+            return existing != null ? existing : meters;
+        }
+        return meters;
+    }
+
+    private DurationMeter outcomeTimer(String outcome, String exception) {
+        Tags outcomeTags = tags.and("outcome", outcome, "exception", exception);
+        if (sampler.isAdaptive()) {
+            return SampledTimer.register(DURATION_METRIC, SAMPLED_DURATION_METRIC, "Execution duration by outcome",
+                                         outcomeTags, sampler, registry)::record;
+        }
+        Timer timer = Timer.builder(DURATION_METRIC)
+                           .description("Execution duration by outcome")
+                           .tags(outcomeTags)
+                           .publishPercentileHistogram()
+                           .register(registry);
+        return (startTime, sampleRate) -> timer.record(System.nanoTime() - startTime, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Failure counter and duration timer for one exception type.
+     */
+    private static final class FailureMeters {
+
+        final Counter failures;
+        final DurationMeter duration;
+
+        FailureMeters(JobMeters job, String exception) {
+            this.failures = Counter.builder(FAILURES_METRIC)
+                                   .description("Failed job executions")
+                                   .tags(job.tags.and("exception", exception))
+                                   .register(job.registry);
+            this.duration = job.outcomeTimer("FAILURE", exception);
+        }
+    }
+
+    /**
+     * Duration sink for one series: a full {@link Timer} or, in adaptive mode, a {@link SampledTimer}.
+     */
+    @FunctionalInterface
+    private interface DurationMeter {
+
+        /**
+         * Records a call that began at {@code startTime} from {@link TimingSampler#start(double)}.
+         */
+        void record(long startTime, double sampleRate);
+    }
+}
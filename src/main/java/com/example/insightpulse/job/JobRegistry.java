@@ -0,0 +1,84 @@
+package com.example.insightpulse.job;
+
+import com.example.insightpulse.events.JobEventLog;
+import com.example.insightpulse.metrics.TimingSampler;
+import com.example.insightpulse.slo.SloRegistry;
+import com.example.insightpulse.slo.SloTracker;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+
+/**
+ * Every {@link Job} bean, keyed by id. Meters ({@code job_execution_seconds{job_id,outcome,exception}},
+ * {@code job_failures_total{job_id,exception}}, {@code job_in_flight}, {@code job_concurrency_limit},
+ * {@code job_concurrency_rejections_total}) and the SLO tracker are bound here once per job, so
+ * adding a job is just another bean. Timing follows {@code insightpulse.metrics.timing.*}; bulkhead,
+ * circuit breaker and retry come from {@link JobResilienceProperties}.
+ */
+@Component
+public class JobRegistry {
+
+    private final Map<String, RegisteredJob> jobs = new TreeMap<>();
+
+    public JobRegistry(MeterRegistry registry, TimingSampler sampler, JobEventLog events, SloRegistry slos,
+                       JobResilienceProperties resilience, List<Job> jobs) {
+        for (Job job : jobs) {
+            SloTracker slo = slos.job(job.id(), job.sloObjective());
+            RegisteredJob previous = this.jobs.put(job.id(), new RegisteredJob(job, registry, sampler, events, slo,
+                                                                               resilience.policyFor(job.id())));
+            if (previous != null) {
+                throw new IllegalStateException("Duplicate job id '" + job.id() + "': "
+                                                + previous.job().getClass().getName() + " and " + job.getClass().getName());
+            }
+        }
+    }
+
+    public Optional<Job> find(String id) {
+        RegisteredJob job = jobs.get(id);
+        return job != null ? Optional.of(job.job()) : Optional.empty();
+    }
+
+    /**
+     * Runs the job with this id on the calling thread.
+     *
+     * @throws IllegalArgumentException     if no job has this id
+     * @throws JobConcurrencyLimitException if the job is at its concurrency limit
+     * @throws CircuitBreakerOpenException  if the job's circuit breaker is open
+     */
+    public String execute(String id) {
+        RegisteredJob job = jobs.get(id);
+        if (job == null) {
+            throw new IllegalArgumentException("Unknown job '" + id + "'");
+        }
+        return job.execute();
+    }
+
+    /**
+     * Registered jobs with their limits, current load and breaker state, ordered by id.
+     */
+    public List<JobInfo> jobs() {
+        List<JobInfo> infos = new ArrayList<>(jobs.size());
+        for (RegisteredJob registered : jobs.values()) {
+            Job job = registered.job();
+            double objective = job.sloObjective();
+            CircuitBreaker.State circuit = registered.circuitState();
+            infos.add(new JobInfo(job.id(), job.blocking(), registered.limit(), registered.inFlight(),
+                                  Double.isNaN(objective) ? null : objective, circuit != null ? circuit.name() : null));
+        }
+        return infos;
+    }
+
+    /**
+     * @param maxConcurrency effective bulkhead size, 0 if unlimited
+     * @param sloObjective   declared objective, {@code null} if the job declares none
+     * @param circuitBreaker CLOSED, OPEN or HALF_OPEN; {@code null} if the job has no breaker
+     */
+    public record JobInfo(String id, boolean blocking, int maxConcurrency, int inFlight, Double sloObjective,
+                          String circuitBreaker) {
+    }
+}
@@ -0,0 +1,18 @@
+package com.example.insightpulse.job;
+
+/**
+ * Thrown when a job lane is saturated and its policy is {@link RejectionPolicy#REJECT}.
+ */
+public class JobRejectedException extends RuntimeException {
+
+    private final transient JobRun run;
+
+    public JobRejectedException(JobRun run) {
+        super("Job queue for '" + run.getJobType() + "' is full");
+        this.run = run;
+    }
+
+    public JobRun getRun() {
+        return run;
+    }
+}
@@ -0,0 +1,151 @@
+package com.example.insightpulse.job;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Per-job bulkhead, circuit breaker and retry settings, bound from {@code insightpulse.jobs.resilience.*}.
+ * <p>
+ * Entries under {@code types.<job-id>} apply to that job; a job without an entry, or without a
+ * {@code circuit-breaker} / {@code retry} section, runs without that protection.
+ */
+@ConfigurationProperties(prefix = "insightpulse.jobs.resilience")
+public class JobResilienceProperties {
+
+    private Map<String, Policy> types = new HashMap<>();
+
+    public Policy policyFor(String jobId) {
+        return types.getOrDefault(jobId, Policy.NONE);
+    }
+
+    public Map<String, Policy> getTypes() {
+        return types;
+    }
+
+    public void setTypes(Map<String, Policy> types) {
+        this.types = types;
+    }
+
+    public static class Policy {
+
+        static final Policy NONE = new Policy();
+
+        // Bulkhead: most concurrent executions, overriding Job#maxConcurrency (0 = unlimited)
+        private Integer maxConcurrency;
+        private CircuitBreakerSettings circuitBreaker;
+        private RetrySettings retry;
+
+        public Integer getMaxConcurrency() {
+            return maxConcurrency;
+        }
+
+        public void setMaxConcurrency(Integer maxConcurrency) {
+            this.maxConcurrency = maxConcurrency;
+        }
+
+        public CircuitBreakerSettings getCircuitBreaker() {
+            return circuitBreaker;
+        }
+
+        public void setCircuitBreaker(CircuitBreakerSettings circuitBreaker) {
+            this.circuitBreaker = circuitBreaker;
+        }
+
+        public RetrySettings getRetry() {
+            return retry;
+        }
+
+        public void setRetry(RetrySettings retry) {
+            this.retry = retry;
+        }
+    }
+
+    public static class CircuitBreakerSettings {
+
+        // Failed share of the calls in the window that opens the breaker
+        private double failureRateThreshold = 0.5;
+        // Calls the window must hold before the failure rate counts
+        private int minimumCalls = 20;
+        private Duration window = Duration.ofSeconds(10);
+        // How long an open breaker fails fast before letting trial calls through
+        private Duration openDuration = Duration.ofSeconds(5);
+        // Trial calls that must all succeed to close it again
+        private int halfOpenCalls = 3;
+
+        public double getFailureRateThreshold() {
+            return failureRateThreshold;
+        }
+
+        public void setFailureRateThreshold(double failureRateThreshold) {
+            this.failureRateThreshold = failureRateThreshold;
+        }
+
+        public int getMinimumCalls() {
+            return minimumCalls;
+        }
+
+        public void setMinimumCalls(int minimumCalls) {
+            this.minimumCalls = minimumCalls;
+        }
+
+        public Duration getWindow() {
+            return window;
+        }
+
+        public void setWindow(Duration window) {
+            this.window = window;
+        }
+
+        public Duration getOpenDuration() {
+            return openDuration;
+        }
+
+        public void setOpenDuration(Duration openDuration) {
+            this.openDuration = openDuration;
+        }
+
+        public int getHalfOpenCalls() {
+            return halfOpenCalls;
+        }
+
+        public void setHalfOpenCalls(int halfOpenCalls) {
+            this.halfOpenCalls = halfOpenCalls;
+        }
+    }
+
+    public static class RetrySettings {
+
+        // Attempts per call, including the first
+        private int maxAttempts = 2;
+        // Upper bound of the random wait before the first retry; doubles per retry up to max-backoff
+        private Duration backoff = Duration.ofMillis(50);
+        private Duration maxBackoff = Duration.ofSeconds(1);
+
+        public int getMaxAttempts() {
+            return maxAttempts;
+        }
+
+        public void setMaxAttempts(int maxAttempts) {
+            this.maxAttempts = maxAttempts;
+        }
+
+        public Duration getBackoff() {
+            return backoff;
+        }
+
+        public void setBackoff(Duration backoff) {
+            this.backoff = backoff;
+        }
+
+        public Duration getMaxBackoff() {
+            return maxBackoff;
+        }
+
+        public void setMaxBackoff(Duration maxBackoff) {
+            this.maxBackoff = maxBackoff;
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package com.example.insightpulse.job;
+
+import java.time.Instant;
+
+/**
+ * State of a single submitted job, updated by the engine as it moves through its lane.
+ */
+public class JobRun {
+
+    private final String id;
+    private final String jobType;
+    private final Instant submittedAt;
+    private final long submittedNanos;
+
+    private volatile JobStatus status = JobStatus.QUEUED;
+    private volatile Instant startedAt;
+    private volatile Instant finishedAt;
+    private volatile String error;
+
+    JobRun(String id, String jobType) {
+        this.id = id;
+        this.jobType = jobType;
+        this.submittedAt = Instant.now();
+        this.submittedNanos = System.nanoTime();
+    }
+
+    void started() {
+        this.startedAt = Instant.now();
+        this.status = JobStatus.RUNNING;
+    }
+
+    void finished(Throwable failure) {
+        this.finishedAt = Instant.now();
+        if (failure != null) {
+            this.error = failure.getClass().getSimpleName() + ": " + failure.getMessage();
+            this.status = JobStatus.FAILED;
+        } else {
+            this.status = JobStatus.SUCCEEDED;
+        }
+    }
+
+    void discarded(JobStatus status) {
+        this.finishedAt = Instant.now();
+        this.status = status;
+    }
+
+    long submittedNanos() {
+        return submittedNanos;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public String getJobType() {
+        return jobType;
+    }
+
+    public JobStatus getStatus() {
+        return status;
+    }
+
+    public Instant getSubmittedAt() {
+        return submittedAt;
+    }
+
+    public Instant getStartedAt() {
+        return startedAt;
+    }
+
+    public Instant getFinishedAt() {
+        return finishedAt;
+    }
+
+    public String getError() {
+        return error;
+    }
+}
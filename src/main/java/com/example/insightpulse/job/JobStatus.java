@@ -0,0 +1,14 @@
+package com.example.insightpulse.job;
+
+public enum JobStatus {
+    QUEUED,
+    RUNNING,
+    SUCCEEDED,
+    FAILED,
+    REJECTED,
+    DROPPED;
+
+    public boolean isFinished() {
+        return this != QUEUED && this != RUNNING;
+    }
+}
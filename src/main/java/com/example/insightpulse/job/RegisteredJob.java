@@ -0,0 +1,267 @@
+package com.example.insightpulse.job;
+
+import com.example.insightpulse.events.JobEventLog;
+import com.example.insightpulse.jfr.JobExecutionEvent;
+import com.example.insightpulse.job.JobResilienceProperties.Policy;
+import com.example.insightpulse.job.JobResilienceProperties.RetrySettings;
+import com.example.insightpulse.metrics.TimingSampler;
+import com.example.insightpulse.slo.SloTracker;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.util.ClassUtils;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongSupplier;
+
+/**
+ * A {@link Job} with its meters, SLO tracker, bulkhead and optional circuit breaker and retry, all
+ * bound once at registration so an execution only touches pre-resolved handles. Durations and failures
+ * go through {@link JobMeters}, adaptive timing included.
+ */
+final class RegisteredJob {
+
+    private static final Logger logger = LoggerFactory.getLogger(RegisteredJob.class);
+
+    private final Job job;
+    private final String id;
+    private final String className;
+    private final int limit;
+    private final MeterRegistry registry;
+    private final JobEventLog events;
+    private final SloTracker slo;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final JobMeters meters;
+    private final Counter rejections;
+
+    // Null when the job has no circuit breaker / retry configured
+    private final CircuitBreaker breaker;
+    private final Counter shortCircuits;
+    private final int maxAttempts;
+    private final long backoffNanos;
+    private final long maxBackoffNanos;
+    private final Counter retries;
+
+    RegisteredJob(Job job, MeterRegistry registry, TimingSampler sampler, JobEventLog events, SloTracker slo,
+                  Policy policy) {
+        this(job, registry, sampler, events, slo, policy, System::currentTimeMillis);
+    }
+
+    RegisteredJob(Job job, MeterRegistry registry, TimingSampler sampler, JobEventLog events, SloTracker slo,
+                  Policy policy, LongSupplier clock) {
+        this.job = job;
+        this.id = job.id();
+        this.className = ClassUtils.getUserClass(job).getName();
+        this.limit = policy.getMaxConcurrency() != null ? policy.getMaxConcurrency() : job.maxConcurrency();
+        this.registry = registry;
+        this.events = events;
+        this.slo = slo;
+
+        // Execution time by outcome and failures by exception; the _count series doubles as the per-job throughput
+        this.meters = new JobMeters(registry, sampler, id);
+
+        // Calls turned away at the concurrency limit
+        this.rejections = Counter.builder("job_concurrency_rejections_total")
+                                 .description("Job calls rejected at the concurrency limit")
+                                 .tag("job_id", id)
+                                 .register(registry);
+
+        // Running executions and the configured ceiling (0 = unlimited)
+        Gauge.builder("job_in_flight", inFlight, AtomicInteger::get)
+             .description("Job executions currently running")
+             .tag("job_id", id)
+             .register(registry);
+        Gauge.builder("job_concurrency_limit", this, j -> j.limit)
+             .description("Most concurrent executions allowed for the job; 0 = unlimited")
+             .tag("job_id", id)
+             .register(registry);
+
+        if (policy.getCircuitBreaker() != null) {
+            this.breaker = new CircuitBreaker(policy.getCircuitBreaker(), clock, this::transitioned);
+            // Calls failed fast by the open breaker; also counted in job_failures_total
+            this.shortCircuits = Counter.builder("job_circuit_breaker_short_circuits_total")
+                                        .description("Job calls rejected without running because the circuit breaker is open")
+                                        .tag("job_id", id)
+                                        .register(registry);
+            // 0 = closed, 1 = open, 2 = half-open
+            Gauge.builder("job_circuit_breaker_state", breaker, b -> b.state().ordinal())
+                 .description("Circuit breaker state: 0 closed, 1 open, 2 half-open")
+                 .tag("job_id", id)
+                 .register(registry);
+        } else {
+            this.breaker = null;
+            this.shortCircuits = null;
+        }
+
+        RetrySettings retry = policy.getRetry();
+        if (retry != null && retry.getMaxAttempts() > 1) {
+            this.maxAttempts = retry.getMaxAttempts();
+            this.backoffNanos = retry.getBackoff().toNanos();
+            this.maxBackoffNanos = retry.getMaxBackoff().toNanos();
+            this.retries = Counter.builder("job_retries_total")
+                                  .description("Job attempts repeated after a failure")
+                                  .tag("job_id", id)
+                                  .register(registry);
+        } else {
+            this.maxAttempts = 1;
+            this.backoffNanos = 0;
+            this.maxBackoffNanos = 0;
+            this.retries = null;
+        }
+    }
+
+    Job job() {
+        return job;
+    }
+
+    int inFlight() {
+        return inFlight.get();
+    }
+
+    int limit() {
+        return limit;
+    }
+
+    /**
+     * Circuit breaker state, {@code null} if the job has no breaker.
+     */
+    CircuitBreaker.State circuitState() {
+        return breaker != null ? breaker.state() : null;
+    }
+
+    /**
+     * Runs the job, retrying if configured, and records meters, SLO, history and JFR events around it.
+     *
+     * @throws JobConcurrencyLimitException if the job already runs its maximum of concurrent executions
+     * @throws CircuitBreakerOpenException  if the job's circuit breaker is open
+     */
+    String execute() {
+        if (!acquire()) {
+            rejections.increment();
+            throw new JobConcurrencyLimitException(id, limit);
+        }
+        try {
+            if (breaker != null && !breaker.tryAcquire()) {
+                // Fail fast: no history event, timer sample or JFR event for a call that never ran
+                CircuitBreakerOpenException e =
+                        new CircuitBreakerOpenException(id, Duration.ofMillis(breaker.retryAfterMillis()));
+                shortCircuits.increment();
+                meters.rejected(e);
+                slo.record(false);
+                throw e;
+            }
+            return run();
+        } finally {
+            inFlight.decrementAndGet();
+        }
+    }
+
+    private String run() {
+        double sampleRate = meters.sampleRate();
+        long startTime = meters.start(sampleRate);
+        // The history keeps every run's duration, whether or not it is sampled for timing
+        long start = startTime != TimingSampler.UNSAMPLED ? startTime : System.nanoTime();
+        long run = events.started(id);
+        JobExecutionEvent event = JobExecutionEvent.start(className, "execute");
+        try {
+            String result = attempts();
+            meters.success(startTime, sampleRate);
+            slo.record(true);
+            events.succeeded(run, id, start, result);
+            if (event != null) {
+                event.commit("SUCCESS", "None");
+            }
+            return result;
+        } catch (RuntimeException | Error e) {
+            meters.failure(e, startTime, sampleRate);
+            slo.record(false);
+            events.failed(run, id, start, e);
+            if (event != null) {
+                event.commit("FAILURE", e.getClass().getSimpleName());
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Calls the job until it succeeds, {@code maxAttempts} is used up or the breaker opens, reporting
+     * every attempt to the breaker.
+     */
+    private String attempts() {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                String result = job.execute();
+                if (breaker != null) {
+                    breaker.onSuccess();
+                }
+                return result;
+            } catch (RuntimeException e) {
+                if (breaker != null) {
+                    breaker.onFailure();
+                }
+                if (attempt >= maxAttempts || !backOff(attempt) || breaker != null && !breaker.tryAcquire()) {
+                    throw e;
+                }
+                retries.increment();
+            } catch (Error e) {
+                if (breaker != null) {
+                    breaker.onFailure();
+                }
+                throw e;
+            }
+        }
+    }
+
+    /**
+     * Sleeps a random time up to the backoff for this attempt ("full jitter"), so callers that failed
+     * together do not retry together. Returns {@code false} if interrupted.
+     */
+    private boolean backOff(int attempt) {
+        long bound = backoffNanos;
+        for (int i = 1; i < attempt && bound < maxBackoffNanos; i++) {
+            bound *= 2;
+        }
+        try {
+            TimeUnit.NANOSECONDS.sleep(ThreadLocalRandom.current().nextLong(Math.min(bound, maxBackoffNanos) + 1));
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private void transitioned(CircuitBreaker.State from, CircuitBreaker.State to) {
+        if (to == CircuitBreaker.State.OPEN) {
+            logger.warn("Circuit breaker for job '{}' opened ({} -> {})", id, from, to);
+        } else {
+            logger.info("Circuit breaker for job '{}' {} -> {}", id, from, to);
+        }
+        // Transitions are rare, so the counter is looked up here rather than held per pair
+        Counter.builder("job_circuit_breaker_transitions_total")
+               .description("Circuit breaker state transitions")
+               .tags("job_id", id, "from", from.name(), "to", to.name())
+               .register(registry)
+               .increment();
+    }
+
+    private boolean acquire() {
+        if (limit <= 0) {
+            inFlight.incrementAndGet();
+            return true;
+        }
+        int current;
+        do {
+            current = inFlight.get();
+            if (current >= limit) {
+                return false;
+            }
+        } while (!inFlight.compareAndSet(current, current + 1));
+        return true;
+    }
+}
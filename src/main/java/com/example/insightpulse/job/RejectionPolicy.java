@@ -0,0 +1,22 @@
+package com.example.insightpulse.job;
+
+/**
+ * What a job lane does with a submission when all workers are busy and its queue is full.
+ */
+public enum RejectionPolicy {
+
+    /**
+     * Refuse the new job; the caller gets a {@link JobRejectedException}.
+     */
+    REJECT,
+
+    /**
+     * Run the new job on the submitting thread, slowing the producer down.
+     */
+    CALLER_RUNS,
+
+    /**
+     * Discard the oldest queued job to make room for the new one.
+     */
+    DROP_OLDEST
+}
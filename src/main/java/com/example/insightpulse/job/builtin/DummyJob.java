@@ -0,0 +1,48 @@
+package com.example.insightpulse.job.builtin;
+
+import com.example.insightpulse.job.Job;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Simulated job that fails 20% of the time and otherwise runs for 200-1000 ms.
+ */
+@Component
+public class DummyJob implements Job {
+
+    @Override
+    public String id() {
+        return "dummy-job";
+    }
+
+    @Override
+    public String execute() {
+        if (ThreadLocalRandom.current().nextDouble() < 0.2) {
+            throw new RuntimeException("Simulated job failure");
+        }
+        try {
+            Thread.sleep(ThreadLocalRandom.current().nextInt(200, 1001));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Dummy job interrupted", e);
+        }
+        return "Job executed successfully";
+    }
+
+    @Override
+    public double sloObjective() {
+        // Leaves room for the simulated 20% failure rate
+        return 0.75;
+    }
+
+    @Override
+    public int maxConcurrency() {
+        return 200;
+    }
+
+    @Override
+    public boolean blocking() {
+        return true;
+    }
+}
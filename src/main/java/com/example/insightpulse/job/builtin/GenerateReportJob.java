@@ -0,0 +1,59 @@
+package com.example.insightpulse.job.builtin;
+
+import com.example.insightpulse.job.Job;
+import com.example.insightpulse.report.ReportCache;
+import com.example.insightpulse.report.ReportProperties;
+import com.example.insightpulse.report.ReportRequest;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+/**
+ * Serves the summary report through the report cache: a cached copy returns at once and concurrent
+ * misses share one generation, which takes 200-1000 ms. {@link RefreshReportJob} keeps it warm.
+ */
+@Component
+public class GenerateReportJob implements Job {
+
+    private static final String REPORT_TYPE = "summary";
+
+    private final ReportCache reportCache;
+    private final ReportRequest summary;
+
+    public GenerateReportJob(ReportCache reportCache, ReportProperties properties) {
+        this.reportCache = reportCache;
+        this.summary = new ReportRequest(REPORT_TYPE, properties.getDefaultRows());
+    }
+
+    @Override
+    public String id() {
+        return "generate-report";
+    }
+
+    @Override
+    public String execute() {
+        try {
+            reportCache.load(summary);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return "Report generated.";
+    }
+
+    @Override
+    public double sloObjective() {
+        return 0.99;
+    }
+
+    @Override
+    public int maxConcurrency() {
+        // Matches Tomcat's default worker pool, so in platform mode a burst cannot take every thread
+        return 200;
+    }
+
+    @Override
+    public boolean blocking() {
+        return true;
+    }
+}
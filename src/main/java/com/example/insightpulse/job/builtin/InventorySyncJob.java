@@ -0,0 +1,58 @@
+package com.example.insightpulse.job.builtin;
+
+import com.example.insightpulse.inventory.InventorySyncEngine;
+import com.example.insightpulse.inventory.InventorySyncEngine.SyncResult;
+import com.example.insightpulse.job.Job;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+/**
+ * Runs one incremental pass of the {@link InventorySyncEngine}. Fails if any partition failed to
+ * sync; availability ({@code inventory_sync_availability}) follows the engine's freshness.
+ */
+@Component
+public class InventorySyncJob implements Job {
+
+    private final InventorySyncEngine engine;
+
+    public InventorySyncJob(InventorySyncEngine engine) {
+        this.engine = engine;
+    }
+
+    @Override
+    public String id() {
+        return "inventory-sync";
+    }
+
+    @Override
+    public String execute() {
+        SyncResult result;
+        try {
+            result = engine.sync();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Inventory sync interrupted", e);
+        }
+        if (result.failedPartitions() > 0) {
+            throw new IllegalStateException("Inventory sync failed for " + result.failedPartitions() + " of "
+                                            + result.partitions() + " partitions");
+        }
+        return "Inventory Sync Status: " + (result.available() ? "AVAILABLE" : "UNAVAILABLE")
+               + " (" + result.changes() + " changes from " + result.partitions() + " partitions)";
+    }
+
+    @Override
+    public double sloObjective() {
+        return 0.95;
+    }
+
+    @Override
+    public boolean blocking() {
+        // Reads the change logs
+        return true;
+    }
+}
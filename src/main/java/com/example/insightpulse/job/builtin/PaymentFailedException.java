@@ -0,0 +1,12 @@
+package com.example.insightpulse.job.builtin;
+
+/**
+ * Simulated payment provider failure. Stackless: it is an expected outcome reported by type, and
+ * at a 30% failure rate stack capture would be a noticeable share of the job's CPU.
+ */
+public class PaymentFailedException extends RuntimeException {
+
+    public PaymentFailedException(String message) {
+        super(message, null, false, false);
+    }
+}
@@ -0,0 +1,32 @@
+package com.example.insightpulse.job.builtin;
+
+import com.example.insightpulse.job.Job;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Simulated payment that fails 30% of the time.
+ */
+@Component
+public class ProcessPaymentJob implements Job {
+
+    @Override
+    public String id() {
+        return "process-payment";
+    }
+
+    @Override
+    public String execute() {
+        if (ThreadLocalRandom.current().nextDouble() < 0.3) {
+            throw new PaymentFailedException("Simulated payment failure");
+        }
+        return "Payment processed.";
+    }
+
+    @Override
+    public double sloObjective() {
+        // Leaves room for the simulated 30% failure rate, so the error budget only burns beyond it
+        return 0.65;
+    }
+}
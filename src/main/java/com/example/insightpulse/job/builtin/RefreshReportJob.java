@@ -0,0 +1,54 @@
+package com.example.insightpulse.job.builtin;
+
+import com.example.insightpulse.job.Job;
+import com.example.insightpulse.report.ReportCache;
+import com.example.insightpulse.report.ReportProperties;
+import com.example.insightpulse.report.ReportRequest;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+/**
+ * Regenerates the summary report into the report cache before its TTL runs out, so
+ * {@code /jobs/generate-report} and {@code /reports/summary} keep hitting the cache. Meant for the
+ * scheduler; a refresh that finds a generation already running waits for it instead of starting another.
+ */
+@Component
+public class RefreshReportJob implements Job {
+
+    private static final String REPORT_TYPE = "summary";
+
+    private final ReportCache reportCache;
+    private final ReportRequest summary;
+
+    public RefreshReportJob(ReportCache reportCache, ReportProperties properties) {
+        this.reportCache = reportCache;
+        this.summary = new ReportRequest(REPORT_TYPE, properties.getDefaultRows());
+    }
+
+    @Override
+    public String id() {
+        return "refresh-report";
+    }
+
+    @Override
+    public String execute() {
+        try {
+            reportCache.refresh(summary);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return "Report refreshed.";
+    }
+
+    @Override
+    public int maxConcurrency() {
+        return 1;
+    }
+
+    @Override
+    public boolean blocking() {
+        return true;
+    }
+}
@@ -0,0 +1,36 @@
+package com.example.insightpulse.job.builtin;
+
+import com.example.insightpulse.job.Job;
+import com.example.insightpulse.registration.UserRegistrar;
+import org.springframework.stereotype.Component;
+
+/**
+ * Simulated user registration; completes immediately. Bulk imports go through
+ * {@code POST /registrations/bulk} instead of one call per user.
+ */
+@Component
+public class RegisterUserJob implements Job {
+
+    private final UserRegistrar registrar;
+
+    public RegisterUserJob(UserRegistrar registrar) {
+        this.registrar = registrar;
+    }
+
+    @Override
+    public String id() {
+        return "register-user";
+    }
+
+    @Override
+    public String execute() {
+        // Simulated business logic (no delay here)
+        registrar.registered(1);
+        return "User registered.";
+    }
+
+    @Override
+    public double sloObjective() {
+        return 0.999;
+    }
+}
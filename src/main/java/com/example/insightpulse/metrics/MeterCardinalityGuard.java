@@ -0,0 +1,120 @@
+package com.example.insightpulse.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * Caps the number of series a metric may create from request-derived tag values.
+ * <p>
+ * Unbounded values (raw URIs, scanner paths) are folded into {@link #OTHER} once a metric has
+ * seen {@code max-tag-values} distinct values, and new tag combinations beyond {@code max-series}
+ * are dropped altogether, so a bad deploy or a 404 flood cannot grow the heap or the scrape payload.
+ */
+@Component
+public class MeterCardinalityGuard {
+
+    public static final String OTHER = "OTHER";
+
+    private static final Set<String> STANDARD_METHODS =
+            Set.of("GET", "HEAD", "POST", "PUT", "PATCH", "DELETE", "OPTIONS", "TRACE");
+
+    private final MeterRegistry meterRegistry;
+    private final int maxTagValues;
+    private final int maxSeries;
+    private final Map<String, SeriesBudget<?, ?>> budgets = new ConcurrentHashMap<>();
+
+    public MeterCardinalityGuard(MeterRegistry meterRegistry,
+                                 @Value("${insightpulse.metrics.cardinality.max-tag-values:200}") int maxTagValues,
+                                 @Value("${insightpulse.metrics.cardinality.max-series:2000}") int maxSeries) {
+        this.meterRegistry = meterRegistry;
+        this.maxTagValues = maxTagValues;
+        this.maxSeries = maxSeries;
+    }
+
+    /**
+     * Returns the budget for a metric, creating it (and its bookkeeping meters) on first use.
+     */
+    @SuppressWarnings("unchecked")
+    public <K, M> SeriesBudget<K, M> budget(String metric) {
+        return (SeriesBudget<K, M>) budgets.computeIfAbsent(metric, SeriesBudget::new);
+    }
+
+    /**
+     * Maps non-standard HTTP methods (which any client may send) to {@link #OTHER}.
+     */
+    public static String normalizeMethod(String method) {
+        return STANDARD_METHODS.contains(method) ? method : OTHER;
+    }
+
+    /**
+     * Per-metric tag value and series budget.
+     *
+     * @param <K> series key, typically a record of the tag values
+     * @param <M> meter handle cached per series
+     */
+    public final class SeriesBudget<K, M> {
+
+        private final Set<String> values = ConcurrentHashMap.newKeySet();
+        private final AtomicInteger valueCount = new AtomicInteger();
+        private final Map<K, M> series = new ConcurrentHashMap<>();
+        private final Counter folded;
+        private final Counter dropped;
+
+        private SeriesBudget(String metric) {
+            this.folded = Counter.builder("metrics_cardinality_folded_total")
+                                 .description("Tag values folded into OTHER after the metric's value budget ran out")
+                                 .tag("metric", metric)
+                                 .register(meterRegistry);
+            this.dropped = Counter.builder("metrics_cardinality_dropped_total")
+                                  .description("Recordings dropped because the metric's series budget ran out")
+                                  .tag("metric", metric)
+                                  .register(meterRegistry);
+            Gauge.builder("metrics_cardinality_series", series, Map::size)
+                 .description("Series currently held for the metric")
+                 .tag("metric", metric)
+                 .register(meterRegistry);
+        }
+
+        /**
+         * Returns {@code value} if it is known or fits the value budget, otherwise {@link #OTHER}.
+         */
+        public String fold(String value) {
+            if (values.contains(value)) {
+                return value;
+            }
+            if (valueCount.incrementAndGet() <= maxTagValues) {
+                values.add(value);
+                return value;
+            }
+            valueCount.decrementAndGet();
+            folded.increment();
+            return OTHER;
+        }
+
+        /**
+         * Returns the cached meter for {@code key}, creating it while the series budget allows.
+         *
+         * @return the meter, or {@code null} if the series is new and the budget is exhausted
+         */
+        public M series(K key, Function<? super K, ? extends M> factory) {
+            M meter = series.get(key);
+            if (meter != null) {
+                return meter;
+            }
+            if (series.size() >= maxSeries) {
+                dropped.increment();
+                return null;
+            }
+            return series.computeIfAbsent(key, factory);
+        }
+    }
+}
@@ -0,0 +1,198 @@
+package com.example.insightpulse.metrics;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.prometheusmetrics.PrometheusMeterRegistry;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.time.Duration;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+
+/**
+ * Renders the Prometheus text exposition at most once per {@code ttl} and serves every scrape in
+ * that window from the same bytes, plain or gzip-compressed.
+ * <p>
+ * Scrapers that arrive while a rendering is in progress wait for it instead of starting their own.
+ * Renderings go straight into direct buffers recycled from earlier snapshots, so a steady scrape
+ * load allocates no new payload-sized arrays.
+ */
+public class PrometheusScrapeCache {
+
+    public static final String CONTENT_TYPE = "text/plain; version=0.0.4; charset=utf-8";
+
+    // Magic, deflate, no flags, no mtime, no extra flags, unknown OS
+    private static final byte[] GZIP_HEADER = {0x1f, (byte) 0x8b, Deflater.DEFLATED, 0, 0, 0, 0, 0, 0, (byte) 0xff};
+    private static final int GZIP_TRAILER_SIZE = 8;
+
+    private final PrometheusMeterRegistry registry;
+    private final long ttlNanos;
+    private final LongSupplier nanoClock;
+    private final Deflater deflater;
+    private final CRC32 crc = new CRC32();
+    private final Queue<ScrapeSnapshot> spare = new ConcurrentLinkedQueue<>();
+    private final Object renderLock = new Object();
+
+    private final Timer renderTimer;
+    private volatile ScrapeSnapshot current;
+
+    public PrometheusScrapeCache(PrometheusMeterRegistry registry, Duration ttl, int gzipLevel) {
+        this(registry, ttl, gzipLevel, System::nanoTime);
+    }
+
+    PrometheusScrapeCache(PrometheusMeterRegistry registry, Duration ttl, int gzipLevel, LongSupplier nanoClock) {
+        this.registry = registry;
+        this.ttlNanos = ttl.toNanos();
+        this.nanoClock = nanoClock;
+        this.deflater = new Deflater(gzipLevel, true);
+
+        this.renderTimer = Timer.builder("prometheus_scrape_render_duration_seconds")
+                                .description("Time to render and compress the cached Prometheus scrape")
+                                .register(registry);
+        Gauge.builder("prometheus_scrape_payload_bytes", this, cache -> cache.size(false))
+             .description("Size of the last rendered Prometheus scrape")
+             .tag("encoding", "identity")
+             .baseUnit("bytes")
+             .register(registry);
+        Gauge.builder("prometheus_scrape_payload_bytes", this, cache -> cache.size(true))
+             .description("Size of the last rendered Prometheus scrape")
+             .tag("encoding", "gzip")
+             .baseUnit("bytes")
+             .register(registry);
+    }
+
+    /**
+     * The current snapshot, rendering a new one if it is older than the TTL. Callers must
+     * {@link ScrapeSnapshot#release() release} it once written.
+     */
+    public ScrapeSnapshot acquire() {
+        ScrapeSnapshot snapshot = current;
+        if (retainIfCurrent(snapshot)) {
+            return snapshot;
+        }
+        synchronized (renderLock) {
+            snapshot = current;
+            if (retainIfCurrent(snapshot)) {
+                return snapshot;
+            }
+            ScrapeSnapshot next = spare.poll();
+            if (next == null) {
+                next = new ScrapeSnapshot(spare::offer);
+            }
+            next.reset(nanoClock.getAsLong());
+            long start = System.nanoTime();
+            render(next);
+            renderTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+
+            next.retain();
+            current = next;
+            if (snapshot != null) {
+                snapshot.release();
+            }
+            return next;
+        }
+    }
+
+    private boolean retainIfCurrent(ScrapeSnapshot snapshot) {
+        if (snapshot == null || nanoClock.getAsLong() - snapshot.renderedAtNanos() >= ttlNanos || !snapshot.retain()) {
+            return false;
+        }
+        // It may have been recycled and picked up for the next rendering since we read it
+        if (snapshot != current) {
+            snapshot.release();
+            return false;
+        }
+        return true;
+    }
+
+    private double size(boolean gzip) {
+        ScrapeSnapshot snapshot = current;
+        if (snapshot == null || !snapshot.retain()) {
+            return Double.NaN;
+        }
+        if (snapshot != current) {
+            snapshot.release();
+            return Double.NaN;
+        }
+        try {
+            return gzip ? snapshot.gzipSize() : snapshot.plainSize();
+        } finally {
+            snapshot.release();
+        }
+    }
+
+    private void render(ScrapeSnapshot snapshot) {
+        try {
+            registry.scrape(new BufferOutputStream(snapshot));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        ByteBuffer plain = snapshot.plain().flip();
+        compress(snapshot, plain);
+    }
+
+    private void compress(ScrapeSnapshot snapshot, ByteBuffer plain) {
+        ByteBuffer out = snapshot.gzip();
+        out.put(GZIP_HEADER);
+
+        crc.reset();
+        crc.update(plain.duplicate());
+        deflater.reset();
+        deflater.setInput(plain.duplicate());
+        deflater.finish();
+        while (!deflater.finished()) {
+            if (!out.hasRemaining()) {
+                out = snapshot.grow(out, GZIP_TRAILER_SIZE);
+            }
+            deflater.deflate(out);
+        }
+
+        if (out.remaining() < GZIP_TRAILER_SIZE) {
+            out = snapshot.grow(out, GZIP_TRAILER_SIZE);
+        }
+        out.order(ByteOrder.LITTLE_ENDIAN)
+           .putInt((int) crc.getValue())
+           .putInt(plain.limit())
+           .order(ByteOrder.BIG_ENDIAN)
+           .flip();
+    }
+
+    /**
+     * Appends to the snapshot's plain buffer, growing it when a scrape outgrows the previous one.
+     */
+    private static final class BufferOutputStream extends OutputStream {
+
+        private final ScrapeSnapshot snapshot;
+        private ByteBuffer buffer;
+
+        BufferOutputStream(ScrapeSnapshot snapshot) {
+            this.snapshot = snapshot;
+            this.buffer = snapshot.plain();
+        }
+
+        @Override
+        public void write(int b) {
+            if (!buffer.hasRemaining()) {
+                buffer = snapshot.grow(buffer, 1);
+            }
+            buffer.put((byte) b);
+        }
+
+        @Override
+        public void write(byte[] bytes, int offset, int length) {
+            if (buffer.remaining() < length) {
+                buffer = snapshot.grow(buffer, length);
+            }
+            buffer.put(bytes, offset, length);
+        }
+    }
+}
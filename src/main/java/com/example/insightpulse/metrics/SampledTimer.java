@@ -0,0 +1,65 @@
+package com.example.insightpulse.metrics;
+
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.DoubleAdder;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Timer replacement for {@link TimingMode#ADAPTIVE}.
+ * <p>
+ * Under the original name it publishes an exact call count and a total time scaled up by the inverse
+ * sample rate, so {@code rate(_count)} and {@code rate(_sum) / rate(_count)} read the same as with a full
+ * timer. Micrometer histograms cannot take weighted observations, so the buckets of the sampled calls go
+ * to a separate {@code *_sampled_seconds} histogram; {@code histogram_quantile} over it estimates the same
+ * percentiles, because uniform sampling does not change the shape of the distribution.
+ */
+public final class SampledTimer {
+
+    private final TimingSampler sampler;
+    private final LongAdder count = new LongAdder();
+    private final DoubleAdder scaledTotalNanos = new DoubleAdder();
+    private final Timer sampled;
+
+    private SampledTimer(TimingSampler sampler, Timer sampled) {
+        this.sampler = sampler;
+        this.sampled = sampled;
+    }
+
+    public static SampledTimer register(String name, String sampledName, String description, Tags tags,
+                                        TimingSampler sampler, MeterRegistry registry) {
+        SampledTimer timer = new SampledTimer(sampler, Timer.builder(sampledName)
+                                                            .description(description + " (sampled calls only)")
+                                                            .tags(tags)
+                                                            .publishPercentileHistogram()
+                                                            .register(registry));
+        FunctionTimer.builder(name, timer,
+                              t -> t.count.sum(),
+                              t -> t.scaledTotalNanos.sum(),
+                              TimeUnit.NANOSECONDS)
+                     .description(description)
+                     .tags(tags)
+                     .register(registry);
+        return timer;
+    }
+
+    /**
+     * Records a call that began at {@code startTime} from {@link TimingSampler#start(double)}, sampled at
+     * {@code rate}.
+     */
+    public void record(long startTime, double rate) {
+        count.increment();
+        if (startTime == TimingSampler.UNSAMPLED) {
+            return;
+        }
+        long end = System.nanoTime();
+        long nanos = end - startTime;
+        scaledTotalNanos.add(nanos / rate);
+        sampled.record(nanos, TimeUnit.NANOSECONDS);
+        sampler.recordCost(System.nanoTime() - end);
+    }
+}
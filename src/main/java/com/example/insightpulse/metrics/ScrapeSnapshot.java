@@ -0,0 +1,108 @@
+package com.example.insightpulse.metrics;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * One rendered scrape, in plain text and gzip, held in direct buffers that are reused for a later
+ * rendering once every reader has released them.
+ */
+public final class ScrapeSnapshot {
+
+    private static final int INITIAL_CAPACITY = 256 * 1024;
+
+    private ByteBuffer plain = ByteBuffer.allocateDirect(INITIAL_CAPACITY);
+    private ByteBuffer gzip = ByteBuffer.allocateDirect(INITIAL_CAPACITY / 4);
+    private long renderedAtNanos;
+
+    // One reference for the cache while this is the current snapshot, plus one per reader
+    private final AtomicInteger refs = new AtomicInteger();
+    private final Consumer<ScrapeSnapshot> recycler;
+
+    ScrapeSnapshot(Consumer<ScrapeSnapshot> recycler) {
+        this.recycler = recycler;
+    }
+
+    public int plainSize() {
+        return plain.limit();
+    }
+
+    public int gzipSize() {
+        return gzip.limit();
+    }
+
+    public void writePlain(OutputStream out) throws IOException {
+        write(plain, out);
+    }
+
+    public void writeGzip(OutputStream out) throws IOException {
+        write(gzip, out);
+    }
+
+    /**
+     * Hands the snapshot back; its buffers are reused once the cache and all readers are done with it.
+     */
+    public void release() {
+        if (refs.decrementAndGet() == 0) {
+            recycler.accept(this);
+        }
+    }
+
+    boolean retain() {
+        while (true) {
+            int current = refs.get();
+            if (current == 0) {
+                return false;
+            }
+            if (refs.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    void reset(long nowNanos) {
+        plain.clear();
+        gzip.clear();
+        renderedAtNanos = nowNanos;
+        refs.set(1);
+    }
+
+    long renderedAtNanos() {
+        return renderedAtNanos;
+    }
+
+    ByteBuffer plain() {
+        return plain;
+    }
+
+    ByteBuffer gzip() {
+        return gzip;
+    }
+
+    /**
+     * Doubles {@code buffer} (plain or gzip), keeping its contents, and returns the replacement.
+     */
+    ByteBuffer grow(ByteBuffer buffer, int minExtra) {
+        ByteBuffer bigger = ByteBuffer.allocateDirect(Math.max(buffer.capacity() * 2, buffer.capacity() + minExtra));
+        bigger.put(buffer.flip());
+        if (buffer == plain) {
+            plain = bigger;
+        } else {
+            gzip = bigger;
+        }
+        return bigger;
+    }
+
+    private static void write(ByteBuffer buffer, OutputStream out) throws IOException {
+        WritableByteChannel channel = Channels.newChannel(out);
+        ByteBuffer view = buffer.duplicate();
+        while (view.hasRemaining()) {
+            channel.write(view);
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package com.example.insightpulse.metrics;
+
+/**
+ * How job durations are recorded, set with {@code insightpulse.metrics.timing.mode}.
+ */
+public enum TimingMode {
+
+    /**
+     * Every invocation is timed into a percentile histogram.
+     */
+    FULL,
+
+    /**
+     * Counts stay exact, but only a sample of invocations is timed; the sample rate follows
+     * {@code insightpulse.metrics.timing.overhead-budget}.
+     */
+    ADAPTIVE
+}
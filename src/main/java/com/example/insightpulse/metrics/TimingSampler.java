@@ -0,0 +1,115 @@
+package com.example.insightpulse.metrics;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Decides which job executions get timed when {@link TimingMode#ADAPTIVE} is on.
+ * <p>
+ * Once a second the sampler compares what timing cost over the last interval (measured on the sampled
+ * calls themselves) with {@code overhead-budget}, a fraction of one CPU core, and picks the rate that
+ * would have stayed within it. Quiet jobs are timed on every call; hot ones are thinned down, but
+ * never below {@code min-sample-rate}.
+ */
+@Component
+public class TimingSampler {
+
+    /**
+     * Start time handed out for invocations that are counted but not timed.
+     */
+    public static final long UNSAMPLED = Long.MIN_VALUE;
+
+    private static final double COST_SMOOTHING = 0.5;
+
+    private final TimingMode mode;
+    private final double overheadBudget;
+    private final double minSampleRate;
+
+    private final LongAdder calls = new LongAdder();
+    private final LongAdder samples = new LongAdder();
+    private final LongAdder timingNanos = new LongAdder();
+
+    private volatile double sampleRate = 1.0;
+    private double costPerSampleNanos;
+    private long lastAdjustNanos = System.nanoTime();
+
+    public TimingSampler(MeterRegistry registry,
+                         @Value("${insightpulse.metrics.timing.mode:full}") TimingMode mode,
+                         @Value("${insightpulse.metrics.timing.overhead-budget:0.01}") double overheadBudget,
+                         @Value("${insightpulse.metrics.timing.min-sample-rate:0.001}") double minSampleRate) {
+        this.mode = mode;
+        this.overheadBudget = overheadBudget;
+        this.minSampleRate = minSampleRate;
+
+        Gauge.builder("service_timing_sample_rate", this, TimingSampler::sampleRate)
+             .description("Fraction of job executions currently being timed")
+             .register(registry);
+    }
+
+    public boolean isAdaptive() {
+        return mode == TimingMode.ADAPTIVE;
+    }
+
+    /**
+     * Counts an invocation and returns its start time, or {@link #UNSAMPLED} if it should not be timed.
+     * <p>
+     * {@code rate} is the value of {@link #sampleRate()} read by the caller, which must hand the same value
+     * to {@link SampledTimer#record}: the rate can change while the call is running, and the recorded
+     * duration has to be weighted by the rate it was actually sampled at.
+     */
+    public long start(double rate) {
+        if (mode == TimingMode.FULL) {
+            return System.nanoTime();
+        }
+        calls.increment();
+        return rate >= 1.0 || ThreadLocalRandom.current().nextDouble() < rate ? System.nanoTime() : UNSAMPLED;
+    }
+
+    /**
+     * Reports the time spent recording one sampled duration.
+     */
+    public void recordCost(long nanos) {
+        samples.increment();
+        timingNanos.add(nanos);
+    }
+
+    public double sampleRate() {
+        return sampleRate;
+    }
+
+    /**
+     * Recomputes the sample rate from the calls and timing cost seen since the previous adjustment.
+     */
+    @Scheduled(fixedRate = 1000)
+    public synchronized void adjust() {
+        long now = System.nanoTime();
+        double seconds = (now - lastAdjustNanos) / 1e9;
+        lastAdjustNanos = now;
+        if (mode == TimingMode.FULL || seconds <= 0) {
+            return;
+        }
+
+        long callCount = calls.sumThenReset();
+        long sampleCount = samples.sumThenReset();
+        long spentNanos = timingNanos.sumThenReset();
+        if (sampleCount > 0) {
+            double cost = (double) spentNanos / sampleCount;
+            costPerSampleNanos = costPerSampleNanos == 0
+                    ? cost
+                    : COST_SMOOTHING * cost + (1 - COST_SMOOTHING) * costPerSampleNanos;
+        }
+        if (callCount == 0 || costPerSampleNanos == 0) {
+            return; // nothing to go on, keep the current rate
+        }
+
+        double affordableSamplesPerSecond = overheadBudget * 1e9 / costPerSampleNanos;
+        double callsPerSecond = callCount / seconds;
+        sampleRate = Math.max(minSampleRate, Math.min(1.0, affordableSamplesPerSecond / callsPerSecond));
+    }
+}
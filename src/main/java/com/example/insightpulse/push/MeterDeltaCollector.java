@@ -0,0 +1,135 @@
+package com.example.insightpulse.push;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.LongTaskTimer;
+import io.micrometer.core.instrument.Measurement;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.TimeGauge;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.config.NamingConvention;
+import io.micrometer.core.instrument.distribution.CountAtBucket;
+import io.micrometer.core.instrument.distribution.HistogramSnapshot;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Reads every meter into {@link PushPoint}s, remembering the previous cumulative values so each
+ * collection also carries the change since the last one. Not thread-safe: one collector thread.
+ */
+final class MeterDeltaCollector {
+
+    private final MeterRegistry registry;
+    private final Map<Meter.Id, double[]> previous = new HashMap<>();
+
+    MeterDeltaCollector(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    List<PushPoint> collect() {
+        NamingConvention convention = registry.config().namingConvention();
+        List<PushPoint> points = new ArrayList<>();
+        Set<Meter.Id> live = new HashSet<>();
+        for (Meter meter : registry.getMeters()) {
+            Meter.Id id = meter.getId();
+            live.add(id);
+            String name = id.getConventionName(convention);
+            Map<String, String> labels = new TreeMap<>();
+            for (Tag tag : id.getConventionTags(convention)) {
+                labels.put(tag.getKey(), tag.getValue());
+            }
+            labels = Collections.unmodifiableMap(labels);
+
+            if (meter instanceof Counter counter) {
+                points.add(counter(id, counterName(name), labels, counter.count()));
+            } else if (meter instanceof FunctionCounter counter) {
+                points.add(counter(id, counterName(name), labels, counter.count()));
+            } else if (meter instanceof TimeGauge gauge) {
+                points.add(new PushPoint.Gauge(name, labels, gauge.value(TimeUnit.SECONDS)));
+            } else if (meter instanceof Gauge gauge) {
+                points.add(new PushPoint.Gauge(name, labels, gauge.value()));
+            } else if (meter instanceof Timer timer) {
+                HistogramSnapshot snapshot = timer.takeSnapshot();
+                points.add(histogram(id, name, labels, snapshot.histogramCounts(), TimeUnit.SECONDS,
+                                     snapshot.count(), snapshot.total(TimeUnit.SECONDS)));
+                points.add(new PushPoint.Gauge(name + "_max", labels, snapshot.max(TimeUnit.SECONDS)));
+            } else if (meter instanceof DistributionSummary summary) {
+                HistogramSnapshot snapshot = summary.takeSnapshot();
+                points.add(histogram(id, name, labels, snapshot.histogramCounts(), null,
+                                     snapshot.count(), snapshot.total()));
+                points.add(new PushPoint.Gauge(name + "_max", labels, snapshot.max()));
+            } else if (meter instanceof FunctionTimer timer) {
+                points.add(histogram(id, name, labels, new CountAtBucket[0], null,
+                                     (long) timer.count(), timer.totalTime(TimeUnit.SECONDS)));
+            } else if (meter instanceof LongTaskTimer timer) {
+                points.add(new PushPoint.Gauge(name + "_active_count", labels, timer.activeTasks()));
+                points.add(new PushPoint.Gauge(name + "_duration_sum", labels, timer.duration(TimeUnit.SECONDS)));
+            } else {
+                for (Measurement measurement : meter.measure()) {
+                    String suffix = switch (measurement.getStatistic()) {
+                        case VALUE, UNKNOWN -> "";
+                        default -> "_" + measurement.getStatistic().getTagValueRepresentation();
+                    };
+                    points.add(new PushPoint.Gauge(name + suffix, labels, measurement.getValue()));
+                }
+            }
+        }
+        previous.keySet().retainAll(live);
+        return points;
+    }
+
+    private PushPoint counter(Meter.Id id, String name, Map<String, String> labels, double total) {
+        double[] last = previous.put(id, new double[] {total});
+        // A counter that went down was re-registered; count from zero
+        double delta = last == null || total < last[0] ? total : total - last[0];
+        return new PushPoint.Counter(name, labels, total, delta);
+    }
+
+    private PushPoint histogram(Meter.Id id, String name, Map<String, String> labels, CountAtBucket[] buckets,
+                                TimeUnit unit, long count, double sum) {
+        double[] bounds = new double[buckets.length];
+        double[] cumulative = new double[buckets.length];
+        for (int i = 0; i < buckets.length; i++) {
+            bounds[i] = unit != null ? buckets[i].bucket(unit) : buckets[i].bucket();
+            cumulative[i] = buckets[i].count();
+        }
+
+        double[] state = new double[buckets.length + 2];
+        state[0] = count;
+        state[1] = sum;
+        System.arraycopy(cumulative, 0, state, 2, cumulative.length);
+        double[] last = previous.put(id, state);
+        if (last != null && (last.length != state.length || count < last[0])) {
+            last = null;
+        }
+
+        long deltaCount = (long) (count - (last == null ? 0 : last[0]));
+        double deltaSum = sum - (last == null ? 0 : last[1]);
+        long[] deltaBuckets = new long[buckets.length + 1];
+        long below = 0;
+        for (int i = 0; i < buckets.length; i++) {
+            long cumulativeDelta = (long) (cumulative[i] - (last == null ? 0 : last[i + 2]));
+            deltaBuckets[i] = cumulativeDelta - below;
+            below = cumulativeDelta;
+        }
+        deltaBuckets[buckets.length] = deltaCount - below;
+        return new PushPoint.Histogram(name, labels, bounds, cumulative, count, sum, deltaBuckets, deltaCount, deltaSum);
+    }
+
+    private static String counterName(String name) {
+        return name.endsWith("_total") ? name : name + "_total";
+    }
+}
@@ -0,0 +1,202 @@
+package com.example.insightpulse.push;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Pushes all meters to an OTLP/HTTP or Prometheus remote-write endpoint every
+ * {@code insightpulse.push.interval}, for collectors that cannot scrape the app.
+ * <p>
+ * Collection and sending run on separate threads joined by an {@link OffHeapBatchBuffer}: the
+ * collector encodes and compresses each batch once, and the sender retries the head batch with
+ * exponential backoff on 5xx, 429 and connection failures, so a slow or down collector never delays
+ * collection. Other 4xx responses mean the batch itself is bad, so it is dropped instead of retried.
+ */
+@Component
+@ConditionalOnProperty(prefix = "insightpulse.push", name = "enabled", havingValue = "true")
+public class MetricsPushExporter {
+
+    private static final Logger logger = LoggerFactory.getLogger(MetricsPushExporter.class);
+
+    enum SendResult { EMPTY, SENT, RETRY, REJECTED }
+
+    private final MeterDeltaCollector collector;
+    private final PushEncoder encoder;
+    private final OffHeapBatchBuffer buffer;
+    private final PushProperties properties;
+    private final URI endpoint;
+    private final HttpClient client;
+
+    private final Counter sent;
+    private final Counter retries;
+    private final Counter droppedOverflow;
+    private final Counter droppedRejected;
+    private final Counter droppedOversize;
+
+    private long lastCollectMillis = System.currentTimeMillis();
+    private ScheduledExecutorService collectorThread;
+    private Thread senderThread;
+
+    public MetricsPushExporter(MeterRegistry registry, PushProperties properties) {
+        if (properties.getEndpoint() == null) {
+            throw new IllegalStateException("insightpulse.push.endpoint must be set when push is enabled");
+        }
+        this.properties = properties;
+        this.endpoint = URI.create(properties.getEndpoint());
+        this.collector = new MeterDeltaCollector(registry);
+        this.encoder = switch (properties.getProtocol()) {
+            case OTLP -> new OtlpJsonEncoder(properties.getServiceName());
+            case REMOTE_WRITE -> new RemoteWriteEncoder(properties.getServiceName());
+        };
+        this.buffer = new OffHeapBatchBuffer((int) properties.getBufferSize().toBytes());
+        this.client = HttpClient.newBuilder().connectTimeout(properties.getRequestTimeout()).build();
+
+        Gauge.builder("metrics_push_queue_batches", buffer, OffHeapBatchBuffer::batches)
+             .description("Encoded push batches waiting to be sent")
+             .register(registry);
+        Gauge.builder("metrics_push_queue_bytes", buffer, OffHeapBatchBuffer::bytes)
+             .description("Off-heap bytes held by batches waiting to be sent")
+             .baseUnit("bytes")
+             .register(registry);
+        this.sent = Counter.builder("metrics_push_batches_sent_total")
+                           .description("Push batches accepted by the endpoint")
+                           .register(registry);
+        this.retries = Counter.builder("metrics_push_retries_total")
+                              .description("Push attempts that failed and will be retried")
+                              .register(registry);
+        this.droppedOverflow = dropped(registry, "overflow");
+        this.droppedRejected = dropped(registry, "rejected");
+        this.droppedOversize = dropped(registry, "oversize");
+    }
+
+    private static Counter dropped(MeterRegistry registry, String reason) {
+        return Counter.builder("metrics_push_batches_dropped_total")
+                      .description("Push batches discarded without being delivered")
+                      .tag("reason", reason)
+                      .register(registry);
+    }
+
+    @PostConstruct
+    public void start() {
+        long intervalMillis = properties.getInterval().toMillis();
+        collectorThread = Executors.newSingleThreadScheduledExecutor(Thread.ofPlatform().name("metrics-push-collector").daemon().factory());
+        collectorThread.scheduleAtFixedRate(() -> {
+            try {
+                collect(System.currentTimeMillis());
+            } catch (RuntimeException e) {
+                logger.warn("Metrics push collection failed", e);
+            }
+        }, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+        senderThread = Thread.ofPlatform().name("metrics-push-sender").daemon().start(this::sendLoop);
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (collectorThread != null) {
+            collectorThread.shutdownNow();
+        }
+        if (senderThread != null) {
+            senderThread.interrupt();
+        }
+    }
+
+    /**
+     * Reads every meter and queues the encoded batches. Called from the collector thread, or directly by tests.
+     */
+    void collect(long nowMillis) {
+        List<PushPoint> points = collector.collect();
+        int chunk = Math.max(1, properties.getMaxPointsPerRequest());
+        for (int from = 0; from < points.size(); from += chunk) {
+            byte[] batch = encoder.encode(points.subList(from, Math.min(points.size(), from + chunk)),
+                                          lastCollectMillis, nowMillis);
+            if (!buffer.fits(batch.length)) {
+                droppedOversize.increment();
+                continue;
+            }
+            droppedOverflow.increment(buffer.offer(batch));
+        }
+        lastCollectMillis = nowMillis;
+    }
+
+    /**
+     * Sends the oldest queued batch once, waiting up to {@code waitMillis} for one to be queued.
+     */
+    SendResult sendNext(long waitMillis) throws InterruptedException {
+        OffHeapBatchBuffer.Entry entry = buffer.peek(waitMillis);
+        if (entry == null) {
+            return SendResult.EMPTY;
+        }
+        HttpRequest.Builder request = HttpRequest.newBuilder(endpoint)
+                                                 .timeout(properties.getRequestTimeout())
+                                                 .header("Content-Type", encoder.contentType())
+                                                 .header("Content-Encoding", encoder.contentEncoding())
+                                                 .POST(HttpRequest.BodyPublishers.ofByteArray(entry.payload()));
+        if (properties.getProtocol() == PushProtocol.REMOTE_WRITE) {
+            request.header("X-Prometheus-Remote-Write-Version", "0.1.0");
+        }
+        for (Map.Entry<String, String> header : properties.getHeaders().entrySet()) {
+            request.header(header.getKey(), header.getValue());
+        }
+
+        int status;
+        try {
+            status = client.send(request.build(), HttpResponse.BodyHandlers.discarding()).statusCode();
+        } catch (IOException e) {
+            retries.increment();
+            logger.debug("Metrics push to {} failed: {}", endpoint, e.toString());
+            return SendResult.RETRY;
+        }
+        if (status >= 500 || status == 429) {
+            retries.increment();
+            return SendResult.RETRY;
+        }
+        buffer.remove(entry.seq());
+        if (status >= 400) {
+            droppedRejected.increment();
+            logger.warn("Metrics push to {} rejected with HTTP {}; batch dropped", endpoint, status);
+            return SendResult.REJECTED;
+        }
+        sent.increment();
+        return SendResult.SENT;
+    }
+
+    private void sendLoop() {
+        long minBackoff = Math.max(1, properties.getInterval().toMillis() / 4);
+        long maxBackoff = Math.max(minBackoff, properties.getMaxBackoff().toMillis());
+        long backoff = minBackoff;
+        try {
+            while (!Thread.currentThread().isInterrupted()) {
+                if (sendNext(1_000) == SendResult.RETRY) {
+                    Thread.sleep(backoff);
+                    backoff = Math.min(backoff * 2, maxBackoff);
+                } else {
+                    backoff = minBackoff;
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    int queuedBatches() {
+        return buffer.batches();
+    }
+}
@@ -0,0 +1,126 @@
+package com.example.insightpulse.push;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Bounded FIFO of encoded requests in a single direct buffer, so a long collector outage holds
+ * megabytes of pending batches without growing the heap or adding GC work.
+ * <p>
+ * Records are laid out back to back as {@code seq (8) | length (4) | payload}, wrapping around the
+ * end of the buffer. When a new batch does not fit, the oldest ones are evicted: fresh data is worth
+ * more than stale data once the buffer is full.
+ */
+final class OffHeapBatchBuffer {
+
+    private static final int HEADER = Long.BYTES + Integer.BYTES;
+
+    private final ByteBuffer buffer;
+    private final int capacity;
+    private int head;
+    private int used;
+    private int batches;
+    private long nextSeq;
+
+    OffHeapBatchBuffer(int capacity) {
+        this.capacity = capacity;
+        this.buffer = ByteBuffer.allocateDirect(capacity);
+    }
+
+    /**
+     * Whether a payload of this size can be buffered at all, even with everything else evicted.
+     */
+    boolean fits(int length) {
+        return HEADER + length <= capacity;
+    }
+
+    /**
+     * Appends a batch, evicting from the head until it fits. Returns how many batches were evicted.
+     */
+    synchronized int offer(byte[] payload) {
+        if (!fits(payload.length)) {
+            throw new IllegalArgumentException("Batch of " + payload.length + " bytes exceeds buffer of " + capacity);
+        }
+        int evicted = 0;
+        while (used + HEADER + payload.length > capacity) {
+            dropHead();
+            evicted++;
+        }
+        int tail = (head + used) % capacity;
+        tail = write(tail, ByteBuffer.allocate(HEADER).putLong(nextSeq++).putInt(payload.length).array());
+        write(tail, payload);
+        used += HEADER + payload.length;
+        batches++;
+        notifyAll();
+        return evicted;
+    }
+
+    /**
+     * Returns the oldest batch without removing it, waiting up to {@code timeoutMillis} for one to
+     * arrive; {@code null} if the buffer stays empty.
+     */
+    synchronized Entry peek(long timeoutMillis) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + timeoutMillis;
+        while (batches == 0) {
+            long remaining = deadline - System.currentTimeMillis();
+            if (remaining <= 0) {
+                return null;
+            }
+            wait(remaining);
+        }
+        byte[] header = new byte[HEADER];
+        int position = read(head, header);
+        ByteBuffer fields = ByteBuffer.wrap(header);
+        long seq = fields.getLong();
+        byte[] payload = new byte[fields.getInt()];
+        read(position, payload);
+        return new Entry(seq, payload);
+    }
+
+    /**
+     * Removes the head batch if it is still {@code seq}; it may already have been evicted while it
+     * was being sent.
+     */
+    synchronized void remove(long seq) {
+        if (batches > 0 && headHeader().getLong() == seq) {
+            dropHead();
+        }
+    }
+
+    synchronized int batches() {
+        return batches;
+    }
+
+    synchronized int bytes() {
+        return used;
+    }
+
+    private void dropHead() {
+        int length = HEADER + headHeader().getInt(Long.BYTES);
+        head = (head + length) % capacity;
+        used -= length;
+        batches--;
+    }
+
+    private ByteBuffer headHeader() {
+        byte[] header = new byte[HEADER];
+        read(head, header);
+        return ByteBuffer.wrap(header);
+    }
+
+    private int write(int position, byte[] source) {
+        int first = Math.min(source.length, capacity - position);
+        buffer.put(position, source, 0, first);
+        buffer.put(0, source, first, source.length - first);
+        return (position + source.length) % capacity;
+    }
+
+    private int read(int position, byte[] target) {
+        int first = Math.min(target.length, capacity - position);
+        buffer.get(position, target, 0, first);
+        buffer.get(0, target, first, target.length - first);
+        return (position + target.length) % capacity;
+    }
+
+    record Entry(long seq, byte[] payload) {
+    }
+}
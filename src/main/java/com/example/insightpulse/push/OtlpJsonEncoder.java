@@ -0,0 +1,130 @@
+package com.example.insightpulse.push;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * OTLP/HTTP {@code ExportMetricsServiceRequest} in the protobuf JSON mapping, gzip-compressed.
+ * <p>
+ * Counters become monotonic delta sums and timers/summaries delta histograms, so only what changed
+ * since the last push is sent; series that did not move are left out entirely.
+ */
+final class OtlpJsonEncoder implements PushEncoder {
+
+    private static final int AGGREGATION_TEMPORALITY_DELTA = 1;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final String serviceName;
+
+    OtlpJsonEncoder(String serviceName) {
+        this.serviceName = serviceName;
+    }
+
+    @Override
+    public String contentType() {
+        return "application/json";
+    }
+
+    @Override
+    public String contentEncoding() {
+        return "gzip";
+    }
+
+    @Override
+    public byte[] encode(List<PushPoint> points, long startMillis, long timeMillis) {
+        String start = String.valueOf(startMillis * 1_000_000);
+        String time = String.valueOf(timeMillis * 1_000_000);
+
+        // One OTLP metric per name, holding a data point per label set
+        Map<String, Map<String, Object>> metrics = new LinkedHashMap<>();
+        for (PushPoint point : points) {
+            Map<String, Object> dataPoint = new LinkedHashMap<>();
+            dataPoint.put("attributes", attributes(point.labels()));
+            switch (point) {
+                case PushPoint.Counter counter -> {
+                    if (counter.delta() == 0) {
+                        continue;
+                    }
+                    dataPoint.put("startTimeUnixNano", start);
+                    dataPoint.put("timeUnixNano", time);
+                    dataPoint.put("asDouble", counter.delta());
+                    dataPoints(metrics, counter.name(), "sum", true).add(dataPoint);
+                }
+                case PushPoint.Gauge gauge -> {
+                    if (Double.isNaN(gauge.value())) {
+                        continue;
+                    }
+                    dataPoint.put("timeUnixNano", time);
+                    dataPoint.put("asDouble", gauge.value());
+                    dataPoints(metrics, gauge.name(), "gauge", false).add(dataPoint);
+                }
+                case PushPoint.Histogram histogram -> {
+                    if (histogram.deltaCount() == 0) {
+                        continue;
+                    }
+                    dataPoint.put("startTimeUnixNano", start);
+                    dataPoint.put("timeUnixNano", time);
+                    dataPoint.put("count", String.valueOf(histogram.deltaCount()));
+                    dataPoint.put("sum", histogram.deltaSum());
+                    if (histogram.bounds().length > 0) {
+                        List<String> counts = new ArrayList<>(histogram.deltaBuckets().length);
+                        for (long count : histogram.deltaBuckets()) {
+                            counts.add(String.valueOf(count));
+                        }
+                        dataPoint.put("bucketCounts", counts);
+                        dataPoint.put("explicitBounds", histogram.bounds());
+                    }
+                    dataPoints(metrics, histogram.name(), "histogram", false).add(dataPoint);
+                }
+            }
+        }
+
+        Map<String, Object> resource = Map.of("attributes", attributes(Map.of("service.name", serviceName)));
+        Map<String, Object> scope = Map.of("scope", Map.of("name", "com.example.insightpulse"),
+                                           "metrics", List.copyOf(metrics.values()));
+        Map<String, Object> body = Map.of("resourceMetrics",
+                                          List.of(Map.of("resource", resource, "scopeMetrics", List.of(scope))));
+
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(compressed)) {
+            objectMapper.writeValue(gzip, body);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return compressed.toByteArray();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<Object> dataPoints(Map<String, Map<String, Object>> metrics, String name, String type,
+                                           boolean monotonic) {
+        Map<String, Object> metric = metrics.computeIfAbsent(name, n -> {
+            Map<String, Object> data = new LinkedHashMap<>();
+            data.put("dataPoints", new ArrayList<>());
+            if (!type.equals("gauge")) {
+                data.put("aggregationTemporality", AGGREGATION_TEMPORALITY_DELTA);
+            }
+            if (monotonic) {
+                data.put("isMonotonic", true);
+            }
+            Map<String, Object> created = new LinkedHashMap<>();
+            created.put("name", n);
+            created.put(type, data);
+            return created;
+        });
+        return (List<Object>) ((Map<String, Object>) metric.get(type)).get("dataPoints");
+    }
+
+    private static List<Map<String, Object>> attributes(Map<String, String> labels) {
+        List<Map<String, Object>> attributes = new ArrayList<>(labels.size());
+        labels.forEach((key, value) -> attributes.add(Map.of("key", key, "value", Map.of("stringValue", value))));
+        return attributes;
+    }
+}
@@ -0,0 +1,86 @@
+package com.example.insightpulse.push;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Just enough protobuf wire format for the remote-write messages: varints, doubles, strings and
+ * nested messages (written into a child writer, then copied in with their length).
+ */
+final class ProtobufWriter {
+
+    private static final int VARINT = 0;
+    private static final int FIXED64 = 1;
+    private static final int LENGTH_DELIMITED = 2;
+
+    private byte[] bytes;
+    private int size;
+
+    ProtobufWriter(int capacity) {
+        this.bytes = new byte[capacity];
+    }
+
+    void reset() {
+        size = 0;
+    }
+
+    int size() {
+        return size;
+    }
+
+    byte[] toByteArray() {
+        return Arrays.copyOf(bytes, size);
+    }
+
+    void writeString(int field, String value) {
+        byte[] utf8 = value.getBytes(StandardCharsets.UTF_8);
+        tag(field, LENGTH_DELIMITED);
+        varint(utf8.length);
+        write(utf8, 0, utf8.length);
+    }
+
+    void writeDouble(int field, double value) {
+        tag(field, FIXED64);
+        long bits = Double.doubleToRawLongBits(value);
+        ensure(8);
+        for (int i = 0; i < 8; i++) {
+            bytes[size++] = (byte) (bits >>> (8 * i));
+        }
+    }
+
+    void writeInt64(int field, long value) {
+        tag(field, VARINT);
+        varint(value);
+    }
+
+    void writeMessage(int field, ProtobufWriter message) {
+        tag(field, LENGTH_DELIMITED);
+        varint(message.size);
+        write(message.bytes, 0, message.size);
+    }
+
+    private void tag(int field, int wireType) {
+        varint((long) field << 3 | wireType);
+    }
+
+    private void varint(long value) {
+        ensure(10);
+        while ((value & ~0x7FL) != 0) {
+            bytes[size++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        bytes[size++] = (byte) value;
+    }
+
+    private void write(byte[] source, int offset, int length) {
+        ensure(length);
+        System.arraycopy(source, offset, bytes, size, length);
+        size += length;
+    }
+
+    private void ensure(int extra) {
+        if (size + extra > bytes.length) {
+            bytes = Arrays.copyOf(bytes, Math.max(bytes.length * 2, size + extra));
+        }
+    }
+}
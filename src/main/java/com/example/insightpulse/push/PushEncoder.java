@@ -0,0 +1,19 @@
+package com.example.insightpulse.push;
+
+import java.util.List;
+
+/**
+ * Turns one request's worth of points into a compressed request body.
+ */
+interface PushEncoder {
+
+    String contentType();
+
+    String contentEncoding();
+
+    /**
+     * @param startMillis previous collection time, the start of the delta interval
+     * @param timeMillis  this collection's time
+     */
+    byte[] encode(List<PushPoint> points, long startMillis, long timeMillis);
+}
@@ -0,0 +1,30 @@
+package com.example.insightpulse.push;
+
+import java.util.Map;
+
+/**
+ * One series as collected for a push: Prometheus-style name, labels, and both the cumulative value
+ * (for remote-write) and the change since the previous collection (for OTLP delta temporality).
+ */
+sealed interface PushPoint {
+
+    String name();
+
+    Map<String, String> labels();
+
+    record Counter(String name, Map<String, String> labels, double total, double delta) implements PushPoint {
+    }
+
+    record Gauge(String name, Map<String, String> labels, double value) implements PushPoint {
+    }
+
+    /**
+     * @param bounds       finite bucket upper bounds, ascending
+     * @param cumulative   cumulative count at each bound ({@code le}), since the meter was created
+     * @param deltaBuckets per-bucket counts since the last collection, with a final {@code +Inf} bucket
+     */
+    record Histogram(String name, Map<String, String> labels, double[] bounds, double[] cumulative,
+                     double count, double sum, long[] deltaBuckets, long deltaCount, double deltaSum)
+            implements PushPoint {
+    }
+}
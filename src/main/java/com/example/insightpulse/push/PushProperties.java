@@ -0,0 +1,122 @@
+package com.example.insightpulse.push;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Metrics push export settings, bound from {@code insightpulse.push.*}.
+ */
+@ConfigurationProperties(prefix = "insightpulse.push")
+public class PushProperties {
+
+    private boolean enabled = false;
+
+    private PushProtocol protocol = PushProtocol.OTLP;
+
+    // e.g. http://otel-collector:4318/v1/metrics or http://prometheus:9090/api/v1/write
+    private String endpoint;
+
+    // Extra request headers, e.g. Authorization
+    private Map<String, String> headers = new LinkedHashMap<>();
+
+    // Collection and push period
+    private Duration interval = Duration.ofSeconds(15);
+
+    // Points per request; larger collections are split into several requests
+    private int maxPointsPerRequest = 2000;
+
+    // Off-heap retry buffer for encoded requests; the oldest are dropped when it is full
+    private DataSize bufferSize = DataSize.ofMegabytes(16);
+
+    private Duration requestTimeout = Duration.ofSeconds(10);
+
+    // Retry backoff doubles from interval / 4 up to this
+    private Duration maxBackoff = Duration.ofSeconds(30);
+
+    // service.name resource attribute (OTLP) and job label (remote-write)
+    private String serviceName = "insightpulse";
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public PushProtocol getProtocol() {
+        return protocol;
+    }
+
+    public void setProtocol(PushProtocol protocol) {
+        this.protocol = protocol;
+    }
+
+    public String getEndpoint() {
+        return endpoint;
+    }
+
+    public void setEndpoint(String endpoint) {
+        this.endpoint = endpoint;
+    }
+
+    public Map<String, String> getHeaders() {
+        return headers;
+    }
+
+    public void setHeaders(Map<String, String> headers) {
+        this.headers = headers;
+    }
+
+    public Duration getInterval() {
+        return interval;
+    }
+
+    public void setInterval(Duration interval) {
+        this.interval = interval;
+    }
+
+    public int getMaxPointsPerRequest() {
+        return maxPointsPerRequest;
+    }
+
+    public void setMaxPointsPerRequest(int maxPointsPerRequest) {
+        this.maxPointsPerRequest = maxPointsPerRequest;
+    }
+
+    public DataSize getBufferSize() {
+        return bufferSize;
+    }
+
+    public void setBufferSize(DataSize bufferSize) {
+        this.bufferSize = bufferSize;
+    }
+
+    public Duration getRequestTimeout() {
+        return requestTimeout;
+    }
+
+    public void setRequestTimeout(Duration requestTimeout) {
+        this.requestTimeout = requestTimeout;
+    }
+
+    public Duration getMaxBackoff() {
+        return maxBackoff;
+    }
+
+    public void setMaxBackoff(Duration maxBackoff) {
+        this.maxBackoff = maxBackoff;
+    }
+
+    public String getServiceName() {
+        return serviceName;
+    }
+
+    public void setServiceName(String serviceName) {
+        this.serviceName = serviceName;
+    }
+}
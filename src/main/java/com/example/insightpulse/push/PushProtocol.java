@@ -0,0 +1,12 @@
+package com.example.insightpulse.push;
+
+public enum PushProtocol {
+    /**
+     * OTLP/HTTP metrics with JSON encoding and delta temporality, gzip-compressed.
+     */
+    OTLP,
+    /**
+     * Prometheus remote-write 1.0: snappy-compressed protobuf, cumulative samples.
+     */
+    REMOTE_WRITE
+}
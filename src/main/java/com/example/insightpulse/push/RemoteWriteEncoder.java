@@ -0,0 +1,103 @@
+package com.example.insightpulse.push;
+
+import org.xerial.snappy.Snappy;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Prometheus remote-write 1.0 {@code WriteRequest}, snappy block-compressed. Histograms are flattened
+ * into {@code _bucket}/{@code _count}/{@code _sum} series with cumulative values, as a scrape would
+ * have produced them.
+ */
+final class RemoteWriteEncoder implements PushEncoder {
+
+    // WriteRequest.timeseries, TimeSeries.labels/samples, Label.name/value, Sample.value/timestamp
+    private static final int TIMESERIES = 1;
+    private static final int LABELS = 1;
+    private static final int SAMPLES = 2;
+    private static final int NAME = 1;
+    private static final int VALUE = 2;
+    private static final int SAMPLE_VALUE = 1;
+    private static final int SAMPLE_TIMESTAMP = 2;
+
+    private final String job;
+
+    // Encoding only happens on the collector thread
+    private final ProtobufWriter request = new ProtobufWriter(64 * 1024);
+    private final ProtobufWriter series = new ProtobufWriter(512);
+    private final ProtobufWriter field = new ProtobufWriter(128);
+
+    RemoteWriteEncoder(String job) {
+        this.job = job;
+    }
+
+    @Override
+    public String contentType() {
+        return "application/x-protobuf";
+    }
+
+    @Override
+    public String contentEncoding() {
+        return "snappy";
+    }
+
+    @Override
+    public byte[] encode(List<PushPoint> points, long startMillis, long timeMillis) {
+        request.reset();
+        for (PushPoint point : points) {
+            switch (point) {
+                case PushPoint.Counter counter -> sample(counter.name(), counter.labels(), null, counter.total(), timeMillis);
+                case PushPoint.Gauge gauge -> sample(gauge.name(), gauge.labels(), null, gauge.value(), timeMillis);
+                case PushPoint.Histogram histogram -> {
+                    for (int i = 0; i < histogram.bounds().length; i++) {
+                        sample(histogram.name() + "_bucket", histogram.labels(), formatBound(histogram.bounds()[i]),
+                               histogram.cumulative()[i], timeMillis);
+                    }
+                    if (histogram.bounds().length > 0) {
+                        sample(histogram.name() + "_bucket", histogram.labels(), "+Inf", histogram.count(), timeMillis);
+                    }
+                    sample(histogram.name() + "_count", histogram.labels(), null, histogram.count(), timeMillis);
+                    sample(histogram.name() + "_sum", histogram.labels(), null, histogram.sum(), timeMillis);
+                }
+            }
+        }
+        try {
+            return Snappy.compress(request.toByteArray());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void sample(String name, Map<String, String> labels, String le, double value, long timeMillis) {
+        // Labels must be sorted by name; __name__ sorts first
+        Map<String, String> sorted = new TreeMap<>(labels);
+        sorted.put("__name__", name);
+        sorted.putIfAbsent("job", job);
+        if (le != null) {
+            sorted.put("le", le);
+        }
+
+        series.reset();
+        for (Map.Entry<String, String> label : sorted.entrySet()) {
+            field.reset();
+            field.writeString(NAME, label.getKey());
+            field.writeString(VALUE, label.getValue());
+            series.writeMessage(LABELS, field);
+        }
+        field.reset();
+        field.writeDouble(SAMPLE_VALUE, value);
+        field.writeInt64(SAMPLE_TIMESTAMP, timeMillis);
+        series.writeMessage(SAMPLES, field);
+        request.writeMessage(TIMESERIES, series);
+    }
+
+    private static String formatBound(double le) {
+        String plain = Double.toString(le);
+        return plain.contains("E") ? BigDecimal.valueOf(le).toPlainString() : plain;
+    }
+}
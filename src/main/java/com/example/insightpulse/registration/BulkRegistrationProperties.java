@@ -0,0 +1,65 @@
+package com.example.insightpulse.registration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Bulk user import settings, bound from {@code insightpulse.registration.bulk.*}.
+ */
+@ConfigurationProperties(prefix = "insightpulse.registration.bulk")
+public class BulkRegistrationProperties {
+
+    // Records per batch; metrics and progress are updated once per batch
+    private int batchSize = 1_000;
+
+    // Worker threads shared by all imports; 0 = one per CPU
+    private int parallelism;
+
+    // Batches one import may have queued or running; bounds the memory an upload can hold
+    private int maxPendingBatches = 8;
+
+    // Longer lines are skipped without being buffered and reported as TOO_LONG
+    private int maxRecordLength = 4_096;
+
+    // Rejected records listed in an import's progress; all of them are still counted
+    private int maxReportedRejections = 1_000;
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    public void setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+    }
+
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    public void setParallelism(int parallelism) {
+        this.parallelism = parallelism;
+    }
+
+    public int getMaxPendingBatches() {
+        return maxPendingBatches;
+    }
+
+    public void setMaxPendingBatches(int maxPendingBatches) {
+        this.maxPendingBatches = maxPendingBatches;
+    }
+
+    public int getMaxRecordLength() {
+        return maxRecordLength;
+    }
+
+    public void setMaxRecordLength(int maxRecordLength) {
+        this.maxRecordLength = maxRecordLength;
+    }
+
+    public int getMaxReportedRejections() {
+        return maxReportedRejections;
+    }
+
+    public void setMaxReportedRejections(int maxReportedRejections) {
+        this.maxReportedRejections = maxReportedRejections;
+    }
+}
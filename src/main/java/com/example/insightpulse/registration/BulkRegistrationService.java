@@ -0,0 +1,258 @@
+package com.example.insightpulse.registration;
+
+import com.example.insightpulse.registration.RecordFormat.Header;
+import com.example.insightpulse.registration.RecordFormat.MalformedRecordException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.InterruptedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Registers users from a streamed NDJSON or CSV body.
+ * <p>
+ * The calling thread only splits the body into lines and cuts them into batches; parsing, validation
+ * and registration run on a shared worker pool. Each import may have at most
+ * {@code max-pending-batches} batches queued or running, so the reader waits when the workers fall
+ * behind and an upload never sits in memory as a whole. Metrics and progress are updated once per
+ * batch: {@code user_registration_throughput_total}, {@code user_registration_rejected_total{reason}}
+ * and {@code user_registration_batch_seconds}.
+ */
+@Component
+public class BulkRegistrationService {
+
+    private final UserRegistrar registrar;
+    private final BulkRegistrationProperties properties;
+    private final ThreadPoolExecutor workers;
+    private final Timer batchDuration;
+
+    public BulkRegistrationService(UserRegistrar registrar, BulkRegistrationProperties properties,
+                                   MeterRegistry registry) {
+        this.registrar = registrar;
+        this.properties = properties;
+        int parallelism = properties.getParallelism() > 0
+                          ? properties.getParallelism() : Runtime.getRuntime().availableProcessors();
+        // Unbounded queue: each import bounds its own share with a semaphore
+        this.workers = new ThreadPoolExecutor(parallelism, parallelism, 0L, TimeUnit.MILLISECONDS,
+                                              new LinkedBlockingQueue<>(),
+                                              Thread.ofPlatform().name("user-import-", 0).daemon(true).factory());
+        this.batchDuration = Timer.builder("user_registration_batch_seconds")
+                                  .description("Time to parse, validate and register one import batch")
+                                  .register(registry);
+    }
+
+    /**
+     * Imports every record in {@code body}, calling {@code listener} after each batch (one call at a
+     * time, in completion order).
+     *
+     * @throws IllegalArgumentException if a CSV body has no header naming an {@code email} column
+     * @throws IOException              if reading the body or reporting progress fails; batches already
+     *                                  submitted still finish
+     */
+    public ImportSummary ingest(InputStream body, RecordFormat format, ProgressListener listener) throws IOException {
+        LineReader lines = new LineReader(new InputStreamReader(body, StandardCharsets.UTF_8),
+                                          properties.getMaxRecordLength());
+        Import run = new Import(format, header(lines, format), listener);
+        try {
+            int batchSize = Math.max(1, properties.getBatchSize());
+            List<String> batch = new ArrayList<>(batchSize);
+            long[] lineNumbers = new long[batchSize];
+            String line;
+            while ((line = lines.readLine()) != null && run.failure.get() == null) {
+                if (line != LineReader.TOO_LONG && line.isBlank()) {
+                    continue;
+                }
+                lineNumbers[batch.size()] = lines.lineNumber();
+                batch.add(line);
+                if (batch.size() == batchSize) {
+                    run.submit(batch, lineNumbers);
+                    batch = new ArrayList<>(batchSize);
+                    lineNumbers = new long[batchSize];
+                }
+            }
+            if (!batch.isEmpty() && run.failure.get() == null) {
+                run.submit(batch, lineNumbers);
+            }
+        } finally {
+            run.awaitBatches();
+        }
+        if (run.failure.get() != null) {
+            throw run.failure.get();
+        }
+        return run.summary();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        workers.shutdownNow();
+    }
+
+    private static Header header(LineReader lines, RecordFormat format) throws IOException {
+        if (format != RecordFormat.CSV) {
+            return null;
+        }
+        String line;
+        while ((line = lines.readLine()) != null && line != LineReader.TOO_LONG && line.isBlank()) {
+            // Skip leading blank lines
+        }
+        try {
+            if (line == null || line == LineReader.TOO_LONG) {
+                throw new MalformedRecordException();
+            }
+            return format.header(line);
+        } catch (MalformedRecordException e) {
+            throw new IllegalArgumentException("CSV body must start with a header naming an email column");
+        }
+    }
+
+    @FunctionalInterface
+    public interface ProgressListener {
+
+        void batchCompleted(BatchProgress progress) throws IOException;
+    }
+
+    /**
+     * @param totalRecords   records finished so far in this import, this batch included
+     * @param rejections     this batch's rejected records, until the import's reporting budget is spent
+     * @param recordsPerSecond import throughput so far
+     */
+    public record BatchProgress(int batch, int records, int accepted, int rejected, List<RejectedRecord> rejections,
+                                long totalRecords, long totalRejected, double recordsPerSecond) {
+    }
+
+    public record RejectedRecord(long line, RejectionReason reason) {
+    }
+
+    public record ImportSummary(long records, long accepted, long rejected, int batches, long durationMillis,
+                                double recordsPerSecond) {
+    }
+
+    /**
+     * State of one {@link #ingest} call.
+     */
+    private final class Import {
+
+        private final RecordFormat format;
+        private final Header header;
+        private final ProgressListener listener;
+        private final long start = System.nanoTime();
+        private final int maxPending = Math.max(1, properties.getMaxPendingBatches());
+        private final Semaphore pending = new Semaphore(maxPending);
+        private final AtomicInteger batches = new AtomicInteger();
+        private final AtomicInteger reportBudget = new AtomicInteger(properties.getMaxReportedRejections());
+        private final AtomicLong records = new AtomicLong();
+        private final AtomicLong rejected = new AtomicLong();
+        private final AtomicReference<IOException> failure = new AtomicReference<>();
+
+        Import(RecordFormat format, Header header, ProgressListener listener) {
+            this.format = format;
+            this.header = header;
+            this.listener = listener;
+        }
+
+        void submit(List<String> lines, long[] lineNumbers) throws InterruptedIOException {
+            try {
+                pending.acquire();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("Interrupted while waiting for import workers");
+            }
+            int number = batches.incrementAndGet();
+            try {
+                workers.execute(() -> {
+                    try {
+                        process(number, lines, lineNumbers);
+                    } catch (IOException e) {
+                        failure.compareAndSet(null, e);
+                    } catch (RuntimeException e) {
+                        failure.compareAndSet(null, new IOException("Import batch " + number + " failed", e));
+                    } finally {
+                        pending.release();
+                    }
+                });
+            } catch (RuntimeException e) {
+                pending.release();
+                throw e;
+            }
+        }
+
+        void awaitBatches() throws InterruptedIOException {
+            try {
+                pending.acquire(maxPending);
+                pending.release(maxPending);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("Interrupted while waiting for import workers");
+            }
+        }
+
+        private void process(int number, List<String> lines, long[] lineNumbers) throws IOException {
+            long batchStart = System.nanoTime();
+            int accepted = 0;
+            long[] byReason = new long[RejectionReason.values().length];
+            List<RejectedRecord> rejections = new ArrayList<>();
+            for (int i = 0; i < lines.size(); i++) {
+                RejectionReason reason = check(lines.get(i));
+                if (reason == null) {
+                    accepted++;
+                    continue;
+                }
+                byReason[reason.ordinal()]++;
+                if (reportBudget.getAndDecrement() > 0) {
+                    rejections.add(new RejectedRecord(lineNumbers[i], reason));
+                }
+            }
+            // One update per batch, not per record
+            registrar.registered(accepted);
+            for (RejectionReason reason : RejectionReason.values()) {
+                registrar.rejected(reason, byReason[reason.ordinal()]);
+            }
+            batchDuration.record(System.nanoTime() - batchStart, TimeUnit.NANOSECONDS);
+
+            int batchRejected = lines.size() - accepted;
+            long totalRecords = records.addAndGet(lines.size());
+            long totalRejected = rejected.addAndGet(batchRejected);
+            BatchProgress progress = new BatchProgress(number, lines.size(), accepted, batchRejected, rejections,
+                                                       totalRecords, totalRejected, perSecond(totalRecords));
+            synchronized (listener) {
+                listener.batchCompleted(progress);
+            }
+        }
+
+        private RejectionReason check(String line) {
+            if (line == LineReader.TOO_LONG) {
+                return RejectionReason.TOO_LONG;
+            }
+            try {
+                return registrar.validate(format.parse(line, header));
+            } catch (MalformedRecordException e) {
+                return RejectionReason.MALFORMED;
+            }
+        }
+
+        ImportSummary summary() {
+            long total = records.get();
+            return new ImportSummary(total, total - rejected.get(), rejected.get(), batches.get(),
+                                     TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start), perSecond(total));
+        }
+
+        private double perSecond(long count) {
+            long elapsed = System.nanoTime() - start;
+            return elapsed > 0 ? count * 1e9 / elapsed : 0;
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package com.example.insightpulse.registration;
+
+import java.io.IOException;
+import java.io.Reader;
+
+/**
+ * Reads lines of at most {@code maxLength} characters from a stream without ever holding more than
+ * one line. The rest of a longer line is skipped and the line reported as {@link #TOO_LONG}.
+ */
+final class LineReader {
+
+    /**
+     * Returned in place of a line longer than the limit.
+     */
+    static final String TOO_LONG = new String("<too long>");
+
+    private final Reader in;
+    private final int maxLength;
+    private final char[] buffer = new char[8192];
+    private final StringBuilder line = new StringBuilder();
+    private int position;
+    private int limit;
+    private long lineNumber;
+
+    LineReader(Reader in, int maxLength) {
+        this.in = in;
+        this.maxLength = maxLength;
+    }
+
+    /**
+     * The next line without its terminator, {@link #TOO_LONG}, or {@code null} at the end of the stream.
+     */
+    String readLine() throws IOException {
+        line.setLength(0);
+        boolean tooLong = false;
+        while (true) {
+            if (position == limit) {
+                limit = in.read(buffer);
+                position = 0;
+                if (limit <= 0) {
+                    limit = 0;
+                    if (line.isEmpty() && !tooLong) {
+                        return null;
+                    }
+                    return finish(tooLong);
+                }
+            }
+            int start = position;
+            while (position < limit && buffer[position] != '\n') {
+                position++;
+            }
+            if (!tooLong) {
+                int length = position - start;
+                if (line.length() + length > maxLength + 1) {
+                    // One extra char allowed for a trailing '\r'
+                    tooLong = true;
+                    line.setLength(0);
+                } else {
+                    line.append(buffer, start, length);
+                }
+            }
+            if (position < limit) {
+                position++;
+                return finish(tooLong);
+            }
+        }
+    }
+
+    /**
+     * 1-based number of the line last returned.
+     */
+    long lineNumber() {
+        return lineNumber;
+    }
+
+    private String finish(boolean tooLong) {
+        lineNumber++;
+        if (tooLong) {
+            return TOO_LONG;
+        }
+        int length = line.length();
+        if (length > 0 && line.charAt(length - 1) == '\r') {
+            line.setLength(--length);
+        }
+        return length > maxLength ? TOO_LONG : line.toString();
+    }
+}
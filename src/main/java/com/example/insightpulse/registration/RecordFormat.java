@@ -0,0 +1,135 @@
+package com.example.insightpulse.registration;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Import body formats. Both are line-oriented, so records can be cut into batches before parsing and
+ * parsed on the workers.
+ */
+public enum RecordFormat {
+
+    /**
+     * One JSON object per line: {@code {"email":"ada@example.com","name":"Ada"}}.
+     */
+    NDJSON {
+        private final ObjectReader reader = new ObjectMapper().reader();
+
+        @Override
+        Header header(String firstLine) {
+            return null;
+        }
+
+        @Override
+        UserRecord parse(String line, Header header) throws MalformedRecordException {
+            try {
+                JsonNode node = reader.readTree(line);
+                if (node == null || !node.isObject()) {
+                    throw new MalformedRecordException();
+                }
+                return new UserRecord(text(node.get("email")), text(node.get("name")));
+            } catch (IOException e) {
+                throw new MalformedRecordException();
+            }
+        }
+
+        private static String text(JsonNode value) {
+            return value != null && value.isValueNode() && !value.isNull() ? value.asText() : null;
+        }
+    },
+
+    /**
+     * Comma-separated with a header line naming the {@code email} and {@code name} columns, in any
+     * order; fields may be double-quoted, with {@code ""} for a quote.
+     */
+    CSV {
+        @Override
+        Header header(String firstLine) throws MalformedRecordException {
+            List<String> columns = split(firstLine);
+            int email = -1;
+            int name = -1;
+            for (int i = 0; i < columns.size(); i++) {
+                String column = columns.get(i).trim().toLowerCase(Locale.ROOT);
+                if (column.equals("email")) {
+                    email = i;
+                } else if (column.equals("name")) {
+                    name = i;
+                }
+            }
+            if (email < 0) {
+                throw new MalformedRecordException();
+            }
+            return new Header(email, name);
+        }
+
+        @Override
+        UserRecord parse(String line, Header header) throws MalformedRecordException {
+            List<String> fields = split(line);
+            return new UserRecord(field(fields, header.email()), field(fields, header.name()));
+        }
+
+        private static String field(List<String> fields, int index) {
+            return index >= 0 && index < fields.size() ? fields.get(index) : null;
+        }
+
+        private static List<String> split(String line) throws MalformedRecordException {
+            List<String> fields = new ArrayList<>();
+            StringBuilder field = new StringBuilder();
+            boolean quoted = false;
+            for (int i = 0; i < line.length(); i++) {
+                char c = line.charAt(i);
+                if (quoted) {
+                    if (c != '"') {
+                        field.append(c);
+                    } else if (i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                        field.append('"');
+                        i++;
+                    } else {
+                        quoted = false;
+                    }
+                } else if (c == '"' && field.isEmpty()) {
+                    quoted = true;
+                } else if (c == ',') {
+                    fields.add(field.toString());
+                    field.setLength(0);
+                } else {
+                    field.append(c);
+                }
+            }
+            if (quoted) {
+                throw new MalformedRecordException();
+            }
+            fields.add(field.toString());
+            return fields;
+        }
+    };
+
+    /**
+     * Column positions from a CSV header; {@code -1} if absent.
+     */
+    record Header(int email, int name) {
+    }
+
+    /**
+     * Reads the header from the first line, or returns {@code null} if the format has none.
+     */
+    abstract Header header(String firstLine) throws MalformedRecordException;
+
+    abstract UserRecord parse(String line, Header header) throws MalformedRecordException;
+
+    /**
+     * Stackless: bad lines are expected input, counted and reported by line number.
+     */
+    static final class MalformedRecordException extends Exception {
+
+        MalformedRecordException() {
+            super("Malformed record", null, false, false);
+        }
+    }
+}
@@ -0,0 +1,8 @@
+package com.example.insightpulse.registration;
+
+/**
+ * Why an imported record was not registered; the {@code reason} tag of {@code user_registration_rejected_total}.
+ */
+public enum RejectionReason {
+    MALFORMED, TOO_LONG, MISSING_EMAIL, INVALID_EMAIL, MISSING_NAME
+}
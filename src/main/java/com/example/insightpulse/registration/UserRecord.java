@@ -0,0 +1,7 @@
+package com.example.insightpulse.registration;
+
+/**
+ * One user from an import.
+ */
+public record UserRecord(String email, String name) {
+}
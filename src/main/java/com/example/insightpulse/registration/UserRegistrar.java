@@ -0,0 +1,66 @@
+package com.example.insightpulse.registration;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * Validates and registers users, and owns {@code user_registration_throughput_total} and
+ * {@code user_registration_rejected_total{reason}}. Callers report counts, so a bulk import pays
+ * one counter update per batch instead of one per user.
+ */
+@Component
+public class UserRegistrar {
+
+    private static final Pattern EMAIL = Pattern.compile("[^@\\s]+@[^@\\s]+\\.[^@\\s]+");
+    private static final int MAX_EMAIL_LENGTH = 254;
+
+    private final Counter registrations;
+    private final Map<RejectionReason, Counter> rejections = new EnumMap<>(RejectionReason.class);
+
+    public UserRegistrar(MeterRegistry registry) {
+        // Registered users, single and bulk
+        this.registrations = Counter.builder("user_registration_throughput_total")
+                                    .description("Users registered")
+                                    .register(registry);
+        for (RejectionReason reason : RejectionReason.values()) {
+            rejections.put(reason, Counter.builder("user_registration_rejected_total")
+                                          .description("Imported user records rejected")
+                                          .tag("reason", reason.name())
+                                          .register(registry));
+        }
+    }
+
+    /**
+     * Checks a record; {@code null} means it can be registered.
+     */
+    public RejectionReason validate(UserRecord user) {
+        String email = user.email();
+        if (email == null || email.isBlank()) {
+            return RejectionReason.MISSING_EMAIL;
+        }
+        if (email.length() > MAX_EMAIL_LENGTH || !EMAIL.matcher(email).matches()) {
+            return RejectionReason.INVALID_EMAIL;
+        }
+        if (user.name() == null || user.name().isBlank()) {
+            return RejectionReason.MISSING_NAME;
+        }
+        return null;
+    }
+
+    public void registered(long count) {
+        if (count > 0) {
+            registrations.increment(count);
+        }
+    }
+
+    public void rejected(RejectionReason reason, long count) {
+        if (count > 0) {
+            rejections.get(reason).increment(count);
+        }
+    }
+}
@@ -0,0 +1,197 @@
+package com.example.insightpulse.report;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * The chunks of one report, filled by the request generating it and read by any number of others:
+ * a reader that arrives mid-generation replays what exists and then follows along as chunks land.
+ * Once finished, the same buffer is the cache entry.
+ * <p>
+ * A report that grows past {@code maxRecordedBytes} can no longer be cached, so from then on chunks
+ * are only kept until every reader already following has written them, and new readers are turned
+ * away to generate their own copy.
+ * <p>
+ * Uses a {@link ReentrantLock} rather than {@code synchronized}, so readers waiting on virtual
+ * threads release their carrier.
+ */
+final class ReportBuffer {
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition changed = lock.newCondition();
+    private final long maxRecordedBytes;
+    // Released chunks are nulled out; every reader is past them
+    private final List<byte[]> chunks = new ArrayList<>();
+    private final List<Reader> readers = new ArrayList<>();
+    private int released;
+    private long bytes;
+    private boolean overflowed;
+    private boolean finished;
+    private Throwable failure;
+
+    ReportBuffer(long maxRecordedBytes) {
+        this.maxRecordedBytes = maxRecordedBytes;
+    }
+
+    /**
+     * @return {@code false} once the report has outgrown {@code maxRecordedBytes}
+     */
+    boolean append(byte[] chunk) {
+        lock.lock();
+        try {
+            chunks.add(chunk);
+            bytes += chunk.length;
+            if (bytes > maxRecordedBytes) {
+                overflowed = true;
+                release();
+            }
+            changed.signalAll();
+            return !overflowed;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    void finish() {
+        lock.lock();
+        try {
+            finished = true;
+            changed.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    void fail(Throwable cause) {
+        lock.lock();
+        try {
+            failure = cause;
+            finished = true;
+            changed.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Whether the whole report is still held, so it can be cached once finished.
+     */
+    boolean recorded() {
+        lock.lock();
+        try {
+            return !overflowed;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    long bytes() {
+        lock.lock();
+        try {
+            return bytes;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Starts a reader at the first chunk.
+     *
+     * @return {@code null} if the report outgrew {@code maxRecordedBytes} before this reader arrived
+     */
+    Reader follow() {
+        lock.lock();
+        try {
+            if (overflowed) {
+                return null;
+            }
+            Reader reader = new Reader();
+            readers.add(reader);
+            return reader;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Drops the chunks every following reader has taken. Called with the lock held.
+     */
+    private void release() {
+        int keep = chunks.size();
+        for (Reader reader : readers) {
+            keep = Math.min(keep, reader.next);
+        }
+        for (; released < keep; released++) {
+            chunks.set(released, null);
+        }
+    }
+
+    /**
+     * One request following the report from its first chunk.
+     */
+    final class Reader {
+
+        // Index of the next chunk to write
+        private int next;
+
+        /**
+         * Writes every chunk to {@code out}, waiting for the ones still being generated.
+         *
+         * @param written called with the size of each chunk once it is written
+         * @throws IOException if writing fails or the generation this reader followed failed
+         */
+        void writeTo(OutputStream out, ChunkListener written) throws IOException {
+            try {
+                while (true) {
+                    byte[] chunk;
+                    boolean last;
+                    lock.lock();
+                    try {
+                        while (next == chunks.size() && !finished) {
+                            changed.awaitUninterruptibly();
+                        }
+                        if (next == chunks.size()) {
+                            if (failure != null) {
+                                throw new IOException("Report generation failed", failure);
+                            }
+                            return;
+                        }
+                        chunk = chunks.get(next++);
+                        last = finished && next == chunks.size();
+                        if (overflowed) {
+                            release();
+                        }
+                    } finally {
+                        lock.unlock();
+                    }
+                    out.write(chunk);
+                    if (!last) {
+                        // Push each chunk to the client as it becomes available
+                        out.flush();
+                    }
+                    written.onChunk(chunk.length);
+                }
+            } finally {
+                lock.lock();
+                try {
+                    readers.remove(this);
+                    if (overflowed) {
+                        release();
+                    }
+                } finally {
+                    lock.unlock();
+                }
+            }
+        }
+    }
+
+    @FunctionalInterface
+    interface ChunkListener {
+
+        void onChunk(int bytes);
+    }
+}
@@ -0,0 +1,236 @@
+package com.example.insightpulse.report;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import com.github.benmanes.caffeine.cache.Ticker;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+
+/**
+ * Streams reports to clients from a size-bounded, TTL-limited cache of finished reports.
+ * <p>
+ * On a miss the request generates the report and streams each chunk as it is produced while
+ * recording it in a {@link ReportBuffer}. Requests for the same parameters that arrive meanwhile
+ * follow that buffer instead of starting their own generation. Finished reports up to
+ * {@code max-cached-report-size} are then cached, weighed by their size in bytes, with Caffeine's
+ * W-TinyLFU deciding what to evict. A report that grows past that size is not held in memory: the
+ * buffer keeps only what its current followers have yet to write, and later requests generate again.
+ * <p>
+ * Metrics: {@code report_cache_requests_total{result=hit|miss|coalesced}},
+ * {@code report_cache_evictions_total{cause}}, {@code report_cache_bytes},
+ * {@code report_cache_entries} and {@code report_bytes_streamed_total}.
+ */
+@Component
+public class ReportCache {
+
+    private final ReportGenerator generator;
+    private final long maxCachedReportBytes;
+    private final Cache<ReportRequest, ReportBuffer> cache;
+    private final Map<ReportRequest, ReportBuffer> inFlight = new ConcurrentHashMap<>();
+
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter coalesced;
+    private final Counter bytesStreamed;
+    private final Map<RemovalCause, Counter> evictions = new EnumMap<>(RemovalCause.class);
+
+    @Autowired
+    public ReportCache(ReportGenerator generator, ReportProperties properties, MeterRegistry registry) {
+        this(generator, properties, registry, Ticker.systemTicker(), null);
+    }
+
+    ReportCache(ReportGenerator generator, ReportProperties properties, MeterRegistry registry,
+                Ticker ticker, Executor maintenanceExecutor) {
+        this.generator = generator;
+        this.maxCachedReportBytes = properties.getMaxCachedReportSize().toBytes();
+
+        // Cache lookups by result
+        this.hits = requests(registry, "hit");
+        this.misses = requests(registry, "miss");
+        this.coalesced = requests(registry, "coalesced");
+
+        // Evictions by cause: size, expired or collected
+        for (RemovalCause cause : RemovalCause.values()) {
+            if (cause.wasEvicted()) {
+                evictions.put(cause, Counter.builder("report_cache_evictions_total")
+                                            .description("Cached reports evicted")
+                                            .tag("cause", cause.name().toLowerCase(Locale.ROOT))
+                                            .register(registry));
+            }
+        }
+
+        // Bytes written to clients, cached or freshly generated
+        this.bytesStreamed = Counter.builder("report_bytes_streamed")
+                                    .description("Report bytes written to clients")
+                                    .register(registry);
+
+        Caffeine<ReportRequest, ReportBuffer> builder =
+                Caffeine.newBuilder()
+                        .maximumWeight(properties.getCacheSize().toBytes())
+                        .<ReportRequest, ReportBuffer>weigher((request, report) -> (int) Math.min(report.bytes(), Integer.MAX_VALUE))
+                        .expireAfterWrite(properties.getTtl())
+                        .evictionListener((request, report, cause) -> evictions.get(cause).increment())
+                        .ticker(ticker);
+        if (maintenanceExecutor != null) {
+            builder.executor(maintenanceExecutor);
+        }
+        this.cache = builder.build();
+
+        Gauge.builder("report_cache_bytes", cache, c -> c.policy().eviction().orElseThrow().weightedSize().orElse(0))
+             .description("Bytes of finished reports held in the cache")
+             .baseUnit("bytes")
+             .register(registry);
+        Gauge.builder("report_cache_entries", cache, Cache::estimatedSize)
+             .description("Finished reports held in the cache")
+             .register(registry);
+    }
+
+    /**
+     * Writes the report for {@code request} to {@code out}: from the cache, by following a generation
+     * already in progress, or by generating it here.
+     */
+    public void stream(ReportRequest request, OutputStream out) throws IOException {
+        serve(request, out);
+    }
+
+    /**
+     * Makes sure the report for {@code request} exists, the same way {@link #stream} would, without
+     * sending it anywhere: a hit returns at once and a generation in progress is waited for.
+     *
+     * @return the report size in bytes
+     */
+    public long load(ReportRequest request) throws IOException {
+        return serve(request, null);
+    }
+
+    /**
+     * Generates the report again and replaces any cached copy, e.g. from a scheduled warm-up. If the
+     * report is already being generated, waits for that generation instead.
+     *
+     * @return the report size in bytes
+     */
+    public long refresh(ReportRequest request) throws IOException {
+        while (true) {
+            ReportBuffer buffer = new ReportBuffer(maxCachedReportBytes);
+            ReportBuffer running = inFlight.putIfAbsent(request, buffer);
+            if (running == null) {
+                generate(request, buffer, null);
+                return buffer.bytes();
+            }
+            ReportBuffer.Reader reader = running.follow();
+            if (reader != null) {
+                reader.writeTo(OutputStream.nullOutputStream(), bytes -> { });
+                return running.bytes();
+            }
+        }
+    }
+
+    /**
+     * @param out the client, or {@code null} to only wait for the report
+     */
+    private long serve(ReportRequest request, OutputStream out) throws IOException {
+        ReportBuffer cached = cache.getIfPresent(request);
+        if (cached != null) {
+            hits.increment();
+            if (out != null) {
+                cached.follow().writeTo(out, bytesStreamed::increment);
+            }
+            return cached.bytes();
+        }
+        while (true) {
+            ReportBuffer buffer = new ReportBuffer(maxCachedReportBytes);
+            ReportBuffer running = inFlight.putIfAbsent(request, buffer);
+            if (running == null) {
+                misses.increment();
+                generate(request, buffer, out);
+                return buffer.bytes();
+            }
+            ReportBuffer.Reader reader = running.follow();
+            if (reader != null) {
+                coalesced.increment();
+                if (out != null) {
+                    reader.writeTo(out, bytesStreamed::increment);
+                } else {
+                    reader.writeTo(OutputStream.nullOutputStream(), bytes -> { });
+                }
+                return running.bytes();
+            }
+            // Too large to share from the start: generate a copy of our own
+        }
+    }
+
+    private void generate(ReportRequest request, ReportBuffer buffer, OutputStream out) throws IOException {
+        ClientStream client = new ClientStream(out);
+        try {
+            generator.generate(request, chunk -> {
+                if (!buffer.append(chunk)) {
+                    // Not cacheable and no longer replayable: later requests must not follow it
+                    inFlight.remove(request, buffer);
+                }
+                client.write(chunk);
+            });
+            buffer.finish();
+            if (buffer.recorded()) {
+                cache.put(request, buffer);
+            }
+        } catch (IOException | RuntimeException e) {
+            buffer.fail(e);
+            throw e;
+        } finally {
+            inFlight.remove(request, buffer);
+        }
+        client.rethrow();
+    }
+
+    private static Counter requests(MeterRegistry registry, String result) {
+        return Counter.builder("report_cache_requests_total")
+                      .description("Report requests by cache result")
+                      .tag("result", result)
+                      .register(registry);
+    }
+
+    /**
+     * The generating request's client. If it disconnects, generation carries on for the followers
+     * and the cache, and the write error is reported once the report is done.
+     */
+    private final class ClientStream {
+
+        private final OutputStream out;
+        private IOException failure;
+
+        ClientStream(OutputStream out) {
+            this.out = out;
+        }
+
+        void write(byte[] chunk) {
+            if (out == null || failure != null) {
+                return;
+            }
+            try {
+                out.write(chunk);
+                out.flush();
+                bytesStreamed.increment(chunk.length);
+            } catch (IOException e) {
+                failure = e;
+            }
+        }
+
+        void rethrow() throws IOException {
+            if (failure != null) {
+                throw failure;
+            }
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package com.example.insightpulse.report;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.SplittableRandom;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntSupplier;
+
+/**
+ * Simulated report source: computes a CSV report {@code chunkRows} rows at a time and hands each
+ * chunk on as soon as it is ready, so nothing holds the whole report unless it chooses to.
+ * <p>
+ * The rows are seeded from the request, so equal requests yield byte-identical reports. A report
+ * costs 200-1000 ms in total, spread evenly over its chunks.
+ */
+@Component
+public class ReportGenerator {
+
+    private static final byte[] HEADER = "row,type,account,amount\n".getBytes(StandardCharsets.US_ASCII);
+
+    private final int chunkRows;
+    private final IntSupplier costMillis;
+
+    @Autowired
+    public ReportGenerator(ReportProperties properties) {
+        this(properties.getChunkRows(), () -> ThreadLocalRandom.current().nextInt(200, 1001));
+    }
+
+    ReportGenerator(int chunkRows, IntSupplier costMillis) {
+        this.chunkRows = chunkRows;
+        this.costMillis = costMillis;
+    }
+
+    public void generate(ReportRequest request, ChunkSink sink) throws IOException {
+        int chunks = Math.max(1, (request.rows() + chunkRows - 1) / chunkRows);
+        long chunkCostNanos = TimeUnit.MILLISECONDS.toNanos(costMillis.getAsInt()) / chunks;
+        SplittableRandom random = new SplittableRandom(request.hashCode());
+        StringBuilder csv = new StringBuilder(chunkRows * 40);
+
+        sink.accept(HEADER);
+        for (int first = 0; first < request.rows(); first += chunkRows) {
+            simulateWork(chunkCostNanos);
+            csv.setLength(0);
+            int last = Math.min(first + chunkRows, request.rows());
+            for (int row = first; row < last; row++) {
+                csv.append(row).append(',')
+                   .append(request.type()).append(',')
+                   .append("acct-").append(random.nextInt(100_000)).append(',')
+                   .append(random.nextInt(1_000_000) / 100.0).append('\n');
+            }
+            sink.accept(csv.toString().getBytes(StandardCharsets.US_ASCII));
+        }
+    }
+
+    private static void simulateWork(long nanos) throws InterruptedIOException {
+        if (nanos <= 0) {
+            return;
+        }
+        try {
+            TimeUnit.NANOSECONDS.sleep(nanos);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Report generation interrupted");
+        }
+    }
+
+    /**
+     * Receives the report chunk by chunk; the array is not touched again after the call.
+     */
+    @FunctionalInterface
+    public interface ChunkSink {
+
+        void accept(byte[] chunk) throws IOException;
+    }
+}
@@ -0,0 +1,77 @@
+package com.example.insightpulse.report;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+
+/**
+ * Report generation and result cache settings, bound from {@code insightpulse.reports.*}.
+ */
+@ConfigurationProperties(prefix = "insightpulse.reports")
+public class ReportProperties {
+
+    // Rows per streamed chunk; each chunk is written to the client as soon as it is computed
+    private int chunkRows = 1_000;
+
+    // Rows when the request does not say, and the most a request may ask for
+    private int defaultRows = 10_000;
+    private int maxRows = 1_000_000;
+
+    // Total bytes of finished reports kept; least valuable entries are evicted first (W-TinyLFU)
+    private DataSize cacheSize = DataSize.ofMegabytes(64);
+
+    // Larger reports are streamed but never cached, so one huge report cannot flush the cache
+    private DataSize maxCachedReportSize = DataSize.ofMegabytes(8);
+
+    // How long a finished report is served from the cache
+    private Duration ttl = Duration.ofMinutes(5);
+
+    public int getChunkRows() {
+        return chunkRows;
+    }
+
+    public void setChunkRows(int chunkRows) {
+        this.chunkRows = chunkRows;
+    }
+
+    public int getDefaultRows() {
+        return defaultRows;
+    }
+
+    public void setDefaultRows(int defaultRows) {
+        this.defaultRows = defaultRows;
+    }
+
+    public int getMaxRows() {
+        return maxRows;
+    }
+
+    public void setMaxRows(int maxRows) {
+        this.maxRows = maxRows;
+    }
+
+    public DataSize getCacheSize() {
+        return cacheSize;
+    }
+
+    public void setCacheSize(DataSize cacheSize) {
+        this.cacheSize = cacheSize;
+    }
+
+    public DataSize getMaxCachedReportSize() {
+        return maxCachedReportSize;
+    }
+
+    public void setMaxCachedReportSize(DataSize maxCachedReportSize) {
+        this.maxCachedReportSize = maxCachedReportSize;
+    }
+
+    public Duration getTtl() {
+        return ttl;
+    }
+
+    public void setTtl(Duration ttl) {
+        this.ttl = ttl;
+    }
+}
@@ -0,0 +1,10 @@
+package com.example.insightpulse.report;
+
+/**
+ * Parameters of a report, and its cache key: equal requests produce byte-identical reports.
+ *
+ * @param type report name, e.g. {@code payments}
+ * @param rows number of data rows
+ */
+public record ReportRequest(String type, int rows) {
+}
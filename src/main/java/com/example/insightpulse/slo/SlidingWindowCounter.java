@@ -0,0 +1,80 @@
+package com.example.insightpulse.slo;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Lock-free ring of time buckets counting total and bad events.
+ * <p>
+ * Each bucket is a single {@code long}: a 20-bit bucket epoch, a 22-bit total and a 22-bit bad count.
+ * A writer that lands on a bucket still holding an older epoch replaces it with a fresh word in the
+ * same CAS, so there is no separate reset step to race with, and readers see totals and bad counts
+ * that always belong together. Counts saturate at about 4M events per bucket.
+ */
+public final class SlidingWindowCounter {
+
+    private static final int COUNT_BITS = 22;
+    private static final long COUNT_MASK = (1L << COUNT_BITS) - 1;
+    private static final int EPOCH_SHIFT = 2 * COUNT_BITS;
+    private static final long EPOCH_MASK = (1L << (64 - EPOCH_SHIFT)) - 1;
+    private static final long ONE_TOTAL = 1L << COUNT_BITS;
+
+    private final long bucketMillis;
+    private final AtomicLongArray buckets;
+
+    public SlidingWindowCounter(long bucketMillis, int bucketCount) {
+        if (bucketCount <= 0 || bucketCount >= EPOCH_MASK) {
+            throw new IllegalArgumentException("bucketCount out of range: " + bucketCount);
+        }
+        this.bucketMillis = bucketMillis;
+        this.buckets = new AtomicLongArray(bucketCount);
+    }
+
+    public void record(boolean good, long nowMillis) {
+        long epoch = nowMillis / bucketMillis;
+        int slot = (int) (epoch % buckets.length());
+        long tag = epoch & EPOCH_MASK;
+        while (true) {
+            long word = buckets.get(slot);
+            long next;
+            if (word >>> EPOCH_SHIFT != tag) {
+                next = tag << EPOCH_SHIFT | ONE_TOTAL | (good ? 0 : 1);
+            } else if ((word >>> COUNT_BITS & COUNT_MASK) == COUNT_MASK) {
+                return;
+            } else {
+                next = word + ONE_TOTAL + (good ? 0 : 1);
+            }
+            if (buckets.compareAndSet(slot, word, next)) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Totals over the buckets covering the last {@code windowMillis}, including the current one.
+     */
+    public Totals totals(long windowMillis, long nowMillis) {
+        long epoch = nowMillis / bucketMillis;
+        int windowBuckets = (int) Math.min(buckets.length(), Math.max(1, windowMillis / bucketMillis));
+        long total = 0;
+        long bad = 0;
+        for (int i = 0; i < windowBuckets; i++) {
+            long bucketEpoch = epoch - i;
+            long word = buckets.get((int) (bucketEpoch % buckets.length()));
+            if (word >>> EPOCH_SHIFT == (bucketEpoch & EPOCH_MASK)) {
+                total += word >>> COUNT_BITS & COUNT_MASK;
+                bad += word & COUNT_MASK;
+            }
+        }
+        return new Totals(total, bad);
+    }
+
+    public record Totals(long total, long bad) {
+
+        /**
+         * Good events over total, or {@code NaN} when there were none.
+         */
+        public double successRatio() {
+            return total == 0 ? Double.NaN : (double) (total - bad) / total;
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package com.example.insightpulse.slo;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Service level objectives, bound from {@code insightpulse.slo.*}.
+ */
+@ConfigurationProperties(prefix = "insightpulse.slo")
+public class SloProperties {
+
+    // Target success ratio per job name, e.g. process-payment=0.99
+    private Map<String, Double> jobs = new LinkedHashMap<>();
+
+    // Target success ratio per route pattern (any method), e.g. [/jobs/process-payment]=0.99; 5xx is bad
+    private Map<String, Double> routes = new LinkedHashMap<>();
+
+    // Windows exported as success ratio and burn rate gauges; the longest sets the ring size
+    private List<Duration> windows = List.of(Duration.ofMinutes(5), Duration.ofHours(1), Duration.ofHours(6));
+
+    // Ring bucket width: the granularity windows slide by
+    private Duration bucket = Duration.ofSeconds(10);
+
+    public Map<String, Double> getJobs() {
+        return jobs;
+    }
+
+    public void setJobs(Map<String, Double> jobs) {
+        this.jobs = jobs;
+    }
+
+    public Map<String, Double> getRoutes() {
+        return routes;
+    }
+
+    public void setRoutes(Map<String, Double> routes) {
+        this.routes = routes;
+    }
+
+    public List<Duration> getWindows() {
+        return windows;
+    }
+
+    public void setWindows(List<Duration> windows) {
+        this.windows = windows;
+    }
+
+    public Duration getBucket() {
+        return bucket;
+    }
+
+    public void setBucket(Duration bucket) {
+        this.bucket = bucket;
+    }
+}
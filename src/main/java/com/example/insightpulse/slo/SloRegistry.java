@@ -0,0 +1,121 @@
+package com.example.insightpulse.slo;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+/**
+ * Trackers for the jobs and routes with a declared objective, exported as gauges:
+ * {@code slo_objective}, {@code slo_success_ratio{window}}, {@code slo_burn_rate{window}} and
+ * {@code slo_error_budget_remaining} over the longest window.
+ * <p>
+ * Unlike the 0/1 availability gauges, a single failed call moves the ratio by one event in the
+ * window instead of flipping the whole series, and nothing is lost between scrapes.
+ */
+@Component
+public class SloRegistry {
+
+    static final String JOB = "job";
+    static final String ROUTE = "route";
+
+    private final Map<String, SloTracker> jobs = new ConcurrentHashMap<>();
+    private final Map<String, SloTracker> routes = new HashMap<>();
+
+    private final MeterRegistry registry;
+    private final List<Duration> windows;
+    private final long bucketMillis;
+    private final long longest;
+    private final int bucketCount;
+    private final LongSupplier clock;
+
+    @Autowired
+    public SloRegistry(MeterRegistry registry, SloProperties properties) {
+        this(registry, properties, System::currentTimeMillis);
+    }
+
+    SloRegistry(MeterRegistry registry, SloProperties properties, LongSupplier clock) {
+        this.registry = registry;
+        this.windows = properties.getWindows();
+        this.bucketMillis = properties.getBucket().toMillis();
+        this.longest = windows.stream().mapToLong(Duration::toMillis).max().orElse(bucketMillis);
+        this.bucketCount = (int) Math.ceil((double) longest / bucketMillis);
+        this.clock = clock;
+
+        properties.getJobs().forEach((name, objective) -> jobs.put(name, register(name, JOB, objective)));
+        properties.getRoutes().forEach((route, objective) -> routes.put(route, register(route, ROUTE, objective)));
+    }
+
+    /**
+     * Tracker for a job name; jobs without an objective get a tracker that records nothing.
+     */
+    public SloTracker job(String name) {
+        return jobs.getOrDefault(name, SloTracker.UNTRACKED);
+    }
+
+    /**
+     * Tracker for a job that declares its own objective; an {@code insightpulse.slo.jobs} entry for
+     * the same name wins, and a {@code NaN} objective declares none.
+     */
+    public SloTracker job(String name, double declaredObjective) {
+        if (Double.isNaN(declaredObjective)) {
+            return job(name);
+        }
+        return jobs.computeIfAbsent(name, n -> register(n, JOB, declaredObjective));
+    }
+
+    /**
+     * Tracker for a route pattern, for any method; same fallback as {@link #job(String)}.
+     */
+    public SloTracker route(String pattern) {
+        return routes.getOrDefault(pattern, SloTracker.UNTRACKED);
+    }
+
+    private SloTracker register(String name, String kind, double objective) {
+        SloTracker tracker = new SloTracker(name, kind, objective, new SlidingWindowCounter(bucketMillis, bucketCount), clock);
+        Tags tags = Tags.of("slo", tracker.getName(), "kind", tracker.getKind());
+        Gauge.builder("slo_objective", tracker, SloTracker::getObjective)
+             .description("Target success ratio")
+             .tags(tags)
+             .register(registry);
+        for (Duration window : windows) {
+            long millis = window.toMillis();
+            Tags windowTags = tags.and("window", format(window));
+            Gauge.builder("slo_success_ratio", tracker, t -> t.successRatio(millis))
+                 .description("Good events over all events in the window")
+                 .tags(windowTags)
+                 .register(registry);
+            Gauge.builder("slo_burn_rate", tracker, t -> t.burnRate(millis))
+                 .description("Error rate in the window relative to the error budget (1 = on budget)")
+                 .tags(windowTags)
+                 .register(registry);
+        }
+        Gauge.builder("slo_error_budget_remaining", tracker, t -> 1 - t.burnRate(longest))
+             .description("Share of the error budget left over the longest window; negative when overspent")
+             .tags(tags)
+             .register(registry);
+        return tracker;
+    }
+
+    /**
+     * {@code 5m}, {@code 1h}, {@code 90s}: the shortest exact Prometheus-style duration.
+     */
+    static String format(Duration window) {
+        long seconds = window.toSeconds();
+        if (seconds % 3600 == 0) {
+            return seconds / 3600 + "h";
+        }
+        if (seconds % 60 == 0) {
+            return seconds / 60 + "m";
+        }
+        return seconds + "s";
+    }
+}
@@ -0,0 +1,61 @@
+package com.example.insightpulse.slo;
+
+import java.util.function.LongSupplier;
+
+/**
+ * Success ratio and burn rate for one job or route against its objective.
+ */
+public class SloTracker {
+
+    /**
+     * Shared tracker for jobs and routes without a declared objective; records nothing.
+     */
+    static final SloTracker UNTRACKED = new SloTracker(null, null, 1, null, System::currentTimeMillis);
+
+    private final String name;
+    private final String kind;
+    private final double objective;
+    private final SlidingWindowCounter window;
+    private final LongSupplier clock;
+
+    SloTracker(String name, String kind, double objective, SlidingWindowCounter window, LongSupplier clock) {
+        this.name = name;
+        this.kind = kind;
+        this.objective = objective;
+        this.window = window;
+        this.clock = clock;
+    }
+
+    public void record(boolean good) {
+        if (window != null) {
+            window.record(good, clock.getAsLong());
+        }
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getKind() {
+        return kind;
+    }
+
+    public double getObjective() {
+        return objective;
+    }
+
+    /**
+     * Share of good events over the last {@code windowMillis}; {@code NaN} without traffic.
+     */
+    public double successRatio(long windowMillis) {
+        return window == null ? Double.NaN : window.totals(windowMillis, clock.getAsLong()).successRatio();
+    }
+
+    /**
+     * How fast the error budget is being spent: {@code 1} spends exactly the budget, {@code 14.4}
+     * over an hour spends 2% of a 30-day budget.
+     */
+    public double burnRate(long windowMillis) {
+        return (1 - successRatio(windowMillis)) / (1 - objective);
+    }
+}
@@ -0,0 +1,45 @@
+package com.example.insightpulse.tsdb;
+
+import java.util.List;
+
+/**
+ * Parsed form of the PromQL subset understood by {@link QueryEngine}.
+ */
+public sealed interface Expr {
+
+    /**
+     * {@code 0.99}
+     */
+    record NumberLiteral(double value) implements Expr {
+    }
+
+    /**
+     * {@code metric{label="value"}}, or with {@code [5m]} as the argument of a range function.
+     */
+    record Selector(List<LabelMatcher> matchers, long rangeMillis) implements Expr {
+    }
+
+    /**
+     * {@code rate(metric[1m])}, {@code increase(...)} and the {@code *_over_time} functions.
+     */
+    record RangeFunction(String name, Selector selector) implements Expr {
+    }
+
+    /**
+     * {@code sum by (label) (expr)}; {@code without} inverts the grouping.
+     */
+    record Aggregation(String op, List<String> grouping, boolean without, Expr expr) implements Expr {
+    }
+
+    /**
+     * {@code histogram_quantile(0.99, expr)}
+     */
+    record HistogramQuantile(double quantile, Expr expr) implements Expr {
+    }
+
+    /**
+     * Arithmetic ({@code + - * /}) or comparison ({@code == != > < >= <=}) between two operands.
+     */
+    record Binary(String op, Expr left, Expr right) implements Expr {
+    }
+}
@@ -0,0 +1,198 @@
+package com.example.insightpulse.tsdb;
+
+import java.util.Arrays;
+
+/**
+ * A run of (timestamp, value) points packed into a {@code long[]} bit stream, Gorilla style.
+ * <p>
+ * Timestamps are stored as delta-of-deltas, so a regular 1 s series costs one bit per point; values
+ * are XORed with their predecessor and only the meaningful bits are kept, so an idle counter or
+ * gauge also costs one bit per point. Single writer; callers synchronize reads against appends.
+ */
+final class GorillaChunk {
+
+    private long[] words;
+    private int bitCount;
+    private int count;
+
+    private long firstTimestamp;
+    private long lastTimestamp;
+    private long lastDelta;
+    private long lastValueBits;
+    private int lastLeading = -1;
+    private int lastTrailing;
+
+    GorillaChunk(int expectedPoints) {
+        // ~2 bits per steady point plus the 128-bit header
+        this.words = new long[Math.max(4, (128 + expectedPoints * 4) / 64)];
+    }
+
+    int count() {
+        return count;
+    }
+
+    long firstTimestamp() {
+        return firstTimestamp;
+    }
+
+    long lastTimestamp() {
+        return lastTimestamp;
+    }
+
+    long sizeBytes() {
+        return (long) words.length * Long.BYTES;
+    }
+
+    void append(long timestamp, double value) {
+        long valueBits = Double.doubleToRawLongBits(value);
+        if (count == 0) {
+            firstTimestamp = timestamp;
+            writeBits(timestamp, 64);
+            writeBits(valueBits, 64);
+        } else {
+            long delta = timestamp - lastTimestamp;
+            writeDeltaOfDelta(delta - lastDelta);
+            lastDelta = delta;
+            writeXor(valueBits ^ lastValueBits);
+        }
+        lastTimestamp = timestamp;
+        lastValueBits = valueBits;
+        count++;
+    }
+
+    /**
+     * Drops the spare capacity once no more points will be appended.
+     */
+    void seal() {
+        words = Arrays.copyOf(words, (bitCount + 63) >>> 6);
+    }
+
+    /**
+     * Decodes the points with {@code from <= timestamp <= to} into {@code out}.
+     */
+    void decode(long from, long to, Samples out) {
+        Reader reader = new Reader();
+        long timestamp = 0;
+        long delta = 0;
+        long valueBits = 0;
+        int leading = 0;
+        int trailing = 0;
+        for (int i = 0; i < count; i++) {
+            if (i == 0) {
+                timestamp = reader.read(64);
+                valueBits = reader.read(64);
+            } else {
+                delta += reader.readDeltaOfDelta();
+                timestamp += delta;
+                if (reader.read(1) == 1) {
+                    if (reader.read(1) == 1) {
+                        leading = (int) reader.read(5);
+                        int significant = (int) reader.read(6) + 1;
+                        trailing = 64 - leading - significant;
+                    }
+                    valueBits ^= reader.read(64 - leading - trailing) << trailing;
+                }
+            }
+            if (timestamp > to) {
+                return;
+            }
+            if (timestamp >= from) {
+                out.add(timestamp, Double.longBitsToDouble(valueBits));
+            }
+        }
+    }
+
+    private void writeDeltaOfDelta(long dod) {
+        if (dod == 0) {
+            writeBits(0, 1);
+        } else if (dod >= -64 && dod <= 63) {
+            writeBits(0b10, 2);
+            writeBits(dod, 7);
+        } else if (dod >= -256 && dod <= 255) {
+            writeBits(0b110, 3);
+            writeBits(dod, 9);
+        } else if (dod >= -2048 && dod <= 2047) {
+            writeBits(0b1110, 4);
+            writeBits(dod, 12);
+        } else {
+            writeBits(0b1111, 4);
+            writeBits(dod, 64);
+        }
+    }
+
+    private void writeXor(long xor) {
+        if (xor == 0) {
+            writeBits(0, 1);
+            return;
+        }
+        int leading = Math.min(31, Long.numberOfLeadingZeros(xor));
+        int trailing = Long.numberOfTrailingZeros(xor);
+        if (lastLeading >= 0 && leading >= lastLeading && trailing >= lastTrailing) {
+            // Fits in the previous window: reuse it
+            writeBits(0b10, 2);
+            writeBits(xor >>> lastTrailing, 64 - lastLeading - lastTrailing);
+        } else {
+            int significant = 64 - leading - trailing;
+            writeBits(0b11, 2);
+            writeBits(leading, 5);
+            writeBits(significant - 1, 6);
+            writeBits(xor >>> trailing, significant);
+            lastLeading = leading;
+            lastTrailing = trailing;
+        }
+    }
+
+    private void writeBits(long value, int bits) {
+        if (bitCount + bits > (long) words.length * 64) {
+            words = Arrays.copyOf(words, words.length * 2);
+        }
+        long masked = bits == 64 ? value : value & ((1L << bits) - 1);
+        int word = bitCount >>> 6;
+        int free = 64 - (bitCount & 63);
+        if (bits <= free) {
+            words[word] |= masked << (free - bits);
+        } else {
+            words[word] |= masked >>> (bits - free);
+            words[word + 1] |= masked << (64 - (bits - free));
+        }
+        bitCount += bits;
+    }
+
+    private final class Reader {
+
+        private int position;
+
+        long read(int bits) {
+            int word = position >>> 6;
+            int free = 64 - (position & 63);
+            long value;
+            if (bits <= free) {
+                value = words[word] >>> (free - bits);
+            } else {
+                value = (words[word] << (bits - free)) | (words[word + 1] >>> (64 - (bits - free)));
+            }
+            position += bits;
+            return bits == 64 ? value : value & ((1L << bits) - 1);
+        }
+
+        long readDeltaOfDelta() {
+            if (read(1) == 0) {
+                return 0;
+            }
+            if (read(1) == 0) {
+                return signed(read(7), 7);
+            }
+            if (read(1) == 0) {
+                return signed(read(9), 9);
+            }
+            if (read(1) == 0) {
+                return signed(read(12), 12);
+            }
+            return read(64);
+        }
+
+        private long signed(long value, int bits) {
+            return (value << (64 - bits)) >> (64 - bits);
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.example.insightpulse.tsdb;
+
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * One {@code label op "value"} term of a series selector; regexes are fully anchored as in PromQL.
+ */
+public record LabelMatcher(String name, Op op, String value, Pattern pattern) {
+
+    public enum Op { EQUAL, NOT_EQUAL, REGEX, NOT_REGEX }
+
+    static LabelMatcher of(String name, Op op, String value) {
+        Pattern pattern = op == Op.REGEX || op == Op.NOT_REGEX ? Pattern.compile(value) : null;
+        return new LabelMatcher(name, op, value, pattern);
+    }
+
+    public boolean matches(Map<String, String> labels) {
+        String actual = labels.getOrDefault(name, "");
+        return switch (op) {
+            case EQUAL -> actual.equals(value);
+            case NOT_EQUAL -> !actual.equals(value);
+            case REGEX -> pattern.matcher(actual).matches();
+            case NOT_REGEX -> !pattern.matcher(actual).matches();
+        };
+    }
+}
@@ -0,0 +1,407 @@
+package com.example.insightpulse.tsdb;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Evaluates PromQL (see {@link QueryParser} for the supported subset) against the {@link RollupTsdb}.
+ * <p>
+ * Queries pick the finest resolution that still covers their time range, so recent panels get 1 s
+ * points and longer ranges fall back to the 10 s and 1 m rollups. {@code rate()} divides the counter
+ * increase between the first and last point in the window by the time between them, without
+ * Prometheus' extrapolation to the window edges.
+ */
+@Component
+@ConditionalOnProperty(prefix = "insightpulse.tsdb", name = "enabled", matchIfMissing = true)
+public class QueryEngine {
+
+    static final long LOOKBACK_MILLIS = 5 * 60_000;
+    static final int MAX_POINTS = 11_000;
+
+    private final RollupTsdb tsdb;
+
+    public QueryEngine(RollupTsdb tsdb) {
+        this.tsdb = tsdb;
+    }
+
+    /**
+     * Evaluates {@code query} at every {@code step} from {@code start} to {@code end} (epoch millis).
+     *
+     * @throws QueryException if the query is invalid or asks for too many points
+     */
+    public QueryResult queryRange(String query, long start, long end, long step) {
+        return evaluate(query, start, end, step, System.currentTimeMillis());
+    }
+
+    /**
+     * Evaluates {@code query} at a single instant.
+     */
+    public QueryResult query(String query, long time) {
+        return evaluate(query, time, time, 1, System.currentTimeMillis());
+    }
+
+    QueryResult evaluate(String query, long start, long end, long step, long now) {
+        if (step <= 0 || end < start) {
+            throw new QueryException("end must not be before start and step must be positive");
+        }
+        if ((end - start) / step + 1 > MAX_POINTS) {
+            throw new QueryException("query would return more than " + MAX_POINTS + " points per series");
+        }
+        Range range = new Range(start, end, step, now);
+        Value value = eval(QueryParser.parse(query), range);
+        List<SeriesResult> series = value.series().stream().filter(SeriesResult::hasValues).toList();
+        return new QueryResult(value.scalar(), start, step, series);
+    }
+
+    private Value eval(Expr expr, Range range) {
+        return switch (expr) {
+            case Expr.NumberLiteral number -> scalar(range, number.value());
+            case Expr.Selector selector -> instant(selector, range);
+            case Expr.RangeFunction function -> rangeFunction(function, range);
+            case Expr.Aggregation aggregation -> aggregate(aggregation, range);
+            case Expr.HistogramQuantile quantile -> histogramQuantile(quantile, range);
+            case Expr.Binary binary -> binary(binary, range);
+        };
+    }
+
+    private Value instant(Expr.Selector selector, Range range) {
+        if (selector.rangeMillis() > 0) {
+            throw new QueryException("range selectors are only supported inside rate(), increase() and *_over_time()");
+        }
+        long from = range.start() - LOOKBACK_MILLIS;
+        int tier = tsdb.tierFor(from, range.now());
+        List<SeriesResult> out = new ArrayList<>();
+        for (RollupTsdb.SelectedSeries series : tsdb.select(selector.matchers(), tier, from, range.end())) {
+            Samples samples = series.samples();
+            double[] values = range.empty();
+            for (int i = 0; i < values.length; i++) {
+                long t = range.at(i);
+                int index = samples.lastAtOrBefore(t);
+                if (index >= 0 && samples.timestamp(index) > t - LOOKBACK_MILLIS) {
+                    values[i] = samples.value(index);
+                }
+            }
+            out.add(new SeriesResult(series.labels(), values));
+        }
+        return new Value(false, out);
+    }
+
+    private Value rangeFunction(Expr.RangeFunction function, Range range) {
+        long window = function.selector().rangeMillis();
+        long from = range.start() - window;
+        int tier = tsdb.tierFor(from, range.now());
+        List<SeriesResult> out = new ArrayList<>();
+        for (RollupTsdb.SelectedSeries series : tsdb.select(function.selector().matchers(), tier, from, range.end())) {
+            Samples samples = series.samples();
+            double[] values = range.empty();
+            for (int i = 0; i < values.length; i++) {
+                long t = range.at(i);
+                int last = samples.lastAtOrBefore(t);
+                int first = samples.lastAtOrBefore(t - window) + 1;
+                values[i] = overWindow(function.name(), samples, first, last, window);
+            }
+            out.add(new SeriesResult(withoutName(series.labels()), values));
+        }
+        return new Value(false, out);
+    }
+
+    private static double overWindow(String function, Samples samples, int first, int last, long window) {
+        if (last < first) {
+            return Double.NaN;
+        }
+        switch (function) {
+            case "rate", "increase" -> {
+                if (last == first) {
+                    return Double.NaN;
+                }
+                double increase = 0;
+                for (int i = first + 1; i <= last; i++) {
+                    double delta = samples.value(i) - samples.value(i - 1);
+                    // A drop means the counter restarted from zero
+                    increase += delta >= 0 ? delta : samples.value(i);
+                }
+                double rate = increase / ((samples.timestamp(last) - samples.timestamp(first)) / 1000.0);
+                return function.equals("rate") ? rate : rate * window / 1000.0;
+            }
+            default -> {
+                double sum = 0;
+                double min = Double.POSITIVE_INFINITY;
+                double max = Double.NEGATIVE_INFINITY;
+                for (int i = first; i <= last; i++) {
+                    sum += samples.value(i);
+                    min = Math.min(min, samples.value(i));
+                    max = Math.max(max, samples.value(i));
+                }
+                int count = last - first + 1;
+                return switch (function) {
+                    case "avg_over_time" -> sum / count;
+                    case "min_over_time" -> min;
+                    case "max_over_time" -> max;
+                    case "sum_over_time" -> sum;
+                    case "count_over_time" -> count;
+                    default -> throw new QueryException("unknown function " + function);
+                };
+            }
+        }
+    }
+
+    private Value aggregate(Expr.Aggregation aggregation, Range range) {
+        Value inner = eval(aggregation.expr(), range);
+        if (inner.scalar()) {
+            throw new QueryException(aggregation.op() + "() expects a vector");
+        }
+        Map<Map<String, String>, List<double[]>> groups = new HashMap<>();
+        for (SeriesResult series : inner.series()) {
+            Map<String, String> key = new TreeMap<>();
+            for (Map.Entry<String, String> label : series.labels().entrySet()) {
+                boolean listed = aggregation.grouping().contains(label.getKey());
+                boolean keep = aggregation.without()
+                        ? !listed && !label.getKey().equals(RollupTsdb.NAME_LABEL)
+                        : listed;
+                if (keep) {
+                    key.put(label.getKey(), label.getValue());
+                }
+            }
+            groups.computeIfAbsent(key, k -> new ArrayList<>()).add(series.values());
+        }
+
+        List<SeriesResult> out = new ArrayList<>();
+        for (Map.Entry<Map<String, String>, List<double[]>> group : groups.entrySet()) {
+            double[] values = range.empty();
+            for (int i = 0; i < values.length; i++) {
+                double acc = Double.NaN;
+                int count = 0;
+                for (double[] member : group.getValue()) {
+                    double v = member[i];
+                    if (Double.isNaN(v)) {
+                        continue;
+                    }
+                    acc = count == 0 ? v : switch (aggregation.op()) {
+                        case "sum", "avg" -> acc + v;
+                        case "min" -> Math.min(acc, v);
+                        case "max" -> Math.max(acc, v);
+                        default -> acc;
+                    };
+                    count++;
+                }
+                values[i] = count == 0 ? Double.NaN : switch (aggregation.op()) {
+                    case "avg" -> acc / count;
+                    case "count" -> count;
+                    default -> acc;
+                };
+            }
+            out.add(new SeriesResult(group.getKey(), values));
+        }
+        return new Value(false, out);
+    }
+
+    private Value histogramQuantile(Expr.HistogramQuantile expr, Range range) {
+        Value inner = eval(expr.expr(), range);
+        Map<Map<String, String>, TreeMap<Double, double[]>> histograms = new HashMap<>();
+        for (SeriesResult series : inner.series()) {
+            String le = series.labels().get("le");
+            if (le == null) {
+                continue;
+            }
+            Map<String, String> key = new TreeMap<>(withoutName(series.labels()));
+            key.remove("le");
+            double bound = le.equals("+Inf") ? Double.POSITIVE_INFINITY : Double.parseDouble(le);
+            histograms.computeIfAbsent(key, k -> new TreeMap<>()).put(bound, series.values());
+        }
+
+        List<SeriesResult> out = new ArrayList<>();
+        for (Map.Entry<Map<String, String>, TreeMap<Double, double[]>> histogram : histograms.entrySet()) {
+            double[] bounds = histogram.getValue().keySet().stream().mapToDouble(Double::doubleValue).toArray();
+            List<double[]> counts = new ArrayList<>(histogram.getValue().values());
+            double[] values = range.empty();
+            double[] atStep = new double[bounds.length];
+            for (int i = 0; i < values.length; i++) {
+                for (int b = 0; b < bounds.length; b++) {
+                    atStep[b] = counts.get(b)[i];
+                }
+                values[i] = bucketQuantile(expr.quantile(), bounds, atStep);
+            }
+            out.add(new SeriesResult(histogram.getKey(), values));
+        }
+        return new Value(false, out);
+    }
+
+    /**
+     * Same interpolation as Prometheus' {@code histogram_quantile} over cumulative bucket counts.
+     */
+    static double bucketQuantile(double q, double[] bounds, double[] counts) {
+        if (q < 0) {
+            return Double.NEGATIVE_INFINITY;
+        }
+        if (q > 1) {
+            return Double.POSITIVE_INFINITY;
+        }
+        int n = bounds.length;
+        if (n < 2 || !Double.isInfinite(bounds[n - 1])) {
+            return Double.NaN;
+        }
+        double[] cumulative = Arrays.copyOf(counts, n);
+        for (int b = 0; b < n; b++) {
+            if (Double.isNaN(cumulative[b])) {
+                return Double.NaN;
+            }
+            if (b > 0) {
+                cumulative[b] = Math.max(cumulative[b], cumulative[b - 1]);
+            }
+        }
+        double observations = cumulative[n - 1];
+        if (observations == 0) {
+            return Double.NaN;
+        }
+        double rank = q * observations;
+        int b = 0;
+        while (b < n - 1 && cumulative[b] < rank) {
+            b++;
+        }
+        if (b == n - 1) {
+            return bounds[n - 2];
+        }
+        if (b == 0 && bounds[0] <= 0) {
+            return bounds[0];
+        }
+        double bucketStart = 0;
+        double count = cumulative[b];
+        if (b > 0) {
+            bucketStart = bounds[b - 1];
+            count -= cumulative[b - 1];
+            rank -= cumulative[b - 1];
+        }
+        return bucketStart + (bounds[b] - bucketStart) * (rank / count);
+    }
+
+    private Value binary(Expr.Binary binary, Range range) {
+        Value left = eval(binary.left(), range);
+        Value right = eval(binary.right(), range);
+        boolean comparison = switch (binary.op()) {
+            case "==", "!=", ">", "<", ">=", "<=" -> true;
+            default -> false;
+        };
+
+        if (left.scalar() && right.scalar()) {
+            double[] values = range.empty();
+            for (int i = 0; i < values.length; i++) {
+                double result = apply(binary.op(), left.series().get(0).values()[i], right.series().get(0).values()[i]);
+                values[i] = comparison ? (Double.isNaN(result) ? 0 : 1) : result;
+            }
+            return new Value(true, List.of(new SeriesResult(Map.of(), values)));
+        }
+
+        List<SeriesResult> out = new ArrayList<>();
+        if (left.scalar() || right.scalar()) {
+            double[] scalar = (left.scalar() ? left : right).series().get(0).values();
+            for (SeriesResult series : (left.scalar() ? right : left).series()) {
+                double[] values = range.empty();
+                for (int i = 0; i < values.length; i++) {
+                    double result = left.scalar()
+                            ? apply(binary.op(), scalar[i], series.values()[i])
+                            : apply(binary.op(), series.values()[i], scalar[i]);
+                    // Comparisons filter: the vector's own value survives where the condition holds
+                    values[i] = comparison && !Double.isNaN(result) ? series.values()[i] : result;
+                }
+                out.add(new SeriesResult(comparison ? series.labels() : withoutName(series.labels()), values));
+            }
+            return new Value(false, out);
+        }
+
+        Map<Map<String, String>, SeriesResult> rightByLabels = new HashMap<>();
+        for (SeriesResult series : right.series()) {
+            rightByLabels.put(withoutName(series.labels()), series);
+        }
+        for (SeriesResult series : left.series()) {
+            SeriesResult match = rightByLabels.get(withoutName(series.labels()));
+            if (match == null) {
+                continue;
+            }
+            double[] values = range.empty();
+            for (int i = 0; i < values.length; i++) {
+                double result = apply(binary.op(), series.values()[i], match.values()[i]);
+                values[i] = comparison && !Double.isNaN(result) ? series.values()[i] : result;
+            }
+            out.add(new SeriesResult(comparison ? series.labels() : withoutName(series.labels()), values));
+        }
+        return new Value(false, out);
+    }
+
+    /**
+     * Arithmetic result, or for comparisons {@code 1} when true and {@code NaN} when false.
+     */
+    private static double apply(String op, double l, double r) {
+        return switch (op) {
+            case "+" -> l + r;
+            case "-" -> l - r;
+            case "*" -> l * r;
+            case "/" -> l / r;
+            case "==" -> l == r ? 1 : Double.NaN;
+            case "!=" -> l != r ? 1 : Double.NaN;
+            case ">" -> l > r ? 1 : Double.NaN;
+            case "<" -> l < r ? 1 : Double.NaN;
+            case ">=" -> l >= r ? 1 : Double.NaN;
+            case "<=" -> l <= r ? 1 : Double.NaN;
+            default -> throw new QueryException("unknown operator " + op);
+        };
+    }
+
+    private static Value scalar(Range range, double value) {
+        double[] values = range.empty();
+        Arrays.fill(values, value);
+        return new Value(true, List.of(new SeriesResult(Map.of(), values)));
+    }
+
+    private static Map<String, String> withoutName(Map<String, String> labels) {
+        if (!labels.containsKey(RollupTsdb.NAME_LABEL)) {
+            return labels;
+        }
+        Map<String, String> copy = new TreeMap<>(labels);
+        copy.remove(RollupTsdb.NAME_LABEL);
+        return copy;
+    }
+
+    private record Range(long start, long end, long step, long now) {
+
+        long at(int i) {
+            return start + i * step;
+        }
+
+        double[] empty() {
+            double[] values = new double[(int) ((end - start) / step) + 1];
+            Arrays.fill(values, Double.NaN);
+            return values;
+        }
+    }
+
+    private record Value(boolean scalar, List<SeriesResult> series) {
+    }
+
+    /**
+     * One result series: labels and a value per step ({@code NaN} where there is none).
+     */
+    public record SeriesResult(Map<String, String> labels, double[] values) {
+
+        boolean hasValues() {
+            for (double value : values) {
+                if (!Double.isNaN(value)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
+    /**
+     * Evaluation result; step {@code i} is at {@code start + i * step} epoch millis.
+     */
+    public record QueryResult(boolean scalar, long start, long step, List<SeriesResult> series) {
+    }
+}
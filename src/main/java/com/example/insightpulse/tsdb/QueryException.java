@@ -0,0 +1,11 @@
+package com.example.insightpulse.tsdb;
+
+/**
+ * A query that cannot be parsed or evaluated; reported to the client as {@code bad_data}.
+ */
+public class QueryException extends RuntimeException {
+
+    public QueryException(String message) {
+        super(message);
+    }
+}
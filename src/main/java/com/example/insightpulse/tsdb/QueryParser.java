@@ -0,0 +1,341 @@
+package com.example.insightpulse.tsdb;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Recursive-descent parser for the PromQL the dashboards and alert rules use: selectors with label
+ * matchers, {@code rate}/{@code increase}/{@code *_over_time}, {@code sum|avg|min|max|count} with
+ * {@code by}/{@code without}, {@code histogram_quantile}, arithmetic and comparisons.
+ */
+public final class QueryParser {
+
+    private static final Set<String> AGGREGATIONS = Set.of("sum", "avg", "min", "max", "count");
+    private static final Set<String> RANGE_FUNCTIONS = Set.of(
+            "rate", "increase", "avg_over_time", "min_over_time", "max_over_time", "sum_over_time", "count_over_time");
+
+    private final String input;
+    private int pos;
+
+    private QueryParser(String input) {
+        this.input = input;
+    }
+
+    public static Expr parse(String query) {
+        QueryParser parser = new QueryParser(query);
+        Expr expr = parser.comparison();
+        parser.skipSpace();
+        if (parser.pos < parser.input.length()) {
+            throw parser.error("unexpected '" + parser.input.substring(parser.pos) + "'");
+        }
+        return expr;
+    }
+
+    private Expr comparison() {
+        Expr left = additive();
+        while (true) {
+            String op = peekOperator("==", "!=", ">=", "<=", ">", "<");
+            if (op == null) {
+                return left;
+            }
+            pos += op.length();
+            left = new Expr.Binary(op, left, additive());
+        }
+    }
+
+    private Expr additive() {
+        Expr left = multiplicative();
+        while (true) {
+            String op = peekOperator("+", "-");
+            if (op == null) {
+                return left;
+            }
+            pos++;
+            left = new Expr.Binary(op, left, multiplicative());
+        }
+    }
+
+    private Expr multiplicative() {
+        Expr left = unary();
+        while (true) {
+            String op = peekOperator("*", "/");
+            if (op == null) {
+                return left;
+            }
+            pos++;
+            left = new Expr.Binary(op, left, unary());
+        }
+    }
+
+    private Expr unary() {
+        skipSpace();
+        if (pos >= input.length()) {
+            throw error("unexpected end of query");
+        }
+        char c = input.charAt(pos);
+        if (c == '(') {
+            pos++;
+            Expr inner = comparison();
+            expect(')');
+            return inner;
+        }
+        if (Character.isDigit(c) || c == '.' || ((c == '-' || c == '+') && pos + 1 < input.length()
+                && (Character.isDigit(input.charAt(pos + 1)) || input.charAt(pos + 1) == '.'))) {
+            return new Expr.NumberLiteral(number());
+        }
+        if (c == '{') {
+            return selector(null);
+        }
+        String identifier = identifier();
+        if (AGGREGATIONS.contains(identifier) && nextNonSpaceIsOneOf("(", "b", "w")) {
+            return aggregation(identifier);
+        }
+        if (RANGE_FUNCTIONS.contains(identifier) && nextNonSpaceIsOneOf("(")) {
+            expect('(');
+            Expr.Selector selector = selector(identifier());
+            expect(')');
+            if (selector.rangeMillis() == 0) {
+                throw error(identifier + "() expects a range selector like metric[1m]");
+            }
+            return new Expr.RangeFunction(identifier, selector);
+        }
+        if (identifier.equals("histogram_quantile") && nextNonSpaceIsOneOf("(")) {
+            expect('(');
+            skipSpace();
+            double quantile = number();
+            expect(',');
+            Expr inner = comparison();
+            expect(')');
+            return new Expr.HistogramQuantile(quantile, inner);
+        }
+        return selector(identifier);
+    }
+
+    private Expr aggregation(String op) {
+        List<String> grouping = List.of();
+        boolean without = false;
+        skipSpace();
+        if (!input.startsWith("(", pos)) {
+            without = groupingKeyword();
+            grouping = labelList();
+        }
+        expect('(');
+        Expr inner = comparison();
+        expect(')');
+        skipSpace();
+        if (grouping.isEmpty() && (input.startsWith("by", pos) || input.startsWith("without", pos))) {
+            without = groupingKeyword();
+            grouping = labelList();
+        }
+        return new Expr.Aggregation(op, grouping, without, inner);
+    }
+
+    private boolean groupingKeyword() {
+        String keyword = identifier();
+        if (!keyword.equals("by") && !keyword.equals("without")) {
+            throw error("expected 'by' or 'without' but got '" + keyword + "'");
+        }
+        return keyword.equals("without");
+    }
+
+    private List<String> labelList() {
+        expect('(');
+        List<String> labels = new ArrayList<>();
+        skipSpace();
+        while (!input.startsWith(")", pos)) {
+            labels.add(identifier());
+            skipSpace();
+            if (input.startsWith(",", pos)) {
+                pos++;
+                skipSpace();
+            }
+        }
+        expect(')');
+        return labels;
+    }
+
+    private Expr.Selector selector(String name) {
+        List<LabelMatcher> matchers = new ArrayList<>();
+        if (name != null) {
+            matchers.add(LabelMatcher.of(RollupTsdb.NAME_LABEL, LabelMatcher.Op.EQUAL, name));
+        }
+        skipSpace();
+        if (input.startsWith("{", pos)) {
+            pos++;
+            skipSpace();
+            while (!input.startsWith("}", pos)) {
+                String label = identifier();
+                skipSpace();
+                LabelMatcher.Op op;
+                if (input.startsWith("=~", pos)) {
+                    op = LabelMatcher.Op.REGEX;
+                    pos += 2;
+                } else if (input.startsWith("!~", pos)) {
+                    op = LabelMatcher.Op.NOT_REGEX;
+                    pos += 2;
+                } else if (input.startsWith("!=", pos)) {
+                    op = LabelMatcher.Op.NOT_EQUAL;
+                    pos += 2;
+                } else if (input.startsWith("=", pos)) {
+                    op = LabelMatcher.Op.EQUAL;
+                    pos++;
+                } else {
+                    throw error("expected label matcher operator");
+                }
+                skipSpace();
+                matchers.add(LabelMatcher.of(label, op, string()));
+                skipSpace();
+                if (input.startsWith(",", pos)) {
+                    pos++;
+                    skipSpace();
+                }
+            }
+            pos++;
+        }
+        if (matchers.isEmpty()) {
+            throw error("selector needs a metric name or at least one label matcher");
+        }
+        long range = 0;
+        skipSpace();
+        if (input.startsWith("[", pos)) {
+            pos++;
+            skipSpace();
+            int end = input.indexOf(']', pos);
+            if (end < 0) {
+                throw error("unterminated range");
+            }
+            range = parseDuration(input.substring(pos, end).trim());
+            pos = end + 1;
+        }
+        return new Expr.Selector(List.copyOf(matchers), range);
+    }
+
+    /**
+     * Parses PromQL durations such as {@code 30s}, {@code 5m} or {@code 1h30m}.
+     */
+    public static long parseDuration(String text) {
+        long total = 0;
+        int i = 0;
+        while (i < text.length()) {
+            int start = i;
+            while (i < text.length() && Character.isDigit(text.charAt(i))) {
+                i++;
+            }
+            if (start == i) {
+                throw new QueryException("bad duration '" + text + "'");
+            }
+            long amount = Long.parseLong(text.substring(start, i));
+            int unitStart = i;
+            while (i < text.length() && Character.isLetter(text.charAt(i))) {
+                i++;
+            }
+            total += amount * switch (text.substring(unitStart, i)) {
+                case "ms" -> 1L;
+                case "s" -> 1_000L;
+                case "m" -> 60_000L;
+                case "h" -> 3_600_000L;
+                case "d" -> 86_400_000L;
+                case "w" -> 604_800_000L;
+                default -> throw new QueryException("bad duration unit in '" + text + "'");
+            };
+        }
+        if (total <= 0) {
+            throw new QueryException("bad duration '" + text + "'");
+        }
+        return total;
+    }
+
+    private double number() {
+        skipSpace();
+        int start = pos;
+        if (pos < input.length() && (input.charAt(pos) == '-' || input.charAt(pos) == '+')) {
+            pos++;
+        }
+        while (pos < input.length() && (Character.isLetterOrDigit(input.charAt(pos)) || input.charAt(pos) == '.'
+                || ((input.charAt(pos) == '-' || input.charAt(pos) == '+')
+                && (input.charAt(pos - 1) == 'e' || input.charAt(pos - 1) == 'E')))) {
+            pos++;
+        }
+        try {
+            return Double.parseDouble(input.substring(start, pos));
+        } catch (NumberFormatException e) {
+            throw error("bad number '" + input.substring(start, pos) + "'");
+        }
+    }
+
+    private String string() {
+        if (pos >= input.length() || (input.charAt(pos) != '"' && input.charAt(pos) != '\'')) {
+            throw error("expected quoted label value");
+        }
+        char quote = input.charAt(pos++);
+        StringBuilder value = new StringBuilder();
+        while (pos < input.length() && input.charAt(pos) != quote) {
+            char c = input.charAt(pos++);
+            if (c == '\\' && pos < input.length()) {
+                c = input.charAt(pos++);
+            }
+            value.append(c);
+        }
+        if (pos >= input.length()) {
+            throw error("unterminated string");
+        }
+        pos++;
+        return value.toString();
+    }
+
+    private String identifier() {
+        skipSpace();
+        int start = pos;
+        while (pos < input.length()) {
+            char c = input.charAt(pos);
+            if (Character.isLetterOrDigit(c) || c == '_' || c == ':') {
+                pos++;
+            } else {
+                break;
+            }
+        }
+        if (start == pos) {
+            throw error("expected identifier");
+        }
+        return input.substring(start, pos);
+    }
+
+    private String peekOperator(String... operators) {
+        skipSpace();
+        for (String op : operators) {
+            if (input.startsWith(op, pos)) {
+                return op;
+            }
+        }
+        return null;
+    }
+
+    private boolean nextNonSpaceIsOneOf(String... prefixes) {
+        skipSpace();
+        for (String prefix : prefixes) {
+            if (input.startsWith(prefix, pos)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void expect(char c) {
+        skipSpace();
+        if (pos >= input.length() || input.charAt(pos) != c) {
+            throw error("expected '" + c + "'");
+        }
+        pos++;
+    }
+
+    private void skipSpace() {
+        while (pos < input.length() && Character.isWhitespace(input.charAt(pos))) {
+            pos++;
+        }
+    }
+
+    private QueryException error(String message) {
+        return new QueryException(message + " at position " + pos + " in: " + input);
+    }
+}
@@ -0,0 +1,23 @@
+package com.example.insightpulse.tsdb;
+
+/**
+ * How raw points are folded into a coarser resolution.
+ */
+enum Rollup {
+
+    /**
+     * Cumulative values (counters, timer counts and sums, histogram buckets): keep the last point, which
+     * preserves {@code rate()} exactly.
+     */
+    LAST,
+
+    /**
+     * Gauges: average of the points in the interval.
+     */
+    MEAN,
+
+    /**
+     * Maxima: largest point in the interval.
+     */
+    MAX
+}
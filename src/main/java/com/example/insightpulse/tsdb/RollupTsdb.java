@@ -0,0 +1,407 @@
+package com.example.insightpulse.tsdb;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.LongTaskTimer;
+import io.micrometer.core.instrument.Measurement;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.TimeGauge;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.config.NamingConvention;
+import io.micrometer.core.instrument.distribution.CountAtBucket;
+import io.micrometer.core.instrument.distribution.HistogramSnapshot;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * In-process time-series store fed straight from the {@link MeterRegistry} once a second.
+ * <p>
+ * Every meter is flattened into Prometheus-style series ({@code _total}, {@code _count}, {@code _sum},
+ * {@code _bucket{le=...}}, ...) and appended to {@link GorillaChunk}s at 1 s resolution, with 10 s and
+ * 1 m rollups kept for longer. {@link QueryEngine} answers PromQL against it, so dashboards get
+ * second-level detail without waiting for an external 15 s scrape.
+ */
+@Component
+@ConditionalOnProperty(prefix = "insightpulse.tsdb", name = "enabled", matchIfMissing = true)
+public class RollupTsdb {
+
+    private static final Logger logger = LoggerFactory.getLogger(RollupTsdb.class);
+
+    static final long[] RESOLUTIONS = {1_000, 10_000, 60_000};
+    static final String NAME_LABEL = "__name__";
+
+    private static final int EVICT_EVERY_COLLECTIONS = 10;
+
+    private final MeterRegistry registry;
+    private final long[] retentions;
+    private final int chunkPoints;
+    private final int maxSeries;
+
+    // metric name -> labels -> series
+    private final Map<String, Map<Map<String, String>, Series>> seriesByName = new ConcurrentHashMap<>();
+    private final AtomicInteger seriesCount = new AtomicInteger();
+
+    // Collector thread only
+    private final Map<Meter.Id, MeterSeries> meterSeries = new HashMap<>();
+    private int collections;
+
+    private final Counter droppedSeries;
+    private final Timer collectTimer;
+    private ScheduledExecutorService collector;
+
+    public RollupTsdb(MeterRegistry registry, TsdbProperties properties) {
+        this.registry = registry;
+        this.retentions = new long[] {
+                properties.getRawRetention().toMillis(),
+                properties.getTenSecondRetention().toMillis(),
+                properties.getMinuteRetention().toMillis()};
+        this.chunkPoints = properties.getChunkPoints();
+        this.maxSeries = properties.getMaxSeries();
+
+        this.droppedSeries = Counter.builder("tsdb_series_dropped_total")
+                                    .description("Series not stored because the embedded TSDB reached max-series")
+                                    .register(registry);
+        this.collectTimer = Timer.builder("tsdb_collect_duration_seconds")
+                                 .description("Time to read every meter into the embedded TSDB")
+                                 .register(registry);
+        Gauge.builder("tsdb_series", seriesCount, AtomicInteger::get)
+             .description("Series held by the embedded TSDB")
+             .register(registry);
+        Gauge.builder("tsdb_bytes", this, RollupTsdb::sizeBytes)
+             .description("Compressed size of all points held by the embedded TSDB")
+             .baseUnit("bytes")
+             .register(registry);
+    }
+
+    @PostConstruct
+    public void start() {
+        collector = Executors.newSingleThreadScheduledExecutor(Thread.ofPlatform().name("tsdb-collector").daemon().factory());
+        long now = System.currentTimeMillis();
+        collector.scheduleAtFixedRate(this::collectSafely, 1_000 - now % 1_000, 1_000, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (collector != null) {
+            collector.shutdownNow();
+        }
+    }
+
+    private void collectSafely() {
+        try {
+            collectTimer.record(() -> collect(System.currentTimeMillis()));
+        } catch (RuntimeException e) {
+            logger.warn("Embedded TSDB collection failed", e);
+        }
+    }
+
+    /**
+     * Appends the current value of every meter at {@code nowMillis}, truncated to the second.
+     * Called from the collector thread, or directly by tests.
+     */
+    void collect(long nowMillis) {
+        long timestamp = nowMillis - Math.floorMod(nowMillis, RESOLUTIONS[0]);
+        for (Meter meter : registry.getMeters()) {
+            MeterSeries series = meterSeries.get(meter.getId());
+            if (series == null) {
+                series = seriesFor(meter);
+                meterSeries.put(meter.getId(), series);
+            }
+            series.record(timestamp);
+        }
+        if (++collections % EVICT_EVERY_COLLECTIONS == 0) {
+            evict(nowMillis);
+        }
+    }
+
+    /**
+     * Finest resolution whose retention still reaches back to {@code fromMillis}.
+     */
+    int tierFor(long fromMillis, long nowMillis) {
+        for (int tier = 0; tier < RESOLUTIONS.length - 1; tier++) {
+            if (fromMillis >= nowMillis - retentions[tier]) {
+                return tier;
+            }
+        }
+        return RESOLUTIONS.length - 1;
+    }
+
+    /**
+     * Series matching all {@code matchers}, with their points in {@code [from, to]} at {@code tier}.
+     */
+    List<SelectedSeries> select(List<LabelMatcher> matchers, int tier, long from, long to) {
+        List<SelectedSeries> selected = new ArrayList<>();
+        for (Map<Map<String, String>, Series> byLabels : candidates(matchers)) {
+            for (Series series : byLabels.values()) {
+                if (!matchesAll(matchers, series.labels())) {
+                    continue;
+                }
+                Samples samples = new Samples(64);
+                series.read(tier, from, to, samples);
+                if (samples.size() > 0) {
+                    selected.add(new SelectedSeries(series.labels(), samples));
+                }
+            }
+        }
+        return selected;
+    }
+
+    /**
+     * Known label names across all series.
+     */
+    public Set<String> labelNames() {
+        Set<String> names = new TreeSet<>();
+        for (Map<Map<String, String>, Series> byLabels : seriesByName.values()) {
+            for (Map<String, String> labels : byLabels.keySet()) {
+                names.addAll(labels.keySet());
+            }
+        }
+        return names;
+    }
+
+    /**
+     * Values seen for {@code label} across all series; {@code __name__} lists the metric names.
+     */
+    public Set<String> labelValues(String label) {
+        if (label.equals(NAME_LABEL)) {
+            return new TreeSet<>(seriesByName.keySet());
+        }
+        Set<String> values = new TreeSet<>();
+        for (Map<Map<String, String>, Series> byLabels : seriesByName.values()) {
+            for (Map<String, String> labels : byLabels.keySet()) {
+                String value = labels.get(label);
+                if (value != null) {
+                    values.add(value);
+                }
+            }
+        }
+        return values;
+    }
+
+    long sizeBytes() {
+        long bytes = 0;
+        for (Map<Map<String, String>, Series> byLabels : seriesByName.values()) {
+            for (Series series : byLabels.values()) {
+                bytes += series.sizeBytes();
+            }
+        }
+        return bytes;
+    }
+
+    private Iterable<Map<Map<String, String>, Series>> candidates(List<LabelMatcher> matchers) {
+        for (LabelMatcher matcher : matchers) {
+            if (matcher.name().equals(NAME_LABEL) && matcher.op() == LabelMatcher.Op.EQUAL) {
+                Map<Map<String, String>, Series> byLabels = seriesByName.get(matcher.value());
+                return byLabels != null ? List.of(byLabels) : List.of();
+            }
+        }
+        return seriesByName.values();
+    }
+
+    private static boolean matchesAll(List<LabelMatcher> matchers, Map<String, String> labels) {
+        for (LabelMatcher matcher : matchers) {
+            if (!matcher.matches(labels)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void evict(long nowMillis) {
+        Set<Meter.Id> live = new HashSet<>();
+        for (Meter meter : registry.getMeters()) {
+            live.add(meter.getId());
+        }
+        meterSeries.keySet().retainAll(live);
+
+        for (Map<Map<String, String>, Series> byLabels : seriesByName.values()) {
+            byLabels.values().removeIf(series -> {
+                series.evict(nowMillis);
+                boolean empty = series.isEmpty();
+                if (empty) {
+                    seriesCount.decrementAndGet();
+                }
+                return empty;
+            });
+        }
+    }
+
+    /**
+     * Series for a metric name and labels, or {@code null} once {@code max-series} is reached.
+     */
+    private Series series(String name, Map<String, String> tags, Rollup rollup) {
+        Map<String, String> labels = new TreeMap<>(tags);
+        labels.put(NAME_LABEL, name);
+        Map<Map<String, String>, Series> byLabels = seriesByName.computeIfAbsent(name, n -> new ConcurrentHashMap<>());
+        Series series = byLabels.get(labels);
+        if (series != null) {
+            return series;
+        }
+        if (seriesCount.get() >= maxSeries) {
+            droppedSeries.increment();
+            return null;
+        }
+        series = new Series(Collections.unmodifiableMap(labels), rollup, RESOLUTIONS, retentions, chunkPoints);
+        byLabels.put(labels, series);
+        seriesCount.incrementAndGet();
+        return series;
+    }
+
+    private MeterSeries seriesFor(Meter meter) {
+        NamingConvention convention = registry.config().namingConvention();
+        String name = meter.getId().getConventionName(convention);
+        Map<String, String> tags = new TreeMap<>();
+        for (Tag tag : meter.getId().getConventionTags(convention)) {
+            tags.put(tag.getKey(), tag.getValue());
+        }
+
+        if (meter instanceof Counter counter) {
+            Series total = series(counterName(name), tags, Rollup.LAST);
+            return timestamp -> append(total, timestamp, counter.count());
+        }
+        if (meter instanceof FunctionCounter counter) {
+            Series total = series(counterName(name), tags, Rollup.LAST);
+            return timestamp -> append(total, timestamp, counter.count());
+        }
+        if (meter instanceof TimeGauge gauge) {
+            Series value = series(name, tags, Rollup.MEAN);
+            return timestamp -> append(value, timestamp, gauge.value(TimeUnit.SECONDS));
+        }
+        if (meter instanceof Gauge gauge) {
+            Series value = series(name, tags, Rollup.MEAN);
+            return timestamp -> append(value, timestamp, gauge.value());
+        }
+        if (meter instanceof Timer timer) {
+            return distributionSeries(name, tags, timer.takeSnapshot(), timer::takeSnapshot, TimeUnit.SECONDS);
+        }
+        if (meter instanceof DistributionSummary summary) {
+            return distributionSeries(name, tags, summary.takeSnapshot(), summary::takeSnapshot, null);
+        }
+        if (meter instanceof FunctionTimer timer) {
+            Series count = series(name + "_count", tags, Rollup.LAST);
+            Series sum = series(name + "_sum", tags, Rollup.LAST);
+            return timestamp -> {
+                append(count, timestamp, timer.count());
+                append(sum, timestamp, timer.totalTime(TimeUnit.SECONDS));
+            };
+        }
+        if (meter instanceof LongTaskTimer timer) {
+            Series active = series(name + "_active_count", tags, Rollup.MEAN);
+            Series duration = series(name + "_duration_sum", tags, Rollup.MEAN);
+            return timestamp -> {
+                append(active, timestamp, timer.activeTasks());
+                append(duration, timestamp, timer.duration(TimeUnit.SECONDS));
+            };
+        }
+
+        // Custom meters: one series per measured statistic
+        List<Series> perStatistic = new ArrayList<>();
+        for (Measurement measurement : meter.measure()) {
+            String suffix = switch (measurement.getStatistic()) {
+                case VALUE, UNKNOWN -> "";
+                default -> "_" + measurement.getStatistic().getTagValueRepresentation();
+            };
+            perStatistic.add(series(name + suffix, tags, Rollup.MEAN));
+        }
+        return timestamp -> {
+            int i = 0;
+            for (Measurement measurement : meter.measure()) {
+                if (i < perStatistic.size()) {
+                    append(perStatistic.get(i++), timestamp, measurement.getValue());
+                }
+            }
+        };
+    }
+
+    private MeterSeries distributionSeries(String name, Map<String, String> tags, HistogramSnapshot first,
+                                           Supplier<HistogramSnapshot> snapshots, TimeUnit unit) {
+        Series count = series(name + "_count", tags, Rollup.LAST);
+        Series sum = series(name + "_sum", tags, Rollup.LAST);
+        Series max = series(name + "_max", tags, Rollup.MAX);
+
+        CountAtBucket[] bounds = first.histogramCounts();
+        Series[] buckets = new Series[bounds.length + 1];
+        for (int i = 0; i < bounds.length; i++) {
+            double le = unit != null ? bounds[i].bucket(unit) : bounds[i].bucket();
+            buckets[i] = bucketSeries(name, tags, formatBound(le));
+        }
+        Series infinity = bounds.length > 0 ? bucketSeries(name, tags, "+Inf") : null;
+
+        return timestamp -> {
+            HistogramSnapshot snapshot = snapshots.get();
+            append(count, timestamp, snapshot.count());
+            append(sum, timestamp, unit != null ? snapshot.total(unit) : snapshot.total());
+            append(max, timestamp, unit != null ? snapshot.max(unit) : snapshot.max());
+            CountAtBucket[] counts = snapshot.histogramCounts();
+            if (counts.length == bounds.length) {
+                for (int i = 0; i < counts.length; i++) {
+                    append(buckets[i], timestamp, counts[i].count());
+                }
+                if (infinity != null) {
+                    append(infinity, timestamp, snapshot.count());
+                }
+            }
+        };
+    }
+
+    private Series bucketSeries(String name, Map<String, String> tags, String le) {
+        Map<String, String> bucketTags = new TreeMap<>(tags);
+        bucketTags.put("le", le);
+        return series(name + "_bucket", bucketTags, Rollup.LAST);
+    }
+
+    private static void append(Series series, long timestamp, double value) {
+        if (series != null && !Double.isNaN(value)) {
+            series.append(timestamp, value);
+        }
+    }
+
+    private static String counterName(String name) {
+        return name.endsWith("_total") ? name : name + "_total";
+    }
+
+    private static String formatBound(double le) {
+        String plain = Double.toString(le);
+        return plain.contains("E") ? BigDecimal.valueOf(le).toPlainString() : plain;
+    }
+
+    /**
+     * Reads one meter into its series.
+     */
+    @FunctionalInterface
+    private interface MeterSeries {
+        void record(long timestamp);
+    }
+
+    /**
+     * A series and its points within a query window.
+     */
+    record SelectedSeries(Map<String, String> labels, Samples samples) {
+    }
+}
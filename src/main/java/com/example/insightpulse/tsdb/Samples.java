@@ -0,0 +1,48 @@
+package com.example.insightpulse.tsdb;
+
+import java.util.Arrays;
+
+/**
+ * Growable pair of primitive columns holding decoded points in timestamp order.
+ */
+final class Samples {
+
+    private long[] timestamps;
+    private double[] values;
+    private int size;
+
+    Samples(int capacity) {
+        this.timestamps = new long[Math.max(8, capacity)];
+        this.values = new double[timestamps.length];
+    }
+
+    void add(long timestamp, double value) {
+        if (size == timestamps.length) {
+            timestamps = Arrays.copyOf(timestamps, size * 2);
+            values = Arrays.copyOf(values, size * 2);
+        }
+        timestamps[size] = timestamp;
+        values[size] = value;
+        size++;
+    }
+
+    int size() {
+        return size;
+    }
+
+    long timestamp(int i) {
+        return timestamps[i];
+    }
+
+    double value(int i) {
+        return values[i];
+    }
+
+    /**
+     * Index of the last point with {@code timestamp <= at}, or -1.
+     */
+    int lastAtOrBefore(long at) {
+        int index = Arrays.binarySearch(timestamps, 0, size, at);
+        return index >= 0 ? index : -index - 2;
+    }
+}
@@ -0,0 +1,96 @@
+package com.example.insightpulse.tsdb;
+
+import java.util.Map;
+
+/**
+ * One labelled time series, stored at every resolution of {@link RollupTsdb}.
+ * <p>
+ * Raw points go to tier 0; each coarser tier accumulates the points of its current interval and
+ * receives one rolled-up point when the interval closes.
+ */
+final class Series {
+
+    private final Map<String, String> labels;
+    private final Rollup rollup;
+    private final long[] resolutions;
+    private final SeriesTier[] tiers;
+
+    // Open interval of every coarser tier
+    private final long[] intervalStart;
+    private final long[] intervalLastTimestamp;
+    private final double[] intervalValue;
+    private final int[] intervalPoints;
+
+    Series(Map<String, String> labels, Rollup rollup, long[] resolutions, long[] retentions, int chunkPoints) {
+        this.labels = labels;
+        this.rollup = rollup;
+        this.resolutions = resolutions;
+        this.tiers = new SeriesTier[resolutions.length];
+        for (int i = 0; i < tiers.length; i++) {
+            tiers[i] = new SeriesTier(chunkPoints, retentions[i]);
+        }
+        this.intervalStart = new long[tiers.length];
+        this.intervalLastTimestamp = new long[tiers.length];
+        this.intervalValue = new double[tiers.length];
+        this.intervalPoints = new int[tiers.length];
+    }
+
+    /**
+     * Labels including {@code __name__}; not to be modified.
+     */
+    Map<String, String> labels() {
+        return labels;
+    }
+
+    synchronized void append(long timestamp, double value) {
+        tiers[0].append(timestamp, value);
+        for (int tier = 1; tier < tiers.length; tier++) {
+            long start = timestamp - Math.floorMod(timestamp, resolutions[tier]);
+            if (intervalPoints[tier] > 0 && start != intervalStart[tier]) {
+                flush(tier);
+            }
+            intervalStart[tier] = start;
+            intervalLastTimestamp[tier] = timestamp;
+            intervalValue[tier] = intervalPoints[tier] == 0 ? value : switch (rollup) {
+                case LAST -> value;
+                case MEAN -> intervalValue[tier] + value;
+                case MAX -> Math.max(intervalValue[tier], value);
+            };
+            intervalPoints[tier]++;
+        }
+    }
+
+    synchronized void read(int tier, long from, long to, Samples out) {
+        tiers[tier].read(from, to, out);
+    }
+
+    synchronized void evict(long nowMillis) {
+        for (SeriesTier tier : tiers) {
+            tier.evict(nowMillis);
+        }
+    }
+
+    synchronized boolean isEmpty() {
+        for (SeriesTier tier : tiers) {
+            if (!tier.isEmpty()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    synchronized long sizeBytes() {
+        long bytes = 0;
+        for (SeriesTier tier : tiers) {
+            bytes += tier.sizeBytes();
+        }
+        return bytes;
+    }
+
+    private void flush(int tier) {
+        double value = rollup == Rollup.MEAN ? intervalValue[tier] / intervalPoints[tier] : intervalValue[tier];
+        // Stamped with the interval's last raw timestamp so rate() over rolled-up counters stays accurate
+        tiers[tier].append(intervalLastTimestamp[tier], value);
+        intervalPoints[tier] = 0;
+    }
+}
@@ -0,0 +1,64 @@
+package com.example.insightpulse.tsdb;
+
+import java.util.ArrayDeque;
+
+/**
+ * Points of one series at one resolution, as a queue of compressed chunks trimmed to the tier's retention.
+ */
+final class SeriesTier {
+
+    private final int chunkPoints;
+    private final long retentionMillis;
+    private final ArrayDeque<GorillaChunk> chunks = new ArrayDeque<>();
+
+    SeriesTier(int chunkPoints, long retentionMillis) {
+        this.chunkPoints = chunkPoints;
+        this.retentionMillis = retentionMillis;
+    }
+
+    void append(long timestamp, double value) {
+        GorillaChunk chunk = chunks.peekLast();
+        if (chunk != null && chunk.count() > 0 && timestamp <= chunk.lastTimestamp()) {
+            return; // out of order; the collector never goes back in time, so this is a duplicate
+        }
+        if (chunk == null || chunk.count() >= chunkPoints) {
+            if (chunk != null) {
+                chunk.seal();
+            }
+            chunk = new GorillaChunk(chunkPoints);
+            chunks.addLast(chunk);
+        }
+        chunk.append(timestamp, value);
+    }
+
+    void read(long from, long to, Samples out) {
+        for (GorillaChunk chunk : chunks) {
+            if (chunk.lastTimestamp() < from || chunk.firstTimestamp() > to) {
+                continue;
+            }
+            chunk.decode(from, to, out);
+        }
+    }
+
+    /**
+     * Drops chunks that lie entirely before the retention window.
+     */
+    void evict(long nowMillis) {
+        long cutoff = nowMillis - retentionMillis;
+        while (!chunks.isEmpty() && chunks.peekFirst().lastTimestamp() < cutoff) {
+            chunks.removeFirst();
+        }
+    }
+
+    boolean isEmpty() {
+        return chunks.isEmpty();
+    }
+
+    long sizeBytes() {
+        long bytes = 0;
+        for (GorillaChunk chunk : chunks) {
+            bytes += chunk.sizeBytes();
+        }
+        return bytes;
+    }
+}
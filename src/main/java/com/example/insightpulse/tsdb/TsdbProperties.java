@@ -0,0 +1,73 @@
+package com.example.insightpulse.tsdb;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Embedded time-series store settings, bound from {@code insightpulse.tsdb.*}.
+ */
+@ConfigurationProperties(prefix = "insightpulse.tsdb")
+public class TsdbProperties {
+
+    private boolean enabled = true;
+
+    // How long each resolution is kept: 1 s points, 10 s rollups, 1 m rollups
+    private Duration rawRetention = Duration.ofMinutes(15);
+    private Duration tenSecondRetention = Duration.ofHours(6);
+    private Duration minuteRetention = Duration.ofHours(24);
+
+    // Points per compressed chunk; whole chunks are dropped when they age out
+    private int chunkPoints = 120;
+
+    // New series beyond this are not stored (counted in tsdb_series_dropped_total)
+    private int maxSeries = 20_000;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public Duration getRawRetention() {
+        return rawRetention;
+    }
+
+    public void setRawRetention(Duration rawRetention) {
+        this.rawRetention = rawRetention;
+    }
+
+    public Duration getTenSecondRetention() {
+        return tenSecondRetention;
+    }
+
+    public void setTenSecondRetention(Duration tenSecondRetention) {
+        this.tenSecondRetention = tenSecondRetention;
+    }
+
+    public Duration getMinuteRetention() {
+        return minuteRetention;
+    }
+
+    public void setMinuteRetention(Duration minuteRetention) {
+        this.minuteRetention = minuteRetention;
+    }
+
+    public int getChunkPoints() {
+        return chunkPoints;
+    }
+
+    public void setChunkPoints(int chunkPoints) {
+        this.chunkPoints = chunkPoints;
+    }
+
+    public int getMaxSeries() {
+        return maxSeries;
+    }
+
+    public void setMaxSeries(int maxSeries) {
+        this.maxSeries = maxSeries;
+    }
+}
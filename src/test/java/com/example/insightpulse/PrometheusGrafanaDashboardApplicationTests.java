@@ -1,11 +1,30 @@
 package com.example.insightpulse;
 
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
 
+import java.nio.file.Path;
+
+// Close the context afterwards, so its flight recording doesn't keep running under the allocation tests
 @SpringBootTest
+@DirtiesContext
 class PrometheusGrafanaDashboardApplicationTests {
 
+	@TempDir
+	static Path workDir;
+
+	// Keep what the application writes out of the working tree
+	@DynamicPropertySource
+	static void workingFiles(DynamicPropertyRegistry registry) {
+		registry.add("insightpulse.events.file", () -> workDir.resolve("job-events.log").toString());
+		registry.add("insightpulse.history.dir", () -> workDir.resolve("history").toString());
+		registry.add("insightpulse.alerts.file", () -> workDir.resolve("alerts.log").toString());
+	}
+
 	@Test
 	void contextLoads() {
 	}
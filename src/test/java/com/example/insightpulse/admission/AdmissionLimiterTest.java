@@ -0,0 +1,160 @@
+package com.example.insightpulse.admission;
+
+import com.example.insightpulse.admission.AdmissionProperties.RouteLimit;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.prometheusmetrics.PrometheusConfig;
+import io.micrometer.prometheusmetrics.PrometheusMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.offset;
+
+class AdmissionLimiterTest {
+
+    // Keeps cumulative histogram buckets like the application's registry; SimpleMeterRegistry has none
+    private final MeterRegistry registry = new PrometheusMeterRegistry(PrometheusConfig.DEFAULT);
+    private final AtomicLong nanos = new AtomicLong();
+
+    @Test
+    void mostSpecificRouteLimitsAndRefillsOverTime() {
+        AdmissionProperties properties = new AdmissionProperties();
+        properties.getRoutes().put("/jobs/{jobId}", limit(10, 5, null));
+        properties.getRoutes().put("/jobs/generate-report", limit(2, 2, null));
+        AdmissionLimiter limiter = new AdmissionLimiter(properties, registry, 1, nanos::get);
+
+        assertThat(limiter.admit("/jobs/generate-report")).isZero();
+        assertThat(limiter.admit("/jobs/generate-report")).isZero();
+        assertThat(limiter.admit("/jobs/generate-report")).isEqualTo(TimeUnit.MILLISECONDS.toNanos(500));
+        // Other jobs have their own bucket
+        for (int i = 0; i < 5; i++) {
+            assertThat(limiter.admit("/jobs/register-user")).isZero();
+        }
+        assertThat(limiter.admit("/jobs/register-user")).isPositive();
+        // Unlimited
+        assertThat(limiter.admit("/tsdb/api/v1/labels")).isZero();
+
+        nanos.addAndGet(TimeUnit.MILLISECONDS.toNanos(500));
+        assertThat(limiter.admit("/jobs/generate-report")).isZero();
+        assertThat(requests("/jobs/generate-report", "admitted")).isEqualTo(3);
+        assertThat(requests("/jobs/generate-report", "shed")).isEqualTo(1);
+        assertThat(requests("/jobs/{jobId}", "shed")).isEqualTo(1);
+
+        // Runtime changes
+        limiter.setLimit("/jobs/generate-report", limit(1, 1, null));
+        assertThat(limiter.admit("/jobs/generate-report")).isZero();
+        assertThat(limiter.admit("/jobs/generate-report")).isEqualTo(TimeUnit.SECONDS.toNanos(1));
+        assertThat(requests("/jobs/generate-report", "shed")).isEqualTo(2);
+        assertThat(limiter.removeLimit("/jobs/generate-report")).isTrue();
+        // Now under /jobs/{jobId}
+        assertThat(limiter.admit("/jobs/generate-report")).isZero();
+        assertThat(requests("/jobs/{jobId}", "admitted")).isEqualTo(6);
+        assertThat(registry.find("admission_requests_total").tag("route", "/jobs/generate-report").meters()).isEmpty();
+        assertThat(limiter.limits()).extracting(AdmissionLimiter.LimitInfo::route).containsExactly("/jobs/{jobId}");
+    }
+
+    @Test
+    void burstThatDoesNotDivideIntoStripesIsAdmittedInFull() {
+        AdmissionProperties properties = new AdmissionProperties();
+        properties.getRoutes().put("/execute-dummy-job", limit(1, 10, null));
+        AdmissionLimiter limiter = new AdmissionLimiter(properties, registry, 8, nanos::get);
+
+        int admitted = 0;
+        while (limiter.admit("/execute-dummy-job") == 0) {
+            admitted++;
+        }
+        assertThat(admitted).isEqualTo(10);
+    }
+
+    @Test
+    void stripedBucketAdmitsTheBurstAcrossThreads() throws Exception {
+        AdmissionProperties properties = new AdmissionProperties();
+        properties.getRoutes().put("/execute-dummy-job", limit(100, 64, null));
+        AdmissionLimiter limiter = new AdmissionLimiter(properties, registry, 8, nanos::get);
+        AtomicInteger admitted = new AtomicInteger();
+
+        List<Thread> threads = new ArrayList<>();
+        for (int t = 0; t < 8; t++) {
+            threads.add(Thread.ofPlatform().start(() -> {
+                for (int i = 0; i < 100; i++) {
+                    if (limiter.admit("/execute-dummy-job") == 0) {
+                        admitted.incrementAndGet();
+                    }
+                }
+            }));
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        // The clock is frozen, so exactly the burst gets in however the threads map to stripes
+        assertThat(admitted).hasValue(64);
+        assertThat(requests("/execute-dummy-job", "shed")).isEqualTo(800 - 64);
+    }
+
+    @Test
+    void adaptiveModeTightensWhileP99IsOverTargetAndRecoversAfter() {
+        AdmissionProperties properties = new AdmissionProperties();
+        properties.getAdaptive().setEnabled(true);
+        properties.getAdaptive().setMinSamples(10);
+        properties.getRoutes().put("/execute-dummy-job", limit(100, 100, Duration.ofMillis(500)));
+        AdmissionLimiter limiter = new AdmissionLimiter(properties, registry, 1, nanos::get);
+        Timer ok = requestTimer("200");
+        Timer shed = requestTimer("429");
+
+        limiter.adapt();  // baseline
+        record(ok, 50, Duration.ofSeconds(2));
+        record(shed, 500, Duration.ofMillis(1));  // ignored
+        limiter.adapt();
+        assertThat(effectiveRate(limiter)).isCloseTo(70.0, offset(1e-9));
+        record(ok, 50, Duration.ofSeconds(2));
+        limiter.adapt();
+        assertThat(effectiveRate(limiter)).isCloseTo(49.0, offset(1e-9));
+        assertThat(registry.get("admission_limit_permits_per_second").gauge().value()).isCloseTo(49.0, offset(1e-9));
+
+        // Too few requests: no change
+        record(ok, 5, Duration.ofMillis(10));
+        limiter.adapt();
+        assertThat(effectiveRate(limiter)).isCloseTo(49.0, offset(1e-9));
+
+        record(ok, 100, Duration.ofMillis(10));
+        limiter.adapt();
+        assertThat(effectiveRate(limiter)).isCloseTo(59.0, offset(1e-9));
+    }
+
+    private double effectiveRate(AdmissionLimiter limiter) {
+        return limiter.limits().get(0).effectivePermitsPerSecond();
+    }
+
+    private Timer requestTimer(String status) {
+        return Timer.builder(AdmissionLimiter.REQUEST_TIMER)
+                    .tags("uri", "/execute-dummy-job", "status", status)
+                    .publishPercentileHistogram()
+                    .register(registry);
+    }
+
+    private static void record(Timer timer, int times, Duration duration) {
+        for (int i = 0; i < times; i++) {
+            timer.record(duration);
+        }
+    }
+
+    private double requests(String route, String result) {
+        return registry.get("admission_requests_total").tags("route", route, "result", result).counter().count();
+    }
+
+    private static RouteLimit limit(double permitsPerSecond, int burst, Duration p99Target) {
+        RouteLimit limit = new RouteLimit();
+        limit.setPermitsPerSecond(permitsPerSecond);
+        limit.setBurst(burst);
+        limit.setP99Target(p99Target);
+        return limit;
+    }
+}
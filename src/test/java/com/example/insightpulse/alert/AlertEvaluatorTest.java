@@ -0,0 +1,111 @@
+package com.example.insightpulse.alert;
+
+import com.example.insightpulse.tsdb.QueryEngine;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.prometheusmetrics.PrometheusConfig;
+import io.micrometer.prometheusmetrics.PrometheusMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+class AlertEvaluatorTest {
+
+    private static final long T0 = Instant.parse("2025-04-04T10:00:00Z").toEpochMilli();
+
+    private final MeterRegistry registry = new PrometheusMeterRegistry(PrometheusConfig.DEFAULT);
+    private final List<AlertEvent> events = new CopyOnWriteArrayList<>();
+
+    @Test
+    void jobDownFiresAfterForDurationAndResolves() throws IOException {
+        List<AlertRule> rules;
+        try (InputStream in = new FileInputStream("alert.rules.yml")) {
+            rules = AlertRuleLoader.load(in);
+        }
+        AlertRule jobDown = rules.stream().filter(rule -> rule.name().equals("JobDown")).findFirst().orElseThrow();
+        assertThat(jobDown.forMillis()).isEqualTo(120_000);
+
+        AlertEvaluator evaluator = evaluator(List.of(jobDown), null);
+        // Registered after the rule was compiled, as services are
+        AtomicInteger availability = new AtomicInteger(0);
+        Gauge.builder("inventory_sync_availability", availability, AtomicInteger::get).register(registry);
+
+        evaluator.evaluate(T0);
+        evaluator.evaluate(T0 + 119_000);
+        assertThat(events).isEmpty();
+        assertThat(registry.get("alerts_pending").tag("alertname", "JobDown").gauge().value()).isEqualTo(1);
+
+        evaluator.evaluate(T0 + 120_000);
+        evaluator.evaluate(T0 + 121_000);
+        assertThat(events).singleElement().satisfies(event -> {
+            assertThat(event.status()).isEqualTo(AlertStatus.FIRING);
+            assertThat(event.labels()).containsEntry("severity", "critical").containsEntry("alertname", "JobDown");
+            assertThat(event.annotations()).containsEntry("summary", "Inventory sync is down");
+            assertThat(event.activeAt()).isEqualTo(Instant.ofEpochMilli(T0));
+        });
+
+        availability.set(1);
+        evaluator.evaluate(T0 + 122_000);
+        assertThat(events).extracting(AlertEvent::status).containsExactly(AlertStatus.FIRING, AlertStatus.RESOLVED);
+        assertThat(registry.get("alerts_firing").tag("alertname", "JobDown").gauge().value()).isZero();
+    }
+
+    @Test
+    void flappingConditionRestartsForClock() {
+        AtomicInteger availability = new AtomicInteger(0);
+        Gauge.builder("inventory_sync_availability", availability, AtomicInteger::get).register(registry);
+        AlertEvaluator evaluator = evaluator(List.of(rule("inventory_sync_availability == 0", 120_000)), null);
+
+        evaluator.evaluate(T0);
+        availability.set(1);
+        evaluator.evaluate(T0 + 60_000);
+        availability.set(0);
+        evaluator.evaluate(T0 + 61_000);
+        evaluator.evaluate(T0 + 150_000);
+        assertThat(events).isEmpty();
+
+        evaluator.evaluate(T0 + 181_000);
+        assertThat(events).singleElement().extracting(AlertEvent::status).isEqualTo(AlertStatus.FIRING);
+    }
+
+    @Test
+    void forDeadlineFiresWithoutWaitingForTheNextEvaluation() {
+        AtomicInteger availability = new AtomicInteger(0);
+        Gauge.builder("inventory_sync_availability", availability, AtomicInteger::get).register(registry);
+        AlertProperties properties = new AlertProperties();
+        properties.setInterval(Duration.ofHours(1));
+        AlertEvaluator evaluator = new AlertEvaluator(registry, properties,
+                                                      List.of(rule("inventory_sync_availability == 0", 200)),
+                                                      null, List.of(events::add));
+        evaluator.start();
+        try {
+            evaluator.evaluate(System.currentTimeMillis());
+            assertThat(events).isEmpty();
+
+            await().atMost(Duration.ofSeconds(5)).until(() -> !events.isEmpty());
+            assertThat(events).singleElement().extracting(AlertEvent::status).isEqualTo(AlertStatus.FIRING);
+        } finally {
+            evaluator.stop();
+        }
+    }
+
+    private AlertEvaluator evaluator(List<AlertRule> rules, QueryEngine queryEngine) {
+        return new AlertEvaluator(registry, new AlertProperties(), rules, queryEngine, List.of(events::add));
+    }
+
+    private static AlertRule rule(String expr, long forMillis) {
+        return new AlertRule("test", "TestAlert", expr, forMillis, Map.of(),
+                             Map.of("summary", "{{ $labels.job }} is failing"));
+    }
+}
@@ -0,0 +1,182 @@
+package com.example.insightpulse.cron;
+
+import com.example.insightpulse.cron.ClusterSchedulerProperties.JobDefinition;
+import com.example.insightpulse.events.JobEventLog;
+import com.example.insightpulse.events.JobEventProperties;
+import com.example.insightpulse.job.Job;
+import com.example.insightpulse.job.JobRegistry;
+import com.example.insightpulse.job.JobResilienceProperties;
+import com.example.insightpulse.metrics.TimingMode;
+import com.example.insightpulse.metrics.TimingSampler;
+import com.example.insightpulse.slo.SloProperties;
+import com.example.insightpulse.slo.SloRegistry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.quartz.JobExecutionContext;
+import org.quartz.Scheduler;
+import org.quartz.Trigger;
+import org.quartz.listeners.TriggerListenerSupport;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.springframework.scheduling.quartz.SchedulerFactoryBean;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+class ClusteredJobSchedulerTest {
+
+    private static final int JOBS = 6;
+
+    private final DriverManagerDataSource dataSource =
+            new DriverManagerDataSource("jdbc:h2:mem:cluster-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1");
+    private final MeterRegistry jobMeters = new SimpleMeterRegistry();
+    private final JobEventLog events = new JobEventLog(jobMeters, new JobEventProperties(), List.of());
+    private final JobRegistry jobs = new JobRegistry(jobMeters, new TimingSampler(jobMeters, TimingMode.FULL, 0.01, 0.001),
+                                                     events, new SloRegistry(jobMeters, new SloProperties()),
+                                                     new JobResilienceProperties(),
+                                                     IntStream.range(0, JOBS).mapToObj(i -> job("job-" + i)).toList());
+    private final List<SchedulerFactoryBean> nodes = new ArrayList<>();
+
+    // "trigger@scheduled fire time" -> node that ran it
+    private final Map<String, String> firings = new ConcurrentHashMap<>();
+    private final AtomicInteger duplicates = new AtomicInteger();
+
+    @AfterEach
+    void shutdown() throws Exception {
+        for (SchedulerFactoryBean node : nodes) {
+            node.destroy();
+        }
+        events.shutdown();
+    }
+
+    @Test
+    void firingsSpreadOverNodesWithoutDuplicatesAndSurviveANodeLeaving() throws Exception {
+        new ResourceDatabasePopulator(new ClassPathResource("org/quartz/impl/jdbcjobstore/tables_h2.sql")).execute(dataSource);
+        SimpleMeterRegistry registryA = new SimpleMeterRegistry();
+        SimpleMeterRegistry registryB = new SimpleMeterRegistry();
+        ClusteredJobScheduler a = scheduler(node("node-a"), registryA);
+        ClusteredJobScheduler b = scheduler(node("node-b"), registryB);
+        // Both replicas start with the same configuration
+        a.schedule();
+        b.schedule();
+
+        await().atMost(Duration.ofSeconds(15))
+               .until(() -> firings.containsValue("node-a") && firings.containsValue("node-b") && firings.size() >= 60);
+        assertThat(duplicates).hasValue(0);
+        assertThat(executions(registryA) + executions(registryB)).isGreaterThanOrEqualTo(60);
+        assertThat(executions(registryA)).isPositive();
+        assertThat(executions(registryB)).isPositive();
+        // One series per schedule; the scraped instance, not a tag, tells the nodes apart
+        assertThat(registryA.get("scheduler_cluster_executions_total").counters())
+                .allSatisfy(c -> assertThat(c.getId().getTags()).extracting(Tag::getKey).containsExactly("schedule"));
+        a.refreshLiveNodes();
+        assertThat(registryA.get("scheduler_cluster_nodes").gauge().value()).isEqualTo(2);
+
+        // node-b leaves: node-a takes over every job
+        nodes.get(1).destroy();
+        nodes.remove(1);
+        firings.clear();
+        // Anything node-b held when it stopped is recovered once its check-in goes stale
+        await().atMost(Duration.ofSeconds(30)).until(() -> ranAllJobs("node-a"));
+        assertThat(firings).doesNotContainValue("node-b");
+        assertThat(duplicates).hasValue(0);
+        // Its check-in row stays behind until it goes stale
+        await().atMost(Duration.ofSeconds(5)).until(() -> {
+            a.refreshLiveNodes();
+            return registryA.get("scheduler_cluster_nodes").gauge().value() == 1;
+        });
+        assertThat(jobMeters.get("job_execution_seconds").tag("job_id", "job-0").timer().count()).isPositive();
+    }
+
+    private boolean ranAllJobs(String node) {
+        Set<String> ran = ConcurrentHashMap.newKeySet();
+        firings.forEach((firing, ranOn) -> {
+            if (ranOn.equals(node)) {
+                ran.add(firing.substring(0, firing.indexOf('@')));
+            }
+        });
+        return ran.size() == JOBS;
+    }
+
+    private ClusteredJobScheduler scheduler(Scheduler node, MeterRegistry registry) throws Exception {
+        ClusterSchedulerProperties properties = new ClusterSchedulerProperties();
+        for (int i = 0; i < JOBS; i++) {
+            JobDefinition definition = new JobDefinition();
+            definition.setJob("job-" + i);
+            definition.setInterval(Duration.ofMillis(200));
+            properties.getJobs().put("job-" + i, definition);
+        }
+        return new ClusteredJobScheduler(node, properties, jobs, registry, dataSource, "QRTZ_");
+    }
+
+    private Scheduler node(String id) throws Exception {
+        Properties quartz = new Properties();
+        quartz.setProperty("org.quartz.scheduler.instanceId", id);
+        quartz.setProperty("org.quartz.scheduler.idleWaitTime", "1000");
+        quartz.setProperty("org.quartz.jobStore.isClustered", "true");
+        quartz.setProperty("org.quartz.jobStore.acquireTriggersWithinLock", "true");
+        quartz.setProperty("org.quartz.jobStore.clusterCheckinInterval", "500");
+        quartz.setProperty("org.quartz.threadPool.threadCount", "4");
+
+        SchedulerFactoryBean factory = new SchedulerFactoryBean();
+        factory.setSchedulerName("cluster-test");
+        factory.setDataSource(dataSource);
+        factory.setQuartzProperties(quartz);
+        factory.setJobFactory((bundle, scheduler) -> new RegistryJobAdapter(jobs));
+        factory.setWaitForJobsToCompleteOnShutdown(true);
+        factory.afterPropertiesSet();
+        Scheduler scheduler = factory.getObject();
+        scheduler.getListenerManager().addTriggerListener(new TriggerListenerSupport() {
+            @Override
+            public String getName() {
+                return "firings";
+            }
+
+            @Override
+            public void triggerFired(Trigger trigger, JobExecutionContext context) {
+                String firing = trigger.getKey().getName() + "@" + context.getScheduledFireTime().getTime();
+                if (firings.putIfAbsent(firing, id) != null) {
+                    duplicates.incrementAndGet();
+                }
+            }
+        });
+        factory.start();
+        nodes.add(factory);
+        return scheduler;
+    }
+
+    private static double executions(MeterRegistry registry) {
+        return registry.find("scheduler_cluster_executions_total").counters().stream()
+                       .mapToDouble(c -> c.count())
+                       .sum();
+    }
+
+    private static Job job(String id) {
+        return new Job() {
+            @Override
+            public String id() {
+                return id;
+            }
+
+            @Override
+            public String execute() {
+                return null;
+            }
+        };
+    }
+}
@@ -0,0 +1,80 @@
+package com.example.insightpulse.cron;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+class HashedWheelSchedulerTest {
+
+    private final MeterRegistry registry = new SimpleMeterRegistry();
+    private HashedWheelScheduler scheduler;
+
+    @AfterEach
+    void tearDown() {
+        scheduler.close();
+    }
+
+    @Test
+    void firesRecurringJobAndStopsAfterCancel() throws InterruptedException {
+        scheduler = new HashedWheelScheduler(Duration.ofMillis(10), 64, Runnable::run, registry);
+        AtomicInteger runs = new AtomicInteger();
+
+        HashedWheelScheduler.ScheduledJob job =
+                scheduler.scheduleAtFixedRate("sync", runs::incrementAndGet, Duration.ofMillis(50), Duration.ZERO);
+
+        await().atMost(Duration.ofSeconds(5)).until(() -> runs.get() >= 3);
+        job.cancel();
+        Thread.sleep(100);
+        int afterCancel = runs.get();
+        Thread.sleep(200);
+
+        assertThat(runs.get()).isEqualTo(afterCancel);
+        assertThat(scheduler.scheduledJobs()).isZero();
+    }
+
+    @Test
+    void spreadsJitteredJobsAcrossTheJitterWindow() {
+        scheduler = new HashedWheelScheduler(Duration.ofMillis(10), 64, Runnable::run, registry);
+        long start = System.nanoTime();
+        long[] firstFire = new long[200];
+        for (int i = 0; i < firstFire.length; i++) {
+            int index = i;
+            scheduler.scheduleAtFixedRate("tenant-" + i, () -> {
+                if (firstFire[index] == 0) {
+                    firstFire[index] = System.nanoTime() - start;
+                }
+            }, Duration.ofSeconds(10), Duration.ofMillis(500));
+        }
+
+        await().atMost(Duration.ofSeconds(5)).until(() -> Arrays.stream(firstFire).allMatch(t -> t > 0));
+
+        long earliest = Arrays.stream(firstFire).min().orElseThrow();
+        long latest = Arrays.stream(firstFire).max().orElseThrow();
+        assertThat(TimeUnit.NANOSECONDS.toMillis(latest - earliest)).isGreaterThan(250);
+    }
+
+    @Test
+    void periodOfExactlyOneRotationFiresEveryRotation() {
+        // Four 20 ms buckets: each re-insertion hashes back into the bucket that just fired
+        scheduler = new HashedWheelScheduler(Duration.ofMillis(20), 4, Runnable::run, registry);
+        List<Long> fires = new CopyOnWriteArrayList<>();
+
+        scheduler.scheduleAtFixedRate("rotation", () -> fires.add(System.nanoTime()), Duration.ofMillis(80), Duration.ZERO);
+
+        await().atMost(Duration.ofSeconds(5)).until(() -> fires.size() >= 5);
+        long meanGapMillis = TimeUnit.NANOSECONDS.toMillis(fires.get(4) - fires.get(0)) / 4;
+        // One rotation late would put the gap at 160 ms
+        assertThat(meanGapMillis).isLessThan(120);
+    }
+}
@@ -0,0 +1,138 @@
+package com.example.insightpulse.events;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JobEventLogTest {
+
+    private final MeterRegistry registry = new SimpleMeterRegistry();
+
+    @Test
+    void writesOneLinePerEventToTheFile(@TempDir Path dir) throws Exception {
+        JobEventProperties properties = properties(1024, true);
+        properties.setFile(dir.resolve("events.log").toString());
+        JobEventFileWriter file = new JobEventFileWriter(properties);
+        JobEventLog events = new JobEventLog(registry, properties, List.of(file));
+
+        long start = System.nanoTime();
+        long ok = events.started("register-user");
+        events.succeeded(ok, "register-user", start, "AVAILABLE");
+        long failed = events.started("process-payment");
+        events.failed(failed, "process-payment", start, new IllegalStateException("boom"));
+        events.shutdown();
+        file.close();
+
+        List<String> lines = Files.readAllLines(dir.resolve("events.log"));
+        assertThat(lines).hasSize(4);
+        assertThat(lines.get(0)).contains("run=" + ok, "job=register-user", "event=STARTED")
+                                .doesNotContain("duration_ms");
+        assertThat(lines.get(1)).contains("run=" + ok, "event=SUCCEEDED", "duration_ms=", "detail=AVAILABLE");
+        assertThat(lines.get(3)).contains("run=" + failed, "event=FAILED", "detail=IllegalStateException");
+        assertThat(registry.get("job_events_written_total").counter().count()).isEqualTo(4);
+    }
+
+    @Test
+    void quotesValuesThatWouldBreakTheLogfmtLine(@TempDir Path dir) throws Exception {
+        JobEventProperties properties = properties(1024, true);
+        properties.setFile(dir.resolve("events.log").toString());
+        JobEventFileWriter file = new JobEventFileWriter(properties);
+        JobEventLog events = new JobEventLog(registry, properties, List.of(file));
+
+        long start = System.nanoTime();
+        long run = events.started("inventory-sync");
+        events.succeeded(run, "inventory-sync", start,
+                         "Inventory Sync Status: AVAILABLE (3 changes from 2 partitions)");
+        long odd = events.started("inventory-sync");
+        events.succeeded(odd, "inventory-sync", start, "a=\"b\"\nc\\d");
+        events.shutdown();
+        file.close();
+
+        List<String> lines = Files.readAllLines(dir.resolve("events.log"));
+        assertThat(lines).hasSize(4);
+        assertThat(lines.get(1)).endsWith(" detail=\"Inventory Sync Status: AVAILABLE (3 changes from 2 partitions)\"");
+        assertThat(lines.get(3)).endsWith(" detail=\"a=\\\"b\\\"\\nc\\\\d\"");
+    }
+
+    @Test
+    void dropsAndCountsEventsWhenTheBufferIsFull() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger received = new AtomicInteger();
+        JobEventSink stalled = event -> {
+            await(release);
+            received.incrementAndGet();
+        };
+        JobEventLog events = new JobEventLog(registry, properties(16, true), List.of(stalled));
+
+        for (int i = 0; i < 1_000; i++) {
+            events.started("register-user");
+        }
+        double dropped = registry.get("job_events_dropped_total").counter().count();
+        release.countDown();
+        events.shutdown();
+
+        // At most one in-flight event plus a full ring got through; the job thread never waited
+        assertThat(dropped).isGreaterThanOrEqualTo(1_000 - 17);
+        assertThat(received.get() + dropped).isEqualTo(1_000);
+    }
+
+    @Test
+    void blockingPolicyDeliversEveryEventInOrderPerThread() throws Exception {
+        Map<String, Long> lastRunPerThread = new ConcurrentHashMap<>();
+        AtomicInteger outOfOrder = new AtomicInteger();
+        AtomicInteger received = new AtomicInteger();
+        JobEventSink sink = event -> {
+            Long previous = lastRunPerThread.put(event.getThread(), event.getRunId());
+            if (previous != null && previous >= event.getRunId()) {
+                outOfOrder.incrementAndGet();
+            }
+            received.incrementAndGet();
+        };
+        JobEventLog events = new JobEventLog(registry, properties(16, false), List.of(sink));
+
+        Thread[] producers = new Thread[4];
+        for (int t = 0; t < producers.length; t++) {
+            producers[t] = Thread.ofPlatform().name("producer-" + t).start(() -> {
+                for (int i = 0; i < 5_000; i++) {
+                    events.started("register-user");
+                }
+            });
+        }
+        for (Thread producer : producers) {
+            producer.join();
+        }
+        events.shutdown();
+
+        assertThat(received.get()).isEqualTo(20_000);
+        assertThat(outOfOrder.get()).isZero();
+        assertThat(registry.get("job_events_dropped_total").counter().count()).isZero();
+    }
+
+    private static JobEventProperties properties(int capacity, boolean dropOnFull) {
+        JobEventProperties properties = new JobEventProperties();
+        properties.setCapacity(capacity);
+        properties.setDropOnFull(dropOnFull);
+        properties.setFlushInterval(Duration.ofMillis(10));
+        return properties;
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package com.example.insightpulse.execution;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+                properties = "insightpulse.execution.mode=offload")
+class OffloadExecutionModeTest {
+
+    @TempDir
+    static Path workDir;
+
+    // Keep what the application writes out of the working tree
+    @DynamicPropertySource
+    static void workingFiles(DynamicPropertyRegistry registry) {
+        registry.add("insightpulse.events.file", () -> workDir.resolve("job-events.log").toString());
+        registry.add("insightpulse.history.dir", () -> workDir.resolve("history").toString());
+        registry.add("insightpulse.alerts.file", () -> workDir.resolve("alerts.log").toString());
+    }
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private BlockingJobExecutor blockingJobExecutor;
+
+    @Test
+    void offloadedHandlerIsTimedUntilTheResponseCompletes() {
+        assertThat(blockingJobExecutor.mode()).isEqualTo(ExecutionMode.OFFLOAD);
+
+        ResponseEntity<String> response = restTemplate.getForEntity("/jobs/generate-report", String.class);
+
+        assertThat(response.getStatusCode().value()).isEqualTo(200);
+        assertThat(response.getBody()).isEqualTo("Report generated.");
+        // The client can see the response just before the container fires onComplete
+        Timer timer = await().atMost(Duration.ofSeconds(5)).until(
+                () -> meterRegistry.find("http_server_requests_seconds_count")
+                                   .tags("uri", "/jobs/{jobId}", "status", "200")
+                                   .timer(),
+                t -> t != null && t.count() == 1);
+        // generateReport sleeps at least 200 ms on the virtual thread; the hand-off alone takes microseconds
+        assertThat(timer.totalTime(TimeUnit.MILLISECONDS)).isGreaterThanOrEqualTo(200);
+        assertThat(meterRegistry.get("virtual_tasks_in_flight").tag("executor", "job-offload").gauge().value())
+                .isZero();
+    }
+}
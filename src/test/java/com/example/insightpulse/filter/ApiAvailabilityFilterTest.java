@@ -0,0 +1,46 @@
+package com.example.insightpulse.filter;
+
+import com.example.insightpulse.availability.ApiAvailabilityRegistry;
+import com.example.insightpulse.metrics.MeterCardinalityGuard;
+import com.example.insightpulse.slo.SloProperties;
+import com.example.insightpulse.slo.SloRegistry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ApiAvailabilityFilterTest {
+
+    @Test
+    void registersOneGaugePerRouteAndStatus() throws Exception {
+        MeterRegistry registry = new SimpleMeterRegistry();
+        ApiAvailabilityFilter filter = new ApiAvailabilityFilter(new ApiAvailabilityRegistry(registry),
+                                                                 new MeterCardinalityGuard(registry, 200, 2000),
+                                                                 new SloRegistry(registry, new SloProperties()));
+
+        filter.doFilter(request("/jobs/process-payment"), response(200), new MockFilterChain());
+        filter.doFilter(request("/jobs/process-payment"), response(200), new MockFilterChain());
+        filter.doFilter(request("/jobs/process-payment"), response(500), new MockFilterChain());
+
+        assertThat(registry.find("api_availability").gauges()).hasSize(2);
+        assertThat(registry.get("api_availability").tags("status", "200").gauge().value()).isEqualTo(1);
+        assertThat(registry.get("api_availability").tags("status", "500").gauge().value()).isEqualTo(0);
+    }
+
+    private static MockHttpServletRequest request(String pattern) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", pattern);
+        request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, pattern);
+        return request;
+    }
+
+    private static MockHttpServletResponse response(int status) {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        response.setStatus(status);
+        return response;
+    }
+}
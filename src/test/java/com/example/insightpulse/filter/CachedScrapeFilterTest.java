@@ -0,0 +1,75 @@
+package com.example.insightpulse.filter;
+
+import com.example.insightpulse.metrics.PrometheusScrapeCache;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.prometheusmetrics.PrometheusConfig;
+import io.micrometer.prometheusmetrics.PrometheusMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.convert.ApplicationConversionService;
+import org.springframework.boot.test.context.runner.WebApplicationContextRunner;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CachedScrapeFilterTest {
+
+    private final PrometheusMeterRegistry registry = new PrometheusMeterRegistry(PrometheusConfig.DEFAULT);
+    private final CachedScrapeFilter filter = new CachedScrapeFilter(
+            new PrometheusScrapeCache(registry, Duration.ofSeconds(1), 6), "/actuator/prometheus");
+
+    @Test
+    void servesGzipToScrapersThatAcceptIt() throws Exception {
+        Counter.builder("jobs").register(registry).increment();
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/actuator/prometheus");
+        request.addHeader("Accept", "application/openmetrics-text;version=1.0.0;q=0.5,text/plain;version=0.0.4;q=0.3,*/*;q=0.2");
+        request.addHeader("Accept-Encoding", "gzip");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain();
+
+        filter.doFilter(request, response, chain);
+
+        assertThat(chain.getRequest()).isNull();
+        assertThat(response.getHeader("Content-Encoding")).isEqualTo("gzip");
+        assertThat(response.getContentType()).startsWith("text/plain");
+        assertThat(response.getContentAsByteArray()).hasSize(response.getContentLength()).startsWith(0x1f, 0x8b);
+    }
+
+    @Test
+    void leavesFilteredAndOtherRequestsToTheActuator() throws Exception {
+        MockHttpServletRequest filtered = new MockHttpServletRequest("GET", "/actuator/prometheus");
+        filtered.setParameter("includedNames", "jobs_total");
+        MockFilterChain chain = new MockFilterChain();
+        filter.doFilter(filtered, new MockHttpServletResponse(), chain);
+        assertThat(chain.getRequest()).isSameAs(filtered);
+
+        MockHttpServletRequest uncached = new MockHttpServletRequest("GET", "/actuator/prometheus");
+        uncached.addHeader("Cache-Control", "no-cache");
+        chain = new MockFilterChain();
+        filter.doFilter(uncached, new MockHttpServletResponse(), chain);
+        assertThat(chain.getRequest()).isSameAs(uncached);
+
+        MockHttpServletRequest other = new MockHttpServletRequest("GET", "/actuator/health");
+        chain = new MockFilterChain();
+        filter.doFilter(other, new MockHttpServletResponse(), chain);
+        assertThat(chain.getRequest()).isSameAs(other);
+    }
+
+    @Test
+    void isOnlyInstalledWhenThisServerExposesTheEndpoint() {
+        WebApplicationContextRunner runner = new WebApplicationContextRunner()
+                .withInitializer(context -> context.getBeanFactory()
+                                                   .setConversionService(ApplicationConversionService.getSharedInstance()))
+                .withUserConfiguration(CachedScrapeFilter.class)
+                .withPropertyValues("management.endpoints.web.exposure.include=prometheus");
+
+        runner.run(context -> assertThat(context).hasSingleBean(CachedScrapeFilter.class));
+        runner.withPropertyValues("management.endpoints.web.exposure.include=health")
+              .run(context -> assertThat(context).doesNotHaveBean(CachedScrapeFilter.class));
+        runner.withPropertyValues("management.server.port=9091")
+              .run(context -> assertThat(context).doesNotHaveBean(CachedScrapeFilter.class));
+    }
+}
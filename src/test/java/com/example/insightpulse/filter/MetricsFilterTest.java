@@ -0,0 +1,82 @@
+package com.example.insightpulse.filter;
+
+import com.example.insightpulse.metrics.MeterCardinalityGuard;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MetricsFilterTest {
+
+    private final MeterRegistry registry = new SimpleMeterRegistry();
+
+    @Test
+    void tagsRequestsWithRouteTemplate() throws Exception {
+        MetricsFilter filter = new MetricsFilter(registry, new MeterCardinalityGuard(registry, 10, 100));
+
+        for (int id = 0; id < 50; id++) {
+            MockHttpServletRequest request = new MockHttpServletRequest("GET", "/users/" + id);
+            request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/users/{id}");
+            filter.doFilter(request, response(200), new MockFilterChain());
+        }
+
+        assertThat(registry.find(MetricsFilter.METRIC_NAME).timers()).hasSize(1);
+        assertThat(registry.get(MetricsFilter.METRIC_NAME).tag("uri", "/users/{id}").timer().count()).isEqualTo(50);
+    }
+
+    @Test
+    void foldsUnmatchedUrisIntoOtherOnceValueBudgetIsSpent() throws Exception {
+        MetricsFilter filter = new MetricsFilter(registry, new MeterCardinalityGuard(registry, 3, 100));
+
+        for (int i = 0; i < 10; i++) {
+            filter.doFilter(new MockHttpServletRequest("GET", "/scan/" + i), response(302), new MockFilterChain());
+        }
+
+        assertThat(registry.find(MetricsFilter.METRIC_NAME).timers()).hasSize(4);
+        assertThat(registry.get(MetricsFilter.METRIC_NAME).tag("uri", MeterCardinalityGuard.OTHER).timer().count())
+                .isEqualTo(7);
+        assertThat(registry.get("metrics_cardinality_folded_total").counter().count()).isEqualTo(7);
+    }
+
+    @Test
+    void dropsNewSeriesOnceSeriesBudgetIsSpent() throws Exception {
+        MetricsFilter filter = new MetricsFilter(registry, new MeterCardinalityGuard(registry, 100, 2));
+
+        for (int status = 200; status < 205; status++) {
+            MockHttpServletRequest request = new MockHttpServletRequest("GET", "/jobs/register-user");
+            request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/jobs/register-user");
+            filter.doFilter(request, response(status), new MockFilterChain());
+        }
+
+        assertThat(registry.find(MetricsFilter.METRIC_NAME).timers()).hasSize(2);
+        assertThat(registry.get("metrics_cardinality_dropped_total").counter().count()).isEqualTo(3);
+    }
+
+    @Test
+    void recordsAsyncRequestsWhenTheResponseCompletes() throws Exception {
+        MetricsFilter filter = new MetricsFilter(registry, new MeterCardinalityGuard(registry, 10, 100));
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/jobs/generate-report");
+        request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/jobs/generate-report");
+        request.setAsyncSupported(true);
+        MockHttpServletResponse response = response(200);
+
+        filter.doFilter(request, response, (req, res) -> req.startAsync());
+        assertThat(registry.find(MetricsFilter.METRIC_NAME).timers()).isEmpty();
+
+        response.setStatus(503);
+        request.getAsyncContext().complete();
+
+        assertThat(registry.get(MetricsFilter.METRIC_NAME).tag("status", "503").timer().count()).isEqualTo(1);
+    }
+
+    private static MockHttpServletResponse response(int status) {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        response.setStatus(status);
+        return response;
+    }
+}
@@ -0,0 +1,73 @@
+package com.example.insightpulse.history;
+
+import com.example.insightpulse.events.JobEventType;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JobHistoryStoreTest {
+
+    private static final long T0 = Instant.parse("2025-04-04T10:00:00Z").toEpochMilli();
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void filtersByTimeRangeJobAndOutcome() throws IOException {
+        JobHistoryStore store = store(4096);
+        for (int i = 0; i < 600; i++) {
+            long start = T0 + TimeUnit.SECONDS.toMillis(i);
+            boolean failed = i % 3 == 0;
+            store.append(start, 5_000_000, i, i % 2 == 0 ? "process-payment" : "register-user",
+                         failed, failed ? "RuntimeException" : null);
+        }
+
+        List<JobHistoryRecord> failures = store.query(new JobHistoryQuery(
+                Instant.parse("2025-04-04T10:02:00Z"), Instant.parse("2025-04-04T10:05:00Z"),
+                "process-payment", JobEventType.FAILED, null, 1000));
+
+        // Runs 120..299 that are both even (payment) and a multiple of three (failed)
+        assertThat(failures).hasSize(30);
+        assertThat(failures).allSatisfy(run -> {
+            assertThat(run.job()).isEqualTo("process-payment");
+            assertThat(run.outcome()).isEqualTo(JobEventType.FAILED);
+            assertThat(run.exception()).isEqualTo("RuntimeException");
+            assertThat(run.durationMillis()).isEqualTo(5.0);
+            assertThat(run.start()).isBetween(Instant.parse("2025-04-04T10:02:00Z"), Instant.parse("2025-04-04T10:04:59Z"));
+        });
+        assertThat(store.query(new JobHistoryQuery(null, null, null, null, null, 10))).hasSize(10);
+    }
+
+    @Test
+    void rotatesSegmentsReopensThemAndDeletesExpiredOnes() throws IOException {
+        JobHistoryStore store = store(1024);
+        for (int i = 0; i < 3000; i++) {
+            store.append(T0 + i, 1_000, i, "inventory-sync", false, null);
+        }
+        assertThat(store.segmentCount()).isEqualTo(3);
+
+        JobHistoryStore reopened = store(1024);
+        assertThat(reopened.query(new JobHistoryQuery(null, null, "inventory-sync", null, null, 10_000))).hasSize(3000);
+
+        // First two segments hold runs 0..2047 only; the third is still active in the original store
+        store.enforceRetention(T0 + 2048 + Duration.ofDays(7).toMillis());
+        assertThat(store.segmentCount()).isEqualTo(1);
+        assertThat(store.query(new JobHistoryQuery(null, null, null, null, null, 10_000))).hasSize(3000 - 2048);
+    }
+
+    private JobHistoryStore store(int segmentRecords) throws IOException {
+        JobHistoryProperties properties = new JobHistoryProperties();
+        properties.setDir(dir.toString());
+        properties.setSegmentRecords(segmentRecords);
+        return new JobHistoryStore(properties, new SimpleMeterRegistry());
+    }
+}
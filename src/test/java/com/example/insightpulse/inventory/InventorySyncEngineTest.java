@@ -0,0 +1,166 @@
+package com.example.insightpulse.inventory;
+
+import com.example.insightpulse.inventory.InventorySyncEngine.SyncResult;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class InventorySyncEngineTest {
+
+    @TempDir
+    Path directory;
+
+    private final MeterRegistry registry = new SimpleMeterRegistry();
+    private final AtomicLong millis = new AtomicLong(1_000_000);
+
+    @Test
+    void passesApplyOnlyTheChangesAfterEachPartitionsWatermark() throws Exception {
+        append("east", "sku-1,10\nsku-2,5\n");
+        append("west", "sku-9,1\n");
+        InventorySyncEngine engine = engine(properties());
+
+        SyncResult first = engine.sync();
+        assertThat(first).isEqualTo(new SyncResult(2, 0, 3, true));
+        assertThat(engine.quantity("east", "sku-1")).isEqualTo(10);
+        assertThat(engine.watermark("east")).isEqualTo(2);
+
+        // Update, removal, a line that does not parse and a line still being written
+        append("east", "sku-1,7\nsku-2,\nnot a change\nsku-3,");
+        SyncResult second = engine.sync();
+        assertThat(second.changes()).isEqualTo(2);
+        assertThat(engine.quantity("east", "sku-1")).isEqualTo(7);
+        assertThat(engine.quantity("east", "sku-2")).isNull();
+        assertThat(engine.watermark("east")).isEqualTo(5);
+        assertThat(engine.watermark("west")).isEqualTo(1);
+
+        append("east", "4\n");
+        assertThat(engine.sync().changes()).isEqualTo(1);
+        assertThat(engine.quantity("east", "sku-3")).isEqualTo(4);
+        assertThat(items("east")).isEqualTo(5);
+        assertThat(items("west")).isEqualTo(1);
+    }
+
+    @Test
+    void lagCapsAndStalenessDriveAvailability() throws Exception {
+        InventorySyncProperties properties = properties();
+        properties.setMaxChangesPerPass(100);
+        properties.setMaxLag(50);
+        // Fixed-width lines, so the lag estimated from the bytes left is exact
+        StringBuilder changes = new StringBuilder();
+        for (int i = 0; i < 250; i++) {
+            changes.append(String.format("sku-%03d,%03d\n", i, i));
+        }
+        append("east", changes.toString());
+        InventorySyncEngine engine = engine(properties);
+
+        assertThat(engine.available()).isFalse();
+        assertThat(engine.sync().available()).isFalse();
+        assertThat(gauge("inventory_sync_partition_lag_changes", "east")).isEqualTo(150);
+        engine.sync();
+        assertThat(gauge("inventory_sync_partition_lag_changes", "east")).isEqualTo(50);
+        assertThat(engine.available()).isTrue();
+        engine.sync();
+        assertThat(gauge("inventory_sync_partition_lag_changes", "east")).isZero();
+        assertThat(engine.quantity("east", "sku-249")).isEqualTo(249);
+        assertThat(registry.get("inventory_sync_availability").gauge().value()).isEqualTo(1);
+
+        // No successful pass for longer than max-staleness
+        millis.addAndGet(Duration.ofMinutes(3).toMillis());
+        assertThat(gauge("inventory_sync_partition_last_success_age_seconds", "east")).isEqualTo(180);
+        assertThat(registry.get("inventory_sync_availability").gauge().value()).isZero();
+        Files.delete(directory.resolve("east.csv"));
+        Files.createDirectory(directory.resolve("east.csv"));
+        assertThat(engine.sync().failedPartitions()).isEqualTo(1);
+        assertThat(registry.get("inventory_sync_failures_total").tag("partition", "east").counter().count()).isEqualTo(1);
+        assertThat(engine.available()).isFalse();
+    }
+
+    @Test
+    void missingOrEmptyDirectoryIsUnavailable() throws Exception {
+        InventorySyncEngine missing = new InventorySyncEngine(new FileInventorySource(directory.resolve("missing")),
+                                                              properties(), registry, millis::get);
+        assertThat(missing.sync()).isEqualTo(new SyncResult(0, 0, 0, false));
+        assertThat(registry.get("inventory_sync_availability").gauge().value()).isZero();
+
+        InventorySyncEngine empty = engine(properties());
+        assertThat(empty.sync().available()).isFalse();
+
+        append("east", "sku-1,1\n");
+        assertThat(empty.sync().available()).isTrue();
+    }
+
+    @Test
+    void rewrittenPartitionIsReloadedAndRemovedOneForgotten() throws Exception {
+        append("east", "sku-1,1\nsku-2,2\nsku-3,3\n");
+        append("west", "sku-9,9\n");
+        InventorySyncEngine engine = engine(properties());
+        engine.sync();
+
+        Files.writeString(directory.resolve("east.csv"), "sku-4,4\n");
+        Files.delete(directory.resolve("west.csv"));
+        SyncResult result = engine.sync();
+
+        assertThat(result.partitions()).isEqualTo(1);
+        assertThat(engine.quantity("east", "sku-1")).isNull();
+        assertThat(engine.quantity("east", "sku-4")).isEqualTo(4);
+        assertThat(engine.watermark("east")).isEqualTo(1);
+        assertThat(registry.find("inventory_sync_partition_lag_changes").tag("partition", "west").gauges()).isEmpty();
+    }
+
+    @Test
+    void shrunkPartitionWithAsManyLinesIsReloaded() throws Exception {
+        append("east", "sku-100,100\nsku-200,200\n");
+        InventorySyncEngine engine = engine(properties());
+        engine.sync();
+
+        // Shorter file, same number of lines
+        Files.writeString(directory.resolve("east.csv"), "sku-1,1\nsku-2,2\n");
+        engine.sync();
+
+        assertThat(engine.quantity("east", "sku-100")).isNull();
+        assertThat(engine.quantity("east", "sku-1")).isEqualTo(1);
+        assertThat(engine.quantity("east", "sku-2")).isEqualTo(2);
+        assertThat(engine.watermark("east")).isEqualTo(2);
+
+        // Shorter file, more lines
+        Files.writeString(directory.resolve("east.csv"), "a,1\nb,2\nc,3\n");
+        engine.sync();
+
+        assertThat(engine.quantity("east", "sku-1")).isNull();
+        assertThat(engine.quantity("east", "c")).isEqualTo(3);
+        assertThat(engine.watermark("east")).isEqualTo(3);
+    }
+
+    private InventorySyncEngine engine(InventorySyncProperties properties) {
+        return new InventorySyncEngine(new FileInventorySource(directory), properties, registry, millis::get);
+    }
+
+    private static InventorySyncProperties properties() {
+        InventorySyncProperties properties = new InventorySyncProperties();
+        properties.setParallelism(2);
+        return properties;
+    }
+
+    private void append(String partition, String text) throws IOException {
+        Files.writeString(directory.resolve(partition + ".csv"), text,
+                          StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+    }
+
+    private double items(String partition) {
+        return registry.get("inventory_sync_items_total").tag("partition", partition).counter().count();
+    }
+
+    private double gauge(String name, String partition) {
+        return registry.get(name).tag("partition", partition).gauge().value();
+    }
+}
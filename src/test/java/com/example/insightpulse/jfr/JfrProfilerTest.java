@@ -0,0 +1,83 @@
+package com.example.insightpulse.jfr;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.CountDownLatch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JfrProfilerTest {
+
+    private final MeterRegistry registry = new SimpleMeterRegistry();
+    private final JfrProfiler profiler = new JfrProfiler(registry, new JfrProperties());
+
+    @AfterEach
+    void stop() {
+        profiler.stop();
+    }
+
+    @Test
+    void attributesGcPausesAndLockWaitsToJobs() throws Exception {
+        assertThat(JobExecutionEvent.start("Sample", "idle")).isNull();
+        profiler.start();
+        assertThat(JfrEvents.isRecording()).isTrue();
+
+        Object lock = new Object();
+        CountDownLatch held = new CountDownLatch(1);
+        Thread holder = Thread.ofPlatform().start(() -> {
+            synchronized (lock) {
+                held.countDown();
+                sleep(200);
+            }
+        });
+        held.await();
+
+        JobExecutionEvent event = JobExecutionEvent.start("Sample", "contended");
+        synchronized (lock) {
+            System.gc();
+        }
+        event.commit("SUCCESS", "None");
+        holder.join();
+
+        assertThat(await("job_lock_wait_seconds_total")).isGreaterThan(0.1);
+        assertThat(await("job_gc_pause_seconds_total")).isGreaterThan(0);
+
+        Path dump = profiler.dump();
+        try {
+            assertThat(Files.size(dump)).isPositive();
+            // No environment variables, system properties or JVM arguments in a downloadable dump
+            assertThat(RecordingFile.readAllEvents(dump)).isNotEmpty()
+                                                         .extracting(e -> e.getEventType().getName())
+                                                         .doesNotContainAnyElementsOf(JfrProfiler.SENSITIVE_EVENTS);
+        } finally {
+            Files.delete(dump);
+        }
+    }
+
+    private double await(String name) throws InterruptedException {
+        // Events reach the stream on its flush, about once a second
+        for (int i = 0; i < 100; i++) {
+            Counter counter = registry.find(name).tags("class", "Sample", "method", "contended").counter();
+            if (counter != null && counter.count() > 0) {
+                return counter.count();
+            }
+            Thread.sleep(100);
+        }
+        return 0;
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package com.example.insightpulse.job;
+
+import com.example.insightpulse.job.CircuitBreaker.State;
+import com.example.insightpulse.job.JobResilienceProperties.CircuitBreakerSettings;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CircuitBreakerTest {
+
+    private final AtomicLong millis = new AtomicLong(1_000_000);
+    private final List<String> transitions = new ArrayList<>();
+
+    @Test
+    void opensAtTheFailureRateAndRecoversThroughHalfOpen() {
+        CircuitBreaker breaker = breaker();
+
+        // 5 of 10 calls failing reaches the 50% threshold once the minimum is in the window
+        for (int i = 0; i < 5; i++) {
+            call(breaker, true);
+        }
+        for (int i = 0; i < 4; i++) {
+            call(breaker, false);
+        }
+        assertThat(breaker.state()).isEqualTo(State.CLOSED);
+        call(breaker, false);
+        assertThat(breaker.state()).isEqualTo(State.OPEN);
+        assertThat(breaker.tryAcquire()).isFalse();
+        assertThat(breaker.retryAfterMillis()).isEqualTo(5_000);
+
+        // After the open duration: two trial calls, the third waits
+        millis.addAndGet(5_000);
+        assertThat(breaker.tryAcquire()).isTrue();
+        assertThat(breaker.state()).isEqualTo(State.HALF_OPEN);
+        assertThat(breaker.tryAcquire()).isTrue();
+        assertThat(breaker.tryAcquire()).isFalse();
+        breaker.onSuccess();
+        breaker.onSuccess();
+        assertThat(breaker.state()).isEqualTo(State.CLOSED);
+
+        // The old failures are gone: one new failure does not reopen it
+        call(breaker, false);
+        assertThat(breaker.state()).isEqualTo(State.CLOSED);
+        assertThat(transitions).containsExactly("CLOSED->OPEN", "OPEN->HALF_OPEN", "HALF_OPEN->CLOSED");
+    }
+
+    @Test
+    void failedTrialCallReopensAndOldFailuresSlideOutOfTheWindow() {
+        CircuitBreaker breaker = breaker();
+        for (int i = 0; i < 10; i++) {
+            call(breaker, false);
+        }
+        millis.addAndGet(5_000);
+        assertThat(breaker.tryAcquire()).isTrue();
+        breaker.onFailure();
+        assertThat(breaker.state()).isEqualTo(State.OPEN);
+        assertThat(breaker.retryAfterMillis()).isEqualTo(5_000);
+        assertThat(transitions).containsExactly("CLOSED->OPEN", "OPEN->HALF_OPEN", "HALF_OPEN->OPEN");
+
+        CircuitBreaker sliding = breaker();
+        for (int i = 0; i < 9; i++) {
+            call(sliding, false);
+        }
+        // Past the 10s window the 9 failures no longer count
+        millis.addAndGet(11_000);
+        call(sliding, false);
+        assertThat(sliding.state()).isEqualTo(State.CLOSED);
+    }
+
+    private CircuitBreaker breaker() {
+        CircuitBreakerSettings settings = new CircuitBreakerSettings();
+        settings.setMinimumCalls(10);
+        settings.setWindow(Duration.ofSeconds(10));
+        settings.setOpenDuration(Duration.ofSeconds(5));
+        settings.setHalfOpenCalls(2);
+        return new CircuitBreaker(settings, millis::get, (from, to) -> transitions.add(from + "->" + to));
+    }
+
+    private static void call(CircuitBreaker breaker, boolean succeeds) {
+        assertThat(breaker.tryAcquire()).isTrue();
+        if (succeeds) {
+            breaker.onSuccess();
+        } else {
+            breaker.onFailure();
+        }
+    }
+}
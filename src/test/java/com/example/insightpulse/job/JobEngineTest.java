@@ -0,0 +1,113 @@
+package com.example.insightpulse.job;
+
+import com.example.insightpulse.job.JobEngineProperties.LaneSettings;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+
+class JobEngineTest {
+
+    private final MeterRegistry registry = new SimpleMeterRegistry();
+    private final CountDownLatch release = new CountDownLatch(1);
+    private JobEngine engine;
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        engine.shutdown();
+    }
+
+    @Test
+    void runsJobsOffTheCallerAndRecordsQueueMetrics() {
+        engine = engine(RejectionPolicy.REJECT);
+
+        JobRun run = engine.submit("report", () -> { });
+
+        await().atMost(Duration.ofSeconds(5)).until(() -> run.getStatus() == JobStatus.SUCCEEDED);
+        assertThat(registry.get("job_engine_queue_wait_seconds").tag("job_id", "report").timer().count()).isEqualTo(1);
+        assertThat(registry.get("job_engine_execution_seconds").tags("job_id", "report", "outcome", "SUCCESS")
+                           .timer().count()).isEqualTo(1);
+        assertThat(engine.find(run.getId())).contains(run);
+    }
+
+    @Test
+    void marksFailedJobs() {
+        engine = engine(RejectionPolicy.REJECT);
+
+        JobRun run = engine.submit("payment", () -> {
+            throw new IllegalStateException("declined");
+        });
+
+        await().atMost(Duration.ofSeconds(5)).until(() -> run.getStatus() == JobStatus.FAILED);
+        assertThat(run.getError()).isEqualTo("IllegalStateException: declined");
+    }
+
+    @Test
+    void rejectsWhenWorkerAndQueueAreFull() {
+        engine = engine(RejectionPolicy.REJECT);
+        saturate();
+
+        assertThatThrownBy(() -> engine.submit("report", () -> { }))
+                .isInstanceOfSatisfying(JobRejectedException.class,
+                                        e -> assertThat(e.getRun().getStatus()).isEqualTo(JobStatus.REJECTED));
+        assertThat(registry.get("job_engine_rejections_total").tag("policy", "REJECT").counter().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    void callerRunsWhenSaturated() {
+        engine = engine(RejectionPolicy.CALLER_RUNS);
+        saturate();
+        Thread caller = Thread.currentThread();
+        Thread[] ranOn = new Thread[1];
+
+        JobRun run = engine.submit("report", () -> ranOn[0] = Thread.currentThread());
+
+        assertThat(run.getStatus()).isEqualTo(JobStatus.SUCCEEDED);
+        assertThat(ranOn[0]).isSameAs(caller);
+    }
+
+    @Test
+    void dropsOldestQueuedJobWhenSaturated() {
+        engine = engine(RejectionPolicy.DROP_OLDEST);
+        JobRun[] saturating = saturate();
+
+        JobRun newest = engine.submit("report", () -> { });
+
+        assertThat(saturating[1].getStatus()).isEqualTo(JobStatus.DROPPED);
+        assertThat(newest.getStatus()).isEqualTo(JobStatus.QUEUED);
+        assertThat(engine.queueDepth("report")).isEqualTo(1);
+    }
+
+    /**
+     * Occupies the single worker and the single queue slot of the "report" lane.
+     */
+    private JobRun[] saturate() {
+        JobRun running = engine.submit("report", this::awaitRelease);
+        await().atMost(Duration.ofSeconds(5)).until(() -> running.getStatus() == JobStatus.RUNNING);
+        JobRun queued = engine.submit("report", this::awaitRelease);
+        return new JobRun[] {running, queued};
+    }
+
+    private void awaitRelease() {
+        try {
+            release.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private JobEngine engine(RejectionPolicy policy) {
+        JobEngineProperties properties = new JobEngineProperties();
+        properties.setDefaults(new LaneSettings(1, 1, policy));
+        return new JobEngine(registry, properties);
+    }
+}
@@ -0,0 +1,94 @@
+package com.example.insightpulse.job;
+
+import com.example.insightpulse.metrics.TimingMode;
+import com.example.insightpulse.metrics.TimingSampler;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.prometheusmetrics.PrometheusConfig;
+import io.micrometer.prometheusmetrics.PrometheusMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JobMetersTest {
+
+    private static final int WARMUP_CALLS = 20_000;
+    private static final int MEASURED_CALLS = 100_000;
+
+    private final MeterRegistry registry = new PrometheusMeterRegistry(PrometheusConfig.DEFAULT);
+    private final JobMeters meters = new JobMeters(registry, new TimingSampler(registry, TimingMode.FULL, 0.01, 0.001),
+                                                   "sample");
+
+    @Test
+    void recordsOutcomesAndFailuresByExceptionType() {
+        record(meters, null);
+        record(meters, null);
+        record(meters, new IllegalStateException("boom"));
+        meters.rejected(new IllegalStateException("open"));
+
+        assertThat(registry.get("job_execution_seconds")
+                           .tags("job_id", "sample", "outcome", "SUCCESS", "exception", "None")
+                           .timer().count())
+                .isEqualTo(2);
+        assertThat(registry.get("job_execution_seconds")
+                           .tags("job_id", "sample", "outcome", "FAILURE", "exception", "IllegalStateException")
+                           .timer().count())
+                .isEqualTo(1);
+        assertThat(registry.get("job_failures_total")
+                           .tags("job_id", "sample", "exception", "IllegalStateException")
+                           .counter().count())
+                .isEqualTo(2);
+    }
+
+    @Test
+    void adaptiveModeKeepsCountsExact() {
+        TimingSampler sampler = new TimingSampler(registry, TimingMode.ADAPTIVE, 1e-9, 0.01);
+        JobMeters adaptive = new JobMeters(registry, sampler, "adaptive");
+
+        record(adaptive, null);
+        sampler.adjust();
+        for (int i = 0; i < 10_000; i++) {
+            record(adaptive, null);
+        }
+
+        assertThat(registry.get("job_execution_seconds")
+                           .tags("job_id", "adaptive", "outcome", "SUCCESS")
+                           .functionTimer().count())
+                .isEqualTo(10_001);
+        assertThat(registry.get("job_execution_sampled_seconds")
+                           .tags("job_id", "adaptive", "outcome", "SUCCESS")
+                           .timer().count())
+                .isLessThan(1_000);
+    }
+
+    @Test
+    void warmHotPathDoesNotAllocate() {
+        IllegalStateException failure = new IllegalStateException("boom");
+        for (int i = 0; i < WARMUP_CALLS; i++) {
+            record(meters, null);
+            record(meters, failure);
+        }
+
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long before = threads.getCurrentThreadAllocatedBytes();
+        for (int i = 0; i < MEASURED_CALLS; i++) {
+            record(meters, null);
+            record(meters, failure);
+        }
+        long allocated = threads.getCurrentThreadAllocatedBytes() - before;
+
+        // Allow a few bytes of noise from the JVM itself, far below one object per call
+        assertThat(allocated).isLessThan(MEASURED_CALLS / 10);
+    }
+
+    private static void record(JobMeters meters, RuntimeException failure) {
+        double sampleRate = meters.sampleRate();
+        long startTime = meters.start(sampleRate);
+        if (failure == null) {
+            meters.success(startTime, sampleRate);
+        } else {
+            meters.failure(failure, startTime, sampleRate);
+        }
+    }
+}
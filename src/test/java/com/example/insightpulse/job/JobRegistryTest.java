@@ -0,0 +1,198 @@
+package com.example.insightpulse.job;
+
+import com.example.insightpulse.events.JobEventLog;
+import com.example.insightpulse.events.JobEventProperties;
+import com.example.insightpulse.job.JobResilienceProperties.CircuitBreakerSettings;
+import com.example.insightpulse.job.JobResilienceProperties.Policy;
+import com.example.insightpulse.job.JobResilienceProperties.RetrySettings;
+import com.example.insightpulse.metrics.TimingMode;
+import com.example.insightpulse.metrics.TimingSampler;
+import com.example.insightpulse.slo.SloProperties;
+import com.example.insightpulse.slo.SloRegistry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class JobRegistryTest {
+
+    private final MeterRegistry registry = new SimpleMeterRegistry();
+    private final JobEventLog events = new JobEventLog(registry, new JobEventProperties(), List.of());
+    private TimingSampler sampler = new TimingSampler(registry, TimingMode.FULL, 0.01, 0.001);
+
+    @AfterEach
+    void shutdown() throws InterruptedException {
+        events.shutdown();
+    }
+
+    @Test
+    void everyJobGetsTheSameMetersWithoutWiringAnyItself() {
+        JobRegistry jobs = registry(new SloProperties(), job("ok", 0.99, 0, () -> "done"),
+                                    job("broken", Double.NaN, 0, () -> {
+                                        throw new IllegalStateException("boom");
+                                    }));
+
+        assertThat(jobs.execute("ok")).isEqualTo("done");
+        assertThatThrownBy(() -> jobs.execute("broken")).isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> jobs.execute("broken")).isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> jobs.execute("missing")).isInstanceOf(IllegalArgumentException.class);
+
+        assertThat(registry.get("job_execution_seconds").tags("job_id", "ok", "outcome", "SUCCESS").timer().count())
+                .isEqualTo(1);
+        assertThat(registry.get("job_execution_seconds").tags("job_id", "broken", "outcome", "FAILURE").timer().count())
+                .isEqualTo(2);
+        assertThat(registry.get("job_failures_total").tags("job_id", "broken", "exception", "IllegalStateException")
+                           .counter().count()).isEqualTo(2);
+        assertThat(registry.get("job_in_flight").tag("job_id", "broken").gauge().value()).isZero();
+
+        // Only the job that declares an objective gets SLO gauges
+        assertThat(registry.get("slo_objective").tag("slo", "ok").gauge().value()).isEqualTo(0.99);
+        assertThat(registry.find("slo_objective").tag("slo", "broken").gauges()).isEmpty();
+    }
+
+    @Test
+    void adaptiveTimingKeepsCountsExactAndSendsBucketsToTheSampledHistogram() {
+        sampler = new TimingSampler(registry, TimingMode.ADAPTIVE, 1e-9, 0.01);
+        JobRegistry jobs = registry(new SloProperties(), job("hot", Double.NaN, 0, () -> "done"));
+        for (int i = 0; i < 2_000; i++) {
+            jobs.execute("hot");
+            if (i == 1_000) {
+                // A budget this tight drops the rate to the 1% minimum
+                sampler.adjust();
+            }
+        }
+
+        assertThat(registry.get("job_execution_seconds").tags("job_id", "hot", "outcome", "SUCCESS").functionTimer().count())
+                .isEqualTo(2_000);
+        assertThat(registry.get("job_execution_sampled_seconds").tags("job_id", "hot", "outcome", "SUCCESS").timer().count())
+                .isBetween(1_001L, 1_100L);
+    }
+
+    @Test
+    void configuredObjectiveOverridesTheDeclaredOne() {
+        SloProperties properties = new SloProperties();
+        properties.getJobs().put("ok", 0.9);
+        registry(properties, job("ok", 0.99, 0, () -> "done"));
+
+        assertThat(registry.get("slo_objective").tag("slo", "ok").gauge().value()).isEqualTo(0.9);
+    }
+
+    @Test
+    void callsBeyondTheConcurrencyLimitAreRejected() throws Exception {
+        CountDownLatch running = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        JobRegistry jobs = registry(new SloProperties(), job("slow", Double.NaN, 1, () -> {
+            running.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return "done";
+        }));
+
+        Thread first = Thread.ofPlatform().start(() -> jobs.execute("slow"));
+        assertThat(running.await(5, TimeUnit.SECONDS)).isTrue();
+
+        assertThatThrownBy(() -> jobs.execute("slow")).isInstanceOf(JobConcurrencyLimitException.class);
+        assertThat(registry.get("job_concurrency_rejections_total").tag("job_id", "slow").counter().count()).isEqualTo(1);
+        assertThat(jobs.jobs()).singleElement().extracting(JobRegistry.JobInfo::inFlight).isEqualTo(1);
+
+        release.countDown();
+        first.join();
+        assertThat(jobs.execute("slow")).isEqualTo("done");
+    }
+
+    @Test
+    void openBreakerFailsFastAndRetriesStopOnceItOpens() {
+        JobResilienceProperties resilience = new JobResilienceProperties();
+        Policy policy = new Policy();
+        CircuitBreakerSettings breaker = new CircuitBreakerSettings();
+        breaker.setMinimumCalls(4);
+        breaker.setOpenDuration(Duration.ofMinutes(1));
+        policy.setCircuitBreaker(breaker);
+        RetrySettings retry = new RetrySettings();
+        retry.setMaxAttempts(3);
+        retry.setBackoff(Duration.ofMillis(1));
+        policy.setRetry(retry);
+        resilience.getTypes().put("flaky", policy);
+        AtomicInteger calls = new AtomicInteger();
+        JobRegistry jobs = registry(new SloProperties(), resilience, job("flaky", Double.NaN, 0, () -> {
+            calls.incrementAndGet();
+            throw new IllegalStateException("down");
+        }));
+
+        // 3 attempts, then the 4th failure opens the breaker and stops the second call's retries
+        assertThatThrownBy(() -> jobs.execute("flaky")).isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> jobs.execute("flaky")).isInstanceOf(IllegalStateException.class);
+        assertThat(calls).hasValue(4);
+        assertThat(registry.get("job_retries_total").tag("job_id", "flaky").counter().count()).isEqualTo(2);
+
+        assertThatThrownBy(() -> jobs.execute("flaky")).isInstanceOf(CircuitBreakerOpenException.class)
+                                                       .satisfies(e -> assertThat(e.getStackTrace()).isEmpty());
+        assertThat(calls).hasValue(4);
+        assertThat(registry.get("job_circuit_breaker_short_circuits_total").tag("job_id", "flaky").counter().count())
+                .isEqualTo(1);
+        assertThat(registry.get("job_failures_total").tags("job_id", "flaky", "exception", "CircuitBreakerOpenException")
+                           .counter().count()).isEqualTo(1);
+        assertThat(registry.get("job_circuit_breaker_transitions_total").tags("job_id", "flaky", "from", "CLOSED", "to", "OPEN")
+                           .counter().count()).isEqualTo(1);
+        assertThat(registry.get("job_circuit_breaker_state").tag("job_id", "flaky").gauge().value()).isEqualTo(1);
+        assertThat(jobs.jobs()).singleElement().extracting(JobRegistry.JobInfo::circuitBreaker).isEqualTo("OPEN");
+    }
+
+    @Test
+    void duplicateIdsFailAtStartup() {
+        assertThatThrownBy(() -> registry(new SloProperties(), job("twice", Double.NaN, 0, () -> "a"),
+                                          job("twice", Double.NaN, 0, () -> "b")))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("twice");
+    }
+
+    private JobRegistry registry(SloProperties slos, Job... jobs) {
+        return registry(slos, new JobResilienceProperties(), jobs);
+    }
+
+    private JobRegistry registry(SloProperties slos, JobResilienceProperties resilience, Job... jobs) {
+        return new JobRegistry(registry, sampler, events, new SloRegistry(registry, slos), resilience, List.of(jobs));
+    }
+
+    private static Job job(String id, double objective, int maxConcurrency, Work work) {
+        return new Job() {
+            @Override
+            public String id() {
+                return id;
+            }
+
+            @Override
+            public String execute() {
+                return work.run();
+            }
+
+            @Override
+            public double sloObjective() {
+                return objective;
+            }
+
+            @Override
+            public int maxConcurrency() {
+                return maxConcurrency;
+            }
+        };
+    }
+
+    @FunctionalInterface
+    private interface Work {
+
+        String run();
+    }
+}
@@ -0,0 +1,116 @@
+package com.example.insightpulse.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.prometheusmetrics.PrometheusConfig;
+import io.micrometer.prometheusmetrics.PrometheusMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PrometheusScrapeCacheTest {
+
+    private final PrometheusMeterRegistry registry = new PrometheusMeterRegistry(PrometheusConfig.DEFAULT);
+    private final AtomicLong nanos = new AtomicLong();
+    private final PrometheusScrapeCache cache = new PrometheusScrapeCache(registry, Duration.ofSeconds(1), 6, nanos::get);
+
+    @Test
+    void servesTheRegistryScrapeAsPlainAndGzip() throws IOException {
+        // Enough histogram series to outgrow the initial buffers
+        for (int i = 0; i < 200; i++) {
+            Timer.builder("request_duration").tag("route", "/r/" + i).publishPercentileHistogram().register(registry)
+                 .record(Duration.ofMillis(i));
+        }
+
+        ScrapeSnapshot snapshot = cache.acquire();
+        try {
+            String plain = plain(snapshot);
+            assertThat(plain).contains("request_duration_seconds_bucket{route=\"/r/199\"");
+            assertThat(gunzip(snapshot)).isEqualTo(plain);
+            assertThat(snapshot.gzipSize()).isLessThan(snapshot.plainSize() / 5);
+        } finally {
+            snapshot.release();
+        }
+    }
+
+    @Test
+    void rendersOncePerTtlAndReusesBuffers() throws IOException {
+        Counter counter = Counter.builder("jobs").register(registry);
+
+        ScrapeSnapshot first = cache.acquire();
+        counter.increment();
+        ScrapeSnapshot cached = cache.acquire();
+        assertThat(cached).isSameAs(first);
+        assertThat(plain(cached)).contains("jobs_total 0.0");
+        first.release();
+        cached.release();
+
+        nanos.addAndGet(Duration.ofSeconds(1).toNanos());
+        ScrapeSnapshot second = cache.acquire();
+        assertThat(plain(second)).contains("jobs_total 1.0");
+        second.release();
+
+        // The first snapshot was released by everyone, so the third rendering reuses it
+        nanos.addAndGet(Duration.ofSeconds(1).toNanos());
+        ScrapeSnapshot third = cache.acquire();
+        assertThat(third).isSameAs(first);
+        third.release();
+        assertThat(registry.get("prometheus_scrape_render_duration_seconds").timer().count()).isEqualTo(3);
+    }
+
+    @Test
+    void concurrentScrapersShareOneRendering() throws Exception {
+        for (int i = 0; i < 500; i++) {
+            Counter.builder("filler").tag("id", String.valueOf(i)).register(registry);
+        }
+        ExecutorService threads = Executors.newFixedThreadPool(8);
+        CountDownLatch go = new CountDownLatch(1);
+        List<Future<Integer>> sizes = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            sizes.add(threads.submit(() -> {
+                go.await();
+                ScrapeSnapshot snapshot = cache.acquire();
+                try {
+                    return plain(snapshot).length();
+                } finally {
+                    snapshot.release();
+                }
+            }));
+        }
+        go.countDown();
+        for (Future<Integer> size : sizes) {
+            assertThat(size.get()).isPositive();
+        }
+        threads.shutdown();
+
+        assertThat(registry.get("prometheus_scrape_render_duration_seconds").timer().count()).isEqualTo(1);
+    }
+
+    private static String plain(ScrapeSnapshot snapshot) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        snapshot.writePlain(out);
+        return out.toString(StandardCharsets.UTF_8);
+    }
+
+    private static String gunzip(ScrapeSnapshot snapshot) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        snapshot.writeGzip(out);
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(out.toByteArray()))) {
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+}
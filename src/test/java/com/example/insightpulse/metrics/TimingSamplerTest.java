@@ -0,0 +1,99 @@
+package com.example.insightpulse.metrics;
+
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TimingSamplerTest {
+
+    private final MeterRegistry registry = new SimpleMeterRegistry();
+
+    @Test
+    void fullModeTimesEveryCall() {
+        TimingSampler sampler = new TimingSampler(registry, TimingMode.FULL, 0.0, 0.001);
+
+        for (int i = 0; i < 1_000; i++) {
+            assertThat(sampler.start(sampler.sampleRate())).isNotEqualTo(TimingSampler.UNSAMPLED);
+        }
+        sampler.adjust();
+
+        assertThat(registry.get("service_timing_sample_rate").gauge().value()).isEqualTo(1.0);
+    }
+
+    @Test
+    void generousBudgetKeepsTimingEveryCall() {
+        TimingSampler sampler = new TimingSampler(registry, TimingMode.ADAPTIVE, 1.0, 0.001);
+        SampledTimer timer = sampledTimer(sampler);
+
+        for (int i = 0; i < 10_000; i++) {
+            double rate = sampler.sampleRate();
+            timer.record(sampler.start(rate), rate);
+        }
+        sampler.adjust();
+
+        assertThat(sampler.sampleRate()).isEqualTo(1.0);
+    }
+
+    @Test
+    void tightBudgetSamplesButKeepsCountExactAndSumScaled() {
+        TimingSampler sampler = new TimingSampler(registry, TimingMode.ADAPTIVE, 1e-9, 0.1);
+        SampledTimer timer = sampledTimer(sampler);
+
+        for (int i = 0; i < 1_000; i++) {
+            double rate = sampler.sampleRate();
+            timer.record(sampler.start(rate), rate);
+        }
+        sampler.adjust();
+        assertThat(registry.get("service_timing_sample_rate").gauge().value()).isEqualTo(0.1);
+
+        for (int i = 0; i < 100_000; i++) {
+            double rate = sampler.sampleRate();
+            timer.record(sampler.start(rate) == TimingSampler.UNSAMPLED
+                                 ? TimingSampler.UNSAMPLED
+                                 : System.nanoTime() - TimeUnit.MICROSECONDS.toNanos(100), rate);
+        }
+
+        FunctionTimer exact = registry.get("test_duration_seconds").functionTimer();
+        Timer sampled = registry.get("test_duration_sampled_seconds").timer();
+        assertThat(exact.count()).isEqualTo(101_000);
+        assertThat(sampled.count()).isBetween(1_000L + 8_000, 1_000L + 12_000);
+
+        // Each sampled 100us call stands for ten calls, so the scaled total covers all 100k of them
+        double scaledSeconds = exact.totalTime(TimeUnit.SECONDS);
+        assertThat(scaledSeconds).isBetween(10.0 * 0.8, 10.0 * 1.2 + 1.0);
+    }
+
+    @Test
+    void callsInFlightAcrossARateChangeKeepTheirSamplingWeight() {
+        TimingSampler sampler = new TimingSampler(registry, TimingMode.ADAPTIVE, 1e-9, 0.1);
+        SampledTimer timer = sampledTimer(sampler);
+
+        // Sampled at full rate, then the sampler drops to 0.1 before the call finishes
+        double rate = sampler.sampleRate();
+        long startTime = sampler.start(rate);
+        for (int i = 0; i < 1_000; i++) {
+            double r = sampler.sampleRate();
+            sampler.start(r);
+        }
+        sampler.recordCost(1_000);
+        sampler.adjust();
+        assertThat(sampler.sampleRate()).isEqualTo(0.1);
+        timer.record(startTime - TimeUnit.MILLISECONDS.toNanos(10), rate);
+
+        // Weighted by the rate it was sampled at, not ten times over
+        FunctionTimer exact = registry.get("test_duration_seconds").functionTimer();
+        assertThat(exact.totalTime(TimeUnit.MILLISECONDS)).isBetween(10.0, 50.0);
+    }
+
+    private SampledTimer sampledTimer(TimingSampler sampler) {
+        return SampledTimer.register("test_duration_seconds", "test_duration_sampled_seconds", "test",
+                                     Tags.of("method", "work"), sampler, registry);
+    }
+}
@@ -0,0 +1,150 @@
+package com.example.insightpulse.push;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.prometheusmetrics.PrometheusConfig;
+import io.micrometer.prometheusmetrics.PrometheusMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.util.unit.DataSize;
+import org.xerial.snappy.Snappy;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MetricsPushExporterTest {
+
+    private final PrometheusMeterRegistry registry = new PrometheusMeterRegistry(PrometheusConfig.DEFAULT);
+    private final List<Received> received = new CopyOnWriteArrayList<>();
+    private final AtomicInteger failuresLeft = new AtomicInteger();
+    private final HttpServer server;
+
+    MetricsPushExporterTest() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/", exchange -> {
+            byte[] body = exchange.getRequestBody().readAllBytes();
+            int status = failuresLeft.getAndDecrement() > 0 ? 503 : 200;
+            if (status == 200) {
+                received.add(new Received(exchange.getRequestHeaders().getFirst("Content-Encoding"), body));
+            }
+            exchange.sendResponseHeaders(status, -1);
+            exchange.close();
+        });
+        server.start();
+    }
+
+    @AfterEach
+    void stopServer() {
+        server.stop(0);
+    }
+
+    @Test
+    void otlpSendsOnlyDeltasSinceLastPush() throws Exception {
+        Counter jobs = Counter.builder("jobs_processed").register(registry);
+        Timer latency = Timer.builder("job_latency").register(registry);
+        MetricsPushExporter exporter = new MetricsPushExporter(registry, properties(PushProtocol.OTLP));
+
+        jobs.increment(5);
+        latency.record(Duration.ofMillis(20));
+        exporter.collect(1_000);
+        jobs.increment(2);
+        exporter.collect(2_000);
+        exporter.collect(3_000);
+        while (exporter.sendNext(0) == MetricsPushExporter.SendResult.SENT) {
+            // drain
+        }
+
+        assertThat(received).hasSize(3);
+        assertThat(counterValue(otlp(received.get(0)), "jobs_processed_total")).isEqualTo(5.0);
+        assertThat(counterValue(otlp(received.get(1)), "jobs_processed_total")).isEqualTo(2.0);
+        // Nothing moved between the last two collections, so neither series is sent again
+        assertThat(counterValue(otlp(received.get(2)), "jobs_processed_total")).isNull();
+        JsonNode histogram = metric(otlp(received.get(0)), "job_latency_seconds").get("histogram");
+        assertThat(histogram.get("aggregationTemporality").asInt()).isEqualTo(1);
+        assertThat(histogram.get("dataPoints").get(0).get("count").asText()).isEqualTo("1");
+        assertThat(metric(otlp(received.get(1)), "job_latency_seconds")).isNull();
+    }
+
+    @Test
+    void remoteWriteSendsSnappyProtobufAndRetriesServerErrors() throws Exception {
+        Counter.builder("jobs_processed").tag("job", "sync").register(registry).increment(3);
+        MetricsPushExporter exporter = new MetricsPushExporter(registry, properties(PushProtocol.REMOTE_WRITE));
+        failuresLeft.set(1);
+
+        exporter.collect(1_000);
+
+        assertThat(exporter.sendNext(0)).isEqualTo(MetricsPushExporter.SendResult.RETRY);
+        assertThat(exporter.queuedBatches()).isEqualTo(1);
+        assertThat(exporter.sendNext(0)).isEqualTo(MetricsPushExporter.SendResult.SENT);
+        assertThat(exporter.queuedBatches()).isZero();
+
+        assertThat(received).hasSize(1);
+        assertThat(received.get(0).encoding()).isEqualTo("snappy");
+        String request = new String(Snappy.uncompress(received.get(0).body()), StandardCharsets.ISO_8859_1);
+        assertThat(request).contains("__name__", "jobs_processed_total", "sync");
+        assertThat(registry.get("metrics_push_retries_total").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void fullBufferDropsOldestBatches() throws Exception {
+        for (int i = 0; i < 200; i++) {
+            Counter.builder("filler").tag("id", String.valueOf(i)).register(registry).increment();
+        }
+        PushProperties properties = properties(PushProtocol.REMOTE_WRITE);
+        properties.setBufferSize(DataSize.ofKilobytes(8));
+        MetricsPushExporter exporter = new MetricsPushExporter(registry, properties);
+
+        for (int i = 0; i < 20; i++) {
+            exporter.collect(1_000L * (i + 1));
+        }
+
+        assertThat(exporter.queuedBatches()).isBetween(1, 19);
+        assertThat(registry.get("metrics_push_batches_dropped_total").tag("reason", "overflow").counter().count())
+                .isEqualTo(20 - exporter.queuedBatches());
+        assertThat(registry.get("metrics_push_queue_bytes").gauge().value()).isLessThanOrEqualTo(8 * 1024);
+    }
+
+    private PushProperties properties(PushProtocol protocol) {
+        PushProperties properties = new PushProperties();
+        properties.setEnabled(true);
+        properties.setProtocol(protocol);
+        properties.setEndpoint("http://127.0.0.1:" + server.getAddress().getPort() + "/push");
+        return properties;
+    }
+
+    private static JsonNode otlp(Received request) throws IOException {
+        assertThat(request.encoding()).isEqualTo("gzip");
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(request.body()))) {
+            return new ObjectMapper().readTree(in);
+        }
+    }
+
+    private static JsonNode metric(JsonNode request, String name) {
+        for (JsonNode metric : request.at("/resourceMetrics/0/scopeMetrics/0/metrics")) {
+            if (metric.get("name").asText().equals(name)) {
+                return metric;
+            }
+        }
+        return null;
+    }
+
+    private static Double counterValue(JsonNode request, String name) {
+        JsonNode metric = metric(request, name);
+        return metric == null ? null : metric.at("/sum/dataPoints/0/asDouble").asDouble();
+    }
+
+    private record Received(String encoding, byte[] body) {
+    }
+}
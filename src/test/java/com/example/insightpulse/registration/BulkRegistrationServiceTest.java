@@ -0,0 +1,141 @@
+package com.example.insightpulse.registration;
+
+import com.example.insightpulse.registration.BulkRegistrationService.BatchProgress;
+import com.example.insightpulse.registration.BulkRegistrationService.ImportSummary;
+import com.example.insightpulse.registration.BulkRegistrationService.RejectedRecord;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class BulkRegistrationServiceTest {
+
+    private final MeterRegistry registry = new SimpleMeterRegistry();
+    private final List<BatchProgress> progress = new ArrayList<>();
+    private BulkRegistrationService service;
+
+    @AfterEach
+    void shutdown() {
+        service.shutdown();
+    }
+
+    @Test
+    void csvImportRegistersValidRecordsAndReportsRejectionsPerBatch() throws IOException {
+        service = service(1_000, 8);
+        StringBuilder csv = new StringBuilder("name,email\r\n");
+        for (int i = 1; i <= 2_500; i++) {
+            if (i % 500 == 0) {
+                csv.append("user ").append(i).append(",not-an-email\r\n");
+            } else {
+                csv.append("\"Doe, User ").append(i).append("\",user").append(i).append("@example.com\r\n");
+            }
+        }
+        csv.append("\"unterminated,broken@example.com\n");
+        csv.append(",nameless@example.com\n");
+        csv.append("x".repeat(200)).append(",long@example.com\n");
+
+        ImportSummary summary = service.ingest(body(csv.toString()), RecordFormat.CSV, progress::add);
+
+        assertThat(summary.records()).isEqualTo(2_503);
+        assertThat(summary.rejected()).isEqualTo(8);
+        assertThat(summary.accepted()).isEqualTo(2_495);
+        assertThat(summary.batches()).isEqualTo(3);
+        assertThat(progress).hasSize(3);
+        assertThat(progress).extracting(BatchProgress::totalRecords).contains(2_503L);
+        assertThat(progress).flatExtracting(BatchProgress::rejections)
+                            .contains(new RejectedRecord(501, RejectionReason.INVALID_EMAIL),
+                                      new RejectedRecord(2_502, RejectionReason.MALFORMED),
+                                      new RejectedRecord(2_503, RejectionReason.MISSING_NAME),
+                                      new RejectedRecord(2_504, RejectionReason.TOO_LONG));
+
+        assertThat(registry.get("user_registration_throughput_total").counter().count()).isEqualTo(2_495);
+        assertThat(rejected(RejectionReason.INVALID_EMAIL)).isEqualTo(5);
+        assertThat(rejected(RejectionReason.TOO_LONG)).isEqualTo(1);
+        assertThat(registry.get("user_registration_batch_seconds").timer().count()).isEqualTo(3);
+    }
+
+    @Test
+    void ndjsonBodyIsStreamedThroughBoundedBatches() throws IOException {
+        service = service(500, 2);
+        int users = 100_000;
+
+        ImportSummary summary = service.ingest(new GeneratedNdjson(users), RecordFormat.NDJSON, progress::add);
+
+        assertThat(summary.records()).isEqualTo(users);
+        // Every 1000th line is not JSON
+        assertThat(summary.rejected()).isEqualTo(users / 1_000);
+        assertThat(rejected(RejectionReason.MALFORMED)).isEqualTo(users / 1_000);
+        assertThat(summary.batches()).isEqualTo(users / 500);
+        assertThat(progress).hasSize(users / 500);
+        assertThat(summary.recordsPerSecond()).isPositive();
+        assertThat(registry.get("user_registration_throughput_total").counter().count())
+                .isEqualTo(users - users / 1_000);
+    }
+
+    @Test
+    void csvWithoutAnEmailColumnIsRefused() {
+        service = service(10, 1);
+
+        assertThatThrownBy(() -> service.ingest(body("name,phone\nAda,123\n"), RecordFormat.CSV, progress::add))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThat(progress).isEmpty();
+    }
+
+    private BulkRegistrationService service(int batchSize, int maxPendingBatches) {
+        BulkRegistrationProperties properties = new BulkRegistrationProperties();
+        properties.setBatchSize(batchSize);
+        properties.setParallelism(4);
+        properties.setMaxPendingBatches(maxPendingBatches);
+        properties.setMaxRecordLength(128);
+        return new BulkRegistrationService(new UserRegistrar(registry), properties, registry);
+    }
+
+    private double rejected(RejectionReason reason) {
+        return registry.get("user_registration_rejected_total").tag("reason", reason.name()).counter().count();
+    }
+
+    private static InputStream body(String text) {
+        return new ByteArrayInputStream(text.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * NDJSON produced as it is read, so the import cannot be holding the whole body.
+     */
+    private static final class GeneratedNdjson extends InputStream {
+
+        private final int users;
+        private int next = 1;
+        private byte[] line = new byte[0];
+        private int position;
+
+        GeneratedNdjson(int users) {
+            this.users = users;
+        }
+
+        @Override
+        public int read() {
+            if (position == line.length) {
+                if (next > users) {
+                    return -1;
+                }
+                String text = next % 1_000 == 0
+                              ? "{not json\n"
+                              : "{\"email\":\"user" + next + "@example.com\",\"name\":\"User " + next + "\"}\n";
+                line = text.getBytes(StandardCharsets.UTF_8);
+                position = 0;
+                next++;
+            }
+            return line[position++];
+        }
+    }
+}
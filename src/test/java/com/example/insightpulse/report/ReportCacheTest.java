@@ -0,0 +1,215 @@
+package com.example.insightpulse.report;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.util.unit.DataSize;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ReportCacheTest {
+
+    private final MeterRegistry registry = new SimpleMeterRegistry();
+    private final AtomicLong nanos = new AtomicLong();
+    private final AtomicInteger generations = new AtomicInteger();
+
+    @Test
+    void secondRequestIsServedFromTheCache() throws IOException {
+        ReportCache reports = cache(new CountingGenerator(), properties());
+        ReportRequest request = new ReportRequest("payments", 250);
+
+        byte[] first = stream(reports, request);
+        byte[] second = stream(reports, request);
+
+        assertThat(second).isEqualTo(first);
+        assertThat(new String(first).lines()).hasSize(251).first().isEqualTo("row,type,account,amount");
+        assertThat(generations).hasValue(1);
+        assertThat(requests("miss")).isEqualTo(1);
+        assertThat(requests("hit")).isEqualTo(1);
+        assertThat(registry.get("report_bytes_streamed").counter().count()).isEqualTo(2.0 * first.length);
+        assertThat(registry.get("report_cache_bytes").gauge().value()).isEqualTo(first.length);
+    }
+
+    @Test
+    void concurrentRequestsForTheSameReportShareOneGeneration() throws Exception {
+        CountDownLatch followersWaiting = new CountDownLatch(1);
+        CountingGenerator generator = new CountingGenerator() {
+            @Override
+            public void generate(ReportRequest request, ChunkSink sink) throws IOException {
+                super.generate(request, chunk -> {
+                    sink.accept(chunk);
+                    awaitQuietly(followersWaiting);
+                });
+            }
+        };
+        ReportCache reports = cache(generator, properties());
+        ReportRequest request = new ReportRequest("payments", 500);
+
+        ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor();
+        try {
+            Future<byte[]> leader = clients.submit(() -> stream(reports, request));
+            while (requests("miss") == 0) {
+                Thread.onSpinWait();
+            }
+            Future<byte[]> follower1 = clients.submit(() -> stream(reports, request));
+            Future<byte[]> follower2 = clients.submit(() -> stream(reports, request));
+            while (requests("coalesced") < 2) {
+                Thread.onSpinWait();
+            }
+            followersWaiting.countDown();
+
+            byte[] report = leader.get(5, TimeUnit.SECONDS);
+            assertThat(follower1.get(5, TimeUnit.SECONDS)).isEqualTo(report);
+            assertThat(follower2.get(5, TimeUnit.SECONDS)).isEqualTo(report);
+        } finally {
+            clients.shutdownNow();
+        }
+        assertThat(generations).hasValue(1);
+    }
+
+    @Test
+    void expiredEvictedAndOversizedReportsAreGeneratedAgain() throws IOException {
+        ReportProperties properties = properties();
+        properties.setCacheSize(DataSize.ofKilobytes(24));
+        properties.setMaxCachedReportSize(DataSize.ofKilobytes(12));
+        ReportCache reports = cache(new CountingGenerator(), properties);
+
+        // ~8 KB each: the third one pushes the cache over 24 KB
+        stream(reports, new ReportRequest("a", 300));
+        stream(reports, new ReportRequest("b", 300));
+        stream(reports, new ReportRequest("c", 300));
+        stream(reports, new ReportRequest("d", 300));
+        assertThat(evictions("size")).isPositive();
+
+        // Past the TTL every entry is gone
+        nanos.addAndGet(Duration.ofMinutes(6).toNanos());
+        stream(reports, new ReportRequest("d", 300));
+        assertThat(evictions("expired")).isPositive();
+        assertThat(requests("hit")).isZero();
+
+        // Too large to keep: streamed in full every time
+        byte[] large = stream(reports, new ReportRequest("large", 1_000));
+        stream(reports, new ReportRequest("large", 1_000));
+        assertThat(large.length).isGreaterThan(12 * 1024);
+        assertThat(requests("hit")).isZero();
+        assertThat(generations).hasValue(7);
+    }
+
+    @Test
+    void reportTooLargeToCacheIsNotHeldAndLaterRequestsGenerateTheirOwn() throws Exception {
+        ReportProperties properties = properties();
+        properties.setMaxCachedReportSize(DataSize.ofKilobytes(4));
+        CountDownLatch secondDone = new CountDownLatch(1);
+        CountingGenerator generator = new CountingGenerator() {
+            @Override
+            public void generate(ReportRequest request, ChunkSink sink) throws IOException {
+                boolean first = generations.get() == 0;
+                AtomicInteger chunks = new AtomicInteger();
+                super.generate(request, chunk -> {
+                    sink.accept(chunk);
+                    // ~2.7 KB chunks: the first generation pauses once it is past the limit
+                    if (first && chunks.incrementAndGet() == 3) {
+                        awaitQuietly(secondDone);
+                    }
+                });
+            }
+        };
+        ReportCache reports = cache(generator, properties);
+        ReportRequest request = new ReportRequest("payments", 1_000);
+
+        ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor();
+        try {
+            Future<byte[]> leader = clients.submit(() -> stream(reports, request));
+            while (generations.get() == 0) {
+                Thread.onSpinWait();
+            }
+            byte[] second = stream(reports, request);
+            secondDone.countDown();
+
+            assertThat(leader.get(5, TimeUnit.SECONDS)).isEqualTo(second);
+        } finally {
+            clients.shutdownNow();
+        }
+        assertThat(generations).hasValue(2);
+        assertThat(requests("miss")).isEqualTo(2);
+        assertThat(requests("coalesced")).isZero();
+        assertThat(registry.get("report_cache_entries").gauge().value()).isZero();
+    }
+
+    @Test
+    void loadServesFromTheCacheAndRefreshRegenerates() throws IOException {
+        ReportCache reports = cache(new CountingGenerator(), properties());
+        ReportRequest request = new ReportRequest("summary", 250);
+
+        long size = reports.load(request);
+        assertThat(reports.load(request)).isEqualTo(size);
+        assertThat(generations).hasValue(1);
+        assertThat(requests("hit")).isEqualTo(1);
+        // Nothing was sent to a client
+        assertThat(registry.get("report_bytes_streamed").counter().count()).isZero();
+
+        assertThat(reports.refresh(request)).isEqualTo(size);
+        assertThat(stream(reports, request)).hasSize((int) size);
+        assertThat(generations).hasValue(2);
+        assertThat(requests("hit")).isEqualTo(2);
+    }
+
+    private ReportCache cache(ReportGenerator generator, ReportProperties properties) {
+        return new ReportCache(generator, properties, registry, nanos::get, Runnable::run);
+    }
+
+    private static ReportProperties properties() {
+        ReportProperties properties = new ReportProperties();
+        properties.setTtl(Duration.ofMinutes(5));
+        return properties;
+    }
+
+    private static byte[] stream(ReportCache reports, ReportRequest request) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        reports.stream(request, out);
+        return out.toByteArray();
+    }
+
+    private double requests(String result) {
+        return registry.get("report_cache_requests_total").tag("result", result).counter().count();
+    }
+
+    private double evictions(String cause) {
+        return registry.get("report_cache_evictions_total").tag("cause", cause).counter().count();
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * 100-row chunks, no simulated cost.
+     */
+    private class CountingGenerator extends ReportGenerator {
+
+        CountingGenerator() {
+            super(100, () -> 0);
+        }
+
+        @Override
+        public void generate(ReportRequest request, ChunkSink sink) throws IOException {
+            generations.incrementAndGet();
+            super.generate(request, sink);
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package com.example.insightpulse.slo;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class SloRegistryTest {
+
+    private static final long T0 = Instant.parse("2025-04-04T10:00:00Z").toEpochMilli();
+
+    private final MeterRegistry registry = new SimpleMeterRegistry();
+    private final AtomicLong now = new AtomicLong(T0);
+
+    @Test
+    void windowsSlideAndBurnRatesFollowRecentErrors() {
+        SloRegistry slos = registry(Map.of("process-payment", 0.99));
+        SloTracker payments = slos.job("process-payment");
+
+        // First hour: 1% errors, exactly on budget
+        for (int second = 0; second < 3600; second++) {
+            now.set(T0 + second * 1_000L);
+            payments.record(second % 100 != 0);
+        }
+        assertThat(gauge("slo_burn_rate", "1h")).isCloseTo(1, within(0.05));
+
+        // Next five minutes: 20% errors
+        for (int second = 3600; second < 3900; second++) {
+            now.set(T0 + second * 1_000L);
+            payments.record(second % 5 != 0);
+        }
+        assertThat(gauge("slo_success_ratio", "5m")).isCloseTo(0.8, within(0.01));
+        assertThat(gauge("slo_burn_rate", "5m")).isCloseTo(20, within(0.5));
+        // The hour window now mixes 55 quiet minutes with the 5 bad ones
+        assertThat(gauge("slo_burn_rate", "1h")).isCloseTo((55 * 0.01 + 5 * 0.2) / 60 / 0.01, within(0.1));
+        assertThat(registry.get("slo_error_budget_remaining").tag("slo", "process-payment").gauge().value())
+                .isNegative();
+
+        // Quiet for longer than the short window: it empties, the long ones remember
+        now.addAndGet(Duration.ofMinutes(10).toMillis());
+        assertThat(gauge("slo_success_ratio", "5m")).isNaN();
+        assertThat(gauge("slo_success_ratio", "6h")).isLessThan(0.99);
+    }
+
+    @Test
+    void concurrentRecordsAreNotLost() throws InterruptedException {
+        SlidingWindowCounter counter = new SlidingWindowCounter(10_000, 360);
+        ExecutorService threads = Executors.newFixedThreadPool(8);
+        for (int t = 0; t < 8; t++) {
+            threads.execute(() -> {
+                for (int i = 0; i < 100_000; i++) {
+                    // Spread over a few buckets so writers race on rotation as well
+                    counter.record(i % 10 != 0, T0 + (i % 40) * 1_000L);
+                }
+            });
+        }
+        threads.shutdown();
+        assertThat(threads.awaitTermination(30, TimeUnit.SECONDS)).isTrue();
+
+        SlidingWindowCounter.Totals totals = counter.totals(Duration.ofMinutes(5).toMillis(), T0 + 39_000);
+        assertThat(totals.total()).isEqualTo(800_000);
+        assertThat(totals.bad()).isEqualTo(80_000);
+    }
+
+    @Test
+    void undeclaredJobsAndRoutesAreNotTracked() {
+        SloRegistry slos = registry(Map.of("process-payment", 0.99));
+
+        slos.job("register-user").record(false);
+        slos.route("/jobs/register-user").record(false);
+
+        assertThat(registry.find("slo_success_ratio").tag("slo", "register-user").gauges()).isEmpty();
+        assertThat(registry.find("slo_burn_rate").tag("slo", "process-payment").gauges()).hasSize(3);
+    }
+
+    private SloRegistry registry(Map<String, Double> jobs) {
+        SloProperties properties = new SloProperties();
+        properties.getJobs().putAll(jobs);
+        return new SloRegistry(registry, properties, now::get);
+    }
+
+    private double gauge(String name, String window) {
+        return registry.get(name).tags("slo", "process-payment", "window", window).gauge().value();
+    }
+}
@@ -0,0 +1,67 @@
+package com.example.insightpulse.tsdb;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class GorillaChunkTest {
+
+    @Test
+    void roundTripsIrregularTimestampsAndArbitraryValues() {
+        Random random = new Random(42);
+        long[] timestamps = new long[500];
+        double[] values = new double[500];
+        long t = 1_743_760_800_000L;
+        for (int i = 0; i < timestamps.length; i++) {
+            // Mostly 1 s apart, with jitter, gaps and the odd huge jump to hit every delta-of-delta bucket
+            t += switch (i % 50) {
+                case 10 -> 3_600_000;
+                case 20 -> 250;
+                default -> 1_000 + random.nextInt(21) - 10;
+            };
+            timestamps[i] = t;
+            values[i] = switch (i % 4) {
+                case 0 -> random.nextDouble() * 1e6;
+                case 1 -> values[Math.max(0, i - 1)];
+                case 2 -> -random.nextGaussian();
+                default -> i == 3 ? Double.NaN : Math.floor(random.nextDouble() * 100);
+            };
+        }
+
+        GorillaChunk chunk = new GorillaChunk(timestamps.length);
+        for (int i = 0; i < timestamps.length; i++) {
+            chunk.append(timestamps[i], values[i]);
+        }
+        chunk.seal();
+
+        Samples out = new Samples(16);
+        chunk.decode(Long.MIN_VALUE, Long.MAX_VALUE, out);
+        assertThat(out.size()).isEqualTo(timestamps.length);
+        for (int i = 0; i < timestamps.length; i++) {
+            assertThat(out.timestamp(i)).isEqualTo(timestamps[i]);
+            assertThat(Double.doubleToRawLongBits(out.value(i))).isEqualTo(Double.doubleToRawLongBits(values[i]));
+        }
+        assertThat(chunk.firstTimestamp()).isEqualTo(timestamps[0]);
+        assertThat(chunk.lastTimestamp()).isEqualTo(timestamps[timestamps.length - 1]);
+    }
+
+    @Test
+    void compressesRegularCounterSamples() {
+        GorillaChunk chunk = new GorillaChunk(120);
+        long start = 1_743_760_800_000L;
+        for (int i = 0; i < 120; i++) {
+            chunk.append(start + i * 1_000L, i < 60 ? 1_000 : 1_000 + i);
+        }
+        chunk.seal();
+
+        Samples window = new Samples(16);
+        chunk.decode(start + 10_000, start + 19_000, window);
+        assertThat(window.size()).isEqualTo(10);
+        assertThat(window.timestamp(0)).isEqualTo(start + 10_000);
+
+        // 16 bytes per point uncompressed
+        assertThat(chunk.sizeBytes()).isLessThan(120 * 16 / 4);
+    }
+}
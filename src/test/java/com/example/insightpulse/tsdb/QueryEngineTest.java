@@ -0,0 +1,102 @@
+package com.example.insightpulse.tsdb;
+
+import com.example.insightpulse.tsdb.QueryEngine.QueryResult;
+import com.example.insightpulse.tsdb.QueryEngine.SeriesResult;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.prometheusmetrics.PrometheusConfig;
+import io.micrometer.prometheusmetrics.PrometheusMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+class QueryEngineTest {
+
+    private static final long T0 = Instant.parse("2025-04-04T10:00:00Z").toEpochMilli();
+    private static final int SECONDS = 600;
+
+    private final MeterRegistry registry = new PrometheusMeterRegistry(PrometheusConfig.DEFAULT);
+    private final RollupTsdb tsdb = new RollupTsdb(registry, new TsdbProperties());
+    private final QueryEngine engine = new QueryEngine(tsdb);
+
+    @BeforeEach
+    void feed() {
+        Counter payments = Counter.builder("payments").tag("status", "ok").register(registry);
+        Counter failures = Counter.builder("payments").tag("status", "failed").register(registry);
+        Timer latency = Timer.builder("payment_latency")
+                             .serviceLevelObjectives(Duration.ofMillis(100), Duration.ofMillis(200), Duration.ofMillis(400))
+                             .register(registry);
+        for (int second = 0; second < SECONDS; second++) {
+            payments.increment(4);
+            failures.increment(1);
+            // Per second: 6 calls at 50ms, 3 at 150ms, 1 at 300ms
+            for (int i = 0; i < 10; i++) {
+                latency.record(Duration.ofMillis(i < 6 ? 50 : i < 9 ? 150 : 300));
+            }
+            tsdb.collect(T0 + second * 1_000L);
+        }
+    }
+
+    @Test
+    void ratesAggregationsAndRatios() {
+        long at = T0 + (SECONDS - 1) * 1_000L;
+
+        assertThat(single("sum(rate(payments_total[1m]))", at)).isCloseTo(5, within(1e-9));
+        assertThat(single("sum by (status) (increase(payments_total{status=\"failed\"}[1m]))", at))
+                .isCloseTo(60, within(1e-9));
+        assertThat(single("sum(rate(payments_total{status=\"failed\"}[1m])) / sum(rate(payments_total[1m]))", at))
+                .isCloseTo(0.2, within(1e-9));
+
+        QueryResult byStatus = engine.evaluate("sum by (status) (rate(payments_total[1m]))", at, at, 1, at);
+        assertThat(byStatus.series()).extracting(SeriesResult::labels)
+                                     .containsExactlyInAnyOrder(Map.of("status", "ok"), Map.of("status", "failed"));
+    }
+
+    @Test
+    void histogramQuantileInterpolatesWithinBuckets() {
+        long at = T0 + (SECONDS - 1) * 1_000L;
+
+        // Rank 5 of 10 falls in the first bucket, rank 8 in the second and rank 9.5 in the third
+        assertThat(single("histogram_quantile(0.5, sum by (le) (rate(payment_latency_seconds_bucket[1m])))", at))
+                .isCloseTo(0.1 * 5 / 6, within(1e-6));
+        assertThat(single("histogram_quantile(0.8, rate(payment_latency_seconds_bucket[1m]))", at))
+                .isCloseTo(0.1 + 0.1 * 2 / 3, within(1e-6));
+        assertThat(single("histogram_quantile(0.95, rate(payment_latency_seconds_bucket[1m]))", at))
+                .isCloseTo(0.2 + 0.2 * 0.5, within(1e-6));
+    }
+
+    @Test
+    void comparisonsFilterAndRangeQueriesUseRollups() {
+        long at = T0 + (SECONDS - 1) * 1_000L;
+        assertThat(engine.evaluate("rate(payments_total[1m]) > 2", at, at, 1, at).series())
+                .singleElement()
+                .satisfies(series -> assertThat(series.labels()).containsEntry("status", "ok"));
+
+        // An hour later the raw tier no longer covers the range, so the 10s rollup answers it
+        long later = T0 + Duration.ofMinutes(65).toMillis();
+        QueryResult range = engine.evaluate("sum(rate(payments_total[1m]))", T0 + 60_000, at, 60_000, later);
+        assertThat(range.series()).singleElement().satisfies(series -> {
+            assertThat(series.values()).hasSize(9);
+            for (double value : series.values()) {
+                assertThat(value).isCloseTo(5, within(1e-9));
+            }
+        });
+
+        assertThatThrownBy(() -> engine.evaluate("sum(rate(payments_total))", at, at, 1, at))
+                .isInstanceOf(QueryException.class);
+    }
+
+    private double single(String query, long at) {
+        QueryResult result = engine.evaluate(query, at, at, 1, at);
+        assertThat(result.series()).hasSize(1);
+        return result.series().get(0).values()[0];
+    }
+}